@@ -13,8 +13,13 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.validation.constraints.NotNull;
 
@@ -23,7 +28,8 @@ import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 
 /**
  * {@link AbstractDbArtifact} implementation which dynamically creates a
- * {@link FileInputStream} on calling {@link #getFileInputStream()}.
+ * {@link FileInputStream} on calling {@link #getFileInputStream()} and a
+ * {@link FileChannel} on calling {@link #openFileChannel()}.
  */
 public class ArtifactFilesystem extends AbstractDbArtifact {
 
@@ -47,4 +53,13 @@ public class ArtifactFilesystem extends AbstractDbArtifact {
             throw new ArtifactFileNotFoundException(e);
         }
     }
+
+    @Override
+    public Optional<FileChannel> openFileChannel() throws IOException {
+        try {
+            return Optional.of(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+        } catch (final NoSuchFileException e) {
+            throw new ArtifactFileNotFoundException(e);
+        }
+    }
 }
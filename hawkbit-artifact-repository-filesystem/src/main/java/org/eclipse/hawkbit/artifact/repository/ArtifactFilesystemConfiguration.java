@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -24,11 +27,33 @@ public class ArtifactFilesystemConfiguration {
     /**
      * @param artifactFilesystemProperties
      *            the artifact file system properties
+     * @param meterRegistry
+     *            registry for the upload metrics, the global registry is used
+     *            if none is available
+     * @return the {@link ParallelDigestIngestion} of the uploaded artifacts,
+     *         closed with the context
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ParallelDigestIngestion parallelDigestIngestion(
+            final ArtifactFilesystemProperties artifactFilesystemProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ParallelDigestIngestion(artifactFilesystemProperties.getIngestionBufferSize(),
+                artifactFilesystemProperties.getIngestionConcurrency(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * @param artifactFilesystemProperties
+     *            the artifact file system properties
+     * @param ingestion
+     *            to store the uploaded artifacts
      * @return Default {@link ArtifactRepository} implementation.
      */
     @Bean
     @ConditionalOnMissingBean
-    public ArtifactRepository artifactRepository(final ArtifactFilesystemProperties artifactFilesystemProperties) {
-        return new ArtifactFilesystemRepository(artifactFilesystemProperties);
+    public ArtifactRepository artifactRepository(final ArtifactFilesystemProperties artifactFilesystemProperties,
+            final ParallelDigestIngestion ingestion) {
+        return new ArtifactFilesystemRepository(artifactFilesystemProperties, ingestion);
     }
 }
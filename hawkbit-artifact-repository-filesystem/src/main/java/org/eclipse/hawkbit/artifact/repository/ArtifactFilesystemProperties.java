@@ -24,4 +24,17 @@ public class ArtifactFilesystemProperties {
      * The base-path of the directory to store the artifacts.
      */
     private String path = "./artifactrepo";
+
+    /**
+     * Size in bytes of the buffers used to read uploaded artifacts while their
+     * hashes are computed.
+     */
+    private int ingestionBufferSize = ParallelDigestIngestion.DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Maximum number of uploaded artifacts whose hashes are computed
+     * concurrently, each uses a thread per hash algorithm. Further uploads
+     * wait.
+     */
+    private int ingestionConcurrency = ParallelDigestIngestion.DEFAULT_CONCURRENCY;
 }
\ No newline at end of file
@@ -48,6 +48,22 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
         this.artifactResourceProperties = artifactResourceProperties;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param artifactResourceProperties
+     *            the properties which holds the necessary configuration for the
+     *            file-system repository
+     * @param ingestion
+     *            writes uploaded artifacts to temp files and computes their
+     *            hashes
+     */
+    public ArtifactFilesystemRepository(final ArtifactFilesystemProperties artifactResourceProperties,
+            final ParallelDigestIngestion ingestion) {
+        super(ingestion);
+        this.artifactResourceProperties = artifactResourceProperties;
+    }
+
     @Override
     public void deleteBySha1(final String tenant, final String sha1Hash) {
         FileUtils.deleteQuietly(getFile(tenant, sha1Hash));
@@ -9,16 +9,25 @@
  */
 package org.eclipse.hawkbit.autoconfigure.repository;
 
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
+import org.eclipse.hawkbit.repository.jpa.lock.JdbcLockRegistry;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyResolver;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.integration.support.locks.DefaultLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Auto-Configuration for enabling JPA repository.
@@ -39,6 +48,19 @@ public class JpaRepositoryAutoConfiguration {
         return new VirtualPropertyResolver();
     }
 
+    /**
+     * @return a {@link LockRegistry} shared by all nodes using the same
+     *         database
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository.lock", name = "jdbc-enabled", havingValue = "true")
+    public LockRegistry jdbcLockRegistry(final DataSource dataSource, final PlatformTransactionManager txManager,
+            final RepositoryProperties repositoryProperties, final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new JdbcLockRegistry(dataSource, txManager, repositoryProperties.getLock().getLeaseTime(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public LockRegistry lockRegistry() {
@@ -12,10 +12,14 @@ package org.eclipse.hawkbit.autoconfigure.repository.event;
 import java.util.concurrent.Executor;
 
 import org.eclipse.hawkbit.event.BusProtoStuffMessageConverter;
+import org.eclipse.hawkbit.event.EventDispatchProperties;
+import org.eclipse.hawkbit.event.EventDispatcher;
+import org.eclipse.hawkbit.event.TargetPollBatchEventMulticaster;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -30,11 +34,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
 
@@ -45,7 +51,7 @@ import io.protostuff.Schema;
 @Configuration
 @RemoteApplicationEventScan(basePackages = "org.eclipse.hawkbit.repository.event.remote")
 @PropertySource("classpath:/hawkbit-eventbus-defaults.properties")
-@EnableConfigurationProperties(BusProperties.class)
+@EnableConfigurationProperties({ BusProperties.class, EventDispatchProperties.class })
 public class EventPublisherAutoConfiguration {
     /**
      * Server internal event publisher that allows parallel event processing if
@@ -55,13 +61,32 @@ public class EventPublisherAutoConfiguration {
      */
     @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
     ApplicationEventMulticaster applicationEventMulticaster(@Qualifier("asyncExecutor") final Executor executor,
-            final TenantAware tenantAware) {
-        final SimpleApplicationEventMulticaster simpleApplicationEventMulticaster = new TenantAwareApplicationEventPublisher(
+            final TenantAware tenantAware, final EventDispatcher eventDispatcher) {
+        final TenantAwareApplicationEventPublisher simpleApplicationEventMulticaster = new TenantAwareApplicationEventPublisher(
                 tenantAware, applicationEventFilter());
         simpleApplicationEventMulticaster.setTaskExecutor(executor);
+        simpleApplicationEventMulticaster.setEventDispatcher(eventDispatcher);
         return simpleApplicationEventMulticaster;
     }
 
+    /**
+     * @param properties
+     *            of the dispatch lanes
+     * @param executor
+     *            for the listeners which are not assigned to a lane
+     * @param meterRegistry
+     *            registry for the lane metrics
+     * @return the dispatcher executing the asynchronous event listeners in
+     *         their lanes
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    EventDispatcher eventDispatcher(final EventDispatchProperties properties,
+            @Qualifier("asyncExecutor") final Executor executor, final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new EventDispatcher(properties, executor, DelegatingSecurityContextRunnable::new,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
     /**
      * Bean for creating a singleton instance of the
      * {@link EventPublisherHolder}
@@ -83,7 +108,7 @@ public class EventPublisherAutoConfiguration {
         return e -> false;
     }
 
-    private static class TenantAwareApplicationEventPublisher extends SimpleApplicationEventMulticaster {
+    private static class TenantAwareApplicationEventPublisher extends TargetPollBatchEventMulticaster {
 
         private final TenantAware tenantAware;
 
@@ -137,12 +162,13 @@ public class EventPublisherAutoConfiguration {
     @ConditionalOnClass({ Schema.class, ProtostuffIOUtil.class })
     protected static class BusProtoStuffAutoConfiguration {
         /**
-         * 
+         * @param meterRegistry
+         *            registry for the event size metrics
          * @return the protostuff io message converter
          */
         @Bean
-        public MessageConverter busProtoBufConverter() {
-            return new BusProtoStuffMessageConverter();
+        public MessageConverter busProtoBufConverter(final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new BusProtoStuffMessageConverter(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         }
 
     }
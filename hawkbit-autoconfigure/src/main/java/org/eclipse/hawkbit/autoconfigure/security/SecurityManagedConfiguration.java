@@ -105,6 +105,9 @@ public class SecurityManagedConfiguration {
                 DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/installedBase/**",
                 DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/cancelAction/**",
                 DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/configData",
+                DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/" + DdiRestConstants.WAIT_FOR_CHANGES,
+                DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/" + DdiRestConstants.GATEWAY + "/"
+                        + DdiRestConstants.FEEDBACK,
                 DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts" };
 
         private final ControllerManagement controllerManagement;
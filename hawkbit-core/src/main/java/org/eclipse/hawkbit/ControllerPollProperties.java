@@ -60,4 +60,39 @@ public class ControllerPollProperties implements Serializable {
      * (maintenanceWindowStartTime - t)/maintenanceWindowPollCount.
      */
     private int maintenanceWindowPollCount = 3;
+
+    /**
+     * Maximum number of targets for which the deployment state is cached, so
+     * that conditional polls (If-None-Match) of targets without active action
+     * are answered without looking up their actions. 0 disables the cache.
+     */
+    private int pollStateCacheSize = 100_000;
+
+    /**
+     * Time after which a cached deployment state expires in HH:MM:SS notation.
+     * Bounds the staleness in case of changes which are not notified by an
+     * event, e.g. deleted actions.
+     */
+    private String pollStateCacheTtl = "00:10:00";
+
+    /**
+     * Maximum time a long polling request of a controller waits for changes
+     * in HH:MM:SS notation. Should be below the idle timeouts of the proxies
+     * in front of the server.
+     */
+    private String longPollMaxTime = "00:05:00";
+
+    /**
+     * Maximum number of artifact downloads for which the requests are
+     * aggregated in memory and summarized by one action status. 0 disables
+     * the aggregation, i.e. every download request is logged as action
+     * status.
+     */
+    private int downloadAuditMaxTracked = 10_000;
+
+    /**
+     * Time without request after which an incomplete artifact download is
+     * summarized in HH:MM:SS notation.
+     */
+    private String downloadAuditIdleTime = "00:01:00";
 }
@@ -13,15 +13,15 @@ import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.hawkbit.api.ArtifactUrlHandlerProperties.UrlProtocol;
+import org.eclipse.hawkbit.api.URLPlaceholder.SoftwareData;
+import org.eclipse.hawkbit.api.UrlTemplate.Placeholder;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -41,35 +41,27 @@ import org.springframework.util.StringUtils;
  * {protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/
  * softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}.MD5SUM
  * 
+ * The patterns are compiled once into {@link UrlTemplate}s. The values which
+ * only depend on the tenant and the artifact (encoded file name, ids) are
+ * memoized, as they are the same for every target getting the artifact.
  */
 public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
 
-    private static final String PROTOCOL_PLACEHOLDER = "protocol";
-    private static final String HOSTNAME_PLACEHOLDER = "hostname";
-    private static final String IP_PLACEHOLDER = "ip";
-    private static final String PORT_PLACEHOLDER = "port";
-    private static final String CONTEXT_PATH = "contextPath";
-    private static final String CONTROLLER_ID_PLACEHOLDER = "controllerId";
-    private static final String TARGET_ID_BASE10_PLACEHOLDER = "targetId";
-    private static final String TARGET_ID_BASE62_PLACEHOLDER = "targetIdBase62";
-    private static final String HOSTNAME_REQUEST_PLACEHOLDER = "hostnameRequest";
-    private static final String PORT_REQUEST_PLACEHOLDER = "portRequest";
-    private static final String PROTOCOL_REQUEST_PLACEHOLDER = "protocolRequest";
-    private static final String HOSTNAME_WITH_DOMAIN_REQUEST_PLACEHOLDER = "domainRequest";
-    private static final String ARTIFACT_FILENAME_PLACEHOLDER = "artifactFileName";
-    private static final String ARTIFACT_SHA1_PLACEHOLDER = "artifactSHA1";
-    private static final String ARTIFACT_ID_BASE10_PLACEHOLDER = "artifactId";
-    private static final String ARTIFACT_ID_BASE62_PLACEHOLDER = "artifactIdBase62";
-    private static final String TENANT_PLACEHOLDER = "tenant";
-    private static final String TENANT_ID_BASE10_PLACEHOLDER = "tenantId";
-    private static final String TENANT_ID_BASE62_PLACEHOLDER = "tenantIdBase62";
-    private static final String SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER = "softwareModuleId";
-    private static final String SOFTWARE_MODULE_ID_BASE62_PLACEHOLDER = "softwareModuleIdBase62";
-
-    final static String DEFAULT_URL_PROTOCOL_REF = "{" + PROTOCOL_PLACEHOLDER + "}://{" + HOSTNAME_PLACEHOLDER + "}:{" + PORT_PLACEHOLDER + "}{" + CONTEXT_PATH + "}/{" + TENANT_PLACEHOLDER + "}/controller/v1/{" + CONTROLLER_ID_PLACEHOLDER + "}/softwaremodules/{" + SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER + "}/artifacts/{" + ARTIFACT_FILENAME_PLACEHOLDER + "}";
+    final static String DEFAULT_URL_PROTOCOL_REF = "{protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}";
+
+    // bounds the memoized artifact values, the memo is reset when exceeded
+    private static final int MAX_MEMOIZED_ARTIFACTS = 10_000;
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
 
     private final ArtifactUrlHandlerProperties urlHandlerProperties;
     private final String contextPath;
+    // the URL patterns are compiled once, keyed by pattern as the properties
+    // might be changed at runtime
+    private final Map<String, UrlTemplate> templates = new ConcurrentHashMap<>();
+    // the artifact dependent values are the same for all targets which get
+    // the artifact, e.g. of a batch message
+    private final Map<ArtifactKey, ArtifactValues> artifactValues = new ConcurrentHashMap<>();
 
     /**
      * @param urlHandlerProperties
@@ -97,60 +89,68 @@ public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
 
     private String generateUrl(final UrlProtocol protocol, final URLPlaceholder placeholder,
             final URI requestUri) {
-        final Set<Entry<String, String>> entrySet = getReplaceMap(protocol, placeholder, requestUri).entrySet();
-
-        String urlPattern = protocol.getRef();
-
-        for (final Entry<String, String> entry : entrySet) {
-            if (List.of(PORT_PLACEHOLDER,PORT_REQUEST_PLACEHOLDER).contains(entry.getKey())) {
-                urlPattern = urlPattern.replace(":{" + entry.getKey() + "}",
-                        ObjectUtils.isEmpty(entry.getValue()) ? "" : (":" + entry.getValue()));
-            } else {
-                if(entry.getValue() != null) {
-                    urlPattern = urlPattern.replace("{" + entry.getKey() + "}", entry.getValue());
-                }
-            }
+        final UrlTemplate template = templates.computeIfAbsent(protocol.getRef(), UrlTemplate::compile);
+        final ArtifactValues artifact = getArtifactValues(placeholder);
+
+        final StringBuilder url = BUILDER.get();
+        url.setLength(0);
+        template.render(url, key -> getValue(key, protocol, placeholder, requestUri, artifact));
+        final String result = url.toString();
+        if (url.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            BUILDER.remove();
         }
+        return result;
+    }
 
-        return urlPattern;
+    private String getValue(final Placeholder key, final UrlProtocol protocol, final URLPlaceholder placeholder,
+            final URI requestUri, final ArtifactValues artifact) {
+        return switch (key) {
+            case PROTOCOL -> protocol.getProtocol();
+            case HOSTNAME -> protocol.getHostname();
+            case IP -> protocol.getIp();
+            case PORT -> getPort(protocol);
+            case CONTEXT_PATH -> contextPath;
+            case HOSTNAME_REQUEST -> getRequestHost(protocol, requestUri);
+            case PORT_REQUEST -> getRequestPort(protocol, requestUri);
+            case PROTOCOL_REQUEST -> getRequestProtocol(protocol, requestUri);
+            case DOMAIN_REQUEST -> computeHostWithRequestDomain(protocol, requestUri);
+            case TENANT -> placeholder.getTenant();
+            case TENANT_ID -> artifact.tenantId();
+            case TENANT_ID_BASE62 -> artifact.tenantIdBase62();
+            case CONTROLLER_ID -> placeholder.getControllerId();
+            case TARGET_ID -> String.valueOf(placeholder.getTargetId());
+            case TARGET_ID_BASE62 -> toBase62(placeholder.getTargetId());
+            case ARTIFACT_FILENAME -> artifact.filename();
+            case ARTIFACT_SHA1 -> placeholder.getSoftwareData().getSha1Hash();
+            case ARTIFACT_ID -> artifact.artifactId();
+            case ARTIFACT_ID_BASE62 -> artifact.artifactIdBase62();
+            case SOFTWARE_MODULE_ID -> artifact.softwareModuleId();
+            case SOFTWARE_MODULE_ID_BASE62 -> artifact.softwareModuleIdBase62();
+        };
     }
 
-    private Map<String, String> getReplaceMap(final UrlProtocol protocol, final URLPlaceholder placeholder,
-            final URI requestUri) {
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put(IP_PLACEHOLDER, protocol.getIp());
-
-        replaceMap.put(HOSTNAME_PLACEHOLDER, protocol.getHostname());
-
-        replaceMap.put(HOSTNAME_REQUEST_PLACEHOLDER, getRequestHost(protocol, requestUri));
-        replaceMap.put(PORT_REQUEST_PLACEHOLDER, getRequestPort(protocol, requestUri));
-        replaceMap.put(HOSTNAME_WITH_DOMAIN_REQUEST_PLACEHOLDER, computeHostWithRequestDomain(protocol, requestUri));
-        replaceMap.put(PROTOCOL_REQUEST_PLACEHOLDER, getRequestProtocol(protocol, requestUri));
-
-        replaceMap.put(CONTEXT_PATH, contextPath);
-
-        replaceMap.put(ARTIFACT_FILENAME_PLACEHOLDER,
-                URLEncoder.encode(placeholder.getSoftwareData().getFilename(), StandardCharsets.UTF_8));
-
-        replaceMap.put(ARTIFACT_SHA1_PLACEHOLDER, placeholder.getSoftwareData().getSha1Hash());
-        replaceMap.put(PROTOCOL_PLACEHOLDER, protocol.getProtocol());
-        replaceMap.put(PORT_PLACEHOLDER, getPort(protocol));
-        replaceMap.put(TENANT_PLACEHOLDER, placeholder.getTenant());
-        replaceMap.put(TENANT_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getTenantId()));
-        replaceMap.put(TENANT_ID_BASE62_PLACEHOLDER, Base62Util.fromBase10(placeholder.getTenantId()));
-        replaceMap.put(CONTROLLER_ID_PLACEHOLDER, placeholder.getControllerId());
-        replaceMap.put(TARGET_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getTargetId()));
-        if (placeholder.getTargetId() != null) {
-            replaceMap.put(TARGET_ID_BASE62_PLACEHOLDER, Base62Util.fromBase10(placeholder.getTargetId()));
+    private ArtifactValues getArtifactValues(final URLPlaceholder placeholder) {
+        final SoftwareData softwareData = placeholder.getSoftwareData();
+        final ArtifactKey key = new ArtifactKey(placeholder.getTenantId(), softwareData.getSoftwareModuleId(),
+                softwareData.getArtifactId(), softwareData.getFilename());
+        final ArtifactValues cached = artifactValues.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (artifactValues.size() >= MAX_MEMOIZED_ARTIFACTS) {
+            artifactValues.clear();
         }
-        replaceMap.put(ARTIFACT_ID_BASE62_PLACEHOLDER,
-                Base62Util.fromBase10(placeholder.getSoftwareData().getArtifactId()));
-        replaceMap.put(ARTIFACT_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getSoftwareData().getArtifactId()));
-        replaceMap.put(SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER,
-                String.valueOf(placeholder.getSoftwareData().getSoftwareModuleId()));
-        replaceMap.put(SOFTWARE_MODULE_ID_BASE62_PLACEHOLDER,
-                Base62Util.fromBase10(placeholder.getSoftwareData().getSoftwareModuleId()));
-        return replaceMap;
+        final ArtifactValues values = new ArtifactValues(String.valueOf(key.tenantId()), toBase62(key.tenantId()),
+                URLEncoder.encode(key.filename(), StandardCharsets.UTF_8), String.valueOf(key.artifactId()),
+                toBase62(key.artifactId()), String.valueOf(key.softwareModuleId()),
+                toBase62(key.softwareModuleId()));
+        artifactValues.put(key, values);
+        return values;
+    }
+
+    private static String toBase62(final Long base10) {
+        return base10 == null ? null : Base62Util.fromBase10(base10);
     }
 
     private static String getRequestPort(final UrlProtocol protocol, final URI requestUri) {
@@ -205,4 +205,10 @@ public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
         return host + "." + domain;
     }
 
+    private record ArtifactKey(Long tenantId, Long softwareModuleId, Long artifactId, String filename) {
+    }
+
+    private record ArtifactValues(String tenantId, String tenantIdBase62, String filename, String artifactId,
+            String artifactIdBase62, String softwareModuleId, String softwareModuleIdBase62) {
+    }
 }
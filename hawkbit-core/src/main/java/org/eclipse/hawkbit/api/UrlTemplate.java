@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * URL pattern of an {@link ArtifactUrlHandlerProperties.UrlProtocol} compiled
+ * into literal segments and placeholders, so that rendering a URL is a single
+ * pass over the segments instead of a replacement per placeholder.
+ * <p>
+ * Rendering keeps the semantics of the former replacement: unknown
+ * placeholders and placeholders without value are kept as they are, a port
+ * placeholder preceded by <code>:</code> is removed together with the
+ * <code>:</code> if the port is empty.
+ */
+final class UrlTemplate {
+
+    /**
+     * The placeholders supported in the URL patterns.
+     */
+    enum Placeholder {
+        PROTOCOL("protocol"),
+        HOSTNAME("hostname"),
+        IP("ip"),
+        PORT("port"),
+        CONTEXT_PATH("contextPath"),
+        CONTROLLER_ID("controllerId"),
+        TARGET_ID("targetId"),
+        TARGET_ID_BASE62("targetIdBase62"),
+        HOSTNAME_REQUEST("hostnameRequest"),
+        PORT_REQUEST("portRequest"),
+        PROTOCOL_REQUEST("protocolRequest"),
+        DOMAIN_REQUEST("domainRequest"),
+        ARTIFACT_FILENAME("artifactFileName"),
+        ARTIFACT_SHA1("artifactSHA1"),
+        ARTIFACT_ID("artifactId"),
+        ARTIFACT_ID_BASE62("artifactIdBase62"),
+        TENANT("tenant"),
+        TENANT_ID("tenantId"),
+        TENANT_ID_BASE62("tenantIdBase62"),
+        SOFTWARE_MODULE_ID("softwareModuleId"),
+        SOFTWARE_MODULE_ID_BASE62("softwareModuleIdBase62");
+
+        private static final Map<String, Placeholder> BY_KEY = new HashMap<>();
+
+        static {
+            for (final Placeholder placeholder : values()) {
+                BY_KEY.put(placeholder.key, placeholder);
+            }
+        }
+
+        private final String key;
+
+        Placeholder(final String key) {
+            this.key = key;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        private boolean isPort() {
+            return this == PORT || this == PORT_REQUEST;
+        }
+    }
+
+    // literals[i] precedes placeholders[i], the last literal follows the last
+    // placeholder
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    // the placeholder is a port which was preceded by ':'
+    private final boolean[] ports;
+
+    private UrlTemplate(final List<String> literals, final List<Placeholder> placeholders, final List<Boolean> ports) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(Placeholder[]::new);
+        this.ports = new boolean[ports.size()];
+        for (int i = 0; i < this.ports.length; i++) {
+            this.ports[i] = ports.get(i);
+        }
+    }
+
+    /**
+     * Compiles a URL pattern.
+     *
+     * @param pattern
+     *            with placeholders in curly braces
+     * @return the compiled template
+     */
+    static UrlTemplate compile(final String pattern) {
+        final List<String> literals = new ArrayList<>();
+        final List<Placeholder> placeholders = new ArrayList<>();
+        final List<Boolean> ports = new ArrayList<>();
+
+        final StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < pattern.length()) {
+            final int start = pattern.indexOf('{', index);
+            final int end = start < 0 ? -1 : pattern.indexOf('}', start);
+            if (end < 0) {
+                literal.append(pattern, index, pattern.length());
+                break;
+            }
+
+            literal.append(pattern, index, start);
+            final Placeholder placeholder = Placeholder.BY_KEY.get(pattern.substring(start + 1, end));
+            final boolean port = placeholder != null && placeholder.isPort() && !literal.isEmpty()
+                    && literal.charAt(literal.length() - 1) == ':';
+            if (placeholder == null || (placeholder.isPort() && !port)) {
+                // kept as is, ports are only replaced together with their ':'
+                literal.append(pattern, start, end + 1);
+            } else {
+                if (port) {
+                    literal.setLength(literal.length() - 1);
+                }
+                literals.add(literal.toString());
+                placeholders.add(placeholder);
+                ports.add(port);
+                literal.setLength(0);
+            }
+            index = end + 1;
+        }
+        literals.add(literal.toString());
+
+        return new UrlTemplate(literals, placeholders, ports);
+    }
+
+    /**
+     * Renders the URL.
+     *
+     * @param out
+     *            to append the URL to
+     * @param values
+     *            returns the value of a placeholder, might return
+     *            <code>null</code> to keep the placeholder
+     */
+    void render(final StringBuilder out, final Function<Placeholder, String> values) {
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            final String value = values.apply(placeholders[i]);
+            if (ports[i]) {
+                if (!ObjectUtils.isEmpty(value)) {
+                    out.append(':').append(value);
+                }
+            } else if (value == null) {
+                out.append('{').append(placeholders[i].getKey()).append('}');
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[placeholders.length]);
+    }
+}
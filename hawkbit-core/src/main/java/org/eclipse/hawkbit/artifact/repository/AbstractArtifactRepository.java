@@ -9,20 +9,13 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.nio.file.StandardCopyOption;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.springframework.util.StringUtils;
@@ -37,33 +30,39 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
     private static final String TEMP_FILE_PREFIX = "tmp";
     private static final String TEMP_FILE_SUFFIX = "artifactrepo";
 
+    private final ParallelDigestIngestion ingestion;
+
+    /**
+     * Constructor using the {@link ParallelDigestIngestion} with default buffer
+     * size that is shared by all repositories created this way. Its digest
+     * threads time out when idle.
+     */
+    protected AbstractArtifactRepository() {
+        this(DefaultIngestion.INSTANCE);
+    }
+
+    /**
+     * @param ingestion
+     *            writes the uploaded content to the temp file and computes its
+     *            hashes
+     */
+    protected AbstractArtifactRepository(final ParallelDigestIngestion ingestion) {
+        this.ingestion = ingestion;
+    }
+
     @Override
-    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5
-    // is not used security related
-    @SuppressWarnings("squid:S2070")
     public AbstractDbArtifact store(final String tenant, final InputStream content, final String filename,
             final String contentType, final DbArtifactHash providedHashes) {
-        final MessageDigest mdSHA1;
-        final MessageDigest mdMD5;
-        final MessageDigest mdSHA256;
-        try {
-            mdSHA1 = MessageDigest.getInstance("SHA1");
-            mdMD5 = MessageDigest.getInstance("MD5");
-            mdSHA256 = MessageDigest.getInstance("SHA-256");
-        } catch (final NoSuchAlgorithmException e) {
-            throw new ArtifactStoreException(e.getMessage(), e);
-        }
-
         String tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-
-            tempFile = storeTempFile(inputStream);
+        try (final InputStream inputStream = content) {
+            final File file = createTempFile();
+            tempFile = file.getPath();
 
-            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+            final DbArtifactHash calculatedHashes = ingestion.ingest(inputStream, file.toPath());
 
-            final String sha1Hash16 = hexFormat.formatHex(mdSHA1.digest());
-            final String md5Hash16 = hexFormat.formatHex(mdMD5.digest());
-            final String sha256Hash16 = hexFormat.formatHex(mdSHA256.digest());
+            final String sha1Hash16 = calculatedHashes.getSha1();
+            final String md5Hash16 = calculatedHashes.getMd5();
+            final String sha256Hash16 = calculatedHashes.getSha256();
 
             checkHashes(sha1Hash16, md5Hash16, sha256Hash16, providedHashes);
 
@@ -72,8 +71,7 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
                 return addMissingHashes(getArtifactBySha1(tenant, sha1Hash16), sha1Hash16, md5Hash16, sha256Hash16);
             }
 
-            return store(sanitizeTenant(tenant), new DbArtifactHash(sha1Hash16, md5Hash16, sha256Hash16), contentType,
-                    tempFile);
+            return store(sanitizeTenant(tenant), calculatedHashes, contentType, tempFile);
         } catch (final IOException e) {
             throw new ArtifactStoreException(e.getMessage(), e);
         } finally {
@@ -107,12 +105,22 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
+    /**
+     * Stores the content in a temp file.
+     *
+     * @param content
+     *            to store
+     * @return path of the temp file
+     * @throws IOException
+     *             if the content could not be stored
+     * @deprecated the content is written to the temp file by the
+     *             {@link ParallelDigestIngestion} of
+     *             {@link #store(String, InputStream, String, String, DbArtifactHash)}
+     */
+    @Deprecated(forRemoval = true)
     protected String storeTempFile(final InputStream content) throws IOException {
         final File file = createTempFile();
-        try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
-            IOUtils.copy(content, outputstream);
-            outputstream.flush();
-        }
+        Files.copy(content, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
         return file.getPath();
     }
 
@@ -152,12 +160,13 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
     protected abstract AbstractDbArtifact store(final String tenant, final DbArtifactHash base16Hashes,
             final String contentType, final String tempFile) throws IOException;
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input, final MessageDigest mdSHA1,
-            final MessageDigest mdMD5, final MessageDigest mdSHA256) {
-        return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
-    }
-
     protected static String sanitizeTenant(final String tenant) {
         return tenant.trim().toUpperCase();
     }
-}
\ No newline at end of file
+
+    // created on first use, so repositories with their own ingestion do not start it
+    private static final class DefaultIngestion {
+
+        private static final ParallelDigestIngestion INSTANCE = new ParallelDigestIngestion();
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+
+/**
+ * Reads an artifact binary once into direct buffers and writes it to a file
+ * while the SHA1, MD5 and SHA-256 digests are computed in parallel. Every
+ * filled buffer is handed to one digest lane per algorithm, each running on
+ * its own thread, and is reused as soon as all lanes and the file write are
+ * done with it.
+ * <p>
+ * The number of concurrent ingestions is bounded, every ingestion gets a
+ * thread per digest lane from a fixed pool. Further ingestions wait until one
+ * finishes. The pool is shut down on {@link #close()}.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>hawkbit.artifact.ingest</code> - duration of an ingestion</li>
+ * <li><code>hawkbit.artifact.ingest.bytes</code> - size of the ingested artifacts</li>
+ * <li><code>hawkbit.artifact.ingest.throughput</code> - throughput of an ingestion in bytes per second</li>
+ * </ul>
+ */
+public class ParallelDigestIngestion implements AutoCloseable {
+
+    /**
+     * Default size of the read buffers.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 0x100000; // 1m
+
+    /**
+     * Default number of concurrent ingestions.
+     */
+    public static final int DEFAULT_CONCURRENCY = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final String[] ALGORITHMS = { "SHA1", "MD5", "SHA-256" };
+    private static final int BUFFERS_PER_INGESTION = 4;
+    private static final Chunk END = new Chunk(null, null);
+
+    private final int bufferSize;
+    private final ExecutorService digestExecutor;
+    private final Semaphore ingestions;
+    private final BlockingQueue<ByteBuffer> bufferPool;
+
+    private final Timer ingestTimer;
+    private final DistributionSummary ingestBytes;
+    private final DistributionSummary ingestThroughput;
+
+    /**
+     * Constructor with {@link #DEFAULT_BUFFER_SIZE} and
+     * {@link #DEFAULT_CONCURRENCY} reporting to the global meter registry.
+     */
+    public ParallelDigestIngestion() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_CONCURRENCY, Metrics.globalRegistry);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param bufferSize
+     *            size of the read buffers in bytes
+     * @param concurrency
+     *            maximum number of concurrent ingestions
+     * @param meterRegistry
+     *            registry for the ingestion metrics
+     */
+    public ParallelDigestIngestion(final int bufferSize, final int concurrency, final MeterRegistry meterRegistry) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size has to be positive but was " + bufferSize);
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency has to be positive but was " + concurrency);
+        }
+        this.bufferSize = bufferSize;
+        this.bufferPool = new ArrayBlockingQueue<>(BUFFERS_PER_INGESTION * concurrency);
+        this.ingestions = new Semaphore(concurrency, true);
+
+        // an admitted ingestion always gets a thread for each of its lanes, lanes waiting for a thread could
+        // block the ingestions holding all threads
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(ALGORITHMS.length * concurrency,
+                ALGORITHMS.length * concurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "artifact-digest-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        digestExecutor = executor;
+
+        ingestTimer = Timer.builder("hawkbit.artifact.ingest").description("Duration of artifact ingestions")
+                .register(meterRegistry);
+        ingestBytes = DistributionSummary.builder("hawkbit.artifact.ingest.bytes").baseUnit("bytes")
+                .description("Size of ingested artifacts").register(meterRegistry);
+        ingestThroughput = DistributionSummary.builder("hawkbit.artifact.ingest.throughput").baseUnit("bytes/s")
+                .description("Throughput of artifact ingestions").register(meterRegistry);
+    }
+
+    /**
+     * Writes the content to the given file and computes its hashes.
+     *
+     * @param content
+     *            to ingest, not closed by this method
+     * @param file
+     *            to write the content to, truncated if it exists
+     * @return lower case base16 hashes of the content
+     * @throws IOException
+     *             if reading the content or writing the file fails
+     */
+    public DbArtifactHash ingest(final InputStream content, final Path file) throws IOException {
+        try {
+            ingestions.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Artifact ingestion interrupted");
+        }
+        try {
+            return ingestAdmitted(content, file);
+        } finally {
+            ingestions.release();
+        }
+    }
+
+    /**
+     * Shuts down the digest threads, running ingestions fail.
+     */
+    @Override
+    public void close() {
+        digestExecutor.shutdownNow();
+        bufferPool.clear();
+    }
+
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5
+    // is not used security related
+    @SuppressWarnings("squid:S2070")
+    private DbArtifactHash ingestAdmitted(final InputStream content, final Path file) throws IOException {
+        final long start = System.nanoTime();
+
+        // all buffers go back to the pool at the end, also the ones still held by a failed lane or write
+        final List<ByteBuffer> acquired = new ArrayList<>(BUFFERS_PER_INGESTION);
+        final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFERS_PER_INGESTION);
+        for (int i = 0; i < BUFFERS_PER_INGESTION; i++) {
+            final ByteBuffer buffer = acquireBuffer();
+            acquired.add(buffer);
+            free.add(buffer);
+        }
+
+        final List<DigestLane> lanes = new ArrayList<>(ALGORITHMS.length);
+        final List<Future<byte[]>> digests = new ArrayList<>(ALGORITHMS.length);
+        try {
+            for (final String algorithm : ALGORITHMS) {
+                final DigestLane lane = new DigestLane(MessageDigest.getInstance(algorithm));
+                lanes.add(lane);
+                digests.add(digestExecutor.submit(lane::run));
+            }
+
+            final long size = transfer(content, file, free, lanes);
+
+            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+            final DbArtifactHash hashes = new DbArtifactHash(hexFormat.formatHex(digests.get(0).get()),
+                    hexFormat.formatHex(digests.get(1).get()), hexFormat.formatHex(digests.get(2).get()));
+
+            final long duration = System.nanoTime() - start;
+            ingestTimer.record(duration, TimeUnit.NANOSECONDS);
+            ingestBytes.record(size);
+            ingestThroughput.record(size * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, duration));
+            return hashes;
+        } catch (final NoSuchAlgorithmException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Artifact ingestion interrupted");
+        } catch (final ExecutionException e) {
+            throw new ArtifactStoreException("Artifact digest computation failed", e.getCause());
+        } finally {
+            // a cancelled lane may still read a buffer, which does not change it for its next user
+            digests.forEach(digest -> digest.cancel(true));
+            acquired.forEach(this::releaseBuffer);
+        }
+    }
+
+    private long transfer(final InputStream content, final Path file, final BlockingQueue<ByteBuffer> free,
+            final List<DigestLane> lanes) throws IOException, InterruptedException {
+        long size = 0;
+        final ReadableByteChannel in = Channels.newChannel(content);
+        try (final FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            boolean eof = false;
+            while (!eof) {
+                final ByteBuffer buffer = free.take();
+                eof = fill(in, buffer);
+                if (buffer.position() == 0) {
+                    free.add(buffer);
+                    continue;
+                }
+
+                buffer.flip();
+                size += buffer.remaining();
+                final Chunk chunk = new Chunk(buffer, free);
+                for (final DigestLane lane : lanes) {
+                    lane.queue.put(chunk.retain());
+                }
+
+                final ByteBuffer toWrite = buffer.duplicate();
+                while (toWrite.hasRemaining()) {
+                    out.write(toWrite);
+                }
+                chunk.release();
+            }
+        }
+
+        for (final DigestLane lane : lanes) {
+            lane.queue.put(END);
+        }
+        return size;
+    }
+
+    private static boolean fill(final ReadableByteChannel in, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ByteBuffer acquireBuffer() {
+        final ByteBuffer pooled = bufferPool.poll();
+        return pooled != null ? pooled : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private void releaseBuffer(final ByteBuffer buffer) {
+        buffer.clear();
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * Computes one digest from the chunks in its queue until {@link #END} is
+     * received.
+     */
+    private static final class DigestLane {
+
+        private final MessageDigest digest;
+        private final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(BUFFERS_PER_INGESTION + 1);
+
+        private DigestLane(final MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        private byte[] run() throws InterruptedException {
+            for (Chunk chunk = queue.take(); chunk != END; chunk = queue.take()) {
+                digest.update(chunk.buffer.duplicate());
+                chunk.release();
+            }
+            return digest.digest();
+        }
+    }
+
+    /**
+     * A filled buffer shared by the digest lanes and the file write. The
+     * buffer goes back to the free buffers after the last release.
+     */
+    private static final class Chunk {
+
+        private final ByteBuffer buffer;
+        private final BlockingQueue<ByteBuffer> free;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Chunk(final ByteBuffer buffer, final BlockingQueue<ByteBuffer> free) {
+            this.buffer = buffer;
+            this.free = free;
+        }
+
+        private Chunk retain() {
+            references.incrementAndGet();
+            return this;
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                buffer.clear();
+                // the free buffers of a failed ingestion may be full already
+                free.offer(buffer);
+            }
+        }
+    }
+}
@@ -9,7 +9,10 @@
  */
 package org.eclipse.hawkbit.artifact.repository.model;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
 
 /**
  * Interface definition for artifact binary.
@@ -43,4 +46,44 @@ public interface DbArtifact {
      * @return {@link InputStream} to read from artifact.
      */
     InputStream getFileInputStream();
+
+    /**
+     * Creates an {@link InputStream} on this artifact which starts at the given
+     * offset, e.g. to serve a range request. Caller has to take care of closing
+     * the stream. The default implementation skips the bytes before the offset,
+     * artifacts which are transformed on read (e.g. decrypted) can start the
+     * transformation close to the offset instead.
+     *
+     * @param offset
+     *            of the first byte to read
+     * @return {@link InputStream} to read from artifact starting at the offset.
+     * @throws IOException
+     *             if the artifact is shorter than the offset
+     */
+    default InputStream getFileInputStream(final long offset) throws IOException {
+        final InputStream stream = getFileInputStream();
+        try {
+            stream.skipNBytes(offset);
+        } catch (final IOException e) {
+            stream.close();
+            throw e;
+        }
+        return stream;
+    }
+
+    /**
+     * Opens a {@link FileChannel} on this artifact if its binary is stored
+     * unmodified in a local file. This allows to stream a range of the
+     * artifact with positional reads and {@link FileChannel#transferTo}
+     * instead of skipping {@link #getFileInputStream()} to its start. Caller
+     * has to take care of closing the channel.
+     *
+     * @return {@link FileChannel} to read from artifact or empty if the
+     *         artifact is not backed by a local file
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    default Optional<FileChannel> openFileChannel() throws IOException {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.api;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.api.ArtifactUrlHandlerProperties.UrlProtocol;
+import org.eclipse.hawkbit.api.URLPlaceholder.SoftwareData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Renders the artifact URLs of a DMF batch message for 10k targets with three
+ * artifacts each, with the {@link PropertyBasedArtifactUrlHandler} and with the
+ * former placeholder replacement. Run {@link #main(String[])} from the test
+ * classpath, the allocations per batch are reported as
+ * <code>gc.alloc.rate.norm</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArtifactUrlRenderingBenchmark {
+
+    private static final int TARGETS = 10_000;
+    private static final String TENANT = "DEFAULT";
+    private static final long TENANT_ID = 42L;
+
+    private final List<SoftwareData> artifacts = List.of(
+            new SoftwareData(101L, "rootfs image.ext4", 1001L, "2ef7bde608ce5404e97d5f042f95f89f1c232871"),
+            new SoftwareData(101L, "rootfs image.ext4.sig", 1002L, "e0c9035898dd52fc65c41454cec9c4d2611bfb37"),
+            new SoftwareData(102L, "application_v2.1.tar.gz", 1003L, "0beec7b5ea3f0fdbc95d0dd47f3c5bc275da8a33"));
+
+    private ArtifactUrlHandler handler;
+    private UrlProtocol protocol;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final ArtifactUrlHandlerProperties properties = new ArtifactUrlHandlerProperties();
+        protocol = new UrlProtocol();
+        properties.getProtocols().put("download-http", protocol);
+        handler = new PropertyBasedArtifactUrlHandler(properties, "");
+    }
+
+    @Benchmark
+    public void compiled(final Blackhole blackhole) {
+        for (int target = 0; target < TARGETS; target++) {
+            for (final SoftwareData artifact : artifacts) {
+                blackhole.consume(handler.getUrls(
+                        new URLPlaceholder(TENANT, TENANT_ID, "controller-" + target, (long) target, artifact),
+                        ApiType.DMF));
+            }
+        }
+    }
+
+    @Benchmark
+    public void replacement(final Blackhole blackhole) {
+        for (int target = 0; target < TARGETS; target++) {
+            for (final SoftwareData artifact : artifacts) {
+                final URLPlaceholder placeholder = new URLPlaceholder(TENANT, TENANT_ID, "controller-" + target,
+                        (long) target, artifact);
+                blackhole.consume(List.of(new ArtifactUrl(protocol.getProtocol().toUpperCase(), protocol.getRel(),
+                        replace(protocol, placeholder))));
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ArtifactUrlRenderingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    // the former rendering, one replacement per placeholder
+    private static String replace(final UrlProtocol protocol, final URLPlaceholder placeholder) {
+        final String port = ObjectUtils.isEmpty(protocol.getPort()) ? null : String.valueOf(protocol.getPort());
+        final Map<String, String> replaceMap = new HashMap<>();
+        replaceMap.put("ip", protocol.getIp());
+        replaceMap.put("hostname", protocol.getHostname());
+        replaceMap.put("hostnameRequest", protocol.getHostname());
+        replaceMap.put("portRequest", port);
+        replaceMap.put("domainRequest", protocol.getHostname());
+        replaceMap.put("protocolRequest", protocol.getProtocol());
+        replaceMap.put("contextPath", "");
+        replaceMap.put("artifactFileName",
+                URLEncoder.encode(placeholder.getSoftwareData().getFilename(), StandardCharsets.UTF_8));
+        replaceMap.put("artifactSHA1", placeholder.getSoftwareData().getSha1Hash());
+        replaceMap.put("protocol", protocol.getProtocol());
+        replaceMap.put("port", port);
+        replaceMap.put("tenant", placeholder.getTenant());
+        replaceMap.put("tenantId", String.valueOf(placeholder.getTenantId()));
+        replaceMap.put("tenantIdBase62", Base62Util.fromBase10(placeholder.getTenantId()));
+        replaceMap.put("controllerId", placeholder.getControllerId());
+        replaceMap.put("targetId", String.valueOf(placeholder.getTargetId()));
+        replaceMap.put("targetIdBase62", Base62Util.fromBase10(placeholder.getTargetId()));
+        replaceMap.put("artifactIdBase62", Base62Util.fromBase10(placeholder.getSoftwareData().getArtifactId()));
+        replaceMap.put("artifactId", String.valueOf(placeholder.getSoftwareData().getArtifactId()));
+        replaceMap.put("softwareModuleId", String.valueOf(placeholder.getSoftwareData().getSoftwareModuleId()));
+        replaceMap.put("softwareModuleIdBase62",
+                Base62Util.fromBase10(placeholder.getSoftwareData().getSoftwareModuleId()));
+
+        String url = protocol.getRef();
+        for (final Map.Entry<String, String> entry : replaceMap.entrySet()) {
+            if (List.of("port", "portRequest").contains(entry.getKey())) {
+                url = url.replace(":{" + entry.getKey() + "}",
+                        ObjectUtils.isEmpty(entry.getValue()) ? "" : (":" + entry.getValue()));
+            } else if (entry.getValue() != null) {
+                url = url.replace("{" + entry.getKey() + "}", entry.getValue());
+            }
+        }
+        return url;
+    }
+}
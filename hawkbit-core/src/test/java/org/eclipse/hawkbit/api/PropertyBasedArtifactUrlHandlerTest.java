@@ -221,4 +221,44 @@ public class PropertyBasedArtifactUrlHandlerTest {
                         + SOFTWAREMODULEID + "/artifacts/" + FILENAME_ENCODE));
 
     }
+
+    @Test
+    @Description("Verifies that unknown placeholders, placeholders without value and ports without ':' are kept as they are and an empty port is removed with its ':'.")
+    public void urlGenerationKeepsUnresolvedPlaceholders() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setPort(null);
+        proto.setRef("{protocol}://{hostname}:{port}/{unknown}/{port}/{targetIdBase62}/{tenantIdBase62}{");
+        properties.getProtocols().put("download-http", proto);
+
+        final List<ArtifactUrl> urls = urlHandlerUnderTest.getUrls(new URLPlaceholder(TENANT, TENANT_ID,
+                CONTROLLER_ID, null, new SoftwareData(SOFTWAREMODULEID, FILENAME_DECODE, ARTIFACTID, SHA1HASH)),
+                ApiType.DDI);
+
+        assertThat(urls).containsExactly(new ArtifactUrl("HTTP", "download-http",
+                "http://localhost/{unknown}/{port}/{targetIdBase62}/" + Base62Util.fromBase10(TENANT_ID) + "{"));
+    }
+
+    @Test
+    @Description("Verifies that the memoized artifact values are not mixed up between targets and artifacts and that a changed pattern is used.")
+    public void urlGenerationForSeveralTargetsAndArtifacts() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setRef("{protocol}://{hostname}:{port}/{tenantId}/{controllerId}/{targetId}/{softwareModuleId}/"
+                + "{artifactId}/{artifactFileName}");
+        properties.getProtocols().put("download-http", proto);
+
+        for (long target = 1; target <= 3; target++) {
+            for (long artifact = 1; artifact <= 3; artifact++) {
+                final List<ArtifactUrl> urls = urlHandlerUnderTest.getUrls(new URLPlaceholder(TENANT, TENANT_ID,
+                        "c" + target, target, new SoftwareData(10 + artifact, "file " + artifact, artifact, SHA1HASH)),
+                        ApiType.DMF);
+                assertThat(urls).containsExactly(new ArtifactUrl("HTTP", "download-http", "http://localhost:8080/"
+                        + TENANT_ID + "/c" + target + "/" + target + "/" + (10 + artifact) + "/" + artifact
+                        + "/file+" + artifact));
+            }
+        }
+
+        proto.setRef("{protocol}://{hostname}/{artifactSHA1}");
+        assertThat(urlHandlerUnderTest.getUrls(placeholder, ApiType.DMF))
+                .containsExactly(new ArtifactUrl("HTTP", "download-http", "http://localhost/" + SHA1HASH));
+    }
 }
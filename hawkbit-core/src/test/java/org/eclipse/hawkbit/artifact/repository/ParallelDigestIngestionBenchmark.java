@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link ParallelDigestIngestion} with the former sequential
+ * ingestion through chained {@link DigestInputStream}s for inputs from 100 MB
+ * up to 4 GB. The input is generated on the fly, so only the temp file needs
+ * disk space. Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ParallelDigestIngestionBenchmark {
+
+    private static final long MB = 1024L * 1024L;
+
+    @Param({ "100", "1024", "4096" })
+    private long sizeMb;
+
+    @Param({ "1048576", "4194304" })
+    private int bufferSize;
+
+    private ParallelDigestIngestion ingestion;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ingestion = new ParallelDigestIngestion(bufferSize, 1, new SimpleMeterRegistry());
+        file = Files.createTempFile("hawkbit-benchmark", ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ingestion.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Object parallel() throws IOException {
+        try (final InputStream content = new GeneratedInputStream(sizeMb * MB)) {
+            return ingestion.ingest(content, file);
+        }
+    }
+
+    @Benchmark
+    public Object sequential() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest sha1 = MessageDigest.getInstance("SHA1");
+        final MessageDigest md5 = MessageDigest.getInstance("MD5");
+        final MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        try (final InputStream content = new DigestInputStream(new DigestInputStream(
+                new DigestInputStream(new GeneratedInputStream(sizeMb * MB), sha256), md5), sha1);
+                final OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            IOUtils.copy(content, out);
+        }
+        return new byte[][] { sha1.digest(), md5.digest(), sha256.digest() };
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelDigestIngestionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    /**
+     * Repeats a random block up to the requested size.
+     */
+    private static final class GeneratedInputStream extends InputStream {
+
+        private final byte[] block = new byte[(int) MB];
+        private long remaining;
+
+        private GeneratedInputStream(final long size) {
+            ThreadLocalRandom.current().nextBytes(block);
+            remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            return block[(int) (--remaining % block.length)] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int blockOffset = (int) (remaining % block.length);
+            final int count = (int) Math.min(Math.min(len, remaining), block.length - blockOffset);
+            System.arraycopy(block, blockOffset, b, off, count);
+            remaining -= count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Artifact Repository")
+@Story("Parallel digest ingestion")
+class ParallelDigestIngestionTest {
+
+    private static final int BUFFER_SIZE = 1000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ParallelDigestIngestion ingestion = new ParallelDigestIngestion(BUFFER_SIZE, 2, meterRegistry);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void close() {
+        ingestion.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, BUFFER_SIZE, BUFFER_SIZE + 1, 10 * BUFFER_SIZE + 7 })
+    @Description("Content is written unchanged and hashed like with sequential digests.")
+    void writesContentAndComputesHashes(final int size) throws IOException, NoSuchAlgorithmException {
+        final byte[] content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+        final Path file = tempDir.resolve("artifact");
+
+        final DbArtifactHash hashes = ingestion.ingest(new ByteArrayInputStream(content), file);
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        assertThat(hashes.getSha1()).isEqualTo(hash("SHA1", content));
+        assertThat(hashes.getMd5()).isEqualTo(hash("MD5", content));
+        assertThat(hashes.getSha256()).isEqualTo(hash("SHA-256", content));
+        assertThat(meterRegistry.get("hawkbit.artifact.ingest.bytes").summary().totalAmount()).isEqualTo(size);
+    }
+
+    @Test
+    @Description("A failing content stream fails the ingestion.")
+    void failingContentFailsIngestion() {
+        final InputStream failing = new InputStream() {
+
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (++read > 3 * BUFFER_SIZE) {
+                    throw new IOException("expected");
+                }
+                return 0;
+            }
+        };
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ingestion.ingest(failing, tempDir.resolve("failed"))).withMessage("expected");
+    }
+
+    @Test
+    @Description("More concurrent ingestions than allowed wait for each other and all succeed.")
+    void concurrentIngestionsBeyondConcurrencySucceed() throws InterruptedException, ExecutionException {
+        final byte[] content = new byte[20 * BUFFER_SIZE + 3];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        final ExecutorService uploads = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<DbArtifactHash>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final Path file = tempDir.resolve("artifact" + i);
+                results.add(uploads.submit(() -> ingestion.ingest(new ByteArrayInputStream(content), file)));
+            }
+            for (final Future<DbArtifactHash> result : results) {
+                assertThat(result.get().getSha256()).isEqualTo(hash("SHA-256", content));
+            }
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            uploads.shutdownNow();
+        }
+    }
+
+    @Test
+    @Description("The buffers of failed ingestions are reused, the following ingestions still succeed.")
+    void failedIngestionsReleaseTheirBuffers() throws IOException, NoSuchAlgorithmException {
+        for (int i = 0; i < 10; i++) {
+            final InputStream failing = new InputStream() {
+
+                private int read;
+
+                @Override
+                public int read() throws IOException {
+                    if (++read > 2 * BUFFER_SIZE + 10) {
+                        throw new IOException("expected");
+                    }
+                    return 1;
+                }
+            };
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> ingestion.ingest(failing, tempDir.resolve("failed")));
+        }
+
+        final byte[] content = new byte[5 * BUFFER_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        assertThat(ingestion.ingest(new ByteArrayInputStream(content), tempDir.resolve("artifact")).getMd5())
+                .isEqualTo(hash("MD5", content));
+    }
+
+    @Test
+    @Description("A closed ingestion rejects new ingestions.")
+    void closedIngestionRejectsIngestions() {
+        ingestion.close();
+
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(
+                () -> ingestion.ingest(new ByteArrayInputStream(new byte[10]), tempDir.resolve("closed")));
+    }
+
+    private static String hash(final String algorithm, final byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().withLowerCase().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+    }
+}
@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.amqp;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
 import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
@@ -22,6 +24,7 @@ import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.FanoutExchange;
@@ -34,6 +37,7 @@ import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -44,6 +48,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ErrorHandler;
 
 import java.time.Duration;
@@ -276,6 +281,53 @@ public class AmqpConfiguration {
                 entityFactory, systemSecurityContext, tenantConfigurationManagement, confirmationManagement);
     }
 
+    /**
+     * Create the listener processing the incoming DMF messages in lanes.
+     *
+     * @param amqpMessageHandlerService
+     *            to process the messages
+     * @param errorHandler
+     *            to classify the failures
+     * @param transactionManager
+     *            for the transactions of batched messages
+     * @param meterRegistry
+     *            to register the metrics
+     * @return the lane listener bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.inbound", name = "enabled", havingValue = "true")
+    public AmqpInboundLaneListener amqpInboundLaneListener(final AmqpMessageHandlerService amqpMessageHandlerService,
+            final ErrorHandler errorHandler, final PlatformTransactionManager transactionManager,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AmqpInboundLaneListener(amqpMessageHandlerService, errorHandler, transactionManager,
+                rabbitConnectionFactory.getVirtualHost(), amqpProperties.getInbound(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Create the container consuming the DMF receiver queue for the
+     * {@link AmqpInboundLaneListener}, i.e. with a single consumer and manual
+     * acknowledgement.
+     *
+     * @param amqpInboundLaneListener
+     *            the lane listener
+     * @return the listener container bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.inbound", name = "enabled", havingValue = "true")
+    public SimpleMessageListenerContainer amqpInboundLaneListenerContainer(
+            final AmqpInboundLaneListener amqpInboundLaneListener) {
+        final SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(rabbitConnectionFactory);
+        container.setQueueNames(amqpProperties.getReceiverQueue());
+        container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        container.setConcurrentConsumers(1);
+        container.setPrefetchCount(amqpProperties.getInbound().getPrefetch());
+        container.setMissingQueuesFatal(amqpProperties.isMissingQueuesFatal());
+        container.setDeclarationRetries(amqpProperties.getDeclarationRetries());
+        container.setMessageListener(amqpInboundLaneListener);
+        return container;
+    }
+
     /**
      * Create default amqp sender service bean.
      *
@@ -283,7 +335,11 @@ public class AmqpConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public AmqpMessageSenderService amqpSenderServiceBean() {
+    public AmqpMessageSenderService amqpSenderServiceBean(final ObjectProvider<MeterRegistry> meterRegistry) {
+        if (amqpProperties.getSender().isAsyncEnabled()) {
+            return new AsyncAmqpMessageSenderService(rabbitTemplate(), amqpProperties.getSender(),
+                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
         return new DefaultAmqpMessageSenderService(rabbitTemplate());
     }
 
@@ -310,10 +366,22 @@ public class AmqpConfiguration {
             final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
             final TargetManagement targetManagement, final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final DmfSoftwareModuleCache softwareModuleCache) {
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
                 systemSecurityContext, systemManagement, targetManagement, serviceMatcher, distributionSetManagement,
-                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement, softwareModuleCache);
+    }
+
+    /**
+     * Create the cache of the software modules of the DMF messages.
+     *
+     * @return the software module cache
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    DmfSoftwareModuleCache dmfSoftwareModuleCache() {
+        return new DmfSoftwareModuleCache(amqpProperties.getSoftwareModuleCacheSize());
     }
 
     private static Map<String, Object> getTTLMaxArgsAuthenticationQueue() {
@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Processes the incoming DMF messages in parallel lanes instead of the threads
+ * of the listener container. The messages are consumed by a single consumer
+ * with manual acknowledgement and distributed to the lanes by tenant and thing
+ * id, so the messages of a device are processed in the order they were
+ * received. Each lane is processed by its own thread, the prefetch of the
+ * consumer bounds the number of messages in the lanes.
+ * <p>
+ * Consecutive attribute updates or consecutive action status updates of a
+ * tenant in a lane are processed in one transaction. If the transaction fails
+ * the messages are processed one by one. A message is acknowledged after it was
+ * processed or rejected as the listener container would do it, i.e. requeued
+ * unless the {@link ErrorHandler} classifies the failure as fatal. The lanes
+ * acknowledge on the channel of the consumer, which must not be used by
+ * concurrent threads, so the acknowledgements are synchronized on it.
+ * <p>
+ * Metrics: the gauge <code>dmf.inbound.lane.lag</code> of queued messages per
+ * lane and the timer <code>dmf.inbound.lane.wait</code> of the time the
+ * messages waited in the lanes.
+ */
+@Slf4j
+public class AmqpInboundLaneListener implements ChannelAwareMessageListener {
+
+    private static final long POLL_MILLIS = 100;
+
+    private static final Set<String> BATCHED_TOPICS = Set.of(EventTopic.UPDATE_ATTRIBUTES.name(),
+            EventTopic.UPDATE_ACTION_STATUS.name());
+
+    private final AmqpMessageHandlerService amqpMessageHandlerService;
+    private final ErrorHandler errorHandler;
+    private final TransactionTemplate transactionTemplate;
+    private final String virtualHost;
+    private final int batchSize;
+    private final Lane[] lanes;
+    private final Timer laneWait;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor.
+     *
+     * @param amqpMessageHandlerService
+     *            to process the messages
+     * @param errorHandler
+     *            to classify the failures
+     * @param transactionManager
+     *            for the transactions of batched messages
+     * @param virtualHost
+     *            the virtual host of the consumer
+     * @param properties
+     *            the inbound properties
+     * @param meterRegistry
+     *            to register the metrics
+     */
+    public AmqpInboundLaneListener(final AmqpMessageHandlerService amqpMessageHandlerService,
+            final ErrorHandler errorHandler, final PlatformTransactionManager transactionManager,
+            final String virtualHost, final AmqpProperties.Inbound properties, final MeterRegistry meterRegistry) {
+        this.amqpMessageHandlerService = amqpMessageHandlerService;
+        this.errorHandler = errorHandler;
+        this.virtualHost = virtualHost;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        batchSize = Math.max(1, properties.getBatchSize());
+
+        laneWait = Timer.builder("dmf.inbound.lane.wait").description("Time DMF messages waited in the lanes")
+                .register(meterRegistry);
+        lanes = new Lane[Math.max(1, properties.getLanes())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+            Gauge.builder("dmf.inbound.lane.lag", lanes[i].queue, Collection::size).tag("lane", String.valueOf(i))
+                    .description("DMF messages queued in the lane").register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final Channel channel) {
+        final Map<String, Object> headers = message.getMessageProperties().getHeaders();
+        final int key = Objects.hash(headers.get(MessageHeaderKey.TENANT), headers.get(MessageHeaderKey.THING_ID));
+        lanes[Math.floorMod(key, lanes.length)].queue.add(new Inbound(message, channel, System.nanoTime()));
+    }
+
+    /**
+     * Stops the lanes after the queued messages are processed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (final Lane lane : lanes) {
+            try {
+                lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(final List<Inbound> messages) {
+        int start = 0;
+        while (start < messages.size()) {
+            int end = start + 1;
+            while (end < messages.size() && isBatchable(messages.get(start), messages.get(end))) {
+                end++;
+            }
+            if (end - start > 1) {
+                processInTransaction(messages.subList(start, end));
+            } else {
+                process(messages.get(start));
+            }
+            start = end;
+        }
+    }
+
+    private void processInTransaction(final List<Inbound> messages) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        try {
+            // the tenant has to be known when the transaction begins
+            AmqpMessageHandlerService.setTenantSecurityContext(messages.get(0).tenant());
+            transactionTemplate.executeWithoutResult(status -> messages.forEach(this::handle));
+        } catch (final RuntimeException e) {
+            log.debug("Failed to process {} messages in one transaction, processing them one by one: {}",
+                    messages.size(), e.getMessage());
+            messages.forEach(this::process);
+            return;
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+        messages.forEach(inbound -> acknowledge(inbound, null));
+    }
+
+    private void process(final Inbound inbound) {
+        try {
+            handle(inbound);
+            acknowledge(inbound, null);
+        } catch (final RuntimeException e) {
+            acknowledge(inbound, e);
+        }
+    }
+
+    private void handle(final Inbound inbound) {
+        amqpMessageHandlerService.onMessage(inbound.message(), inbound.type(), inbound.tenant(), virtualHost);
+    }
+
+    private void acknowledge(final Inbound inbound, final RuntimeException failure) {
+        final long deliveryTag = inbound.message().getMessageProperties().getDeliveryTag();
+        final boolean requeue = failure != null && shouldRequeue(inbound.message(), failure);
+        final Channel channel = inbound.channel();
+        try {
+            synchronized (channel) {
+                if (failure == null) {
+                    channel.basicAck(deliveryTag, false);
+                } else {
+                    channel.basicReject(deliveryTag, requeue);
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            // the broker redelivers the message if the channel is closed
+            log.warn("Failed to acknowledge message {}: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private boolean shouldRequeue(final Message message, final RuntimeException failure) {
+        final ListenerExecutionFailedException failed = new ListenerExecutionFailedException(
+                "Failed to process DMF message", failure, message);
+        try {
+            errorHandler.handleError(failed);
+        } catch (final AmqpRejectAndDontRequeueException e) {
+            return false;
+        }
+        Throwable cause = failure;
+        while (cause != null) {
+            if (cause instanceof AmqpRejectAndDontRequeueException) {
+                return false;
+            }
+            cause = cause.getCause();
+        }
+        return true;
+    }
+
+    private static boolean isBatchable(final Inbound first, final Inbound next) {
+        return MessageType.EVENT.name().equals(first.type()) && BATCHED_TOPICS.contains(first.topic())
+                && Objects.equals(first.type(), next.type()) && Objects.equals(first.topic(), next.topic())
+                && Objects.equals(first.tenant(), next.tenant());
+    }
+
+    private record Inbound(Message message, Channel channel, long receivedAt) {
+
+        private String type() {
+            return header(MessageHeaderKey.TYPE);
+        }
+
+        private String tenant() {
+            return header(MessageHeaderKey.TENANT);
+        }
+
+        private String topic() {
+            return header(MessageHeaderKey.TOPIC);
+        }
+
+        private String header(final String key) {
+            final Object value = message.getMessageProperties().getHeaders().get(key);
+            return value == null ? null : value.toString();
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Inbound> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+
+        private Lane(final int index) {
+            thread = new Thread(this, "dmf-inbound-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            final List<Inbound> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    final Inbound first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    final long now = System.nanoTime();
+                    batch.forEach(inbound -> laneWait.record(now - inbound.receivedAt(), TimeUnit.NANOSECONDS));
+                    process(batch);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (final RuntimeException e) {
+                    log.error("Failed to process a batch of {} messages", batch.size(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
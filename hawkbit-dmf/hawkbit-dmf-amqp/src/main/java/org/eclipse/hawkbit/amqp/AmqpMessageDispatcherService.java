@@ -18,7 +18,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -28,6 +27,7 @@ import java.util.stream.StreamSupport;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.amqp.DmfSoftwareModuleCache.DmfSoftwareModulePayload;
 import org.eclipse.hawkbit.api.ApiType;
 import org.eclipse.hawkbit.api.ArtifactUrl;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
@@ -37,12 +37,9 @@ import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
-import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
-import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
 import org.eclipse.hawkbit.dmf.json.model.DmfBatchDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfConfirmRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
-import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.dmf.json.model.DmfTarget;
@@ -60,7 +57,6 @@ import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEven
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
-import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
@@ -102,6 +98,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final DeploymentManagement deploymentManagement;
     private final SoftwareModuleManagement softwareModuleManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
+    private final DmfSoftwareModuleCache softwareModuleCache;
 
     /**
      * Constructor.
@@ -125,6 +122,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      *            to retrieve modules
      * @param tenantConfigurationManagement
      *            to access tenant configuration
+     * @param softwareModuleCache
+     *            caches the software modules of the distribution sets
      *
      */
     protected AmqpMessageDispatcherService(final RabbitTemplate rabbitTemplate,
@@ -133,7 +132,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final TargetManagement targetManagement, final ServiceMatcher serviceMatcher,
             final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final DmfSoftwareModuleCache softwareModuleCache) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
@@ -145,6 +145,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         this.softwareModuleManagement = softwareModuleManagement;
         this.deploymentManagement = deploymentManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
+        this.softwareModuleCache = softwareModuleCache;
     }
 
     /**
@@ -165,8 +166,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
         if (!filteredTargetList.isEmpty()) {
             log.debug("targetAssignDistributionSet retrieved. I will forward it to DMF broker.");
-            sendUpdateMessageToTargets(assignedEvent.getDistributionSetId(), assignedEvent.getActions(),
-                    filteredTargetList);
+            sendUpdateMessageToTargets(assignedEvent.getTenant(), assignedEvent.getDistributionSetId(),
+                    assignedEvent.getActions(), filteredTargetList);
         }
     }
 
@@ -198,24 +199,25 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         });
     }
 
-    private void sendUpdateMessageToTargets(final Long dsId, final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets) {
-        distributionSetManagement.get(dsId).ifPresent(ds -> {
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules = getSoftwareModulesWithMetadata(
-                    ds);
+    private void sendUpdateMessageToTargets(final String tenant, final Long dsId,
+            final Map<String, ActionProperties> actionsPropsByTargetId, final List<Target> targets) {
+        final List<DmfSoftwareModulePayload> softwareModules = softwareModuleCache.get(tenant, dsId,
+                () -> distributionSetManagement.get(dsId).map(this::getSoftwareModulesWithMetadata).orElse(null));
+        if (softwareModules != null) {
             sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules);
-        });
+        }
     }
 
     protected void sendUpdateMessageToTarget(final ActionProperties actionsProps, final Target target,
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
         final Map<String, ActionProperties> actionProp = new HashMap<>();
         actionProp.put(target.getControllerId(), actionsProps);
-        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules);
+        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target),
+                DmfSoftwareModuleCache.of(softwareModules));
     }
 
     private void sendUpdateMessageToTargets(final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<Target> targets, final List<DmfSoftwareModulePayload> softwareModules) {
 
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
             sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
@@ -228,21 +230,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendMultiActionRequestMessages(final String tenant, final List<String> controllerIds) {
-
-        final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModuleMetadata = new HashMap<>();
         targetManagement.getByControllerID(controllerIds).stream()
                 .filter(target -> IpUtil.isAmqpUri(target.getAddress())).forEach(target -> {
 
                     final List<Action> activeActions = deploymentManagement
                             .findActiveActionsWithHighestWeight(target.getControllerId(), MAX_ACTION_COUNT);
 
-                    activeActions.forEach(action -> action.getDistributionSet().getModules().forEach(
-                            module -> softwareModuleMetadata.computeIfAbsent(module, this::getSoftwareModuleMetadata)));
-
                     if (!activeActions.isEmpty()) {
-                        sendMultiActionRequestToTarget(tenant, target, activeActions,
-                                action -> action.getDistributionSet().getModules().stream()
-                                        .collect(Collectors.toMap(m -> m, softwareModuleMetadata::get)));
+                        sendMultiActionRequest(tenant, target, activeActions,
+                                action -> softwareModuleCache.get(tenant, action.getDistributionSet().getId(),
+                                        () -> getSoftwareModulesWithMetadata(action.getDistributionSet())));
                     }
                 });
 
@@ -250,16 +247,23 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected void sendMultiActionRequestToTarget(final String tenant, final Target target, final List<Action> actions,
             final Function<Action, Map<SoftwareModule, List<SoftwareModuleMetadata>>> getSoftwareModuleMetaData) {
+        sendMultiActionRequest(tenant, target, actions,
+                action -> DmfSoftwareModuleCache.of(getSoftwareModuleMetaData.apply(action)));
+    }
+
+    private void sendMultiActionRequest(final String tenant, final Target target, final List<Action> actions,
+            final Function<Action, List<DmfSoftwareModulePayload>> getSoftwareModules) {
 
         final URI targetAddress = target.getAddress();
         if (!IpUtil.isAmqpUri(targetAddress) || CollectionUtils.isEmpty(actions)) {
             return;
         }
 
+        final TenantMetaData metaData = systemManagement.getTenantMetadata();
         final DmfMultiActionRequest multiActionRequest = new DmfMultiActionRequest();
         actions.forEach(action -> {
             final DmfActionRequest actionRequest = createDmfActionRequest(target, action,
-                    getSoftwareModuleMetaData.apply(action));
+                    getSoftwareModules.apply(action), metaData);
             final int weight = deploymentManagement.getWeightConsideringDefault(action);
             multiActionRequest.addElement(getEventTypeForAction(action), actionRequest, weight);
         });
@@ -270,13 +274,13 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private DmfActionRequest createDmfActionRequest(final Target target, final Action action,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<DmfSoftwareModulePayload> softwareModules, final TenantMetaData metaData) {
         if (action.isCancelingOrCanceled()) {
             return createPlainActionRequest(action);
         } else if (action.isWaitingConfirmation()) {
-            return createConfirmRequest(target, action.getId(), softwareModules);
+            return createConfirmRequest(target, action.getId(), softwareModules, metaData);
         }
-        return createDownloadAndUpdateRequest(target, action.getId(), softwareModules);
+        return createDownloadAndUpdateRequest(target, action.getId(), softwareModules, metaData);
     }
 
     private static DmfActionRequest createPlainActionRequest(final Action action) {
@@ -287,14 +291,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(final Target target, final Long actionId,
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        return createDownloadAndUpdateRequest(target, actionId, DmfSoftwareModuleCache.of(softwareModules),
+                systemManagement.getTenantMetadata());
+    }
+
+    private DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(final Target target, final Long actionId,
+            final List<DmfSoftwareModulePayload> softwareModules, final TenantMetaData metaData) {
         final DmfDownloadAndUpdateRequest request = new DmfDownloadAndUpdateRequest();
         request.setActionId(actionId);
         request.setTargetSecurityToken(systemSecurityContext.runAsSystem(target::getSecurityToken));
-
-        if (softwareModules != null) {
-            softwareModules.entrySet()
-                    .forEach(entry -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, entry)));
-        }
+        softwareModules.forEach(module -> request.addSoftwareModule(toDmfSoftwareModule(target, module, metaData)));
         return request;
     }
 
@@ -411,7 +417,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendSingleUpdateMessage(final ActionProperties action, final Target target,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final List<DmfSoftwareModulePayload> modules) {
 
         final String tenant = action.getTenant();
 
@@ -420,13 +426,14 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             return;
         }
 
+        final TenantMetaData metaData = systemManagement.getTenantMetadata();
         DmfActionRequest request;
         if (action.isWaitingConfirmation()) {
             // For the moment the confirmation request is the same as download and update request.
             // It can be modified not to expose all the software modules in the future.
-            request = createConfirmRequest(target, action.getId(), modules);
+            request = createConfirmRequest(target, action.getId(), modules, metaData);
         } else {
-            request = createDownloadAndUpdateRequest(target, action.getId(), modules);
+            request = createDownloadAndUpdateRequest(target, action.getId(), modules, metaData);
         }
 
         final Message message = getMessageConverter().toMessage(request,
@@ -523,52 +530,14 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return messageProperties;
     }
 
-    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target,
-            final Entry<SoftwareModule, List<SoftwareModuleMetadata>> entry) {
-        final DmfSoftwareModule amqpSoftwareModule = new DmfSoftwareModule();
-        amqpSoftwareModule.setModuleId(entry.getKey().getId());
-        amqpSoftwareModule.setModuleType(entry.getKey().getType().getKey());
-        amqpSoftwareModule.setModuleVersion(entry.getKey().getVersion());
-        amqpSoftwareModule.setEncrypted(entry.getKey().isEncrypted() ? Boolean.TRUE : null);
-        amqpSoftwareModule.setArtifacts(convertArtifacts(target, entry.getKey().getArtifacts()));
-
-        if (!CollectionUtils.isEmpty(entry.getValue())) {
-            amqpSoftwareModule.setMetadata(convertMetadata(entry.getValue()));
-        }
-
-        return amqpSoftwareModule;
-    }
-
-    private List<DmfMetadata> convertMetadata(final List<SoftwareModuleMetadata> metadata) {
-        return metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).collect(Collectors.toList());
-    }
-
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> localArtifacts) {
-        if (localArtifacts.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return localArtifacts.stream().map(localArtifact -> convertArtifact(target, localArtifact))
-                .collect(Collectors.toList());
-    }
-
-    private DmfArtifact convertArtifact(final Target target, final Artifact localArtifact) {
-        final DmfArtifact artifact = new DmfArtifact();
-
-        final TenantMetaData metaData = systemManagement.getTenantMetadata();
-        artifact.setUrls(artifactUrlHandler
-                .getUrls(new URLPlaceholder(metaData.getTenant(),
-                        metaData.getId(), target.getControllerId(), target.getId(),
-                        new SoftwareData(localArtifact.getSoftwareModule().getId(), localArtifact.getFilename(),
-                                localArtifact.getId(), localArtifact.getSha1Hash())),
+    private DmfSoftwareModule toDmfSoftwareModule(final Target target, final DmfSoftwareModulePayload module,
+            final TenantMetaData metaData) {
+        return module.toDmfSoftwareModule(artifact -> artifactUrlHandler
+                .getUrls(new URLPlaceholder(metaData.getTenant(), metaData.getId(), target.getControllerId(),
+                        target.getId(), new SoftwareData(artifact.getSoftwareModuleId(), artifact.getFilename(),
+                                artifact.getArtifactId(), artifact.getSha1Hash())),
                         ApiType.DMF)
                 .stream().collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef)));
-
-        artifact.setFilename(localArtifact.getFilename());
-        artifact.setHashes(new DmfArtifactHash(localArtifact.getSha1Hash(), localArtifact.getMd5Hash()));
-        artifact.setSize(localArtifact.getSize());
-        artifact.setLastModified(localArtifact.getLastModifiedAt());
-        return artifact;
     }
 
     private Map<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModulesWithMetadata(
@@ -582,7 +551,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendBatchUpdateMessage(final Map<String, ActionProperties> actions, final List<Target> targets,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final List<DmfSoftwareModulePayload> modules) {
 
         final List<DmfTarget> dmfTargets = targets.stream().filter(target -> IpUtil.isAmqpUri(target.getAddress()))
                 .map(t -> convertToDmfTarget(t, actions.get(t.getControllerId()).getId())).collect(Collectors.toList());
@@ -595,10 +564,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         // software modules we don't generate
         // target-specific urls
         final Target firstTarget = targets.get(0);
-        if (modules != null) {
-            modules.entrySet()
-                    .forEach(entry -> batchRequest.addSoftwareModule(convertToAmqpSoftwareModule(firstTarget, entry)));
-        }
+        final TenantMetaData metaData = systemManagement.getTenantMetadata();
+        modules.forEach(module -> batchRequest.addSoftwareModule(toDmfSoftwareModule(firstTarget, module, metaData)));
 
         // we use only the first action when constructing message as Tenant and
         // action type are the same
@@ -648,15 +615,18 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      */
     protected DmfConfirmRequest createConfirmRequest(final Target target, final Long actionId, final Map<SoftwareModule,
             List<SoftwareModuleMetadata>> softwareModules) {
+        return createConfirmRequest(target, actionId, DmfSoftwareModuleCache.of(softwareModules),
+                systemManagement.getTenantMetadata());
+    }
+
+    private DmfConfirmRequest createConfirmRequest(final Target target, final Long actionId,
+            final List<DmfSoftwareModulePayload> softwareModules, final TenantMetaData metaData) {
         final DmfConfirmRequest request = new DmfConfirmRequest();
         request.setActionId(actionId);
         request.setTargetSecurityToken(systemSecurityContext.runAsSystem(target::getSecurityToken));
 
         //Software modules can be filtered in the future exposing only the needed.
-        if (softwareModules != null) {
-            softwareModules.entrySet()
-                    .forEach(entry -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, entry)));
-        }
+        softwareModules.forEach(module -> request.addSoftwareModule(toDmfSoftwareModule(target, module, metaData)));
         return request;
     }
 }
@@ -121,7 +121,8 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
     }
 
     /**
-     * Method to handle all incoming DMF amqp messages.
+     * Method to handle all incoming DMF amqp messages. Not started if the
+     * messages are processed by the {@link AmqpInboundLaneListener}.
      *
      * @param message
      *            incoming message
@@ -131,7 +132,8 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      *            the contentType of the message
      * @return a message if <null> no message is send back to sender
      */
-    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory")
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory",
+            autoStartup = "#{!${hawkbit.dmf.rabbitmq.inbound.enabled:false}}")
     public Message onMessage(final Message message,
             @Header(name = MessageHeaderKey.TYPE, required = false) final String type,
             @Header(name = MessageHeaderKey.TENANT, required = false) final String tenant) {
@@ -197,7 +199,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         SecurityContextHolder.setContext(securityContextImpl);
     }
 
-    private static void setTenantSecurityContext(final String tenantId) {
+    static void setTenantSecurityContext(final String tenantId) {
         final AnonymousAuthenticationToken authenticationToken = new AnonymousAuthenticationToken(
                 UUID.randomUUID().toString(), "AMQP-Controller",
                 Collections.singletonList(new SimpleGrantedAuthority(SpringEvalExpressions.CONTROLLER_ROLE_ANONYMOUS)));
@@ -25,6 +25,8 @@ public class AmqpProperties {
 
     private static final long DEFAULT_REQUEUE_DELAY = 0;
 
+    private static final int DEFAULT_SOFTWARE_MODULE_CACHE_SIZE = 1000;
+
     /**
      * Enable DMF API based on AMQP 0.9
      */
@@ -68,4 +70,95 @@ public class AmqpProperties {
      * Delay for messages that are requeued in milliseconds.
      */
     private long requeueDelay = DEFAULT_REQUEUE_DELAY;
+
+    /**
+     * Maximum number of distribution sets whose software modules are cached
+     * for the DMF messages, <code>0</code> disables the cache.
+     */
+    private int softwareModuleCacheSize = DEFAULT_SOFTWARE_MODULE_CACHE_SIZE;
+
+    /**
+     * Properties of the asynchronous sending of DMF messages.
+     */
+    private final Sender sender = new Sender();
+
+    /**
+     * Properties of the parallel processing of incoming DMF messages.
+     */
+    private final Inbound inbound = new Inbound();
+
+    /**
+     * Properties of the {@link AsyncAmqpMessageSenderService}.
+     */
+    @Data
+    public static class Sender {
+
+        /**
+         * Send the DMF messages asynchronously, otherwise they are sent by the
+         * thread creating them. Requires
+         * <code>spring.rabbitmq.publisher-confirm-type=correlated</code>.
+         */
+        private boolean asyncEnabled;
+
+        /**
+         * Number of lanes, i.e. threads, sending the messages.
+         */
+        private int lanes = 4;
+
+        /**
+         * Maximum number of queued messages per lane.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Maximum number of messages published before awaiting their confirms.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Time in milliseconds a sender waits for space in a full lane before
+         * it fails.
+         */
+        private long offerTimeout = 30_000;
+
+        /**
+         * Time in milliseconds to wait for the confirms of a batch.
+         */
+        private long confirmTimeout = 10_000;
+
+        /**
+         * Number of times a message is published again if it is not
+         * confirmed, afterwards it is published without awaiting the confirm.
+         */
+        private int maxRetries = 3;
+    }
+
+    /**
+     * Properties of the {@link AmqpInboundLaneListener}.
+     */
+    @Data
+    public static class Inbound {
+
+        /**
+         * Process the incoming messages in lanes, otherwise they are processed
+         * by the threads of the listener container.
+         */
+        private boolean enabled;
+
+        /**
+         * Number of lanes, i.e. threads, processing the messages.
+         */
+        private int lanes = 8;
+
+        /**
+         * Maximum number of unacknowledged messages of the consumer.
+         */
+        private int prefetch = 250;
+
+        /**
+         * Maximum number of messages a lane takes at once, consecutive updates
+         * of the same kind among them are processed in one transaction.
+         */
+        private int batchSize = 50;
+    }
 }
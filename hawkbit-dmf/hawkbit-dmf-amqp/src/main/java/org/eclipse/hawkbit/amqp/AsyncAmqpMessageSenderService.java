@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.springframework.amqp.AmqpResourceNotAvailableException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * {@link AmqpMessageSenderService} which decouples the publishing of the
+ * messages from the threads creating them, e.g. the event executor starting a
+ * rollout group. The messages are queued in bounded lanes, selected by tenant
+ * and virtual host so the order of the messages of a target is kept. Each lane
+ * is served by its own thread, which publishes the queued messages in batches
+ * and awaits the publisher confirms of a batch at once. The channels are taken
+ * from the connection factory per message, so a lane is not bound to a channel,
+ * the confirms are matched to the messages by their {@link CorrelationData}.
+ * Requires <code>spring.rabbitmq.publisher-confirm-type=correlated</code>,
+ * otherwise the messages are not confirmed.
+ * <p>
+ * The lanes are started by {@link #start()} and stopped by
+ * {@link #shutdown()}.
+ * <p>
+ * A full lane blocks the sender up to
+ * {@link AmqpProperties.Sender#getOfferTimeout()}, which slows down the
+ * creation of messages to the pace of the broker. If the lane is still full
+ * the sender fails with an {@link AmqpResourceNotAvailableException}, like the
+ * synchronous sender fails if the broker is not available.
+ * <p>
+ * If a message of a batch is rejected or not confirmed in time, it and all
+ * following messages of the batch are published again before any other queued
+ * message of the lane, so messages may be published twice but never out of
+ * order. After {@link AmqpProperties.Sender#getMaxRetries()} attempts a message
+ * is published a last time without awaiting its confirm, as the synchronous
+ * sender does. A message which can't be published even then is logged and
+ * counted as failed.
+ * <p>
+ * Metrics: the gauge <code>dmf.sender.inflight</code> of queued and
+ * unconfirmed messages, the timer <code>dmf.sender.confirm</code> of the
+ * confirm latency of the batches and the counters
+ * <code>dmf.sender.requeued</code>, <code>dmf.sender.unconfirmed</code> of the
+ * messages published without awaiting the confirm and
+ * <code>dmf.sender.failed</code>.
+ */
+@Slf4j
+public class AsyncAmqpMessageSenderService extends DefaultAmqpMessageSenderService {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final AmqpProperties.Sender properties;
+    private final boolean confirms;
+    private final Lane[] lanes;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer confirmLatency;
+    private final Counter requeued;
+    private final Counter unconfirmed;
+    private final Counter failed;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate
+     *            the AMQP template
+     * @param properties
+     *            the sender properties
+     * @param meterRegistry
+     *            to register the metrics
+     */
+    public AsyncAmqpMessageSenderService(final RabbitTemplate rabbitTemplate, final AmqpProperties.Sender properties,
+            final MeterRegistry meterRegistry) {
+        super(rabbitTemplate);
+        this.properties = properties;
+        confirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!confirms) {
+            log.warn("Publisher confirms are disabled, DMF messages are sent without confirmation of the broker.");
+        }
+
+        Gauge.builder("dmf.sender.inflight", inFlight, AtomicInteger::get)
+                .description("DMF messages queued or awaiting the confirm of the broker").register(meterRegistry);
+        confirmLatency = Timer.builder("dmf.sender.confirm").description("Confirm latency of DMF message batches")
+                .register(meterRegistry);
+        requeued = Counter.builder("dmf.sender.requeued").description("DMF messages requeued after a failed send")
+                .register(meterRegistry);
+        unconfirmed = Counter.builder("dmf.sender.unconfirmed")
+                .description("DMF messages published without awaiting the confirm after the last retry")
+                .register(meterRegistry);
+        failed = Counter.builder("dmf.sender.failed").description("DMF messages which could not be published")
+                .register(meterRegistry);
+
+        lanes = new Lane[Math.max(1, properties.getLanes())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    @Override
+    public void sendMessage(final Message message, final URI sendTo) {
+        if (!IpUtil.isAmqpUri(sendTo)) {
+            return;
+        }
+
+        final Object tenant = message.getMessageProperties().getHeaders().get(MessageHeaderKey.TENANT);
+        final Lane lane = lanes[Math.floorMod(Objects.hash(tenant, sendTo.getHost()), lanes.length)];
+        inFlight.incrementAndGet();
+        boolean queued = false;
+        try {
+            queued = lane.queue.offer(new Pending(message, sendTo, 0), properties.getOfferTimeout(),
+                    TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!queued) {
+                inFlight.decrementAndGet();
+            }
+        }
+        if (!queued) {
+            throw new AmqpResourceNotAvailableException("DMF sender lane to " + sendTo + " is full");
+        }
+    }
+
+    /**
+     * Starts the lanes.
+     */
+    @PostConstruct
+    public void start() {
+        for (final Lane lane : lanes) {
+            lane.start();
+        }
+    }
+
+    /**
+     * Stops the lanes after the queued messages are sent.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (final Lane lane : lanes) {
+            if (lane.thread == null) {
+                continue;
+            }
+            try {
+                lane.thread.join(properties.getConfirmTimeout() + POLL_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages queued or awaiting the confirm of the
+     *         broker
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Publishes a batch and awaits its confirms.
+     *
+     * @return the messages to publish again, starting with the first one which
+     *         was not published or confirmed
+     */
+    private List<Pending> publish(final List<Pending> batch) {
+        final long start = System.nanoTime();
+        final List<Sent> sent = new ArrayList<>(batch.size());
+        String reason = null;
+        for (final Pending pending : batch) {
+            final CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+            try {
+                send(pending.message(), pending.sendTo(), correlationData);
+                sent.add(new Sent(pending, correlationData));
+            } catch (final RuntimeException e) {
+                // the following messages must not overtake it
+                reason = e.getMessage();
+                break;
+            }
+        }
+
+        final List<Pending> retries = new ArrayList<>();
+        if (!confirms) {
+            inFlight.addAndGet(-sent.size());
+        } else {
+            final long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.getConfirmTimeout());
+            boolean failedBefore = false;
+            for (final Sent message : sent) {
+                final String nack = awaitConfirm(message.correlationData(), deadline);
+                if (nack != null) {
+                    failedBefore = true;
+                    retry(retries, message.pending(), nack);
+                } else if (!failedBefore) {
+                    inFlight.decrementAndGet();
+                } else {
+                    // confirmed but published after a failed message, so published again
+                    retries.add(message.pending());
+                }
+            }
+            confirmLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (int i = sent.size(); i < batch.size(); i++) {
+            if (i == sent.size()) {
+                retry(retries, batch.get(i), reason);
+            } else {
+                retries.add(batch.get(i));
+            }
+        }
+        return retries;
+    }
+
+    /**
+     * @return <code>null</code> if the message was confirmed, otherwise the
+     *         reason why not
+     */
+    private static String awaitConfirm(final CorrelationData correlationData, final long deadline) {
+        try {
+            final Confirm confirm = correlationData.getFuture().get(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+            return confirm.isAck() ? null : "rejected by broker: " + confirm.getReason();
+        } catch (final TimeoutException e) {
+            return "not confirmed in time";
+        } catch (final ExecutionException e) {
+            return e.getCause().getMessage();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "sender was interrupted";
+        }
+    }
+
+    private void retry(final List<Pending> retries, final Pending pending, final String reason) {
+        if (pending.attempt() < properties.getMaxRetries()) {
+            log.debug("Publishing message to {} again: {}", pending.sendTo(), reason);
+            requeued.increment();
+            retries.add(new Pending(pending.message(), pending.sendTo(), pending.attempt() + 1));
+            return;
+        }
+
+        // the lane must go on, so the message gets the guarantee of the synchronous sender
+        log.warn("Publishing message to {} without awaiting the confirm: {}", pending.sendTo(), reason);
+        inFlight.decrementAndGet();
+        try {
+            send(pending.message(), pending.sendTo(), new CorrelationData(UUID.randomUUID().toString()));
+            unconfirmed.increment();
+        } catch (final RuntimeException e) {
+            log.error("Failed to publish message to {}", pending.sendTo(), e);
+            failed.increment();
+        }
+    }
+
+    private record Pending(Message message, URI sendTo, int attempt) {
+    }
+
+    private record Sent(Pending pending, CorrelationData correlationData) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(
+                Math.max(1, properties.getQueueCapacity()));
+        private final int index;
+        private volatile Thread thread;
+
+        private Lane(final int index) {
+            this.index = index;
+        }
+
+        private synchronized void start() {
+            if (thread != null) {
+                return;
+            }
+            thread = new Thread(this, "dmf-sender-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            final int batchSize = Math.max(1, properties.getBatchSize());
+            final List<Pending> batch = new ArrayList<>(batchSize);
+            // messages to publish again, they are at the head of the lane
+            List<Pending> retries = List.of();
+            while (running || !queue.isEmpty() || !retries.isEmpty()) {
+                try {
+                    batch.addAll(retries);
+                    if (batch.isEmpty()) {
+                        final Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (first == null) {
+                            continue;
+                        }
+                        batch.add(first);
+                    }
+                    queue.drainTo(batch, batchSize - batch.size());
+                    retries = publish(batch);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (final RuntimeException e) {
+                    log.error("Failed to publish a batch of {} messages", batch.size(), e);
+                    inFlight.addAndGet(-batch.size());
+                    failed.increment(batch.size());
+                    retries = List.of();
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
@@ -42,8 +42,22 @@ public class DefaultAmqpMessageSenderService extends BaseAmqpService implements
             return;
         }
 
+        send(message, sendTo, new CorrelationData(UUID.randomUUID().toString()));
+    }
+
+    /**
+     * Publishes the given message to the exchange of the given uri.
+     *
+     * @param message
+     *            the amqp message
+     * @param sendTo
+     *            the AMQP uri of the exchange
+     * @param correlationData
+     *            to correlate the publisher confirm of the broker
+     */
+    protected void send(final Message message, final URI sendTo, final CorrelationData correlationData) {
         final String exchange = sendTo.getPath().substring(1);
-        final String correlationId = UUID.randomUUID().toString();
+        final String correlationId = correlationData.getId();
 
         if (isCorrelationIdEmpty(message)) {
             message.getMessageProperties().setCorrelationId(correlationId);
@@ -55,7 +69,7 @@ public class DefaultAmqpMessageSenderService extends BaseAmqpService implements
             log.debug("Sending message to exchange {} with correlationId {}", exchange, correlationId);
         }
 
-        getRabbitTemplate().send(exchange, "", message, new CorrelationData(correlationId));
+        getRabbitTemplate().send(exchange, "", message, correlationData);
     }
 
     protected static boolean isCorrelationIdEmpty(final Message message) {
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
+import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Caches the software modules of distribution sets as they are sent to the
+ * targets with DMF messages, i.e. with their artifacts and target visible
+ * metadata. All targets of an assignment, e.g. of a rollout group, get the
+ * same modules, so the distribution set, the metadata and the artifacts are
+ * loaded and converted once instead of per target. Only the download URLs of
+ * the artifacts are target specific and generated when the message is sent.
+ * <p>
+ * The entries are immutable and keyed by tenant and distribution set id. They
+ * are evicted by the events which could change them: distribution set updated
+ * (e.g. modules assigned) or deleted and software module updated (e.g.
+ * metadata or artifacts changed) or deleted. As the events are published after
+ * commit, entries loaded before an eviction are not stored afterwards.
+ */
+public class DmfSoftwareModuleCache {
+
+    private final Cache<DistributionSetKey, List<DmfSoftwareModulePayload>> modules;
+    // an entry is only stored if no eviction happened since it was loaded
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize
+     *            maximum number of cached distribution sets, <code>0</code>
+     *            disables the cache
+     */
+    public DmfSoftwareModuleCache(final long maximumSize) {
+        modules = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Returns the software modules of a distribution set, loads and caches them
+     * if they are not cached yet.
+     *
+     * @param tenant
+     *            of the distribution set
+     * @param distributionSetId
+     *            id of the distribution set
+     * @param loader
+     *            loads the software modules with their target visible
+     *            metadata, returns <code>null</code> if the distribution set
+     *            does not exist
+     * @return the software modules or <code>null</code> if the distribution
+     *         set does not exist
+     */
+    public List<DmfSoftwareModulePayload> get(final String tenant, final long distributionSetId,
+            final Supplier<Map<SoftwareModule, List<SoftwareModuleMetadata>>> loader) {
+        final DistributionSetKey key = new DistributionSetKey(tenant.toUpperCase(), distributionSetId);
+        final List<DmfSoftwareModulePayload> cached = modules.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long stamp = evictions.get();
+        final Map<SoftwareModule, List<SoftwareModuleMetadata>> loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        final List<DmfSoftwareModulePayload> payloads = of(loaded);
+        modules.asMap().compute(key, (k, current) -> evictions.get() == stamp ? payloads : current);
+        return payloads;
+    }
+
+    /**
+     * Converts software modules without caching them.
+     *
+     * @param softwareModules
+     *            the software modules with their target visible metadata
+     * @return the converted software modules
+     */
+    public static List<DmfSoftwareModulePayload> of(
+            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        if (softwareModules == null) {
+            return Collections.emptyList();
+        }
+        return softwareModules.entrySet().stream()
+                .map(entry -> new DmfSoftwareModulePayload(entry.getKey(), entry.getValue())).toList();
+    }
+
+    @EventListener
+    void onDistributionSetUpdated(final DistributionSetUpdatedEvent event) {
+        evict(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener
+    void onDistributionSetDeleted(final DistributionSetDeletedEvent event) {
+        evict(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener
+    void onSoftwareModuleUpdated(final SoftwareModuleUpdatedEvent event) {
+        evictContaining(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener
+    void onSoftwareModuleDeleted(final SoftwareModuleDeletedEvent event) {
+        evictContaining(event.getTenant(), event.getEntityId());
+    }
+
+    private void evict(final String tenant, final Long distributionSetId) {
+        evictions.incrementAndGet();
+        if (distributionSetId != null) {
+            modules.invalidate(new DistributionSetKey(tenant.toUpperCase(), distributionSetId));
+        }
+    }
+
+    private void evictContaining(final String tenant, final Long softwareModuleId) {
+        evictions.incrementAndGet();
+        final String key = tenant.toUpperCase();
+        modules.asMap().entrySet().removeIf(entry -> entry.getKey().tenant().equals(key) && entry.getValue()
+                .stream().anyMatch(module -> module.getModuleId().equals(softwareModuleId)));
+    }
+
+    private record DistributionSetKey(String tenant, long distributionSetId) {
+    }
+
+    /**
+     * Immutable software module of a DMF message without the target specific
+     * download URLs of its artifacts.
+     */
+    public static final class DmfSoftwareModulePayload {
+
+        private final Long moduleId;
+        private final String moduleType;
+        private final String moduleVersion;
+        private final boolean encrypted;
+        private final List<DmfArtifactPayload> artifacts;
+        private final List<DmfMetadata> metadata;
+
+        private DmfSoftwareModulePayload(final SoftwareModule module, final List<SoftwareModuleMetadata> metadata) {
+            moduleId = module.getId();
+            moduleType = module.getType().getKey();
+            moduleVersion = module.getVersion();
+            encrypted = module.isEncrypted();
+            artifacts = module.getArtifacts().stream().map(DmfArtifactPayload::new).toList();
+            this.metadata = CollectionUtils.isEmpty(metadata) ? null
+                    : metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
+        }
+
+        public Long getModuleId() {
+            return moduleId;
+        }
+
+        public List<DmfArtifactPayload> getArtifacts() {
+            return artifacts;
+        }
+
+        /**
+         * Creates the software module of a DMF message.
+         *
+         * @param urls
+         *            generates the download URLs of an artifact, mapped by
+         *            protocol
+         * @return the software module
+         */
+        public DmfSoftwareModule toDmfSoftwareModule(final Function<DmfArtifactPayload, Map<String, String>> urls) {
+            final DmfSoftwareModule module = new DmfSoftwareModule();
+            module.setModuleId(moduleId);
+            module.setModuleType(moduleType);
+            module.setModuleVersion(moduleVersion);
+            module.setEncrypted(encrypted ? Boolean.TRUE : null);
+            module.setArtifacts(artifacts.stream().map(artifact -> artifact.toDmfArtifact(urls.apply(artifact)))
+                    .collect(Collectors.toList()));
+            module.setMetadata(metadata);
+            return module;
+        }
+    }
+
+    /**
+     * Immutable artifact of a DMF message without its download URLs.
+     */
+    public static final class DmfArtifactPayload {
+
+        private final Long softwareModuleId;
+        private final Long artifactId;
+        private final String filename;
+        private final String sha1Hash;
+        private final String md5Hash;
+        private final long size;
+        private final long lastModified;
+
+        private DmfArtifactPayload(final Artifact artifact) {
+            softwareModuleId = artifact.getSoftwareModule().getId();
+            artifactId = artifact.getId();
+            filename = artifact.getFilename();
+            sha1Hash = artifact.getSha1Hash();
+            md5Hash = artifact.getMd5Hash();
+            size = artifact.getSize();
+            lastModified = artifact.getLastModifiedAt();
+        }
+
+        public Long getSoftwareModuleId() {
+            return softwareModuleId;
+        }
+
+        public Long getArtifactId() {
+            return artifactId;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        public String getSha1Hash() {
+            return sha1Hash;
+        }
+
+        private DmfArtifact toDmfArtifact(final Map<String, String> urls) {
+            final DmfArtifact artifact = new DmfArtifact();
+            artifact.setUrls(urls);
+            artifact.setFilename(filename);
+            artifact.setHashes(new DmfArtifactHash(sha1Hash, md5Hash));
+            artifact.setSize(size);
+            artifact.setLastModified(lastModified);
+            return artifact;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Device Management Federation API")
+@Story("Amqp Inbound Lane Listener Test")
+class AmqpInboundLaneListenerTest {
+
+    private static final String TENANT = "tenant";
+
+    private final AmqpMessageHandlerService handlerService = mock(AmqpMessageHandlerService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Channel channel = mock(Channel.class);
+    private final AmqpProperties.Inbound properties = new AmqpProperties.Inbound();
+    private AmqpInboundLaneListener listener;
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void shutdown() {
+        listener.shutdown();
+    }
+
+    @Test
+    @Description("Verifies that the messages of a thing are processed in order and acknowledged")
+    void messagesOfThingAreProcessedInOrder() throws Exception {
+        final Map<String, List<String>> processed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            final Message message = invocation.getArgument(0);
+            processed.computeIfAbsent(message.getMessageProperties().getHeader(MessageHeaderKey.THING_ID),
+                    thing -> new CopyOnWriteArrayList<>()).add(new String(message.getBody()));
+            return null;
+        }).when(handlerService).onMessage(any(), anyString(), anyString(), any());
+        listener = createListener();
+
+        long deliveryTag = 0;
+        for (int i = 0; i < 20; i++) {
+            for (int thing = 0; thing < 5; thing++) {
+                listener.onMessage(createMessage(++deliveryTag, "thing" + thing, EventTopic.UPDATE_ATTRIBUTES,
+                        String.valueOf(i)), channel);
+            }
+        }
+
+        final long messages = deliveryTag;
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> verify(channel, times((int) messages)).basicAck(any(Long.class), eq(false)));
+        assertThat(processed).hasSize(5).allSatisfy((thing, bodies) -> assertThat(bodies).hasSize(20)
+                .isEqualTo(bodies.stream().sorted((a, b) -> Integer.parseInt(a) - Integer.parseInt(b)).toList()));
+    }
+
+    @Test
+    @Description("Verifies that consecutive updates are processed in one transaction and one by one if it fails")
+    void batchIsProcessedOneByOneIfTransactionFails() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            calls.incrementAndGet();
+            if ("invalid".equals(new String(invocation.getArgument(0, Message.class).getBody()))) {
+                throw new AmqpRejectAndDontRequeueException("Invalid message!");
+            }
+            return null;
+        }).when(handlerService).onMessage(any(), anyString(), anyString(), any());
+        properties.setLanes(1);
+        listener = createListener();
+
+        // messages arriving before the lane takes them are processed in one batch
+        listener.onMessage(createMessage(1, "thing", EventTopic.UPDATE_ACTION_STATUS, "valid"), channel);
+        listener.onMessage(createMessage(2, "thing", EventTopic.UPDATE_ACTION_STATUS, "invalid"), channel);
+        listener.onMessage(createMessage(3, "thing", EventTopic.UPDATE_ACTION_STATUS, "valid"), channel);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            verify(channel).basicAck(1, false);
+            verify(channel).basicReject(2, false);
+            verify(channel).basicAck(3, false);
+        });
+        assertThat(calls.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @Description("Verifies that a message is requeued if the failure is not fatal")
+    void messageIsRequeuedIfFailureIsNotFatal() throws Exception {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("temporary failure");
+        }).when(handlerService).onMessage(any(), anyString(), anyString(), any());
+        listener = createListener();
+
+        listener.onMessage(createMessage(1, "thing", EventTopic.UPDATE_ATTRIBUTES, "body"), channel);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> verify(channel).basicReject(1, true));
+    }
+
+    @Test
+    @Description("Verifies that the lanes do not acknowledge concurrently on the channel of the consumer")
+    void acknowledgementsAreNotConcurrent() throws Exception {
+        final AtomicInteger acknowledging = new AtomicInteger();
+        final AtomicInteger maxAcknowledging = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxAcknowledging.accumulateAndGet(acknowledging.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            acknowledging.decrementAndGet();
+            return null;
+        }).when(channel).basicAck(any(Long.class), eq(false));
+        listener = createListener();
+
+        for (int i = 0; i < 100; i++) {
+            listener.onMessage(createMessage(i + 1L, "thing" + i, EventTopic.UPDATE_ATTRIBUTES, "body"), channel);
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(channel, times(100)).basicAck(any(Long.class), eq(false)));
+        assertThat(maxAcknowledging).hasValue(1);
+    }
+
+    private AmqpInboundLaneListener createListener() {
+        return new AmqpInboundLaneListener(handlerService, new ConditionalRejectingErrorHandler(),
+                transactionManager, "vHost", properties, new SimpleMeterRegistry());
+    }
+
+    private static Message createMessage(final long deliveryTag, final String thingId, final EventTopic topic,
+            final String body) {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setDeliveryTag(deliveryTag);
+        messageProperties.setHeader(MessageHeaderKey.TENANT, TENANT);
+        messageProperties.setHeader(MessageHeaderKey.THING_ID, thingId);
+        messageProperties.setHeader(MessageHeaderKey.TYPE, MessageType.EVENT.name());
+        messageProperties.setHeader(MessageHeaderKey.TOPIC, topic.name());
+        return new Message(body.getBytes(), messageProperties);
+    }
+}
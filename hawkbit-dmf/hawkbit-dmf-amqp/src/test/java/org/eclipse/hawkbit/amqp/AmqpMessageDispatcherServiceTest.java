@@ -40,6 +40,7 @@ import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -83,6 +84,8 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
     private AmqpMessageDispatcherService amqpMessageDispatcherService;
 
+    private DmfSoftwareModuleCache softwareModuleCache;
+
     private RabbitTemplate rabbitTemplate;
 
     private DefaultAmqpMessageSenderService senderService;
@@ -111,9 +114,11 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
         when(systemManagement.getTenantMetadata()).thenReturn(tenantMetaData);
 
+        softwareModuleCache = new DmfSoftwareModuleCache(100);
         amqpMessageDispatcherService = new AmqpMessageDispatcherService(rabbitTemplate, senderService,
                 artifactUrlHandlerMock, systemSecurityContext, systemManagement, targetManagement, serviceMatcher,
-                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement,
+                softwareModuleCache);
 
     }
 
@@ -218,6 +223,37 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         }
     }
 
+    @Test
+    @Description("Verifies that the software modules of a distribution set are sent from the cache until the cache "
+            + "entry is evicted by a software module update")
+    void softwareModulesAreCachedUntilSoftwareModuleIsUpdated() {
+        final DistributionSet ds = testdataFactory.createDistributionSet(UUID.randomUUID().toString());
+        final SoftwareModule module = ds.getModules().iterator().next();
+        final TargetAssignDistributionSetEvent targetAssignDistributionSetEvent = new TargetAssignDistributionSetEvent(
+                createAction(ds), serviceMatcher.getBusId());
+
+        amqpMessageDispatcherService.targetAssignDistributionSet(targetAssignDistributionSetEvent);
+        softwareModuleManagement.createMetaData(entityFactory.softwareModuleMetadata().create(module.getId())
+                .key(TestdataFactory.VISIBLE_SM_MD_KEY).value(TestdataFactory.VISIBLE_SM_MD_VALUE).targetVisible(true));
+        // the metadata is not sent until the module is evicted
+        amqpMessageDispatcherService.targetAssignDistributionSet(targetAssignDistributionSetEvent);
+        softwareModuleCache.onSoftwareModuleUpdated(
+                new SoftwareModuleUpdatedEvent(softwareModuleManagement.get(module.getId()).get(),
+                        serviceMatcher.getBusId()));
+        amqpMessageDispatcherService.targetAssignDistributionSet(targetAssignDistributionSetEvent);
+
+        final ArgumentCaptor<Message> argumentCaptor = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(senderService, Mockito.times(3)).sendMessage(argumentCaptor.capture(), eq(AMQP_URI));
+        final List<List<DmfMetadata>> metadata = argumentCaptor.getAllValues().stream()
+                .map(message -> convertMessage(message, DmfDownloadAndUpdateRequest.class).getSoftwareModules()
+                        .stream().filter(dmfModule -> dmfModule.getModuleId().equals(module.getId())).findAny()
+                        .orElseThrow().getMetadata())
+                .toList();
+        assertThat(metadata.get(0)).isNull();
+        assertThat(metadata.get(1)).isNull();
+        assertThat(metadata.get(2)).extracting(DmfMetadata::getKey).containsExactly(TestdataFactory.VISIBLE_SM_MD_KEY);
+    }
+
     @Test
     @Description("Verifies that sending update controller attributes event works.")
     void sendUpdateAttributesRequest() {
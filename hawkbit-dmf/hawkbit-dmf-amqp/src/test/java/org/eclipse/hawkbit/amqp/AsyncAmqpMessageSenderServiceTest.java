@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpResourceNotAvailableException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Device Management Federation API")
+@Story("Async Amqp Message Sender Service Test")
+class AsyncAmqpMessageSenderServiceTest {
+
+    private static final URI AMQP_URI = IpUtil.createAmqpUri("vHost", "exchange");
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private AsyncAmqpMessageSenderService senderService;
+
+    @BeforeEach
+    void setup() {
+        final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+    }
+
+    @AfterEach
+    void shutdown() {
+        senderService.shutdown();
+    }
+
+    @Test
+    @Description("Verifies that the messages of a tenant are published in order and confirmed")
+    void messagesArePublishedInOrderAndConfirmed() {
+        confirmAll();
+        senderService = new AsyncAmqpMessageSenderService(rabbitTemplate, new AmqpProperties.Sender(), meterRegistry);
+        senderService.start();
+
+        for (int i = 0; i < 50; i++) {
+            senderService.sendMessage(createMessage("tenant", String.valueOf(i)), AMQP_URI);
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> senderService.getInFlight() == 0);
+        assertThat(published).hasSize(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(published.get(i)).isEqualTo(String.valueOf(i));
+        }
+        assertThat(meterRegistry.get("dmf.sender.confirm").timer().count()).isPositive();
+        assertThat(meterRegistry.get("dmf.sender.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @Description("Verifies that the messages following a rejected message of a batch are published again after it")
+    void rejectedMessageIsNotOvertaken() {
+        final AtomicBoolean rejected = new AtomicBoolean();
+        doAnswer(invocation -> {
+            final String body = new String(invocation.getArgument(2, Message.class).getBody());
+            published.add(body);
+            final boolean ack = !"1".equals(body) || !rejected.compareAndSet(false, true);
+            invocation.getArgument(3, CorrelationData.class).getFuture().complete(new Confirm(ack, "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        final AmqpProperties.Sender properties = new AmqpProperties.Sender();
+        properties.setLanes(1);
+        senderService = new AsyncAmqpMessageSenderService(rabbitTemplate, properties, meterRegistry);
+
+        // queued before the lane is started, so they are published in one batch
+        senderService.sendMessage(createMessage("tenant", "0"), AMQP_URI);
+        senderService.sendMessage(createMessage("tenant", "1"), AMQP_URI);
+        senderService.sendMessage(createMessage("tenant", "2"), AMQP_URI);
+        senderService.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> senderService.getInFlight() == 0);
+        assertThat(published).containsExactly("0", "1", "2", "1", "2");
+        assertThat(meterRegistry.get("dmf.sender.requeued").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Description("Verifies that a message rejected by the broker is published again and finally without awaiting the confirm")
+    void rejectedMessageIsRetriedAndPublishedUnconfirmed() {
+        final AtomicInteger sends = new AtomicInteger();
+        doAnswer(invocation -> {
+            sends.incrementAndGet();
+            invocation.getArgument(3, CorrelationData.class).getFuture().complete(new Confirm(false, "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        final AmqpProperties.Sender properties = new AmqpProperties.Sender();
+        properties.setMaxRetries(2);
+        senderService = new AsyncAmqpMessageSenderService(rabbitTemplate, properties, meterRegistry);
+        senderService.start();
+
+        senderService.sendMessage(createMessage("tenant", "rejected"), AMQP_URI);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> senderService.getInFlight() == 0);
+        assertThat(sends).hasValue(4);
+        assertThat(meterRegistry.get("dmf.sender.requeued").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("dmf.sender.unconfirmed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dmf.sender.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @Description("Verifies that the sender fails if the lane stays full")
+    void senderFailsIfLaneIsFull() {
+        // the broker does not confirm, so the lane thread is blocked
+        final AmqpProperties.Sender properties = new AmqpProperties.Sender();
+        properties.setLanes(1);
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        properties.setOfferTimeout(10);
+        properties.setConfirmTimeout(500);
+        properties.setMaxRetries(0);
+        senderService = new AsyncAmqpMessageSenderService(rabbitTemplate, properties, meterRegistry);
+        senderService.start();
+
+        senderService.sendMessage(createMessage("tenant", "sent"), AMQP_URI);
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(rabbitTemplate, times(1)).send(eq("exchange"), eq(""),
+                        any(Message.class), any(CorrelationData.class)));
+        senderService.sendMessage(createMessage("tenant", "queued"), AMQP_URI);
+
+        final Message rejected = createMessage("tenant", "rejected");
+        assertThatExceptionOfType(AmqpResourceNotAvailableException.class)
+                .isThrownBy(() -> senderService.sendMessage(rejected, AMQP_URI));
+    }
+
+    private void confirmAll() {
+        doAnswer(invocation -> {
+            published.add(new String(invocation.getArgument(2, Message.class).getBody()));
+            invocation.getArgument(3, CorrelationData.class).getFuture().complete(new Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static Message createMessage(final String tenant, final String body) {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+        return new Message(body.getBytes(), messageProperties);
+    }
+}
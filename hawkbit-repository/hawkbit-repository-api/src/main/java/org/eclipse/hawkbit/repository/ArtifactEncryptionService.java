@@ -117,6 +117,29 @@ public final class ArtifactEncryptionService {
         return artifactEncryption.decryptStream(getSoftwareModuleEncryptionSecrets(smId), encryptedArtifactStream);
     }
 
+    /**
+     * Decrypts artifact stream starting at an offset of the decrypted artifact
+     * using the keys retrieved from secrets store by software module id
+     * reference.
+     *
+     * @param smId
+     *            software module id
+     * @param encryptedArtifactStream
+     *            artifact stream to decrypt
+     * @param offset
+     *            of the first decrypted byte to return
+     * @return decrypted input stream starting at the offset
+     */
+    public InputStream decryptSoftwareModuleArtifact(final long smId, final InputStream encryptedArtifactStream,
+            final long offset) {
+        if (!isEncryptionSupported()) {
+            throw new ArtifactEncryptionUnsupportedException("Artifact decryption is not supported.");
+        }
+
+        return artifactEncryption.decryptStream(getSoftwareModuleEncryptionSecrets(smId), encryptedArtifactStream,
+                offset);
+    }
+
     /**
      * Size of the underlying encryption algorithm overhead in bytes
      *
@@ -125,4 +148,15 @@ public final class ArtifactEncryptionService {
     public int encryptionSizeOverhead() {
         return artifactEncryption.encryptionSizeOverhead();
     }
+
+    /**
+     * Size of a decrypted artifact.
+     *
+     * @param encryptedSize
+     *            size of the encrypted artifact in bytes
+     * @return size of the decrypted artifact in bytes
+     */
+    public long decryptedSize(final long encryptedSize) {
+        return artifactEncryption.decryptedSize(encryptedSize);
+    }
 }
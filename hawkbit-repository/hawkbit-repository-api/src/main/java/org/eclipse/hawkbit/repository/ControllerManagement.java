@@ -34,6 +34,7 @@ import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.springframework.data.domain.Page;
@@ -137,6 +138,23 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Action addUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
 
+    /**
+     * Adds {@link ActionStatus} entries for update {@link Action}s of multiple
+     * targets, e.g. reported by a gateway for the devices behind it. Every
+     * entry is handled like by {@link #addUpdateActionStatus(ActionStatusCreate)},
+     * but the entries are persisted in transactions of up to
+     * {@link RepositoryProperties#getActionStatusBatchSize()} entries. If such
+     * a transaction fails, its entries are persisted one by one, so a failing
+     * entry does not affect the others.
+     *
+     * @param creates
+     *            the entries to add, all of them have to be valid
+     * @return the failures mapped by the index of the failed entry, empty if
+     *         all entries are added
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER_GATEWAY)
+    Map<Integer, RuntimeException> addUpdateActionStatuses(@NotNull List<@Valid ActionStatusCreate> creates);
+
     /**
      * Retrieves active {@link Action} with highest priority that is assigned to
      * a {@link Target}.
@@ -188,6 +206,17 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Optional<Action> findActionWithDetails(long actionId);
 
+    /**
+     * Get the {@link Action} entities for the given actionIds with their
+     * {@link Target}s, e.g. to validate feedback for multiple targets at once.
+     *
+     * @param actionIds
+     *            the ids of the actions
+     * @return the found actions
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    List<Action> findActionsWithTarget(@NotNull Collection<Long> actionIds);
+
     /**
      * Retrieves all the {@link ActionStatus} entries of the given
      * {@link Action}.
@@ -419,6 +448,34 @@ public interface ControllerManagement {
             + SpringEvalExpressions.IS_SYSTEM_CODE)
     Optional<Target> get(long targetId);
 
+    /**
+     * Finds the {@link TargetIdentity} of the {@link Target} with the given
+     * controller ID. The identities are cached, so repeated lookups of the same
+     * controller do not query the repository.
+     *
+     * @param controllerId
+     *            to look for.
+     * @return {@link TargetIdentity} or {@code null} if the target does not
+     *         exist
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER + SpringEvalExpressions.HAS_AUTH_OR
+            + SpringEvalExpressions.IS_SYSTEM_CODE)
+    Optional<TargetIdentity> findTargetIdentity(@NotEmpty String controllerId);
+
+    /**
+     * Finds the {@link TargetIdentity} of the {@link Target} with the given ID.
+     * The identities are cached, so repeated lookups of the same controller do
+     * not query the repository.
+     *
+     * @param targetId
+     *            to look for.
+     * @return {@link TargetIdentity} or {@code null} if the target does not
+     *         exist
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER + SpringEvalExpressions.HAS_AUTH_OR
+            + SpringEvalExpressions.IS_SYSTEM_CODE)
+    Optional<TargetIdentity> findTargetIdentity(long targetId);
+
     /**
      * Retrieves the specified number of messages from action history of the
      * given {@link Action} based on messageCount. Regardless of the value of
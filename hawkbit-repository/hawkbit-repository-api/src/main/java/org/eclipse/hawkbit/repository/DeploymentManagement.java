@@ -332,6 +332,22 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Page<ActionStatus> findActionStatusByAction(@NotNull Pageable pageReq, long actionId);
 
+    /**
+     * Retrieves the {@link ActionStatus} entries of the given {@link Action}
+     * without counting all of them.
+     *
+     * @param pageReq
+     *            pagination parameter
+     * @param actionId
+     *            to be filtered on
+     * @return the corresponding {@link Slice} of {@link ActionStatus}
+     *
+     * @throws EntityNotFoundException
+     *             if action with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<ActionStatus> findActionStatusByActionWithoutCount(@NotNull Pageable pageReq, long actionId);
+
     /**
      * Counts all the {@link ActionStatus} entries of the given {@link Action}.
      *
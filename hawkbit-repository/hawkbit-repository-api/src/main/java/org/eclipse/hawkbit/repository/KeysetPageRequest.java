@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+
+/**
+ * A {@link PageRequest} for keyset (seek) pagination. Instead of skipping an
+ * offset the page starts right after the last entity of the previous page,
+ * given by the value of its sort key and its id. The costs of a page are
+ * independent of its position in the result.
+ * <p>
+ * The request is sorted by a single sort key, the id is added as tie-breaker
+ * with the same direction. The sort key must not be nullable. The first page
+ * is requested without {@code afterValue} and {@code afterId}.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public final class KeysetPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Name of the id attribute which is used as tie-breaker.
+     */
+    public static final String ID = "id";
+
+    private final Order keyOrder;
+    private final String afterValue;
+    private final Long afterId;
+
+    /**
+     * Creates a new {@link KeysetPageRequest}.
+     *
+     * @param limit
+     *            the limit of the page to be returned
+     * @param keyOrder
+     *            the order of the sort key
+     * @param afterValue
+     *            string representation of the sort key of the last entity of
+     *            the previous page, {@code null} for the first page
+     * @param afterId
+     *            id of the last entity of the previous page, {@code null} for
+     *            the first page
+     */
+    public KeysetPageRequest(final int limit, final Order keyOrder, final String afterValue, final Long afterId) {
+        super(0, limit, tieBreakerSort(keyOrder));
+        if ((afterValue == null) != (afterId == null)) {
+            throw new IllegalArgumentException("Sort key value and id of the last entity have to be given together");
+        }
+        this.keyOrder = keyOrder;
+        this.afterValue = afterValue;
+        this.afterId = afterId;
+    }
+
+    /**
+     * @return <code>true</code> if this is the request of the first page
+     */
+    public boolean isFirstPage() {
+        return afterId == null;
+    }
+
+    private static Sort tieBreakerSort(final Order keyOrder) {
+        if (ID.equals(keyOrder.getProperty())) {
+            return Sort.by(keyOrder);
+        }
+        return Sort.by(keyOrder, new Order(keyOrder.getDirection(), ID));
+    }
+}
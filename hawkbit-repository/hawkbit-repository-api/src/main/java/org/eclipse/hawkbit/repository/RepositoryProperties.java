@@ -43,10 +43,19 @@ public class RepositoryProperties {
     private boolean publishTargetPollEvent = true;
 
     /**
-     * Maximum number of poll operations queued before flush.
+     * Number of targets with buffered polls that triggers an early flush.
+     * Repeated polls of a target are coalesced, so this bounds the number of
+     * distinct targets, not the number of polls.
      */
     private int pollPersistenceQueueSize = 10_000;
 
+    /**
+     * Maximum number of targets with buffered polls. Once reached, polls of
+     * further targets are dropped (see <code>hawkbit.poll.ledger.dropped</code>)
+     * until the early flush caught up.
+     */
+    private int pollPersistenceQueueCapacity = 100_000;
+
     /**
      * Maximum time before queue is flushed in {@link TimeUnit#MILLISECONDS}.
      */
@@ -57,6 +66,84 @@ public class RepositoryProperties {
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Maximum number of action status entries of a bulk feedback which are
+     * persisted in one transaction.
+     */
+    private int actionStatusBatchSize = 100;
+
+    /**
+     * Maximum number of target identities (controller id, security token
+     * hash, type, address and update status) cached for the controller
+     * requests, <code>0</code> disables the cache.
+     */
+    private int targetIdentityCacheSize = 100_000;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} after which a cached target
+     * identity expires. Bounds the staleness in case of changes which are not
+     * notified by an event, e.g. bulk status updates.
+     */
+    private long targetIdentityCacheTtl = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} for which concurrent first time
+     * registrations of controllers are collected to be inserted in one
+     * transaction, <code>0</code> (default) registers every target on its own.
+     * When enabled, e.g. with <code>20</code>, the number of registrations
+     * waiting for their batch should be sized with
+     * {@link #targetRegistrationBatchMaxWaiting} as well, as the default of a
+     * quarter of the connection pool allows almost no batching with small
+     * pools.
+     */
+    private long targetRegistrationBatchWindow;
+
+    /**
+     * Maximum number of targets registered in one batch.
+     */
+    private int targetRegistrationBatchSize = 500;
+
+    /**
+     * Maximum number of registrations of all tenants which wait for their
+     * batch. Each of them holds a database connection while it waits, further
+     * registrations are not batched. A negative value uses a quarter of the
+     * maximum size of the connection pool.
+     */
+    private int targetRegistrationBatchMaxWaiting = -1;
+
+    /**
+     * Interval in {@link TimeUnit#MILLISECONDS} in which the usage counters of
+     * the tenants are counted again from the repository, to correct changes
+     * without events, e.g. the cleanup of actions. The counters of tenants
+     * which were not requested within the interval are removed instead.
+     */
+    private long usageReconciliationInterval = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Maximum number of rows of a table deleted in one transaction when a
+     * tenant is purged.
+     */
+    private int tenantPurgeChunkSize = 1000;
+
+    /**
+     * Number of threads deleting the artifact files of a purged tenant in
+     * parallel.
+     */
+    private int tenantPurgeArtifactThreads = 4;
+
+    /**
+     * Interval in {@link TimeUnit#MILLISECONDS} in which the purges of deleted
+     * tenants which were interrupted, e.g. by a crash of a node, are resumed.
+     */
+    private long tenantPurgeResumeInterval = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} a synchronous deletion of a tenant
+     * waits for the purge of the tenant by another thread or node before it
+     * fails.
+     */
+    private long tenantPurgeLockTimeout = TimeUnit.MINUTES.toMillis(1);
+
     /**
      * If an {@link org.eclipse.hawkbit.repository.model.Action} has a weight of null this value is used as weight.
      */
@@ -78,4 +165,47 @@ public class RepositoryProperties {
      * new targets
      */
     private long dynamicRolloutsMinInvolvePeriodMS = 60_000;
-}
\ No newline at end of file
+
+    /**
+     * Set to <code>true</code> to repair the rollout status counters, e.g.
+     * after the actions were changed directly in the database. The auto cleanup
+     * then rebuilds the counters of all rollouts of every tenant once per node
+     * from their actions. Actions deleted by the action cleanup are not counted
+     * anymore afterwards.
+     */
+    private boolean rolloutStatusCounterRepair;
+
+    /**
+     * Set to <code>true</code> to check the auto assignments of a target
+     * right after it is registered, its controller attributes are updated or
+     * its tags are changed, e.g. with
+     * <code>hawkbit.server.repository.autoAssignOnTargetChange=true</code>.
+     * Otherwise (default) the target is assigned by the next run of the auto
+     * assign scheduler.
+     */
+    private boolean autoAssignOnTargetChange;
+
+    /**
+     * Configuration of the locks shared between the cluster nodes.
+     */
+    private final Lock lock = new Lock();
+
+    /**
+     * Lock configuration.
+     */
+    @Data
+    public static class Lock {
+
+        /**
+         * Set to <code>true</code> to share the locks between all nodes using
+         * the same database. By default the locks are local to a node.
+         */
+        private boolean jdbcEnabled;
+
+        /**
+         * Time in {@link TimeUnit#MILLISECONDS} after which a lock of a node
+         * that stopped renewing it can be taken over by other nodes.
+         */
+        private long leaseTime = TimeUnit.MINUTES.toMillis(1);
+    }
+}
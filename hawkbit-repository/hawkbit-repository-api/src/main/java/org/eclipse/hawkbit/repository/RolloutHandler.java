@@ -50,4 +50,17 @@ public interface RolloutHandler {
      */
     @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
     void handleAll();
+
+    /**
+     * Process a single rollout of the current tenant like {@link #handleAll()}.
+     * Does nothing if the rollout is handled concurrently by another thread or
+     * node. Handles all rollouts of the current tenant by default.
+     *
+     * @param rolloutId
+     *            the id of the rollout to handle
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    default void handle(final long rolloutId) {
+        handleAll();
+    }
 }
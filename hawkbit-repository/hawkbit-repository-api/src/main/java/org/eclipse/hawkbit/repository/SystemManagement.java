@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import jakarta.validation.constraints.NotNull;
@@ -17,6 +18,7 @@ import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
 import org.eclipse.hawkbit.repository.report.model.SystemUsageReport;
 import org.eclipse.hawkbit.repository.report.model.SystemUsageReportWithTenants;
 import org.eclipse.hawkbit.tenancy.TenantAware;
@@ -38,7 +40,9 @@ public interface SystemManagement {
     String currentTenant();
 
     /**
-     * Deletes all data related to a given tenant.
+     * Deletes all data related to a given tenant. Returns after all data is
+     * deleted, see {@link #purgeTenant(String)} to delete the data in the
+     * background.
      *
      * @param tenant
      *            to delete
@@ -46,6 +50,28 @@ public interface SystemManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_SYSTEM_ADMIN)
     void deleteTenant(@NotNull String tenant);
 
+    /**
+     * Marks a tenant as deleting and deletes all its data in the background.
+     * The tenant is not listed anymore immediately, its data is deleted in
+     * chunks. The purge is resumed if it is interrupted, e.g. by a restart.
+     *
+     * @param tenant
+     *            to delete
+     * @return the progress of the purge
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_SYSTEM_ADMIN)
+    TenantPurge purgeTenant(@NotNull String tenant);
+
+    /**
+     * Returns the progress of the purge of a deleted tenant.
+     *
+     * @param tenant
+     *            the deleted tenant
+     * @return the progress or empty if the tenant is not being purged
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_SYSTEM_ADMIN)
+    Optional<TenantPurge> getTenantPurge(@NotNull String tenant);
+
     /**
      *
      * @param pageable
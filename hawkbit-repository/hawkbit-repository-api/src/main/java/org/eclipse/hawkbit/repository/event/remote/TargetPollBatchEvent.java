@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Event is send for a batch of targets of a tenant which polled either through
+ * DDI or DMF. Replaces a {@link TargetPollEvent} per target with one event per
+ * batch, the controller ids and poll times are kept in parallel arrays.
+ * <p>
+ * Listeners of {@link TargetPollEvent}s are served by the event publisher,
+ * which multicasts the {@link #toTargetPollEvents()} locally on every node
+ * receiving the batch.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TargetPollBatchEvent extends RemoteTenantAwareEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private String[] controllerIds;
+    private long[] pollTimes;
+
+    /**
+     * Default constructor.
+     */
+    public TargetPollBatchEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            the tenant of the targets
+     * @param controllerIds
+     *            of the polling targets
+     * @param pollTimes
+     *            last poll time of the target with the same index in
+     *            <code>controllerIds</code>
+     * @param applicationId
+     *            the origin application id
+     */
+    public TargetPollBatchEvent(final String tenant, final String[] controllerIds, final long[] pollTimes,
+            final String applicationId) {
+        super(tenant, tenant, applicationId);
+        if (controllerIds.length != pollTimes.length) {
+            throw new IllegalArgumentException("Every controller id needs a poll time");
+        }
+        this.controllerIds = controllerIds;
+        this.pollTimes = pollTimes;
+    }
+
+    /**
+     * @return number of targets in the batch
+     */
+    public int size() {
+        return controllerIds == null ? 0 : controllerIds.length;
+    }
+
+    /**
+     * @return a {@link TargetPollEvent} for every target of the batch, with the
+     *         origin of the batch
+     */
+    public List<TargetPollEvent> toTargetPollEvents() {
+        final List<TargetPollEvent> events = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            events.add(toTargetPollEvent(i));
+        }
+        return events;
+    }
+
+    /**
+     * @param index
+     *            of the target in the batch
+     * @return a {@link TargetPollEvent} for the target, with the origin of the
+     *         batch
+     */
+    public TargetPollEvent toTargetPollEvent(final int index) {
+        return new TargetPollEvent(controllerIds[index], getTenant(), getOriginService());
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable snapshot of the identity of a {@link Target}, i.e. what is needed
+ * to authenticate a controller and to resolve its requests, without the
+ * target entity. The security token is only kept as hash.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString(exclude = "securityTokenHash")
+public final class TargetIdentity {
+
+    private final long id;
+    private final String controllerId;
+    private final byte[] securityTokenHash;
+    private final Long targetTypeId;
+    private final String address;
+    private final TargetUpdateStatus updateStatus;
+
+    /**
+     * Constructor.
+     *
+     * @param id
+     *            of the target
+     * @param controllerId
+     *            of the target
+     * @param securityToken
+     *            of the target, might be <code>null</code>
+     * @param targetTypeId
+     *            id of the target type, might be <code>null</code>
+     * @param address
+     *            of the target, might be <code>null</code>
+     * @param updateStatus
+     *            of the target
+     */
+    public TargetIdentity(final long id, final String controllerId, final String securityToken,
+            final Long targetTypeId, final String address, final TargetUpdateStatus updateStatus) {
+        this.id = id;
+        this.controllerId = controllerId;
+        this.securityTokenHash = securityToken == null ? null : hash(securityToken);
+        this.targetTypeId = targetTypeId;
+        this.address = address;
+        this.updateStatus = updateStatus;
+    }
+
+    /**
+     * @return a copy of the SHA-256 hash of the security token or
+     *         <code>null</code> if the target has none
+     */
+    public byte[] getSecurityTokenHash() {
+        return securityTokenHash == null ? null : securityTokenHash.clone();
+    }
+
+    /**
+     * Compares a presented security token with the one of the target in
+     * constant time.
+     *
+     * @param securityToken
+     *            the presented security token
+     * @return <code>true</code> if it is the security token of the target
+     */
+    public boolean matchesSecurityToken(final String securityToken) {
+        return securityToken != null && securityTokenHash != null
+                && MessageDigest.isEqual(securityTokenHash, hash(securityToken));
+    }
+
+    private static byte[] hash(final String securityToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(securityToken.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 has to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+/**
+ * Progress of the purge of a deleted tenant. The data of the tenant is deleted
+ * table by table, the purge exists until all data is deleted.
+ */
+public interface TenantPurge {
+
+    /**
+     * @return name of the purged tenant
+     */
+    String getTenant();
+
+    /**
+     * @return time in milliseconds the tenant was marked as deleting
+     */
+    long getStartedAt();
+
+    /**
+     * @return time in milliseconds the purge made its last progress
+     */
+    long getLastModifiedAt();
+
+    /**
+     * @return number of tables which are purged completely
+     */
+    int getCompletedSteps();
+
+    /**
+     * @return number of tables to purge
+     */
+    int getTotalSteps();
+
+    /**
+     * @return number of rows deleted so far
+     */
+    long getDeletedRows();
+}
@@ -9,6 +9,12 @@
  */
 package org.eclipse.hawkbit.event;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.bus.event.RemoteApplicationEvent;
 import org.springframework.messaging.Message;
@@ -32,6 +38,12 @@ import io.protostuff.runtime.RuntimeSchema;
  * message header information will get lost. So in this implementation the
  * information about the event-type is encoded in the payload of the message
  * directly using the encoded values of {@link EventType}.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>hawkbit.event.bus.size</code> - size of the events sent to and
+ * received from the bus, tagged with the event type and the direction</li>
+ * </ul>
  */
 @Slf4j
 public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
@@ -42,11 +54,29 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
      */
     private static final byte EVENT_TYPE_LENGTH = 2;
 
+    private final Map<Class<?>, DistributionSummary> inSizes = new HashMap<>();
+    private final Map<Class<?>, DistributionSummary> outSizes = new HashMap<>();
+
     /**
-     * Constructor.
+     * Constructor which reports the metrics to the global registry.
      */
     public BusProtoStuffMessageConverter() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistry
+     *            registry for the event size metrics
+     */
+    public BusProtoStuffMessageConverter(final MeterRegistry meterRegistry) {
         super(APPLICATION_BINARY_PROTOSTUFF);
+        // only events with an EventType are converted, so their meters are registered upfront
+        EventType.getTargetClasses().forEach(eventClass -> {
+            inSizes.put(eventClass, sizeSummary(meterRegistry, eventClass, "in"));
+            outSizes.put(eventClass, sizeSummary(meterRegistry, eventClass, "out"));
+        });
     }
 
     @Override
@@ -63,7 +93,9 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
             final byte[] content = extraxtContent(payload);
 
             final EventType eventType = readClassHeader(clazzHeader);
-            return readContent(eventType, content);
+            final Object event = readContent(eventType, content);
+            recordSize(inSizes, event.getClass(), payload.length);
+            return event;
         }
         return null;
     }
@@ -76,7 +108,24 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
 
         final byte[] writeContent = writeContent(payload);
 
-        return mergeClassHeaderAndContent(clazzHeader, writeContent);
+        final byte[] body = mergeClassHeaderAndContent(clazzHeader, writeContent);
+        recordSize(outSizes, payload.getClass(), body.length);
+        return body;
+    }
+
+    private static DistributionSummary sizeSummary(final MeterRegistry meterRegistry, final Class<?> eventClass,
+            final String direction) {
+        return DistributionSummary.builder("hawkbit.event.bus.size").description("Size of the events on the bus")
+                .baseUnit("bytes").tag("type", eventClass.getSimpleName()).tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private static void recordSize(final Map<Class<?>, DistributionSummary> sizes, final Class<?> eventClass,
+            final int bytes) {
+        final DistributionSummary size = sizes.get(eventClass);
+        if (size != null) {
+            size.record(bytes);
+        }
     }
 
     private static Object readContent(final EventType eventType, final byte[] content) {
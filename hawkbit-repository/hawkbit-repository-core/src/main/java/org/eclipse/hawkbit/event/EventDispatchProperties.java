@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the lanes of the {@link EventDispatcher}. Listeners which
+ * are not assigned to a lane are executed by the central async executor.
+ */
+@Data
+@ConfigurationProperties("hawkbit.event.dispatch")
+public class EventDispatchProperties {
+
+    /**
+     * Lanes by name.
+     */
+    private final Map<String, Lane> lanes = new HashMap<>();
+
+    /**
+     * Key by which the events of a partitioned lane are distributed to the
+     * partitions.
+     */
+    public enum PartitionKey {
+        /**
+         * All events of a tenant are executed in order.
+         */
+        TENANT,
+
+        /**
+         * The events of an entity (or a controller for poll events) are executed
+         * in order, events without entity are partitioned by tenant.
+         */
+        ENTITY
+    }
+
+    /**
+     * Lane configuration.
+     */
+    @Data
+    public static class Lane {
+
+        /**
+         * Listeners executed by the lane, prefixes of the listener ids (by
+         * default the class name followed by the method name for
+         * <code>@EventListener</code> methods) or listener class names.
+         */
+        private List<String> listeners = new ArrayList<>();
+
+        /**
+         * Number of threads of an unpartitioned lane.
+         */
+        private int threads = 4;
+
+        /**
+         * Number of partitions, every partition is executed by one thread in
+         * order. <code>0</code> executes the events of the lane in any order by
+         * {@link #threads} threads.
+         */
+        private int partitions;
+
+        /**
+         * Key of the partitioning.
+         */
+        private PartitionKey partitionKey = PartitionKey.ENTITY;
+
+        /**
+         * Maximum number of queued events per partition (or of the lane if
+         * unpartitioned). Events exceeding it are executed by the publishing
+         * thread.
+         */
+        private int queueSize = 5_000;
+
+        /**
+         * Set to <code>true</code> to execute the lane by virtual threads, falls
+         * back to platform threads if they are not supported by the runtime.
+         */
+        private boolean virtualThreads;
+
+        /**
+         * Event types (including subtypes) which are dropped if the same event
+         * for the same entity is already queued for the listener. Only for
+         * listeners handling them idempotently, e.g. by evicting a cache.
+         */
+        private List<Class<?>> coalesce = new ArrayList<>();
+    }
+}
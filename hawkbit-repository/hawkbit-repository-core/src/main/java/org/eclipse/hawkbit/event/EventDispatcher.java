@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Executes the asynchronous listeners of the events in lanes per listener
+ * group, so that a burst of events of one group (e.g. target polls or cache
+ * evictions) does not delay the listeners of the other groups (e.g. the
+ * delivery of assignments to the devices).
+ * <p>
+ * A lane has its own threads and bounded queues. It might be partitioned by
+ * tenant or entity to keep the order of the events, coalesce idempotent events
+ * and run on virtual threads, see {@link EventDispatchProperties}. If a
+ * partitioned lane is full, the publishing thread waits for space to keep the
+ * order, an unpartitioned lane which is full executes the events in the
+ * publishing thread. Listeners which are not assigned to a lane are executed
+ * by the default executor.
+ * <p>
+ * Metrics per lane (tag <code>lane</code>):
+ * <code>hawkbit.event.dispatch.queue.size</code>,
+ * <code>hawkbit.event.dispatch.lag</code>,
+ * <code>hawkbit.event.dispatch.coalesced</code>,
+ * <code>hawkbit.event.dispatch.blocked</code> and
+ * <code>hawkbit.event.dispatch.caller.runs</code>.
+ */
+@Slf4j
+public class EventDispatcher {
+
+    private final Executor defaultExecutor;
+    private final List<LaneMapping> mappings = new ArrayList<>();
+    private final List<EventLane> lanes = new ArrayList<>();
+    private final Map<ApplicationListener<?>, Optional<EventLane>> laneByListener = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param properties
+     *            of the lanes
+     * @param defaultExecutor
+     *            for the listeners which are not assigned to a lane, might be
+     *            <code>null</code> to execute them in the publishing thread
+     * @param taskDecorator
+     *            applied to the invocations executed by the lanes, e.g. to
+     *            propagate the security context, might be <code>null</code>
+     * @param meterRegistry
+     *            registry for the metrics
+     */
+    public EventDispatcher(final EventDispatchProperties properties, final Executor defaultExecutor,
+            final TaskDecorator taskDecorator, final MeterRegistry meterRegistry) {
+        this.defaultExecutor = defaultExecutor;
+        properties.getLanes().forEach((name, laneProperties) -> {
+            final EventLane lane = new EventLane(name, laneProperties, taskDecorator, meterRegistry);
+            lanes.add(lane);
+            laneProperties.getListeners().forEach(prefix -> mappings.add(new LaneMapping(prefix, lane)));
+        });
+        // the most specific prefix wins
+        mappings.sort((a, b) -> Integer.compare(b.prefix().length(), a.prefix().length()));
+    }
+
+    /**
+     * Executes the invocation of a listener in its lane.
+     *
+     * @param listener
+     *            to invoke
+     * @param event
+     *            to invoke the listener with
+     * @param invocation
+     *            invokes the listener
+     */
+    public void dispatch(final ApplicationListener<?> listener, final ApplicationEvent event,
+            final Runnable invocation) {
+        final Optional<EventLane> lane = laneByListener.computeIfAbsent(listener, this::resolveLane);
+        if (lane.isPresent()) {
+            lane.get().execute(listener, event, invocation);
+        } else if (defaultExecutor == null) {
+            invocation.run();
+        } else {
+            try {
+                defaultExecutor.execute(invocation);
+            } catch (final RejectedExecutionException e) {
+                invocation.run();
+            }
+        }
+    }
+
+    /**
+     * Stops the threads of the lanes after the queued events are executed.
+     */
+    public void shutdown() {
+        lanes.forEach(EventLane::shutdown);
+    }
+
+    private Optional<EventLane> resolveLane(final ApplicationListener<?> listener) {
+        final String listenerId = listenerId(listener);
+        final Optional<EventLane> lane = mappings.stream().filter(mapping -> listenerId.startsWith(mapping.prefix()))
+                .map(LaneMapping::lane).findFirst();
+        log.debug("Listener {} is executed by lane {}", listenerId, lane.map(EventLane::getName).orElse("default"));
+        return lane;
+    }
+
+    private static String listenerId(final ApplicationListener<?> listener) {
+        if (listener instanceof SmartApplicationListener smartListener
+                && !ObjectUtils.isEmpty(smartListener.getListenerId())) {
+            return smartListener.getListenerId();
+        }
+        return ClassUtils.getUserClass(listener).getName();
+    }
+
+    private record LaneMapping(String prefix, EventLane lane) {
+    }
+}
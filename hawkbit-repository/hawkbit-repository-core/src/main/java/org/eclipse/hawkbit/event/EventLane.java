@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.event.EventDispatchProperties.PartitionKey;
+import org.eclipse.hawkbit.repository.event.TenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Lane of the {@link EventDispatcher}: bounded queues with their own threads,
+ * one queue per partition or a single queue for an unpartitioned lane.
+ * <p>
+ * If the queue is full, the publisher of a partitioned lane waits for space in
+ * the queue, so the events of a partition stay in order. Only a thread of a
+ * lane executes an event it publishes to a full partition itself, as lanes
+ * waiting for each other could deadlock, so the order of events published by
+ * listeners of lanes is kept only while the partition is not full. The
+ * publisher of an unpartitioned lane, which has no order anyway, executes the
+ * event itself.
+ */
+@Slf4j
+class EventLane {
+
+    // set while a thread executes an event of any lane
+    private static final ThreadLocal<Boolean> EXECUTING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final String name;
+    private final EventDispatchProperties.Lane properties;
+    private final TaskDecorator taskDecorator;
+    private final ThreadPoolExecutor[] partitions;
+    private final Map<CoalesceKey, Boolean> queued = new ConcurrentHashMap<>();
+    private final Timer lag;
+    private final Counter coalesced;
+    private final Counter callerRuns;
+    private final Counter blocked;
+
+    EventLane(final String name, final EventDispatchProperties.Lane properties, final TaskDecorator taskDecorator,
+            final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.taskDecorator = taskDecorator;
+        lag = Timer.builder("hawkbit.event.dispatch.lag").tag("lane", name)
+                .description("Time an event waited in the lane before its execution").register(meterRegistry);
+        coalesced = Counter.builder("hawkbit.event.dispatch.coalesced").tag("lane", name)
+                .description("Events dropped because the same event was queued already").register(meterRegistry);
+        callerRuns = Counter.builder("hawkbit.event.dispatch.caller.runs").tag("lane", name)
+                .description("Events executed by the publishing thread because the lane was full")
+                .register(meterRegistry);
+        blocked = Counter.builder("hawkbit.event.dispatch.blocked").tag("lane", name)
+                .description("Events for which the publishing thread waited because the partition was full")
+                .register(meterRegistry);
+
+        final ThreadFactory threadFactory = threadFactory(name, properties.isVirtualThreads());
+        final RejectedExecutionHandler rejectedHandler = properties.getPartitions() > 0 ? this::waitForSpace
+                : this::callerRuns;
+        final int threads = Math.max(1, properties.getThreads());
+        final int queueSize = Math.max(1, properties.getQueueSize());
+        partitions = new ThreadPoolExecutor[Math.max(1, properties.getPartitions())];
+        for (int i = 0; i < partitions.length; i++) {
+            final int poolSize = properties.getPartitions() > 0 ? 1 : threads;
+            partitions[i] = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), threadFactory, rejectedHandler);
+        }
+
+        Gauge.builder("hawkbit.event.dispatch.queue.size", this, EventLane::queueSize).tag("lane", name)
+                .description("Number of events queued in the lane").register(meterRegistry);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Queues the invocation of a listener. If the queue of the partition is
+     * full the calling thread waits for space or, for an unpartitioned lane,
+     * executes the invocation itself, which throttles the publisher.
+     *
+     * @param listener
+     *            to invoke
+     * @param event
+     *            to invoke the listener with
+     * @param invocation
+     *            invokes the listener
+     */
+    void execute(final ApplicationListener<?> listener, final ApplicationEvent event, final Runnable invocation) {
+        final String tenant = event instanceof TenantAwareEvent tenantAwareEvent ? tenantAwareEvent.getTenant() : null;
+        final Object entity = entityOf(event);
+
+        final CoalesceKey coalesceKey = isCoalesced(event, entity)
+                ? new CoalesceKey(listener, event.getClass(), tenant, entity)
+                : null;
+        if (coalesceKey != null && queued.putIfAbsent(coalesceKey, Boolean.TRUE) != null) {
+            coalesced.increment();
+            return;
+        }
+
+        final long queuedAt = System.nanoTime();
+        final Runnable task = () -> {
+            lag.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            final boolean executing = EXECUTING.get();
+            EXECUTING.set(Boolean.TRUE);
+            try {
+                invocation.run();
+            } finally {
+                EXECUTING.set(executing);
+            }
+        };
+        final LaneTask laneTask = new LaneTask(coalesceKey,
+                taskDecorator == null ? task : taskDecorator.decorate(task));
+        try {
+            partitions[partition(tenant, entity)].execute(laneTask);
+        } catch (final RuntimeException e) {
+            laneTask.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the threads of the lane after the queued events are executed.
+     */
+    void shutdown() {
+        for (final ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    private void waitForSpace(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            dropped(runnable);
+            return;
+        }
+        if (EXECUTING.get()) {
+            callerRuns(runnable, executor);
+            return;
+        }
+
+        blocked.increment();
+        try {
+            executor.getQueue().put(runnable);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for space in lane " + name, e);
+        }
+    }
+
+    private void callerRuns(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            dropped(runnable);
+            return;
+        }
+        callerRuns.increment();
+        runnable.run();
+    }
+
+    private static void dropped(final Runnable runnable) {
+        if (runnable instanceof LaneTask laneTask) {
+            laneTask.release();
+        }
+    }
+
+    private boolean isCoalesced(final ApplicationEvent event, final Object entity) {
+        return entity != null
+                && properties.getCoalesce().stream().anyMatch(type -> type.isAssignableFrom(event.getClass()));
+    }
+
+    private int partition(final String tenant, final Object entity) {
+        if (partitions.length == 1) {
+            return 0;
+        }
+        final String tenantKey = tenant == null ? null : tenant.toUpperCase(Locale.ROOT);
+        final int hash = properties.getPartitionKey() == PartitionKey.ENTITY && entity != null
+                ? Objects.hash(tenantKey, entity)
+                : Objects.hashCode(tenantKey);
+        return Math.floorMod(hash, partitions.length);
+    }
+
+    private double queueSize() {
+        int size = 0;
+        for (final ThreadPoolExecutor partition : partitions) {
+            size += partition.getQueue().size();
+        }
+        return size;
+    }
+
+    private static Object entityOf(final ApplicationEvent event) {
+        if (event instanceof RemoteIdEvent idEvent) {
+            return idEvent.getEntityId();
+        }
+        if (event instanceof TargetPollEvent pollEvent) {
+            return pollEvent.getControllerId();
+        }
+        return null;
+    }
+
+    private static ThreadFactory threadFactory(final String lane, final boolean virtualThreads) {
+        final String prefix = "event-" + lane + "-";
+        if (virtualThreads) {
+            try {
+                return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+            } catch (final UnsupportedOperationException e) {
+                log.warn("Virtual threads are not supported by the runtime, lane {} uses platform threads", lane);
+            }
+        }
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(prefix + count.getAndIncrement());
+            return thread;
+        };
+    }
+
+    private record CoalesceKey(ApplicationListener<?> listener, Class<?> eventType, String tenant, Object entity) {
+    }
+
+    /**
+     * Releases the coalesce key of its event when it is executed or dropped at
+     * shutdown.
+     */
+    private final class LaneTask implements Runnable {
+
+        private final CoalesceKey coalesceKey;
+        private final Runnable task;
+
+        private LaneTask(final CoalesceKey coalesceKey, final Runnable task) {
+            this.coalesceKey = coalesceKey;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            // events published from now on are not covered by this execution
+            release();
+            task.run();
+        }
+
+        private void release() {
+            if (coalesceKey != null) {
+                queued.remove(coalesceKey);
+            }
+        }
+    }
+}
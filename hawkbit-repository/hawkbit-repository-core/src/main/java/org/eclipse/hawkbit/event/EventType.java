@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.event;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,6 +36,7 @@ import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEv
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetFilterQueryDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetTagDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetTypeDeletedEvent;
@@ -168,6 +171,9 @@ public class EventType {
         TYPES.put(44, TargetTypeCreatedEvent.class);
         TYPES.put(45, TargetTypeUpdatedEvent.class);
         TYPES.put(46, TargetTypeDeletedEvent.class);
+
+        // batch of target polls
+        TYPES.put(47, TargetPollBatchEvent.class);
     }
 
     private int value;
@@ -186,6 +192,13 @@ public class EventType {
         return TYPES.get(value);
     }
 
+    /**
+     * @return the classes of all events with an {@link EventType}
+     */
+    static Collection<Class<?>> getTargetClasses() {
+        return Collections.unmodifiableCollection(TYPES.values());
+    }
+
     /**
      * Returns a {@link EventType} based on the given class type.
      *
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.springframework.cloud.bus.RemoteApplicationEventListener;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+/**
+ * {@link SimpleApplicationEventMulticaster} which keeps the listeners of
+ * {@link TargetPollEvent}s working with {@link TargetPollBatchEvent}s. A
+ * batch is multicasted as is, so it is sent to the other nodes as a single
+ * event, and in addition a {@link TargetPollEvent} for every target of the
+ * batch is multicasted to the local listeners only. The
+ * {@link TargetPollEvent}s are not sent to the bus, every node which receives
+ * the batch multicasts them by itself.
+ * <p>
+ * The {@link TargetPollEvent} listeners are still called per target. Listeners
+ * which can handle the polls of a batch at once should listen to the
+ * {@link TargetPollBatchEvent} instead, if no local listener of
+ * {@link TargetPollEvent}s is left the batch is not fanned out at all.
+ * <p>
+ * If an {@link EventDispatcher} is set the asynchronous listeners are executed
+ * by it instead of the task executor.
+ */
+public class TargetPollBatchEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private static final ResolvableType TARGET_POLL_EVENT_TYPE = ResolvableType.forClass(TargetPollEvent.class);
+
+    private EventDispatcher eventDispatcher;
+
+    /**
+     * @param eventDispatcher
+     *            executing the asynchronous listeners, <code>null</code> to
+     *            execute them by the task executor
+     */
+    public void setEventDispatcher(final EventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
+    }
+
+    @Override
+    public void multicastEvent(final ApplicationEvent event, final ResolvableType eventType) {
+        if (eventDispatcher == null) {
+            super.multicastEvent(event, eventType);
+        } else {
+            final ResolvableType type = eventType == null ? ResolvableType.forInstance(event) : eventType;
+            for (final ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+                execute(listener, event);
+            }
+        }
+        if (event instanceof TargetPollBatchEvent batch) {
+            multicastLocally(batch);
+        }
+    }
+
+    private void multicastLocally(final TargetPollBatchEvent batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+        final TargetPollEvent first = batch.toTargetPollEvent(0);
+        // the same listeners for all events of the batch, they have the same source type
+        final List<ApplicationListener<?>> listeners = getApplicationListeners(first, TARGET_POLL_EVENT_TYPE)
+                .stream().filter(listener -> !(listener instanceof RemoteApplicationEventListener)).toList();
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            final TargetPollEvent event = i == 0 ? first : batch.toTargetPollEvent(i);
+            listeners.forEach(listener -> execute(listener, event));
+        }
+    }
+
+    private void execute(final ApplicationListener<?> listener, final ApplicationEvent event) {
+        final Executor executor = getTaskExecutor();
+        if (!listener.supportsAsyncExecution()) {
+            invokeListener(listener, event);
+        } else if (eventDispatcher != null) {
+            eventDispatcher.dispatch(listener, event, () -> invokeListener(listener, event));
+        } else if (executor != null) {
+            executor.execute(() -> invokeListener(listener, event));
+        } else {
+            invokeListener(listener, event);
+        }
+    }
+}
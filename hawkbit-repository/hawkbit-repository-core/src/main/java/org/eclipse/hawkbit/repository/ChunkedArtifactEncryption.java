@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException.EncryptionOperation;
+
+/**
+ * {@link ArtifactEncryption} which encrypts the artifacts in chunks of a fixed
+ * size with AES-GCM, so that the decryption can start at any offset.
+ * <p>
+ * The encrypted artifact starts with a header: magic, version, chunk size and
+ * a random nonce prefix. It is followed by the chunks, each with its own
+ * authentication tag. The nonce of a chunk consists of the prefix, the index
+ * of the chunk and a flag marking the last chunk, the header is authenticated
+ * with every chunk. So chunks can not be reordered, truncated or moved to
+ * another artifact unnoticed. As all chunks (but the last) have the same size
+ * the position of a chunk is calculated from the header, a range is decrypted
+ * from the chunk containing its start and the encrypted stream before is
+ * skipped.
+ * <p>
+ * The overhead depends on the size of the artifact, see
+ * {@link #decryptedSize(long)}.
+ */
+public class ChunkedArtifactEncryption implements ArtifactEncryption {
+
+    /**
+     * Secret holding the Base64 encoded AES-256 key.
+     */
+    public static final String SECRET_KEY = "chunked-aes-gcm-key";
+
+    static final int CHUNK_SIZE = 64 * 1024;
+    static final int TAG_LENGTH = 16;
+    static final int HEADER_LENGTH = 16;
+
+    private static final byte[] MAGIC = { 'H', 'B', 'C', 'E' };
+    private static final byte VERSION = 1;
+    private static final int NONCE_PREFIX_LENGTH = 7;
+    private static final int KEY_LENGTH = 32;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public Set<String> requiredSecretKeys() {
+        return Set.of(SECRET_KEY);
+    }
+
+    @Override
+    public Map<String, String> generateSecrets() {
+        final byte[] key = new byte[KEY_LENGTH];
+        random.nextBytes(key);
+        final Map<String, String> secrets = new HashMap<>();
+        secrets.put(SECRET_KEY, Base64.getEncoder().encodeToString(key));
+        Arrays.fill(key, (byte) 0);
+        return secrets;
+    }
+
+    @Override
+    public InputStream encryptStream(final Map<String, String> secrets, final InputStream stream) {
+        final byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+        random.nextBytes(noncePrefix);
+        return new EncryptingInputStream(key(secrets, EncryptionOperation.ENCRYPT), stream,
+                header(CHUNK_SIZE, noncePrefix));
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream) {
+        return decryptStream(secrets, stream, 0);
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream,
+            final long offset) {
+        try {
+            return new DecryptingInputStream(key(secrets, EncryptionOperation.DECRYPT), stream, offset);
+        } catch (final IOException e) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                    "Failed to read the encrypted artifact", e);
+        }
+    }
+
+    /**
+     * @return the overhead of an artifact which fits into one chunk
+     */
+    @Override
+    public int encryptionSizeOverhead() {
+        return HEADER_LENGTH + TAG_LENGTH;
+    }
+
+    @Override
+    public long decryptedSize(final long encryptedSize) {
+        final long chunks = (encryptedSize - HEADER_LENGTH + CHUNK_SIZE + TAG_LENGTH - 1) / (CHUNK_SIZE + TAG_LENGTH);
+        return encryptedSize - HEADER_LENGTH - chunks * TAG_LENGTH;
+    }
+
+    private static SecretKey key(final Map<String, String> secrets, final EncryptionOperation operation) {
+        final String key = secrets.get(SECRET_KEY);
+        if (key == null) {
+            throw new ArtifactEncryptionFailedException(operation, "Secret " + SECRET_KEY + " is missing");
+        }
+        return new SecretKeySpec(Base64.getDecoder().decode(key), "AES");
+    }
+
+    private static byte[] header(final int chunkSize, final byte[] noncePrefix) {
+        return ByteBuffer.allocate(HEADER_LENGTH).put(MAGIC).put(VERSION).putInt(chunkSize).put(noncePrefix)
+                .array();
+    }
+
+    private static byte[] nonce(final byte[] header, final int chunk, final boolean last) {
+        return ByteBuffer.allocate(NONCE_PREFIX_LENGTH + Integer.BYTES + 1)
+                .put(header, HEADER_LENGTH - NONCE_PREFIX_LENGTH, NONCE_PREFIX_LENGTH).putInt(chunk)
+                .put((byte) (last ? 1 : 0)).array();
+    }
+
+    private static Cipher cipher(final int mode, final SecretKey key, final byte[] header, final int chunk,
+            final boolean last) throws GeneralSecurityException {
+        final Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH * 8, nonce(header, chunk, last)));
+        cipher.updateAAD(header);
+        return cipher;
+    }
+
+    /**
+     * Stream of chunks, the current chunk is read from a buffer.
+     */
+    private abstract static class ChunkInputStream extends InputStream {
+
+        protected final InputStream source;
+        protected byte[] buffer = new byte[0];
+        protected int position;
+
+        protected ChunkInputStream(final InputStream source) {
+            this.source = source;
+        }
+
+        /**
+         * Fills the buffer with the next chunk.
+         *
+         * @return <code>false</code> if there is no chunk left
+         */
+        protected abstract boolean nextChunk() throws IOException;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (position >= buffer.length) {
+                if (!nextChunk()) {
+                    return -1;
+                }
+            }
+            final int read = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+
+    private static final class EncryptingInputStream extends ChunkInputStream {
+
+        private final SecretKey key;
+        private final byte[] header;
+        private byte[] pending;
+        private int chunk;
+        private boolean finished;
+
+        private EncryptingInputStream(final SecretKey key, final InputStream source, final byte[] header) {
+            super(source);
+            this.key = key;
+            this.header = header;
+            buffer = header;
+        }
+
+        @Override
+        protected boolean nextChunk() throws IOException {
+            if (finished) {
+                return false;
+            }
+            if (pending == null) {
+                pending = source.readNBytes(CHUNK_SIZE);
+            }
+            // the last chunk is flagged, so a full chunk is only the last if
+            // nothing follows
+            final byte[] following = pending.length < CHUNK_SIZE ? null : source.readNBytes(CHUNK_SIZE);
+            final boolean last = following == null || following.length == 0;
+            try {
+                buffer = cipher(Cipher.ENCRYPT_MODE, key, header, chunk++, last).doFinal(pending);
+            } catch (final GeneralSecurityException e) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.ENCRYPT,
+                        "Failed to encrypt chunk " + (chunk - 1), e);
+            }
+            position = 0;
+            pending = following;
+            finished = last;
+            return true;
+        }
+    }
+
+    private static final class DecryptingInputStream extends ChunkInputStream {
+
+        private final SecretKey key;
+        private final byte[] header;
+        private final int chunkSize;
+        private int chunk;
+        private int skip;
+        private boolean finished;
+
+        private DecryptingInputStream(final SecretKey key, final InputStream source, final long offset)
+                throws IOException {
+            super(new PushbackInputStream(source, 1));
+            this.key = key;
+            header = this.source.readNBytes(HEADER_LENGTH);
+            if (header.length < HEADER_LENGTH || !Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)
+                    || header[MAGIC.length] != VERSION) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                        "Artifact is not encrypted in chunks");
+            }
+            chunkSize = ByteBuffer.wrap(header, MAGIC.length + 1, Integer.BYTES).getInt();
+
+            // start with the chunk containing the offset
+            final long startChunk = offset / chunkSize;
+            this.source.skipNBytes(startChunk * (chunkSize + TAG_LENGTH));
+            chunk = (int) startChunk;
+            skip = (int) (offset % chunkSize);
+        }
+
+        @Override
+        protected boolean nextChunk() throws IOException {
+            if (finished) {
+                return false;
+            }
+            final byte[] encrypted = source.readNBytes(chunkSize + TAG_LENGTH);
+            if (encrypted.length == 0) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                        "Artifact is truncated after chunk " + (chunk - 1));
+            }
+            final boolean last = encrypted.length < chunkSize + TAG_LENGTH || isEndOfSource();
+            try {
+                buffer = cipher(Cipher.DECRYPT_MODE, key, header, chunk, last).doFinal(encrypted);
+            } catch (final GeneralSecurityException e) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                        "Failed to decrypt chunk " + chunk, e);
+            }
+            chunk++;
+            position = Math.min(skip, buffer.length);
+            skip = 0;
+            finished = last;
+            return true;
+        }
+
+        private boolean isEndOfSource() throws IOException {
+            final int next = source.read();
+            if (next == -1) {
+                return true;
+            }
+            ((PushbackInputStream) source).unread(next);
+            return false;
+        }
+    }
+}
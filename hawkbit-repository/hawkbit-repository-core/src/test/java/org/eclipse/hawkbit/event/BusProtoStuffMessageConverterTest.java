@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -62,6 +63,27 @@ public class BusProtoStuffMessageConverterTest {
         assertThat(deserializedEvent).isEqualTo(targetCreatedEvent);
     }
 
+    @Test
+    @Description("Verifies that the size meters are registered once and record the serialized and deserialized events")
+    public void recordsEventSizesWithMetersRegisteredUpfront() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final BusProtoStuffMessageConverter converter = new BusProtoStuffMessageConverter(meterRegistry);
+        final int meters = meterRegistry.getMeters().size();
+        assertThat(meterRegistry.find("hawkbit.event.bus.size").tag("type", "TargetCreatedEvent").summaries())
+                .hasSize(2);
+
+        final Object serializedEvent = converter.convertToInternal(new TargetCreatedEvent(targetMock, "1"),
+                new MessageHeaders(new HashMap<>()), null);
+        when(messageMock.getPayload()).thenReturn(serializedEvent);
+        converter.convertFromInternal(messageMock, RemoteApplicationEvent.class, null);
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("hawkbit.event.bus.size").tag("type", "TargetCreatedEvent")
+                .tag("direction", "out").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.event.bus.size").tag("type", "TargetCreatedEvent")
+                .tag("direction", "in").summary().count()).isEqualTo(1);
+    }
+
     @Test
     @Description("Verifies that a MessageConversationException is thrown on missing event-type information encoding")
     public void missingEventTypeMappingThrowsMessageConversationException() {
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Description;
+import org.eclipse.hawkbit.event.EventDispatchProperties.Lane;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+public class EventDispatcherTest {
+
+    private static final String LANE_LISTENER = LaneListener.class.getName();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventDispatcher underTest;
+
+    @AfterEach
+    public void after() {
+        if (underTest != null) {
+            underTest.shutdown();
+        }
+    }
+
+    @Test
+    @Description("Verifies that listeners assigned to a lane are executed by its threads and the others by the default executor")
+    public void listenersAreExecutedByTheirLane() throws InterruptedException {
+        underTest = dispatcher(new Lane());
+        final Map<String, String> threads = new ConcurrentHashMap<>();
+        final CountDownLatch executed = new CountDownLatch(2);
+        final LaneListener laneListener = new LaneListener(event -> {
+            threads.put("lane", Thread.currentThread().getName());
+            executed.countDown();
+        });
+        final OtherListener otherListener = new OtherListener(event -> {
+            threads.put("other", Thread.currentThread().getName());
+            executed.countDown();
+        });
+
+        final TargetPollEvent event = new TargetPollEvent("controller", "tenant", "app");
+        dispatch(laneListener, event);
+        dispatch(otherListener, event);
+
+        assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads.get("lane")).startsWith("event-test-");
+        assertThat(threads.get("other")).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @Description("Verifies that a partitioned lane executes the events of an entity in order")
+    public void partitionedLaneKeepsOrderOfEntity() throws InterruptedException {
+        final Lane lane = new Lane();
+        lane.setPartitions(4);
+        underTest = dispatcher(lane);
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch executed = new CountDownLatch(1000);
+        final LaneListener listener = new LaneListener(event -> {
+            final OrderedPollEvent pollEvent = (OrderedPollEvent) event;
+            received.computeIfAbsent(pollEvent.getControllerId(), id -> new CopyOnWriteArrayList<>())
+                    .add(pollEvent.sequence);
+            executed.countDown();
+        });
+
+        for (int i = 0; i < 1000; i++) {
+            dispatch(listener, new OrderedPollEvent("controller-" + (i % 10), i));
+        }
+
+        assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(10);
+        received.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(100));
+    }
+
+    @Test
+    @Description("Verifies that the publisher waits for a full partition instead of executing the event out of order")
+    public void fullPartitionBlocksPublisher() throws InterruptedException {
+        final Lane lane = new Lane();
+        lane.setPartitions(1);
+        lane.setQueueSize(1);
+        underTest = dispatcher(lane);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final LaneListener listener = new LaneListener(event -> {
+            final OrderedPollEvent pollEvent = (OrderedPollEvent) event;
+            if (pollEvent.sequence == 0) {
+                blocked.countDown();
+                await(release);
+            }
+            received.add(pollEvent.sequence);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        // the first event blocks the partition, the second fills its queue
+        dispatch(listener, new OrderedPollEvent("controller", 0));
+        assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatch(listener, new OrderedPollEvent("controller", 1));
+        final Thread publisher = new Thread(() -> dispatch(listener, new OrderedPollEvent("controller", 2)));
+        publisher.start();
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (meterRegistry.get("hawkbit.event.dispatch.blocked").counter().count() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(received).isEmpty();
+        release.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+
+        underTest.shutdown();
+        awaitLane();
+        assertThat(received).containsExactly(0, 1, 2);
+        assertThat(threads).allMatch(thread -> thread.startsWith("event-test-"));
+        assertThat(meterRegistry.get("hawkbit.event.dispatch.caller.runs").counter().count()).isZero();
+    }
+
+    @Test
+    @Description("Verifies that queued events of the same entity are coalesced for the configured event types")
+    public void queuedEventsAreCoalesced() throws InterruptedException {
+        final Lane lane = new Lane();
+        lane.setThreads(1);
+        lane.setCoalesce(List.of(RemoteIdEvent.class));
+        underTest = dispatcher(lane);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ApplicationEvent> received = new CopyOnWriteArrayList<>();
+        final LaneListener listener = new LaneListener(event -> {
+            if (event instanceof TargetPollEvent) {
+                blocked.countDown();
+                await(release);
+            } else {
+                received.add(event);
+            }
+        });
+
+        // blocks the lane, so that the next events are queued
+        dispatch(listener, new TargetPollEvent("controller", "tenant", "app"));
+        assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        final List<ApplicationEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(new TargetDeletedEvent("tenant", 1L, "controller", null, Target.class, "app"));
+        }
+        events.add(new TargetDeletedEvent("tenant", 2L, "other", null, Target.class, "app"));
+        events.forEach(event -> dispatch(listener, event));
+        release.countDown();
+
+        underTest.shutdown();
+        assertThat(meterRegistry.get("hawkbit.event.dispatch.coalesced").counter().count()).isEqualTo(4);
+        awaitLane();
+        assertThat(received).hasSize(2);
+        assertThat(meterRegistry.get("hawkbit.event.dispatch.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @Description("Verifies that an event dropped at shutdown does not coalesce the following events")
+    public void droppedEventIsNotCoalesced() {
+        final Lane lane = new Lane();
+        lane.setCoalesce(List.of(RemoteIdEvent.class));
+        underTest = dispatcher(lane);
+        final List<ApplicationEvent> received = new CopyOnWriteArrayList<>();
+        final LaneListener listener = new LaneListener(received::add);
+
+        underTest.shutdown();
+        dispatch(listener, new TargetDeletedEvent("tenant", 1L, "controller", null, Target.class, "app"));
+        dispatch(listener, new TargetDeletedEvent("tenant", 1L, "controller", null, Target.class, "app"));
+
+        assertThat(received).isEmpty();
+        assertThat(meterRegistry.get("hawkbit.event.dispatch.coalesced").counter().count()).isZero();
+    }
+
+    private EventDispatcher dispatcher(final Lane lane) {
+        lane.getListeners().add(LANE_LISTENER);
+        final EventDispatchProperties properties = new EventDispatchProperties();
+        properties.getLanes().put("test", lane);
+        return new EventDispatcher(properties, Runnable::run, null, meterRegistry);
+    }
+
+    private void dispatch(final ApplicationListener<ApplicationEvent> listener, final ApplicationEvent event) {
+        underTest.dispatch(listener, event, () -> listener.onApplicationEvent(event));
+    }
+
+    private void awaitLane() throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (meterRegistry.get("hawkbit.event.dispatch.queue.size").gauge().value() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // the last event might still be executed
+        Thread.sleep(100);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class LaneListener implements ApplicationListener<ApplicationEvent> {
+
+        private final Consumer<ApplicationEvent> consumer;
+
+        private LaneListener(final Consumer<ApplicationEvent> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onApplicationEvent(final ApplicationEvent event) {
+            consumer.accept(event);
+        }
+    }
+
+    private static class OtherListener extends LaneListener {
+
+        private OtherListener(final Consumer<ApplicationEvent> consumer) {
+            super(consumer);
+        }
+    }
+
+    private static class OrderedPollEvent extends TargetPollEvent {
+
+        private final int sequence;
+
+        private OrderedPollEvent(final String controllerId, final int sequence) {
+            super(controllerId, "tenant", "app");
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.hawkbit.repository.ChunkedArtifactEncryption.CHUNK_SIZE;
+import static org.eclipse.hawkbit.repository.ChunkedArtifactEncryption.HEADER_LENGTH;
+import static org.eclipse.hawkbit.repository.ChunkedArtifactEncryption.TAG_LENGTH;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import io.qameta.allure.Description;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.junit.jupiter.api.Test;
+
+public class ChunkedArtifactEncryptionTest {
+
+    private final ChunkedArtifactEncryption encryption = new ChunkedArtifactEncryption();
+    private final Map<String, String> secrets = encryption.generateSecrets();
+
+    @Test
+    @Description("Verifies that artifacts of any size are decrypted to the original content and their size is derived from the encrypted size")
+    public void encryptAndDecrypt() throws IOException {
+        for (final int size : new int[] { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 3 * CHUNK_SIZE + 17 }) {
+            final byte[] plain = random(size);
+            final byte[] encrypted = encrypt(plain);
+
+            assertThat(encryption.decryptedSize(encrypted.length)).as("size %s", size).isEqualTo(size);
+            assertThat(decrypt(encrypted, 0)).as("size %s", size).isEqualTo(plain);
+        }
+    }
+
+    @Test
+    @Description("Verifies that the decryption starts at the requested offset and reads only the chunks from the offset on")
+    public void decryptFromOffset() throws IOException {
+        final byte[] plain = random(5 * CHUNK_SIZE + 100);
+        final byte[] encrypted = encrypt(plain);
+
+        for (final long offset : new long[] { 1, CHUNK_SIZE - 1, CHUNK_SIZE, 2L * CHUNK_SIZE + 5, plain.length - 1,
+                plain.length }) {
+            final CountingInputStream source = new CountingInputStream(new ByteArrayInputStream(encrypted));
+            try (final InputStream decrypted = encryption.decryptStream(secrets, source, offset)) {
+                assertThat(decrypted.readNBytes(10)).as("offset %s", offset)
+                        .isEqualTo(Arrays.copyOfRange(plain, (int) offset, (int) Math.min(offset + 10, plain.length)));
+            }
+            // header, skipped chunks, the chunks with the read bytes and the
+            // peek for the end of the artifact
+            final long chunk = Math.min((offset + 9) / CHUNK_SIZE, plain.length / CHUNK_SIZE);
+            assertThat(source.read).as("offset %s", offset)
+                    .isLessThanOrEqualTo(HEADER_LENGTH + (chunk + 1) * (CHUNK_SIZE + TAG_LENGTH) + 1);
+            assertThat(source.decoded).as("offset %s", offset)
+                    .isLessThanOrEqualTo(HEADER_LENGTH + 2L * (CHUNK_SIZE + TAG_LENGTH) + 1);
+        }
+    }
+
+    @Test
+    @Description("Verifies that modified, reordered or truncated chunks are detected")
+    public void tamperedArtifactIsRejected() throws IOException {
+        final byte[] plain = random(3 * CHUNK_SIZE);
+        final byte[] encrypted = encrypt(plain);
+
+        final byte[] modified = encrypted.clone();
+        modified[HEADER_LENGTH + CHUNK_SIZE + 42] ^= 1;
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(() -> decrypt(modified, 0));
+
+        final byte[] reordered = encrypted.clone();
+        System.arraycopy(encrypted, HEADER_LENGTH, reordered, HEADER_LENGTH + CHUNK_SIZE + TAG_LENGTH,
+                CHUNK_SIZE + TAG_LENGTH);
+        System.arraycopy(encrypted, HEADER_LENGTH + CHUNK_SIZE + TAG_LENGTH, reordered, HEADER_LENGTH,
+                CHUNK_SIZE + TAG_LENGTH);
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(() -> decrypt(reordered, 0));
+
+        final byte[] truncated = Arrays.copyOf(encrypted, HEADER_LENGTH + 2 * (CHUNK_SIZE + TAG_LENGTH));
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(() -> decrypt(truncated, 0));
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class)
+                .isThrownBy(() -> decrypt(truncated, CHUNK_SIZE + 1L));
+    }
+
+    @Test
+    @Description("Verifies that an artifact can not be decrypted with another key")
+    public void otherKeyIsRejected() throws IOException {
+        final byte[] encrypted = encrypt(random(100));
+        final Map<String, String> otherSecrets = encryption.generateSecrets();
+
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class)
+                .isThrownBy(() -> encryption.decryptStream(otherSecrets, new ByteArrayInputStream(encrypted))
+                        .readAllBytes());
+    }
+
+    private byte[] encrypt(final byte[] plain) throws IOException {
+        try (final InputStream encrypted = encryption.encryptStream(secrets, new ByteArrayInputStream(plain))) {
+            return encrypted.readAllBytes();
+        }
+    }
+
+    private byte[] decrypt(final byte[] encrypted, final long offset) throws IOException {
+        try (final InputStream decrypted = encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted),
+                offset)) {
+            return decrypted.readAllBytes();
+        }
+    }
+
+    private static byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Counts the bytes read and skipped.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long read;
+        private long decoded;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                read++;
+                decoded++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                read += n;
+                decoded += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            read += skipped;
+            return skipped;
+        }
+    }
+}
@@ -9,7 +9,10 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.BiFunction;
+import java.util.function.LongUnaryOperator;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
@@ -17,26 +20,48 @@ import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 
 /**
  * {@link DbArtifact} implementation that decrypts the underlying artifact
- * binary input stream.
+ * binary input stream. If a range decryption function is given the streams
+ * opened at an offset are decrypted starting at the offset, otherwise they are
+ * decrypted from the start and skipped to the offset.
  */
 public class EncryptionAwareDbArtifact implements DbArtifact {
 
     private final DbArtifact encryptedDbArtifact;
     private final UnaryOperator<InputStream> decryptionFunction;
-    private final int encryptionOverhead;
+    private final BiFunction<InputStream, Long, InputStream> rangeDecryptionFunction;
+    private final LongUnaryOperator decryptedSize;
 
     public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact,
             final UnaryOperator<InputStream> decryptionFunction) {
-        this.encryptedDbArtifact = encryptedDbArtifact;
-        this.decryptionFunction = decryptionFunction;
-        this.encryptionOverhead = 0;
+        this(encryptedDbArtifact, decryptionFunction, 0);
     }
 
     public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact,
             final UnaryOperator<InputStream> decryptionFunction, final int encryptionOverhead) {
         this.encryptedDbArtifact = encryptedDbArtifact;
         this.decryptionFunction = decryptionFunction;
-        this.encryptionOverhead = encryptionOverhead;
+        this.rangeDecryptionFunction = null;
+        this.decryptedSize = size -> size - encryptionOverhead;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param encryptedDbArtifact
+     *            the encrypted artifact
+     * @param rangeDecryptionFunction
+     *            decrypts the encrypted stream starting at an offset of the
+     *            decrypted artifact
+     * @param decryptedSize
+     *            calculates the decrypted size from the encrypted size
+     */
+    public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact,
+            final BiFunction<InputStream, Long, InputStream> rangeDecryptionFunction,
+            final LongUnaryOperator decryptedSize) {
+        this.encryptedDbArtifact = encryptedDbArtifact;
+        this.decryptionFunction = stream -> rangeDecryptionFunction.apply(stream, 0L);
+        this.rangeDecryptionFunction = rangeDecryptionFunction;
+        this.decryptedSize = decryptedSize;
     }
 
     @Override
@@ -51,7 +76,7 @@ public class EncryptionAwareDbArtifact implements DbArtifact {
 
     @Override
     public long getSize() {
-        return encryptedDbArtifact.getSize() - encryptionOverhead;
+        return decryptedSize.applyAsLong(encryptedDbArtifact.getSize());
     }
 
     @Override
@@ -63,4 +88,12 @@ public class EncryptionAwareDbArtifact implements DbArtifact {
     public InputStream getFileInputStream() {
         return decryptionFunction.apply(encryptedDbArtifact.getFileInputStream());
     }
+
+    @Override
+    public InputStream getFileInputStream(final long offset) throws IOException {
+        if (rangeDecryptionFunction == null) {
+            return DbArtifact.super.getFileInputStream(offset);
+        }
+        return rangeDecryptionFunction.apply(encryptedDbArtifact.getFileInputStream(), offset);
+    }
 }
@@ -14,6 +14,7 @@ import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,9 +22,12 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.sql.DataSource;
+
 import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -38,16 +42,17 @@ import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
 import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
-import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutTargetGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.EvaluatorNotConfiguredException;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupEvaluationManager;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
@@ -70,6 +75,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionException;
 
@@ -91,6 +97,14 @@ public class JpaRolloutExecutor implements RolloutExecutor {
      */
     private static final int TRANSACTION_ACTIONS = 5_000;
 
+    /**
+     * Size of the JDBC batches inserting the targets of a rollout group,
+     * aligned with the batch writing size of the persistence unit.
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_ROLLOUT_TARGET_GROUP = "INSERT INTO sp_rollouttargetgroup (rolloutGroup_Id, target_Id) VALUES (?, ?)";
+
     /**
      * Action statuses that result in a terminated action
      */
@@ -117,12 +131,14 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
 
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
     private final PlatformTransactionManager txManager;
     private final AfterTransactionCommitExecutor afterCommit;
     private final EventPublisherHolder eventPublisherHolder;
 
     private final TenantAware tenantAware;
     private final RepositoryProperties repositoryProperties;
+    private final RolloutStatusCounters rolloutStatusCounters;
 
     public JpaRolloutExecutor(
             final ActionRepository actionRepository, final RolloutGroupRepository rolloutGroupRepository,
@@ -131,9 +147,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final DeploymentManagement deploymentManagement, final RolloutGroupManagement rolloutGroupManagement,
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
-            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final EntityManager entityManager, final DataSource dataSource, final PlatformTransactionManager txManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties,
+            final RolloutStatusCounters rolloutStatusCounters) {
         this.actionRepository = actionRepository;
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
@@ -146,11 +163,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.evaluationManager = evaluationManager;
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.entityManager = entityManager;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
         this.txManager = txManager;
         this.afterCommit = afterCommit;
         this.eventPublisherHolder = eventPublisherHolder;
         this.tenantAware = tenantAware;
         this.repositoryProperties = repositoryProperties;
+        this.rolloutStatusCounters = rolloutStatusCounters;
     }
 
     @Override
@@ -389,6 +408,11 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 final List<Long> actionIds = StreamSupport.stream(iterable.spliterator(), false).map(Action::getId)
                         .collect(Collectors.toList());
                 actionRepository.deleteByIdIn(actionIds);
+                rolloutStatusCounters.remove(scheduledActions.stream()
+                        .filter(action -> action.getRolloutGroup() != null)
+                        .collect(Collectors.groupingBy(action -> action.getRolloutGroup().getId(),
+                                Collectors.counting())),
+                        Status.SCHEDULED);
                 afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
                         .publishEvent(new RolloutUpdatedEvent(rollout, eventPublisherHolder.getApplicationId())));
             } catch (final RuntimeException e) {
@@ -865,8 +889,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         });
     }
 
+    // the entries are inserted with JDBC batches in the current transaction, RolloutTargetGroup is not cached
     private void createAssignmentOfTargetsToGroup(final Slice<Target> targets, final RolloutGroup group) {
-        targets.forEach(target -> rolloutTargetGroupRepository.save(new RolloutTargetGroup(group, target)));
+        jdbcTemplate.batchUpdate(INSERT_ROLLOUT_TARGET_GROUP, targets.getContent(), INSERT_BATCH_SIZE,
+                (statement, target) -> {
+                    statement.setLong(1, group.getId());
+                    statement.setLong(2, target.getId());
+                });
     }
 
     /**
@@ -883,9 +912,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         // created.
         final List<Long> targetIds = targets.stream().map(Target::getId).collect(Collectors.toList());
         deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
+        final Map<Long, Long> actionsPerTarget = countActionsPerTarget(targetIds);
         return targets.stream()
                 .map(target -> {
-                    assertActionsPerTargetQuota(target, 1);
+                    assertActionsPerTargetQuota(target, 1, actionsPerTarget);
 
                     final JpaAction action = new JpaAction();
                     action.setTarget(target);
@@ -906,15 +936,32 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 .toList();
     }
 
+    /**
+     * Counts the existing {@link Action}s of the targets with one grouped query
+     * per {@link Constants#MAX_ENTRIES_IN_STATEMENT} targets. Skipped if the
+     * actions per target are not limited.
+     */
+    private Map<Long, Long> countActionsPerTarget(final List<Long> targetIds) {
+        final Map<Long, Long> actionsPerTarget = new HashMap<>(targetIds.size());
+        if (quotaManagement.getMaxActionsPerTarget() > 0) {
+            ListUtils.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT)
+                    .forEach(chunk -> actionRepository.countByTargetIdIn(chunk)
+                            .forEach(count -> actionsPerTarget.put((Long) count[0], (Long) count[1])));
+        }
+        return actionsPerTarget;
+    }
+
     /**
      * Enforces the quota defining the maximum number of {@link Action}s per {@link Target}.
      *
      * @param target the target
      * @param requested number of actions to check
+     * @param actionsPerTarget existing actions per target id
      */
-    private void assertActionsPerTargetQuota(final Target target, final int requested) {
+    private void assertActionsPerTargetQuota(final Target target, final int requested,
+            final Map<Long, Long> actionsPerTarget) {
         final int quota = quotaManagement.getMaxActionsPerTarget();
         QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class,
-                actionRepository::countByTargetId);
+                targetId -> actionsPerTarget.getOrDefault(targetId, 0L));
     }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.lock.FencedLock;
+import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.integration.support.locks.LockRegistry;
@@ -68,7 +70,20 @@ public class JpaRolloutHandler implements RolloutHandler {
             return;
         }
 
-        final String handlerId = createRolloutLockKey(tenantAware.getCurrentTenant());
+        log.debug("Trigger handling {} rollouts.", rollouts.size());
+        rollouts.forEach(rolloutId -> {
+            try {
+                handle(rolloutId);
+            } catch (final Throwable throwable) {
+                log.error("Failed to process rollout with id {}", rolloutId, throwable);
+            }
+        });
+        log.debug("Finished handling of the rollouts.");
+    }
+
+    @Override
+    public void handle(final long rolloutId) {
+        final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenantAware.getCurrentTenant(), rolloutId);
         final Lock lock = lockRegistry.obtain(handlerId);
         if (!lock.tryLock()) {
             if (log.isTraceEnabled()) {
@@ -78,14 +93,7 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
 
         try {
-            log.debug("Trigger handling {} rollouts.", rollouts.size());
-            rollouts.forEach(rolloutId -> {
-                try {
-                    handleRolloutInNewTransaction(rolloutId, handlerId);
-                } catch (final Throwable throwable) {
-                    log.error("Failed to process rollout with id {}", rolloutId , throwable);
-                }});
-            log.debug("Finished handling of the rollouts.");
+            handleRolloutInNewTransaction(rolloutId, handlerId, lock);
         } finally {
             if (log.isTraceEnabled()) {
                 log.trace("Unlock lock {}", lock);
@@ -94,14 +102,15 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
     }
 
-    private static String createRolloutLockKey(final String tenant) {
-        return tenant + "-rollout";
-    }
-
     // run in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant
-    // the rollout is made for
-    private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId) {
-        DeploymentHelper.runInNewTransaction(txManager, handlerId + "-" + rolloutId, status -> {
+    // the rollout is made for. The changes are rolled back if the lease of the lock
+    // was lost meanwhile, another node might handle the rollout already.
+    private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId, final Lock lock) {
+        DeploymentHelper.runInNewTransaction(txManager, handlerId, status -> {
+            if (!FencedLock.hasValidLease(lock)) {
+                log.warn("Lease of lock {} lost, rollout {} is not handled.", handlerId, rolloutId);
+                return 0L;
+            }
             rolloutManagement.get(rolloutId).ifPresentOrElse(
                     rollout -> {
                         // auditor is retrieved and set on transaction commit
@@ -122,6 +131,10 @@ public class JpaRolloutHandler implements RolloutHandler {
                     },
                     () -> log.error("Could not retrieve rollout with id {}. Will not continue with execution.",
                             rolloutId));
+            if (!FencedLock.hasValidLease(lock)) {
+                log.warn("Lease of lock {} lost while handling rollout {}, rolling back.", handlerId, rolloutId);
+                status.setRollbackOnly();
+            }
             return 0L;
         });
     }
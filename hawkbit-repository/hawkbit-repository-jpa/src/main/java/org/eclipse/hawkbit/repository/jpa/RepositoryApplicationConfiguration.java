@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,10 @@ import jakarta.persistence.EntityManager;
 import javax.sql.DataSource;
 import jakarta.validation.Validation;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.repository.ArtifactEncryption;
@@ -63,14 +68,17 @@ import org.eclipse.hawkbit.repository.builder.TargetTypeBuilder;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignChecker;
+import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignOnTargetChange;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoCleanupScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.CleanupTask;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.RolloutStatusCounterRepair;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaDistributionSetBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaDistributionSetTypeBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaRolloutBuilder;
@@ -102,6 +110,10 @@ import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTagManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTypeManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantStatsManagement;
+import org.eclipse.hawkbit.repository.jpa.management.TargetIdentityCache;
+import org.eclipse.hawkbit.repository.jpa.management.TargetRegistrationBatcher;
+import org.eclipse.hawkbit.repository.jpa.management.TenantPurger;
+import org.eclipse.hawkbit.repository.jpa.management.TenantUsageCounters;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
@@ -114,6 +126,8 @@ import org.eclipse.hawkbit.repository.jpa.model.helper.AfterTransactionCommitExe
 import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.SecurityTokenGeneratorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.TenantAwareHolder;
+import org.eclipse.hawkbit.repository.jpa.poll.StripedTargetPollLedger;
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetMetadataRepository;
@@ -133,7 +147,10 @@ import org.eclipse.hawkbit.repository.jpa.repository.TargetMetadataRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TenantMetaDataRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TenantPurgeRepository;
 import org.eclipse.hawkbit.repository.jpa.rollout.RolloutScheduler;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupConditionEvaluator;
@@ -142,6 +159,7 @@ import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRollou
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.ThresholdRolloutGroupErrorCondition;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.ThresholdRolloutGroupSuccessCondition;
 import org.eclipse.hawkbit.repository.jpa.rsql.DefaultRsqlVisitorFactory;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParseCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParserValidationOracle;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
@@ -170,6 +188,7 @@ import org.hibernate.validator.BaseHibernateValidatorConfiguration;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -204,6 +223,7 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
  * General configuration for hawkBit's Repository.
  *
  */
+@Slf4j
 @EnableJpaRepositories(value = "org.eclipse.hawkbit.repository.jpa.repository", repositoryFactoryBeanClass = CustomBaseRepositoryFactoryBean.class)
 @EnableTransactionManagement
 @EnableJpaAuditing
@@ -292,10 +312,19 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return new RolloutStatusCache(tenantAware);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    RolloutStatusCounters rolloutStatusCounters(final EntityManager entityManager,
+            final ActionRepository actionRepository, final RolloutRepository rolloutRepository,
+            final PlatformTransactionManager txManager) {
+        return new RolloutStatusCounters(entityManager, actionRepository, rolloutRepository, txManager);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     ApplicationEventFilter applicationEventFilter(final RepositoryProperties repositoryProperties) {
-        return e -> e instanceof TargetPollEvent && !repositoryProperties.isPublishTargetPollEvent();
+        return e -> (e instanceof TargetPollEvent || e instanceof TargetPollBatchEvent)
+                && !repositoryProperties.isPublishTargetPollEvent();
     }
 
     /**
@@ -520,8 +549,8 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    SystemManagement systemManagement(final JpaProperties properties) {
-        return new JpaSystemManagement(properties);
+    SystemManagement systemManagement() {
+        return new JpaSystemManagement();
     }
 
     /**
@@ -620,11 +649,12 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
                                       final TargetTypeRepository targetTypeRepository, final TargetTagRepository targetTagRepository,
                                       final EventPublisherHolder eventPublisherHolder, final TenantAware tenantAware,
                                       final VirtualPropertyReplacer virtualPropertyReplacer,
-                                      final JpaProperties properties, final DistributionSetManagement distributionSetManagement) {
+                                      final JpaProperties properties, final DistributionSetManagement distributionSetManagement,
+                                      final AutoAssignOnTargetChange autoAssignOnTargetChange) {
         return new JpaTargetManagement(entityManager, distributionSetManagement, quotaManagement, targetRepository,
                 targetTypeRepository, targetMetadataRepository, rolloutGroupRepository, targetFilterQueryRepository,
                 targetTagRepository, eventPublisherHolder, tenantAware, virtualPropertyReplacer,
-                properties.getDatabase());
+                properties.getDatabase(), autoAssignOnTargetChange);
     }
 
     /**
@@ -746,13 +776,14 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final DeploymentManagement deploymentManagement, final RolloutGroupManagement rolloutGroupManagement,
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
-            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final EntityManager entityManager, final DataSource dataSource, final PlatformTransactionManager txManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties,
+            final RolloutStatusCounters rolloutStatusCounters) {
         return new JpaRolloutExecutor(actionRepository, rolloutGroupRepository, rolloutTargetGroupRepository,
                 rolloutRepository, targetManagement, deploymentManagement, rolloutGroupManagement, rolloutManagement,
-                quotaManagement, evaluationManager, rolloutApprovalStrategy, entityManager, txManager, afterCommit,
-                eventPublisherHolder, tenantAware, repositoryProperties);
+                quotaManagement, evaluationManager, rolloutApprovalStrategy, entityManager, dataSource, txManager,
+                afterCommit, eventPublisherHolder, tenantAware, repositoryProperties, rolloutStatusCounters);
     }
 
     @Bean
@@ -792,12 +823,13 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @Bean
     @ConditionalOnMissingBean
     RolloutGroupManagement rolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
-                                                  final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
+                                                  final RolloutRepository rolloutRepository,
                                                   final TargetRepository targetRepository, final EntityManager entityManager,
                                                   final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-                                                  final JpaProperties properties) {
-        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, actionRepository,
-                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache, properties.getDatabase());
+                                                  final RolloutStatusCounters rolloutStatusCounters, final JpaProperties properties) {
+        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, targetRepository,
+                entityManager, virtualPropertyReplacer, rolloutStatusCache, rolloutStatusCounters,
+                properties.getDatabase());
     }
 
     /**
@@ -815,10 +847,12 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
                                               final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
                                               final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
                                               final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-                                              final JpaProperties properties, final RepositoryProperties repositoryProperties) {
+                                              final JpaProperties properties, final RepositoryProperties repositoryProperties,
+                                              final RolloutStatusCounters rolloutStatusCounters) {
         return new JpaDeploymentManagement(entityManager, actionRepository, distributionSetManagement, targetRepository, actionStatusRepository, auditorProvider,
                 eventPublisherHolder, afterCommit, virtualPropertyReplacer, txManager, tenantConfigurationManagement,
-                quotaManagement, systemSecurityContext, tenantAware, auditorAware, properties.getDatabase(), repositoryProperties);
+                quotaManagement, systemSecurityContext, tenantAware, auditorAware, properties.getDatabase(), repositoryProperties,
+                rolloutStatusCounters);
     }
 
     @Bean
@@ -831,6 +865,108 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
                 repositoryProperties, quotaManagement, entityFactory);
     }
 
+    /**
+     * {@link TargetPollLedger} bean which buffers the target polls until they
+     * are flushed by the {@link ControllerManagement}.
+     *
+     * @param meterRegistry
+     *            registry for the ledger metrics, the global registry is used if
+     *            none is available
+     * @param repositoryProperties
+     *            for the capacity of the ledger
+     * @return a new {@link TargetPollLedger}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TargetPollLedger targetPollLedger(final ObjectProvider<MeterRegistry> meterRegistry,
+            final RepositoryProperties repositoryProperties) {
+        return new StripedTargetPollLedger(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                repositoryProperties.getPollPersistenceQueueCapacity());
+    }
+
+    /**
+     * {@link TargetIdentityCache} bean which caches the target identities for
+     * the {@link ControllerManagement}.
+     *
+     * @param meterRegistry
+     *            registry for the cache metrics, the global registry is used if
+     *            none is available
+     * @return a new {@link TargetIdentityCache}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TargetIdentityCache targetIdentityCache(final TenantAware tenantAware,
+            final RepositoryProperties repositoryProperties, final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TargetIdentityCache(tenantAware, repositoryProperties,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * {@link TenantUsageCounters} bean which maintains the usage statistics of
+     * the tenants.
+     *
+     * @return a new {@link TenantUsageCounters}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TenantUsageCounters tenantUsageCounters(final TargetRepository targetRepository,
+            final ActionRepository actionRepository, final LocalArtifactRepository localArtifactRepository,
+            final SystemSecurityContext systemSecurityContext, final PlatformTransactionManager txManager) {
+        return new TenantUsageCounters(targetRepository, actionRepository, localArtifactRepository,
+                systemSecurityContext, txManager);
+    }
+
+    /**
+     * {@link TenantPurger} bean which deletes the data of the deleted tenants
+     * in chunks.
+     *
+     * @param lockRegistry
+     *            to purge a tenant by one node only
+     * @return a new {@link TenantPurger}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TenantPurger tenantPurger(final EntityManager entityManager, final TenantPurgeRepository tenantPurgeRepository,
+            final TenantMetaDataRepository tenantMetaDataRepository, final ArtifactRepository artifactRepository,
+            final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+            final PlatformTransactionManager txManager, final RepositoryProperties repositoryProperties) {
+        return new TenantPurger(entityManager, tenantPurgeRepository, tenantMetaDataRepository, artifactRepository,
+                systemSecurityContext, lockRegistry, txManager, repositoryProperties);
+    }
+
+    /**
+     * {@link TargetRegistrationBatcher} bean which batches the concurrent
+     * registrations of new controllers.
+     *
+     * @param meterRegistry
+     *            registry for the batch metrics, the global registry is used if
+     *            none is available
+     * @return a new {@link TargetRegistrationBatcher}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TargetRegistrationBatcher targetRegistrationBatcher(final RepositoryProperties repositoryProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        int maxWaiting = repositoryProperties.getTargetRegistrationBatchMaxWaiting();
+        if (maxWaiting < 0) {
+            maxWaiting = getMaximumPoolSize() / 4;
+        }
+        return new TargetRegistrationBatcher(repositoryProperties, maxWaiting,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    private int getMaximumPoolSize() {
+        try {
+            if (getDataSource().isWrapperFor(HikariDataSource.class)) {
+                return getDataSource().unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (final SQLException e) {
+            log.warn("Failed to determine the size of the connection pool", e);
+        }
+        // the default of Hikari, the pool of Spring Boot
+        return 10;
+    }
+
     /**
      * {@link JpaControllerManagement} bean.
      *
@@ -840,9 +976,10 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @ConditionalOnMissingBean
     ControllerManagement controllerManagement(final ScheduledExecutorService executorService,
             final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository,
-            final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties) {
+            final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties,
+            final TargetPollLedger targetPollLedger) {
         return new JpaControllerManagement(executorService, actionRepository, actionStatusRepository, quotaManagement,
-                repositoryProperties);
+                repositoryProperties, targetPollLedger);
     }
 
     @Bean
@@ -903,15 +1040,49 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to assign distribution sets to targets
      * @param transactionManager
      *            to run transactions
+     * @param targetRepository
+     *            to load single targets
+     * @param actionRepository
+     *            to load the distribution sets of the actions of single
+     *            targets
+     * @param virtualPropertyReplacer
+     *            to replace the placeholders of the queries
      * @return a new {@link AutoAssignChecker}
      */
     @Bean
     @ConditionalOnMissingBean
     AutoAssignExecutor autoAssignExecutor(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
-            final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final TargetRepository targetRepository, final ActionRepository actionRepository,
+            final VirtualPropertyReplacer virtualPropertyReplacer) {
         return new AutoAssignChecker(targetFilterQueryManagement, targetManagement, deploymentManagement,
-                transactionManager, contextAware);
+                transactionManager, contextAware, targetRepository, actionRepository, virtualPropertyReplacer);
+    }
+
+    /**
+     * {@link AutoAssignOnTargetChange} bean.
+     *
+     * @param autoAssignExecutor
+     *            to check the changed targets
+     * @param afterCommit
+     *            to start the check after the commit of the change
+     * @param executorService
+     *            to run the check
+     * @param systemSecurityContext
+     *            to run the check as system
+     * @param repositoryProperties
+     *            to check if the auto assignments are checked on target
+     *            changes
+     * @return a new {@link AutoAssignOnTargetChange}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    AutoAssignOnTargetChange autoAssignOnTargetChange(final ObjectProvider<AutoAssignExecutor> autoAssignExecutor,
+            final AfterTransactionCommitExecutor afterCommit, final ScheduledExecutorService executorService,
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties) {
+        return new AutoAssignOnTargetChange(autoAssignExecutor, afterCommit, executorService, systemSecurityContext,
+                repositoryProperties);
     }
 
     /**
@@ -958,6 +1129,24 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return new AutoActionCleanup(deploymentManagement, configManagement);
     }
 
+    /**
+     * {@link RolloutStatusCounterRepair} bean.
+     *
+     * @param rolloutStatusCounters
+     *            the counters to rebuild
+     * @param tenantAware
+     *            to get the current tenant
+     * @param repositoryProperties
+     *            to check if the repair is enabled
+     *
+     * @return a new {@link RolloutStatusCounterRepair} bean
+     */
+    @Bean
+    CleanupTask rolloutStatusCounterRepair(final RolloutStatusCounters rolloutStatusCounters,
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+        return new RolloutStatusCounterRepair(rolloutStatusCounters, tenantAware, repositoryProperties);
+    }
+
     /**
      * {@link AutoCleanupScheduler} bean.
      *
@@ -990,10 +1179,16 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *
      * @param systemManagement
      *            to find all tenants
+     * @param rolloutManagement
+     *            to find the active rollouts
      * @param rolloutHandler
      *            to run the rollout handler
      * @param systemSecurityContext
      *            to run as system
+     * @param workerCount
+     *            number of rollouts handled in parallel
+     * @param meterRegistry
+     *            registry for the rollout handling metrics
      * @return a new {@link RolloutScheduler} bean.
      */
     @Bean
@@ -1001,8 +1196,12 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @Profile("!test")
     @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "enabled", matchIfMissing = true)
     RolloutScheduler rolloutScheduler(final SystemManagement systemManagement,
-            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext) {
-        return new RolloutScheduler(systemManagement, rolloutHandler, systemSecurityContext);
+            final RolloutManagement rolloutManagement, final RolloutHandler rolloutHandler,
+            final SystemSecurityContext systemSecurityContext,
+            @Value("${hawkbit.rollout.scheduler.workers:4}") final int workerCount,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RolloutScheduler(systemManagement, rolloutManagement, rolloutHandler, systemSecurityContext,
+                workerCount, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
     }
 
     /**
@@ -1026,6 +1225,20 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return RsqlConfigHolder.getInstance();
     }
 
+    /**
+     * Obtains the {@link RsqlParseCache} bean and registers its metrics.
+     *
+     * @param meterRegistry
+     *            registry for the cache metrics
+     * @return The {@link RsqlParseCache} singleton.
+     */
+    @Bean
+    RsqlParseCache rsqlParseCache(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final RsqlParseCache rsqlParseCache = RsqlParseCache.getInstance();
+        rsqlParseCache.bindTo(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        return rsqlParseCache;
+    }
+
     /**
      * {@link JpaDistributionSetInvalidationManagement} bean.
      *
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.persistence.PersistenceException;
 
@@ -21,8 +22,17 @@ import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetRsqlMatcher;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetSnapshot;
+import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
@@ -34,11 +44,19 @@ import org.springframework.transaction.annotation.Transactional;
  * queries are listed. For every target filter query (TFQ) the auto assign DS is
  * retrieved. All targets get listed per target filter query, that match the TFQ
  * and that don't have the auto assign DS in their action history.
+ * <p>
+ * A single target is loaded once and the target filter queries are evaluated
+ * in memory against it (see {@link TargetRsqlMatcher}). Queries which can not
+ * be evaluated in memory and targets with access control are checked by a
+ * query per target filter query.
  */
 @Slf4j
 public class AutoAssignChecker extends AbstractAutoAssignExecutor {
 
     private final TargetManagement targetManagement;
+    private final TargetRepository targetRepository;
+    private final ActionRepository actionRepository;
+    private final VirtualPropertyReplacer virtualPropertyReplacer;
 
     /**
      * Instantiates a new auto assign checker
@@ -57,8 +75,43 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
     public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
             final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+        this(targetFilterQueryManagement, targetManagement, deploymentManagement, transactionManager, contextAware,
+                null, null, null);
+    }
+
+    /**
+     * Instantiates a new auto assign checker which checks single targets in
+     * memory
+     *
+     * @param targetFilterQueryManagement
+     *            to get all target filter queries
+     * @param targetManagement
+     *            to get targets
+     * @param deploymentManagement
+     *            to assign distribution sets to targets
+     * @param transactionManager
+     *            to run transactions
+     * @param contextAware
+     *            to handle the context
+     * @param targetRepository
+     *            to load single targets, <code>null</code> to check them by
+     *            queries
+     * @param actionRepository
+     *            to load the distribution sets of the actions of single
+     *            targets
+     * @param virtualPropertyReplacer
+     *            to replace the placeholders of the queries
+     */
+    public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
+            final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final TargetRepository targetRepository, final ActionRepository actionRepository,
+            final VirtualPropertyReplacer virtualPropertyReplacer) {
         super(targetFilterQueryManagement, deploymentManagement, transactionManager, contextAware);
         this.targetManagement = targetManagement;
+        this.targetRepository = targetRepository;
+        this.actionRepository = actionRepository;
+        this.virtualPropertyReplacer = virtualPropertyReplacer;
     }
 
     @Override
@@ -73,7 +126,13 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
     public void checkSingleTarget(String controllerId) {
         log.debug("Auto assign check call for tenant {} and device {} started", getContextAware().getCurrentTenant(),
                 controllerId);
-        forEachFilterWithAutoAssignDS(filter -> checkForDevice(controllerId, filter));
+        final AtomicReference<TargetSnapshot> target = new AtomicReference<>(loadTarget(controllerId));
+        forEachFilterWithAutoAssignDS(filter -> {
+            // an assignment changes the target, e.g. its actions
+            if (checkForDevice(controllerId, filter, target.get()) && target.get() != null) {
+                target.set(loadTarget(controllerId));
+            }
+        });
         log.debug("Auto assign check call for tenant {} and device {} finished", getContextAware().getCurrentTenant(),
                 controllerId);
     }
@@ -113,16 +172,18 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
     }
 
-    private void checkForDevice(final String controllerId, final TargetFilterQuery targetFilterQuery) {
+    private boolean checkForDevice(final String controllerId, final TargetFilterQuery targetFilterQuery,
+            final TargetSnapshot target) {
         log.debug("Auto assign check call for tenant {} and target filter query id {} for device {} started",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId(), controllerId);
+        boolean assigned = false;
         try {
-            final boolean controllerIdMatches = targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
-                    controllerId, targetFilterQuery.getAutoAssignDistributionSet().getId(),
-                    targetFilterQuery.getQuery());
+            final boolean controllerIdMatches = target == null
+                    ? isMatchingByQuery(controllerId, targetFilterQuery)
+                    : isMatching(target, targetFilterQuery);
 
             if (controllerIdMatches) {
-                runTransactionalAssignment(targetFilterQuery, Collections.singletonList(controllerId));
+                assigned = runTransactionalAssignment(targetFilterQuery, Collections.singletonList(controllerId)) > 0;
             }
 
         } catch (final PersistenceException | AbstractServerRtException e) {
@@ -130,5 +191,37 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
         }
         log.debug("Auto assign check call for tenant {} and target filter query id {} finished",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
+        return assigned;
+    }
+
+    private boolean isMatchingByQuery(final String controllerId, final TargetFilterQuery targetFilterQuery) {
+        return targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(controllerId,
+                targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery());
+    }
+
+    private boolean isMatching(final TargetSnapshot target, final TargetFilterQuery targetFilterQuery) {
+        final DistributionSet distributionSet = targetFilterQuery.getAutoAssignDistributionSet();
+        try {
+            return !target.hasActionFor(distributionSet.getId())
+                    && target.isCompatibleWith(distributionSet.getType().getId())
+                    && TargetRsqlMatcher.matches(target, targetFilterQuery.getQuery(), virtualPropertyReplacer);
+        } catch (final UnsupportedOperationException e) {
+            log.debug("Target filter query id {} is checked by a query: {}", targetFilterQuery.getId(),
+                    e.getMessage());
+            return isMatchingByQuery(target.controllerId(), targetFilterQuery);
+        }
+    }
+
+    // null if the target is checked by queries
+    private TargetSnapshot loadTarget(final String controllerId) {
+        if (targetRepository == null || targetRepository.getAccessController().isPresent()
+                || !RSQLUtility.isG2RsqlVisitor()) {
+            return null;
+        }
+        return DeploymentHelper.runInNewTransaction(getTransactionManager(), "autoAssignLoadTarget",
+                status -> targetRepository.findOne(TargetSpecifications.hasControllerId(controllerId))
+                        .map(target -> TargetSnapshot.of(target,
+                                actionRepository.findDistributionSetIdsByTargetId(target.getId())))
+                        .orElse(null));
     }
 }
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Checks the auto assignments of targets after they are changed, e.g. after a
+ * target is registered, so that it does not wait for the next run of the
+ * {@link AutoAssignScheduler}.
+ * <p>
+ * The check runs asynchronously after the commit of the change. Changes of
+ * more than {@link Constants#MAX_ENTRIES_IN_STATEMENT} targets at once are
+ * left to the scheduler.
+ */
+@Slf4j
+public class AutoAssignOnTargetChange {
+
+    private final ObjectProvider<AutoAssignExecutor> autoAssignExecutor;
+    private final AfterTransactionCommitExecutor afterCommit;
+    private final Executor executor;
+    private final SystemSecurityContext systemSecurityContext;
+    private final RepositoryProperties repositoryProperties;
+
+    /**
+     * Constructor
+     *
+     * @param autoAssignExecutor
+     *            to check the targets, resolved on first use as it depends on
+     *            the managements which trigger the checks
+     * @param afterCommit
+     *            to start the check after the commit of the change
+     * @param executor
+     *            to run the check, has to propagate the security context
+     * @param systemSecurityContext
+     *            to run the check as system
+     * @param repositoryProperties
+     *            to check if the auto assignments are checked on target
+     *            changes
+     */
+    public AutoAssignOnTargetChange(final ObjectProvider<AutoAssignExecutor> autoAssignExecutor,
+            final AfterTransactionCommitExecutor afterCommit, final Executor executor,
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties) {
+        this.autoAssignExecutor = autoAssignExecutor;
+        this.afterCommit = afterCommit;
+        this.executor = executor;
+        this.systemSecurityContext = systemSecurityContext;
+        this.repositoryProperties = repositoryProperties;
+    }
+
+    /**
+     * Checks the auto assignments of the given targets after the commit of
+     * the current transaction.
+     *
+     * @param controllerIds
+     *            of the changed targets
+     */
+    public void targetsChanged(final Collection<String> controllerIds) {
+        if (!repositoryProperties.isAutoAssignOnTargetChange() || controllerIds.isEmpty()
+                || controllerIds.size() > Constants.MAX_ENTRIES_IN_STATEMENT) {
+            return;
+        }
+
+        final List<String> targets = List.copyOf(controllerIds);
+        afterCommit.afterCommit(() -> {
+            try {
+                executor.execute(() -> check(targets));
+            } catch (final RejectedExecutionException e) {
+                log.warn("Auto assign check of {} changed targets rejected, left to the scheduler", targets.size(), e);
+            }
+        });
+    }
+
+    private void check(final List<String> controllerIds) {
+        final AutoAssignExecutor checker = autoAssignExecutor.getIfAvailable();
+        if (checker == null) {
+            return;
+        }
+        // run as system to have the permission to read the target filter
+        // queries and to assign the distribution sets
+        systemSecurityContext.runAsSystem(() -> {
+            controllerIds.forEach(controllerId -> {
+                try {
+                    checker.checkSingleTarget(controllerId);
+                } catch (final RuntimeException e) {
+                    log.error("Auto assign check of target {} failed", controllerId, e);
+                }
+            });
+            return null;
+        });
+    }
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.locks.Lock;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.jpa.lock.FencedLock;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -83,7 +84,14 @@ public class AutoAssignScheduler {
 
         try {
             log.debug("Auto assign scheduled execution has acquired lock and started for each tenant.");
-            systemManagement.forEachTenant(tenant -> autoAssignExecutor.checkAllTargets());
+            systemManagement.forEachTenant(tenant -> {
+                // another node may run the auto assignments once the lease is lost
+                if (!FencedLock.hasValidLease(lock)) {
+                    log.warn("Lease of auto assign lock lost, skipping tenant {}.", tenant);
+                    return;
+                }
+                autoAssignExecutor.checkAllTargets();
+            });
         } finally {
             lock.unlock();
             log.debug("Auto assign scheduled execution has released lock and finished.");
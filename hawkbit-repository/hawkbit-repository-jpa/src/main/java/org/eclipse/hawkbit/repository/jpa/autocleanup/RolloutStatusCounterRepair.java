@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+
+/**
+ * A cleanup task which rebuilds the {@link RolloutStatusCounters} of all
+ * rollouts of a tenant from their actions. The counters are rebuilt once per
+ * tenant and node, only if the repair is enabled by
+ * {@link RepositoryProperties#isRolloutStatusCounterRepair()}.
+ */
+@Slf4j
+public class RolloutStatusCounterRepair implements CleanupTask {
+
+    private static final String ID = "rollout-status-counter-repair";
+
+    private final RolloutStatusCounters rolloutStatusCounters;
+    private final TenantAware tenantAware;
+    private final RepositoryProperties repositoryProperties;
+    private final Set<String> repairedTenants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param rolloutStatusCounters
+     *            the counters to rebuild
+     * @param tenantAware
+     *            to get the current tenant
+     * @param repositoryProperties
+     *            to check if the repair is enabled
+     */
+    public RolloutStatusCounterRepair(final RolloutStatusCounters rolloutStatusCounters,
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+        this.rolloutStatusCounters = rolloutStatusCounters;
+        this.tenantAware = tenantAware;
+        this.repositoryProperties = repositoryProperties;
+    }
+
+    @Override
+    public void run() {
+        if (!repositoryProperties.isRolloutStatusCounterRepair()) {
+            return;
+        }
+
+        final String tenant = tenantAware.getCurrentTenant();
+        if (repairedTenants.contains(tenant)) {
+            return;
+        }
+        log.info("Rebuilding the rollout status counters of tenant {}.", tenant);
+        rolloutStatusCounters.rebuild();
+        repairedTenants.add(tenant);
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A {@link Lock} shared between cluster nodes. Every acquisition gets a
+ * fencing token which is greater than the tokens of all former acquisitions of
+ * the same lock. A holder that might have lost its lease can pass the token to
+ * the guarded resource which rejects stale tokens, or check
+ * {@link #isLeaseValid()} before it relies on the lock.
+ */
+public interface FencedLock extends Lock {
+
+    /**
+     * @return the fencing token of the current acquisition or <code>-1</code>
+     *         if the lock is not held by this node
+     */
+    long getFencingToken();
+
+    /**
+     * A lease which could not be renewed in time, e.g. because the database was
+     * not reachable, can be taken over by another node while the lock is still
+     * held locally.
+     *
+     * @return <code>true</code> if the lock is held by the current thread and its
+     *         lease has neither been lost nor expired
+     */
+    boolean isLeaseValid();
+
+    /**
+     * Checks the lease of a lock obtained from any
+     * {@link org.springframework.integration.support.locks.LockRegistry}.
+     *
+     * @param lock
+     *            the held lock
+     * @return <code>false</code> if the lock is a {@link FencedLock} whose
+     *         lease is not valid anymore, <code>true</code> for all other locks
+     */
+    static boolean hasValidLease(final Lock lock) {
+        return !(lock instanceof FencedLock fencedLock) || fencedLock.isLeaseValid();
+    }
+}
@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * {@link LockRegistry} that shares its locks between all nodes using the same
+ * database. A lock is a lease in the <code>sp_lock</code> table which is
+ * renewed in the background while the lock is held. If a node crashes its
+ * leases expire and the locks can be taken over by other nodes. Within a node
+ * the locks are reentrant like a {@link ReentrantLock}. All obtained locks are
+ * {@link FencedLock}s. Locks which are neither held nor referenced anymore are
+ * removed from the registry by the garbage collector, so per entity lock keys
+ * do not accumulate.
+ * <p>
+ * Note: lease expiry is based on the clocks of the nodes, so they have to be
+ * synchronized. A holder has to check {@link FencedLock#isLeaseValid()} (or
+ * pass the fencing token to the guarded resource) before it relies on still
+ * holding the lock, a lease which could not be renewed is not taken back from
+ * the holding thread.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>hawkbit.lock.held</code> - locks held by this node</li>
+ * <li><code>hawkbit.lock.hold</code> - time the locks were held</li>
+ * <li><code>hawkbit.lock.acquire</code> - lock attempts, tagged with the result</li>
+ * <li><code>hawkbit.lock.lease.lost</code> - leases which could not be renewed</li>
+ * </ul>
+ */
+@Slf4j
+public class JdbcLockRegistry implements LockRegistry, DisposableBean {
+
+    private static final long RETRY_INTERVAL_MS = 100;
+
+    private static final String UPDATE_ACQUIRE = "UPDATE sp_lock SET lock_owner = ?, expires_at = ?, "
+            + "fencing_token = fencing_token + 1 WHERE lock_key = ? AND (lock_owner = ? OR expires_at < ?)";
+    private static final String INSERT_ACQUIRE = "INSERT INTO sp_lock (lock_key, lock_owner, fencing_token, expires_at) "
+            + "VALUES (?, ?, 1, ?)";
+    private static final String SELECT_TOKEN = "SELECT fencing_token FROM sp_lock WHERE lock_key = ? AND lock_owner = ?";
+    // a released (expires_at = 0) or expired lease must not be extended again
+    private static final String UPDATE_RENEW = "UPDATE sp_lock SET expires_at = ? "
+            + "WHERE lock_key = ? AND lock_owner = ? AND fencing_token = ? AND expires_at > ?";
+    private static final String UPDATE_RELEASE = "UPDATE sp_lock SET expires_at = 0 "
+            + "WHERE lock_key = ? AND lock_owner = ? AND fencing_token = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseTime;
+    private final String owner = UUID.randomUUID().toString();
+    // a waiting or holding thread references its lock, an unreferenced lock can be replaced by a new one
+    private final Map<String, JdbcLock> locks = new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+    // the leases to renew, also keeps the locks with a lease from being collected
+    private final Map<String, JdbcLock> leased = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
+
+    private final AtomicInteger held = new AtomicInteger();
+    private final Timer holdTimer;
+    private final Counter acquiredCounter;
+    private final Counter busyCounter;
+    private final Counter leaseLostCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param dataSource
+     *            the database holding the <code>sp_lock</code> table
+     * @param txManager
+     *            transaction manager of the data source, the lock operations
+     *            run in their own transactions
+     * @param leaseTime
+     *            time in milliseconds after which the lock of a node which
+     *            stopped to renew it can be taken over
+     * @param meterRegistry
+     *            registry for the lock metrics
+     */
+    public JdbcLockRegistry(final DataSource dataSource, final PlatformTransactionManager txManager,
+            final long leaseTime, final MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(txManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseTime = leaseTime;
+
+        renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "lock-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long renewInterval = Math.max(1, leaseTime / 3);
+        renewer.scheduleWithFixedDelay(this::renewLeases, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("hawkbit.lock.held", held, AtomicInteger::get).description("Locks held by this node")
+                .register(meterRegistry);
+        holdTimer = Timer.builder("hawkbit.lock.hold").description("Time the locks were held")
+                .register(meterRegistry);
+        acquiredCounter = Counter.builder("hawkbit.lock.acquire").tag("result", "acquired")
+                .description("Lock attempts").register(meterRegistry);
+        busyCounter = Counter.builder("hawkbit.lock.acquire").tag("result", "busy").description("Lock attempts")
+                .register(meterRegistry);
+        leaseLostCounter = Counter.builder("hawkbit.lock.lease.lost").description("Leases which could not be renewed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public FencedLock obtain(final Object lockKey) {
+        if (!(lockKey instanceof String key)) {
+            throw new IllegalArgumentException("Only String lock keys are supported");
+        }
+        return locks.computeIfAbsent(key, JdbcLock::new);
+    }
+
+    @Override
+    public void destroy() {
+        renewer.shutdownNow();
+    }
+
+    private void renewLeases() {
+        leased.values().forEach(lock -> {
+            final long token = lock.fencingToken;
+            if (token < 0) {
+                return;
+            }
+            try {
+                final long now = System.currentTimeMillis();
+                final Integer renewed = transactionTemplate.execute(status -> jdbcTemplate.update(UPDATE_RENEW,
+                        now + leaseTime, lock.key, owner, token, now));
+                if (renewed != null && renewed > 0) {
+                    lock.leaseRenewed(token, now + leaseTime);
+                } else if (lock.leaseLost(token)) {
+                    leaseLostCounter.increment();
+                    log.error("Lease of lock {} with fencing token {} lost.", lock.key, token);
+                }
+            } catch (final RuntimeException e) {
+                log.warn("Failed to renew lease of lock {}.", lock.key, e);
+            }
+        });
+    }
+
+    private long acquireLease(final String key) {
+        final long now = System.currentTimeMillis();
+        final Integer updated = transactionTemplate.execute(
+                status -> jdbcTemplate.update(UPDATE_ACQUIRE, owner, now + leaseTime, key, owner, now));
+        if (updated == null || updated == 0) {
+            try {
+                transactionTemplate.execute(status -> jdbcTemplate.update(INSERT_ACQUIRE, key, owner, now + leaseTime));
+            } catch (final DataIntegrityViolationException e) {
+                // held by another node
+                return -1;
+            }
+        }
+        final Long token = transactionTemplate
+                .execute(status -> jdbcTemplate.queryForObject(SELECT_TOKEN, Long.class, key, owner));
+        return token == null ? -1 : token;
+    }
+
+    private void releaseLease(final String key, final long token) {
+        try {
+            transactionTemplate.execute(status -> jdbcTemplate.update(UPDATE_RELEASE, key, owner, token));
+        } catch (final RuntimeException e) {
+            log.warn("Failed to release lock {}, it is released when the lease expires.", key, e);
+        }
+    }
+
+    private final class JdbcLock implements FencedLock {
+
+        private final String key;
+        private final ReentrantLock localLock = new ReentrantLock();
+        private volatile long fencingToken = -1;
+        // local end of the lease of the current acquisition, 0 if it was lost
+        private volatile long leaseExpiresAt;
+        private long acquiredAt;
+
+        private JdbcLock(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public long getFencingToken() {
+            return localLock.isHeldByCurrentThread() ? fencingToken : -1;
+        }
+
+        @Override
+        public boolean isLeaseValid() {
+            return localLock.isHeldByCurrentThread() && System.currentTimeMillis() < leaseExpiresAt;
+        }
+
+        @Override
+        public void lock() {
+            localLock.lock();
+            while (!acquireIfFirstHold()) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_INTERVAL_MS);
+                } catch (final InterruptedException e) {
+                    // uninterruptible like Lock#lock, restore the flag
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            localLock.lockInterruptibly();
+            try {
+                while (!acquireIfFirstHold()) {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_INTERVAL_MS);
+                }
+            } catch (final InterruptedException e) {
+                localLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!localLock.tryLock()) {
+                busyCounter.increment();
+                return false;
+            }
+            if (acquireIfFirstHold()) {
+                return true;
+            }
+            localLock.unlock();
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+            final long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!localLock.tryLock(time, unit)) {
+                busyCounter.increment();
+                return false;
+            }
+            try {
+                while (!acquireIfFirstHold()) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        localLock.unlock();
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(RETRY_INTERVAL_MS)));
+                }
+                return true;
+            } catch (final InterruptedException e) {
+                localLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void unlock() {
+            if (!localLock.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Lock " + key + " is not held by the current thread");
+            }
+            try {
+                if (localLock.getHoldCount() == 1) {
+                    final long token = fencingToken;
+                    synchronized (this) {
+                        fencingToken = -1;
+                        leaseExpiresAt = 0;
+                    }
+                    releaseLease(key, token);
+                    leased.remove(key, this);
+                    held.decrementAndGet();
+                    holdTimer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+                }
+            } finally {
+                localLock.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by cluster wide locks");
+        }
+
+        @Override
+        public String toString() {
+            return "JdbcLock [key=" + key + ", fencingToken=" + fencingToken + "]";
+        }
+
+        private synchronized void leaseRenewed(final long token, final long expiresAt) {
+            if (fencingToken == token && leaseExpiresAt > 0) {
+                leaseExpiresAt = expiresAt;
+            }
+        }
+
+        // false if the lease was released in the meantime
+        private synchronized boolean leaseLost(final long token) {
+            if (fencingToken != token) {
+                return false;
+            }
+            leaseExpiresAt = 0;
+            return true;
+        }
+
+        // has to be called while holding the local lock
+        private boolean acquireIfFirstHold() {
+            if (localLock.getHoldCount() > 1) {
+                return true;
+            }
+            final long now = System.currentTimeMillis();
+            final long token = acquireLease(key);
+            if (token < 0) {
+                busyCounter.increment();
+                return false;
+            }
+            synchronized (this) {
+                leaseExpiresAt = now + leaseTime;
+                fencingToken = token;
+            }
+            acquiredAt = System.nanoTime();
+            leased.put(key, this);
+            held.incrementAndGet();
+            acquiredCounter.increment();
+            return true;
+        }
+    }
+}
@@ -299,8 +299,8 @@ public class JpaArtifactManagement implements ArtifactManagement {
         }
         final ArtifactEncryptionService encryptionService = ArtifactEncryptionService.getInstance();
         return new EncryptionAwareDbArtifact(dbArtifact,
-                stream -> encryptionService.decryptSoftwareModuleArtifact(softwareModuleId, stream),
-                encryptionService.encryptionSizeOverhead());
+                (stream, offset) -> encryptionService.decryptSoftwareModuleArtifact(softwareModuleId, stream, offset),
+                encryptionService::decryptedSize);
     }
 
     private Artifact storeArtifactMetadata(final SoftwareModule softwareModule, final String providedFilename,
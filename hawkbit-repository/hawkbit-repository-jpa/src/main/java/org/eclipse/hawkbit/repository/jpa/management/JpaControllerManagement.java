@@ -10,13 +10,17 @@
 package org.eclipse.hawkbit.repository.jpa.management;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.im.authentication.TenantAwareAuthenticationDetails;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
@@ -32,22 +36,31 @@ import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.builder.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAttributeException;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignOnTargetChange;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaActionStatusCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.management.TargetIdentityCache.Lookup;
+import org.eclipse.hawkbit.repository.jpa.management.TargetRegistrationBatcher.Outcome;
+import org.eclipse.hawkbit.repository.jpa.management.TargetRegistrationBatcher.Registration;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger;
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger.TargetPoll;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleMetadataRepository;
@@ -66,6 +79,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
 import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
@@ -83,8 +97,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.util.StringUtils;
@@ -95,18 +112,17 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.eclipse.hawkbit.repository.model.Action.Status.DOWNLOADED;
@@ -122,7 +138,9 @@ import static org.eclipse.hawkbit.repository.model.Target.CONTROLLER_ATTRIBUTE_V
 @Validated
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
 
-    private final BlockingDeque<TargetPoll> queue;
+    private TargetPollLedger pollLedger;
+    private final ScheduledExecutorService executorService;
+    private final AtomicBoolean overflowFlushScheduled = new AtomicBoolean();
 
     @Autowired
     private EntityManager entityManager;
@@ -169,19 +187,30 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     @Autowired
     private DistributionSetManagement distributionSetManagement;
 
+    @Autowired
+    private TargetIdentityCache targetIdentityCache;
+
+    @Autowired
+    private TargetRegistrationBatcher targetRegistrationBatcher;
+
+    @Autowired
+    private AutoAssignOnTargetChange autoAssignOnTargetChange;
+
     public JpaControllerManagement(final ScheduledExecutorService executorService,
                                    final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository,
-                                   final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties) {
+                                   final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties,
+                                   final TargetPollLedger pollLedger) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
+        this.executorService = executorService;
 
         if (!repositoryProperties.isEagerPollPersistence()) {
             executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
                     repositoryProperties.getPollPersistenceFlushTime(),
                     repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
 
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
+            this.pollLedger = pollLedger;
         } else {
-            queue = null;
+            this.pollLedger = null;
         }
     }
 
@@ -333,13 +362,15 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     }
 
     private void throwExceptionIfTargetDoesNotExist(final String controllerId) {
-        if (!targetRepository.exists(TargetSpecifications.hasControllerId(controllerId))) {
+        if (targetIdentityCache.get(Lookup.EXISTENCE, controllerId,
+                () -> loadTargetIdentity(TargetSpecifications.hasControllerId(controllerId))).isEmpty()) {
             throw new EntityNotFoundException(Target.class, controllerId);
         }
     }
 
     private void throwExceptionIfTargetDoesNotExist(final Long targetId) {
-        if (!targetRepository.existsById(targetId)) {
+        if (targetIdentityCache.get(Lookup.EXISTENCE, targetId,
+                () -> loadTargetIdentity(TargetSpecifications.hasId(targetId))).isEmpty()) {
             throw new EntityNotFoundException(Target.class, targetId);
         }
     }
@@ -382,6 +413,14 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return actionRepository.findWithDetailsById(actionId);
     }
 
+    @Override
+    public List<Action> findActionsWithTarget(final Collection<Long> actionIds) {
+        if (actionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(actionRepository.findAll(ActionSpecifications.byIdsFetchTarget(actionIds)));
+    }
+
     @Override
     public void deleteExistingTarget(@NotEmpty final String controllerId) {
         final Target target = targetRepository.findOne(TargetSpecifications.hasControllerId(controllerId))
@@ -405,10 +444,107 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                 (targetRoot, query, cb) -> cb.equal(targetRoot.get(JpaTarget_.controllerId), controllerId);
 
         return targetRepository.findOne(spec).map(target -> updateTarget(target, address, name, type))
+                .orElseGet(() -> registerTarget(controllerId, address, name, type));
+    }
+
+    // Registrations of controllers are batched, they share the auditor
+    // (CONTROLLER_PLUG_AND_PLAY) so the batch can be inserted by any of them.
+    private Target registerTarget(final String controllerId, final URI address, final String name,
+            final String type) {
+        if (!targetRegistrationBatcher.isEnabled() || !isController()) {
+            return createTarget(controllerId, address, name, type);
+        }
+
+        final Outcome outcome = targetRegistrationBatcher.register(tenantAware.getCurrentTenant(),
+                new Registration(controllerId, address, name, type), this::insertTargets);
+        if (outcome == null) {
+            return createTarget(controllerId, address, name, type);
+        }
+
+        // a target which existed already is updated like a found one
+        return targetRepository.findById(outcome.targetId())
+                .map(target -> outcome.created() ? registered(target) : updateTarget(target, address, name, type))
                 .orElseGet(() -> createTarget(controllerId, address, name, type));
     }
 
+    private Map<String, Outcome> insertTargets(final Collection<Registration> registrations) {
+        final Map<String, Outcome> outcomes = new HashMap<>(registrations.size());
+        final List<JpaTarget> created = new ArrayList<>(registrations.size());
+
+        ListUtils.partition(new ArrayList<>(registrations), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            // targets registered in the meantime, e.g. through another node
+            final Map<String, Long> existing = findTargetIds(
+                    chunk.stream().map(Registration::controllerId).toList());
+            chunk.forEach(registration -> {
+                final Long id = existing.get(registration.controllerId());
+                if (id != null) {
+                    outcomes.put(registration.controllerId(), new Outcome(id, false));
+                } else {
+                    created.add(newTarget(registration.controllerId(), registration.address(),
+                            registration.name(), registration.type()));
+                }
+            });
+        });
+
+        targetRepository.saveAll(created);
+        try {
+            entityManager.flush();
+        } catch (final PersistenceException e) {
+            // a target of the batch was registered concurrently, the leader
+            // retries while the others of the batch register on their own
+            throw new ConcurrencyFailureException("Failed to insert batch of registered targets", e);
+        }
+        created.forEach(target -> outcomes.put(target.getControllerId(), new Outcome(target.getId(), true)));
+
+        if (created.size() == 1) {
+            // a single registration publishes the same event as without batch
+            final Target target = created.get(0);
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
+                    .publishEvent(new TargetPollEvent(target, eventPublisherHolder.getApplicationId())));
+        } else if (!created.isEmpty()) {
+            final long now = System.currentTimeMillis();
+            final TargetPollBatchEvent event = new TargetPollBatchEvent(tenantAware.getCurrentTenant(),
+                    created.stream().map(JpaTarget::getControllerId).toArray(String[]::new),
+                    created.stream().mapToLong(target -> Optional.ofNullable(target.getLastTargetQuery()).orElse(now))
+                            .toArray(),
+                    eventPublisherHolder.getApplicationId());
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(event));
+        }
+        return outcomes;
+    }
+
+    private Map<String, Long> findTargetIds(final Collection<String> controllerIds) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        query.multiselect(targetRoot.get(JpaTarget_.controllerId), targetRoot.get(JpaTarget_.id))
+                .where(targetRoot.get(JpaTarget_.controllerId).in(controllerIds));
+        return entityManager.createQuery(query).getResultList().stream()
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (Long) row[1]));
+    }
+
+    private static boolean isController() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getDetails() instanceof TenantAwareAuthenticationDetails details
+                && details.isController();
+    }
+
     private Target createTarget(final String controllerId, final URI address, final String name, final String type) {
+        final Target result = targetRepository.save(newTarget(controllerId, address, name, type));
+
+        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
+                .publishEvent(new TargetPollEvent(result, eventPublisherHolder.getApplicationId())));
+
+        return registered(result);
+    }
+
+    private Target registered(final Target target) {
+        autoAssignOnTargetChange.targetsChanged(List.of(target.getControllerId()));
+        return target;
+    }
+
+    private JpaTarget newTarget(final String controllerId, final URI address, final String name, final String type) {
 
         log.debug("Creating target for thing ID \"{}\".", controllerId);
         JpaTarget jpaTarget = (JpaTarget) entityFactory.target().create()
@@ -428,12 +564,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             }
         }
 
-        final Target result = targetRepository.save(jpaTarget);
-
-        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
-                .publishEvent(new TargetPollEvent(result, eventPublisherHolder.getApplicationId())));
-
-        return result;
+        return jpaTarget;
     }
 
     Optional<TargetType> getTargetType(String targetTypeName) {
@@ -441,51 +572,35 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     }
 
     /**
-     * Flush the update queue by means to persisting
+     * Flush the poll ledger by means to persisting
      * {@link Target#getLastTargetQuery()}.
      */
     private void flushUpdateQueue() {
         log.debug("Run flushUpdateQueue.");
-
-        final int size = queue.size();
-        if (size <= 0) {
-            return;
-        }
-
-        log.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = new HashSet<>(queue.size());
-        final int drained = queue.drainTo(events);
-
-        if (drained <= 0) {
-            return;
-        }
+        overflowFlushScheduled.set(false);
 
         try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant)).forEach((tenant, polls) -> {
+            pollLedger.flush((tenant, polls) -> {
                 final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
                 tenantAware.runAsTenant(tenant,
                         () -> DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", createTransaction));
             });
         } catch (final RuntimeException ex) {
-            log.error("Failed to persist UpdateQueue content.", ex);
-            return;
+            log.error("Failed to persist poll ledger content.", ex);
         }
-
-        log.debug("{} events persisted.", drained);
     }
 
     private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
         log.debug("Persist {} targetqueries.", polls.size());
 
-        final List<List<String>> pollChunks = ListUtils.partition(
-                polls.stream().map(TargetPoll::getControllerId).collect(Collectors.toList()),
-                Constants.MAX_ENTRIES_IN_STATEMENT);
-
-        pollChunks.forEach(chunk -> {
-            setLastTargetQuery(tenant, System.currentTimeMillis(), chunk);
-            chunk.forEach(controllerId -> afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
-                    .publishEvent(new TargetPollEvent(controllerId, tenant, eventPublisherHolder.getApplicationId()))));
+        // polls are sorted by target id, so the chunks lock the rows in a stable order. Every target of a chunk
+        // is bound twice by the update.
+        ListUtils.partition(polls, Constants.MAX_ENTRIES_IN_STATEMENT / 2).forEach(chunk -> {
+            setLastTargetQuery(tenant, chunk);
+            final TargetPollBatchEvent event = new TargetPollBatchEvent(tenant,
+                    chunk.stream().map(TargetPoll::getControllerId).toArray(String[]::new),
+                    chunk.stream().mapToLong(TargetPoll::getLastPoll).toArray(), eventPublisherHolder.getApplicationId());
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(event));
         });
 
         return null;
@@ -495,21 +610,25 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
      * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid
      * raising opt lock revision as this update is not mission critical and in
      * fact only written by {@link ControllerManagement}, i.e. the target
-     * itself.
+     * itself. Each target gets its own poll time.
      */
-    private void setLastTargetQuery(final String tenant, final long currentTimeMillis, final List<String> chunk) {
-        final Map<String, String> paramMapping = new HashMap<>(chunk.size());
+    private void setLastTargetQuery(final String tenant, final List<TargetPoll> chunk) {
+        final Map<String, Long> paramMapping = new HashMap<>(chunk.size() * 2);
+        final List<String> targetIdParams = new ArrayList<>(chunk.size());
+        final StringBuilder pollTimeCases = new StringBuilder();
 
         for (int i = 0; i < chunk.size(); i++) {
-            paramMapping.put("cid" + i, chunk.get(i));
+            paramMapping.put("tid" + i, chunk.get(i).getTargetId());
+            paramMapping.put("ltq" + i, chunk.get(i).getLastPoll());
+            targetIdParams.add("tid" + i);
+            pollTimeCases.append(" WHEN #tid").append(i).append(" THEN #ltq").append(i);
         }
 
         final Query updateQuery = entityManager.createNativeQuery(
-                "UPDATE sp_target SET last_target_query = #last_target_query WHERE controller_id IN ("
-                        + formatQueryInStatementParams(paramMapping.keySet()) + ") AND tenant = #tenant");
+                "UPDATE sp_target SET last_target_query = CASE id" + pollTimeCases + " END WHERE id IN ("
+                        + formatQueryInStatementParams(targetIdParams) + ") AND tenant = #tenant");
 
         paramMapping.forEach(updateQuery::setParameter);
-        updateQuery.setParameter("last_target_query", currentTimeMillis);
         updateQuery.setParameter("tenant", tenant);
 
         final int updated = updateQuery.executeUpdate();
@@ -524,12 +643,12 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     /**
      * Stores target directly to DB in case either {@link Target#getAddress()}
-     * or {@link Target#getUpdateStatus()} or {@link Target#getName()} changes
-     * or the buffer queue is full.
+     * or {@link Target#getUpdateStatus()} or {@link Target#getName()} changes.
+     * Otherwise the poll is recorded in the {@link TargetPollLedger}.
      *
      */
     private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(new TargetPoll(toUpdate))) {
+        if (isStoreEager(toUpdate, address, name, type)) {
             if (isAddressChanged(toUpdate.getAddress(), address)) {
                 toUpdate.setAddress(address.toString());
             }
@@ -560,9 +679,27 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                     .publishEvent(new TargetPollEvent(toUpdate, eventPublisherHolder.getApplicationId())));
             return targetRepository.save(toUpdate);
         }
+        recordPoll(toUpdate);
         return toUpdate;
     }
 
+    /**
+     * Records the poll in the ledger. The ledger coalesces repeated polls, so
+     * the polling thread never writes to the database: an overfull ledger only
+     * triggers an early asynchronous flush. If the ledger reached its capacity,
+     * as the flushes do not keep up, the poll of a target not yet in the ledger
+     * is dropped (and counted by the ledger), its next poll is recorded again.
+     */
+    private void recordPoll(final JpaTarget target) {
+        if (!pollLedger.record(target, System.currentTimeMillis())) {
+            log.debug("Poll ledger is full, dropping poll of target {}.", target.getControllerId());
+        }
+        if (pollLedger.size() >= repositoryProperties.getPollPersistenceQueueSize()
+                && overflowFlushScheduled.compareAndSet(false, true)) {
+            executorService.execute(this::flushUpdateQueue);
+        }
+    }
+
     private boolean isStoreEager(final JpaTarget toUpdate, final URI address, final String name, final String type) {
         return repositoryProperties.isEagerPollPersistence() || isAddressChanged(toUpdate.getAddress(), address)
                 || isNameChanged(toUpdate.getName(), name) || isTypeChanged(toUpdate.getTargetType(), type)
@@ -639,6 +776,38 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return addActionStatus((JpaActionStatusCreate) statusCreate);
     }
 
+    @Override
+    // every batch in its own transaction
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Integer, RuntimeException> addUpdateActionStatuses(final List<ActionStatusCreate> creates) {
+        final Map<Integer, RuntimeException> failures = new HashMap<>();
+        final int batchSize = Math.max(1, repositoryProperties.getActionStatusBatchSize());
+        for (int from = 0; from < creates.size(); from += batchSize) {
+            final List<ActionStatusCreate> batch = creates.subList(from, Math.min(from + batchSize, creates.size()));
+            try {
+                DeploymentHelper.runInNewTransaction(txManager, "addUpdateActionStatuses",
+                        Isolation.READ_COMMITTED.value(), status -> {
+                            batch.forEach(create -> addActionStatus((JpaActionStatusCreate) create));
+                            return null;
+                        });
+            } catch (final RuntimeException batchFailure) {
+                log.debug("Adding a batch of {} action status entries failed, adding them one by one.", batch.size(),
+                        batchFailure);
+                for (int i = 0; i < batch.size(); i++) {
+                    final ActionStatusCreate create = batch.get(i);
+                    try {
+                        DeploymentHelper.runInNewTransaction(txManager, "addUpdateActionStatus",
+                                Isolation.READ_COMMITTED.value(),
+                                status -> addActionStatus((JpaActionStatusCreate) create));
+                    } catch (final RuntimeException e) {
+                        failures.put(from + i, e);
+                    }
+                }
+            }
+        }
+        return failures;
+    }
+
     @Override
     protected void onActionStatusUpdate(final Action.Status updatedActionStatus, final JpaAction action) {
         switch (updatedActionStatus) {
@@ -785,7 +954,9 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
         assertTargetAttributesQuota(target);
 
-        return targetRepository.save(target);
+        final Target result = targetRepository.save(target);
+        autoAssignOnTargetChange.targetsChanged(List.of(controllerId));
+        return result;
     }
 
     private static boolean isAttributeEntryValid(final Map.Entry<String, String> e) {
@@ -906,6 +1077,37 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return targetRepository.findById(targetId).map(t -> (Target) t);
     }
 
+    @Override
+    public Optional<TargetIdentity> findTargetIdentity(final String controllerId) {
+        return targetIdentityCache.get(Lookup.IDENTITY, controllerId,
+                () -> loadTargetIdentity(TargetSpecifications.hasControllerId(controllerId)));
+    }
+
+    @Override
+    public Optional<TargetIdentity> findTargetIdentity(final long targetId) {
+        return targetIdentityCache.get(Lookup.IDENTITY, targetId,
+                () -> loadTargetIdentity(TargetSpecifications.hasId(targetId)));
+    }
+
+    /**
+     * Loads the identity of a target with a projection, i.e. without loading
+     * the target entity and its target type.
+     */
+    private Optional<TargetIdentity> loadTargetIdentity(final Specification<JpaTarget> spec) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        final Join<JpaTarget, JpaTargetType> targetType = targetRoot.join(JpaTarget_.targetType, JoinType.LEFT);
+        query.multiselect(targetRoot.get(JpaTarget_.id), targetRoot.get(JpaTarget_.controllerId),
+                targetRoot.get(JpaTarget_.securityToken), targetType.get(JpaTargetType_.id),
+                targetRoot.get(JpaTarget_.address), targetRoot.get(JpaTarget_.updateStatus))
+                .where(spec.toPredicate(targetRoot, query, cb));
+
+        return entityManager.createQuery(query).setMaxResults(1).getResultList().stream().findFirst()
+                .map(row -> new TargetIdentity((Long) row[0], (String) row[1], (String) row[2], (Long) row[3],
+                        (String) row[4], (TargetUpdateStatus) row[5]));
+    }
+
     @Override
     public Page<ActionStatus> findActionStatusByAction(final Pageable pageReq, final long actionId) {
         if (!actionRepository.existsById(actionId)) {
@@ -954,64 +1156,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                         Collectors.mapping(o -> (SoftwareModuleMetadata) o[1], Collectors.toList())));
     }
 
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-
-        public String getTenant() {
-            return tenant;
-        }
-
-        public String getControllerId() {
-            return controllerId;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + (controllerId == null ? 0 : controllerId.hashCode());
-            result = prime * result + (tenant == null ? 0 : tenant.hashCode());
-            return result;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            final TargetPoll other = (TargetPoll) obj;
-            if (controllerId == null) {
-                if (other.controllerId != null) {
-                    return false;
-                }
-            } else if (!controllerId.equals(other.controllerId)) {
-                return false;
-            }
-            if (tenant == null) {
-                if (other.tenant != null) {
-                    return false;
-                }
-            } else if (!tenant.equals(other.tenant)) {
-                return false;
-            }
-            return true;
-        }
-
-    }
-
     /**
      * Cancels given {@link Action} for this {@link Target}. The method will
      * immediately add a {@link Status#CANCELED} status to the action. However,
@@ -1127,4 +1271,16 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     void setTargetRepository(final TargetRepository targetRepositorySpy) {
         this.targetRepository = targetRepositorySpy;
     }
+
+    // for testing
+    TargetPollLedger setPollLedger(final TargetPollLedger pollLedger) {
+        final TargetPollLedger previous = this.pollLedger;
+        this.pollLedger = pollLedger;
+        return previous;
+    }
+
+    // for testing
+    void setTargetRegistrationBatcher(final TargetRegistrationBatcher targetRegistrationBatcher) {
+        this.targetRegistrationBatcher = targetRegistrationBatcher;
+    }
 }
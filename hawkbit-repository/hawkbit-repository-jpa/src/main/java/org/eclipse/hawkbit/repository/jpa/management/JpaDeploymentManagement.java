@@ -16,7 +16,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,10 +25,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
@@ -60,11 +57,13 @@ import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecuto
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
@@ -123,20 +122,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
      */
     private static final int ACTION_PAGE_LIMIT = 1000;
 
-    private static final String QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT = "DELETE FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at LIMIT "
-            + ACTION_PAGE_LIMIT;
-
-    private static final EnumMap<Database, String> QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED;
-
-    static {
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED = new EnumMap<>(Database.class);
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(Database.SQL_SERVER, "DELETE TOP (" + ACTION_PAGE_LIMIT
-                + ") FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at ");
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(Database.POSTGRESQL,
-                "DELETE FROM sp_action WHERE id IN (SELECT id FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at LIMIT "
-                        + ACTION_PAGE_LIMIT + ")");
-    }
-
     private final EntityManager entityManager;
     private final DistributionSetManagement distributionSetManagement;
     private final TargetRepository targetRepository;
@@ -151,6 +136,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private final AuditorAware<String> auditorAware;
     private final Database database;
     private final RetryTemplate retryTemplate;
+    private final RolloutStatusCounters rolloutStatusCounters;
 
     public JpaDeploymentManagement(final EntityManager entityManager, final ActionRepository actionRepository,
             final DistributionSetManagement distributionSetManagement, final TargetRepository targetRepository,
@@ -159,7 +145,8 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-            final Database database, final RepositoryProperties repositoryProperties) {
+            final Database database, final RepositoryProperties repositoryProperties,
+            final RolloutStatusCounters rolloutStatusCounters) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
         this.entityManager = entityManager;
         this.distributionSetManagement = distributionSetManagement;
@@ -179,6 +166,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         this.auditorAware = auditorAware;
         this.database = database;
         this.retryTemplate = createRetryTemplate();
+        this.rolloutStatusCounters = rolloutStatusCounters;
     }
 
     @Override
@@ -501,6 +489,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                     throw new EntityNotFoundException(Target.class, targetIds);
                 }
             });
+            rolloutStatusCounters.move(
+                    actionRepository.countPerRolloutGroupToSwitchStatus(targetIds, false, Status.SCHEDULED),
+                    Status.SCHEDULED, Status.CANCELED);
             actionRepository.switchStatus(Status.CANCELED, targetIds, false, Status.SCHEDULED);
         } else {
             log.debug("The Multi Assignments feature is enabled: No need to cancel inactive scheduled actions.");
@@ -780,12 +771,12 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     @Override
     public Slice<Action> findActionsByTarget(final String controllerId, final Pageable pageable) {
         assertTargetReadAllowed(controllerId);
-        return actionRepository.findAll(ActionSpecifications.byTargetControllerId(controllerId), pageable)
-                .map(Action.class::cast);
+        return JpaManagementHelper.findAllWithoutCountBySpec(actionRepository, pageable,
+                List.of(ActionSpecifications.byTargetControllerId(controllerId)));
     }
 
     @Override
-    public Page<Action> findActionsByTarget(final String rsqlParam, final String controllerId,
+    public Slice<Action> findActionsByTarget(final String rsqlParam, final String controllerId,
             final Pageable pageable) {
         assertTargetReadAllowed(controllerId);
 
@@ -793,7 +784,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 RSQLUtility.buildRsqlSpecification(rsqlParam, ActionFields.class, virtualPropertyReplacer, database),
                 ActionSpecifications.byTargetControllerId(controllerId));
 
-        return JpaManagementHelper.findAllWithCountBySpec(actionRepository, pageable, specList);
+        return JpaManagementHelper.findAllWithoutCountBySpec(actionRepository, pageable, specList);
     }
 
     @Override
@@ -857,6 +848,14 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return actionStatusRepository.findByActionId(pageReq, actionId);
     }
 
+    @Override
+    public Slice<ActionStatus> findActionStatusByActionWithoutCount(final Pageable pageReq, final long actionId) {
+        assertActionExistsAndAccessible(actionId);
+
+        return JpaManagementHelper.findAllWithoutCountBySpec(actionStatusRepository, pageReq, List.of(
+                (root, query, cb) -> cb.equal(root.get(JpaActionStatus_.action).get(JpaAction_.id), actionId)));
+    }
+
     @Override
     public long countActionStatusByAction(final long actionId) {
         assertActionExistsAndAccessible(actionId);
@@ -928,26 +927,19 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             return 0;
         }
         /*
-         * We use a native query here because Spring JPA does not support to specify a
-         * LIMIT clause on a DELETE statement. However, for this specific use case
-         * (action cleanup), we must specify a row limit to reduce the overall load on
-         * the database.
+         * The actions are deleted in pages to reduce the overall load on the
+         * database. Their ids are selected first, as the deleted rollout actions
+         * have to be removed from the rollout status counters.
          */
-
-        final int statusCount = status.size();
-        final Status[] statusArr = status.toArray(new Status[statusCount]);
-
-        final String queryStr = String.format(getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(database),
-                formatInClauseWithNumberKeys(statusCount));
-        final Query deleteQuery = entityManager.createNativeQuery(queryStr);
-
-        IntStream.range(0, statusCount)
-                .forEach(i -> deleteQuery.setParameter(String.valueOf(i), statusArr[i].ordinal()));
-        deleteQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
-        deleteQuery.setParameter("last_modified_at", lastModified);
-
-        log.debug("Action cleanup: Executing the following (native) query: {}", deleteQuery);
-        return deleteQuery.executeUpdate();
+        final List<Long> actionIds = actionRepository.findIdsByStatusInAndLastModifiedAtBefore(status, lastModified,
+                PageRequest.of(0, ACTION_PAGE_LIMIT));
+        if (actionIds.isEmpty()) {
+            return 0;
+        }
+        rolloutStatusCounters.remove(actionRepository.getStatusCountPerRolloutGroupByIdIn(actionIds));
+        actionRepository.deleteByIdIn(actionIds);
+        log.debug("Action cleanup: Deleted {} actions", actionIds.size());
+        return actionIds.size();
     }
 
     @Override
@@ -958,19 +950,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 .exists(ActionSpecifications.byTargetIdAndIsActiveAndStatus(targetId, Action.Status.CANCELING));
     }
 
-    private static String getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(final Database database) {
-        return QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.getOrDefault(database,
-                QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT);
-    }
-
-    private static String formatInClauseWithNumberKeys(final int count) {
-        return formatInClause(IntStream.range(0, count).mapToObj(String::valueOf).collect(Collectors.toList()));
-    }
-
-    private static String formatInClause(final Collection<String> elements) {
-        return "#" + String.join(",#", elements);
-    }
-
     protected ActionRepository getActionRepository() {
         return actionRepository;
     }
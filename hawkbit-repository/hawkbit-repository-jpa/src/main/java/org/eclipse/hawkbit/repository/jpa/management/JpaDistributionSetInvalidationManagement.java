@@ -9,7 +9,11 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
@@ -22,6 +26,7 @@ import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.exception.StopRolloutException;
+import org.eclipse.hawkbit.repository.jpa.lock.FencedLock;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.model.Action.Status;
@@ -75,34 +80,62 @@ public class JpaDistributionSetInvalidationManagement implements DistributionSet
         final String tenant = tenantAware.getCurrentTenant();
         if (shouldRolloutsBeCanceled(distributionSetInvalidation.getCancelationType(),
                 distributionSetInvalidation.isCancelRollouts())) {
-            final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenant);
-            final Lock lock = lockRegistry.obtain(handlerId);
+            // the rollouts are handled under a lock per rollout, so all of them
+            // have to be locked to stop the handling during the invalidation
+            final List<Lock> locks = new ArrayList<>();
+            final Set<Long> lockedRollouts = new HashSet<>();
             try {
-                if (!lock.tryLock(repositoryProperties.getDsInvalidationLockTimeout(), TimeUnit.SECONDS)) {
-                    throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
-                }
-                try {
-                    invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant);
-                } finally {
-                    lock.unlock();
-                }
+                final long deadline = System.nanoTime()
+                        + TimeUnit.SECONDS.toNanos(repositoryProperties.getDsInvalidationLockTimeout());
+                // rollouts which became active while locking are locked as well, the
+                // invalidation is retried until no active rollout is left unlocked
+                do {
+                    for (final long rolloutId : findActiveRolloutsInLockOrder(lockedRollouts)) {
+                        final Lock lock = lockRegistry
+                                .obtain(JpaRolloutManagement.createRolloutLockKey(tenant, rolloutId));
+                        if (!lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                            throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
+                        }
+                        locks.add(lock);
+                        lockedRollouts.add(rolloutId);
+                    }
+                } while (!invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant, locks,
+                        lockedRollouts));
             } catch (final InterruptedException e) {
                 log.error("InterruptedException while invalidating distribution sets {}!",
                         distributionSetInvalidation.getDistributionSetIds(), e);
                 Thread.currentThread().interrupt();
+            } finally {
+                locks.forEach(Lock::unlock);
             }
         } else {
             // no lock is needed as no rollout will be stopped
-            invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant);
+            invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant, List.of(), null);
         }
     }
 
-    private void invalidateDistributionSetsInTransaction(final DistributionSetInvalidation distributionSetInvalidation,
-            final String tenant) {
-        DeploymentHelper.runInNewTransaction(txManager, tenant + "-invalidateDS", status -> {
+    private List<Long> findActiveRolloutsInLockOrder(final Set<Long> lockedRollouts) {
+        return systemSecurityContext.runAsSystem(() -> rolloutManagement.findActiveRollouts().stream()
+                .filter(rolloutId -> !lockedRollouts.contains(rolloutId)).sorted().toList());
+    }
+
+    // does nothing and returns false if a rollout which is not locked became active meanwhile (the
+    // cancellation itself changes the status of the rollouts of the sets, so this is checked first).
+    // Rolled back if the lease of a rollout lock was lost, a rollout might have been handled meanwhile.
+    private boolean invalidateDistributionSetsInTransaction(
+            final DistributionSetInvalidation distributionSetInvalidation, final String tenant,
+            final List<Lock> locks, final Set<Long> lockedRollouts) {
+        return DeploymentHelper.runInNewTransaction(txManager, tenant + "-invalidateDS", status -> {
+            if (lockedRollouts != null && !findActiveRolloutsInLockOrder(lockedRollouts).isEmpty()) {
+                log.debug("Rollouts became active while locking, retrying the invalidation.");
+                return false;
+            }
             distributionSetInvalidation.getDistributionSetIds().forEach(setId -> invalidateDistributionSet(setId,
                     distributionSetInvalidation.getCancelationType(), distributionSetInvalidation.isCancelRollouts()));
-            return 0;
+            if (!locks.stream().allMatch(FencedLock::hasValidLease)) {
+                throw new StopRolloutException("Lost a rollout lock while invalidating distribution sets");
+            }
+            return true;
         });
     }
 
@@ -41,10 +41,10 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup_;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -78,8 +78,6 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
     private final RolloutRepository rolloutRepository;
 
-    private final ActionRepository actionRepository;
-
     private final TargetRepository targetRepository;
 
     private final EntityManager entityManager;
@@ -88,20 +86,22 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
     private final RolloutStatusCache rolloutStatusCache;
 
+    private final RolloutStatusCounters rolloutStatusCounters;
+
     private final Database database;
 
     public JpaRolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
-                              final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
+                              final RolloutRepository rolloutRepository,
                               final TargetRepository targetRepository, final EntityManager entityManager,
                               final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-                              final Database database) {
+                              final RolloutStatusCounters rolloutStatusCounters, final Database database) {
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutRepository = rolloutRepository;
-        this.actionRepository = actionRepository;
         this.targetRepository = targetRepository;
         this.entityManager = entityManager;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.rolloutStatusCache = rolloutStatusCache;
+        this.rolloutStatusCounters = rolloutStatusCounters;
         this.database = database;
     }
 
@@ -203,7 +203,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
                 .getRolloutGroupStatus(rolloutGroupId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutGroupId(rolloutGroupId);
+            rolloutStatusCountItems = rolloutStatusCounters.getStatusCountByRolloutGroupId(List.of(rolloutGroupId));
             rolloutStatusCache.putRolloutGroupStatus(rolloutGroupId, rolloutStatusCountItems);
         }
 
@@ -222,7 +222,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
                 .collect(Collectors.toList());
 
         if (!rolloutGroupIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository
+            final List<TotalTargetCountActionStatus> resultList = rolloutStatusCounters
                     .getStatusCountByRolloutGroupId(rolloutGroupIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
@@ -55,9 +55,9 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout_;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.RolloutSpecification;
@@ -120,9 +120,6 @@ public class JpaRolloutManagement implements RolloutManagement {
     @Autowired
     private RolloutGroupRepository rolloutGroupRepository;
 
-    @Autowired
-    private ActionRepository actionRepository;
-
     @Autowired
     private AfterTransactionCommitExecutor afterCommit;
 
@@ -132,6 +129,9 @@ public class JpaRolloutManagement implements RolloutManagement {
     @Autowired
     private RolloutStatusCache rolloutStatusCache;
 
+    @Autowired
+    private RolloutStatusCounters rolloutStatusCounters;
+
     @Autowired
     private StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction;
 
@@ -522,6 +522,10 @@ public class JpaRolloutManagement implements RolloutManagement {
         return tenant + "-rollout";
     }
 
+    public static String createRolloutLockKey(final String tenant, final long rolloutId) {
+        return createRolloutLockKey(tenant) + "-" + rolloutId;
+    }
+
     @Override
     @Transactional
     @Retryable(include = {
@@ -623,7 +627,7 @@ public class JpaRolloutManagement implements RolloutManagement {
         List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
+            rolloutStatusCountItems = rolloutStatusCounters.getStatusCountByRolloutId(List.of(rolloutId));
             rolloutStatusCache.putRolloutStatus(rolloutId, rolloutStatusCountItems);
         }
 
@@ -649,7 +653,7 @@ public class JpaRolloutManagement implements RolloutManagement {
                 .collect(Collectors.toList());
 
         if (!rolloutIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository
+            final List<TotalTargetCountActionStatus> resultList = rolloutStatusCounters
                     .getStatusCountByRolloutId(rolloutIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
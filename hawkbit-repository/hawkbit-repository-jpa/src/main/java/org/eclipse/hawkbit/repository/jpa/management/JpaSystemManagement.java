@@ -9,18 +9,20 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SystemManagement;
-import org.eclipse.hawkbit.repository.TenantStatsManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.exception.TenantNotExistException;
 import org.eclipse.hawkbit.repository.jpa.CurrentTenantCacheKeyGenerator;
 import org.eclipse.hawkbit.repository.jpa.SystemManagementCacheKeyGenerator;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
@@ -28,36 +30,26 @@ import org.eclipse.hawkbit.repository.jpa.configuration.MultiTenantJpaTransactio
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTenantMetaData;
-import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTypeRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleTypeRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.TargetFilterQueryRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
-import org.eclipse.hawkbit.repository.jpa.repository.TenantConfigurationRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantMetaDataRepository;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
 import org.eclipse.hawkbit.repository.report.model.SystemUsageReport;
 import org.eclipse.hawkbit.repository.report.model.SystemUsageReportWithTenants;
+import org.eclipse.hawkbit.repository.report.model.TenantUsage;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
-import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -78,18 +70,6 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     @Autowired
     private EntityManager entityManager;
 
-    @Autowired
-    private TargetRepository targetRepository;
-
-    @Autowired
-    private TargetFilterQueryRepository targetFilterQueryRepository;
-
-    @Autowired
-    private DistributionSetRepository distributionSetRepository;
-
-    @Autowired
-    private SoftwareModuleRepository softwareModuleRepository;
-
     @Autowired
     private TenantMetaDataRepository tenantMetaDataRepository;
 
@@ -99,27 +79,9 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     @Autowired
     private SoftwareModuleTypeRepository softwareModuleTypeRepository;
 
-    @Autowired
-    private TargetTagRepository targetTagRepository;
-
-    @Autowired
-    private TargetTypeRepository targetTypeRepository;
-
-    @Autowired
-    private DistributionSetTagRepository distributionSetTagRepository;
-
-    @Autowired
-    private TenantConfigurationRepository tenantConfigurationRepository;
-
-    @Autowired
-    private RolloutRepository rolloutRepository;
-
     @Autowired
     private TenantAware tenantAware;
 
-    @Autowired
-    private TenantStatsManagement systemStatsManagement;
-
     @Autowired
     private TenancyCacheManager cacheManager;
 
@@ -136,71 +98,49 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     private RolloutStatusCache rolloutStatusCache;
 
     @Autowired
-    private ArtifactRepository artifactRepository;
+    private TargetIdentityCache targetIdentityCache;
 
     @Autowired
-    private RepositoryProperties repositoryProperties;
+    private TenantUsageCounters tenantUsageCounters;
 
-    private final String countArtifactQuery;
-    private final String countSoftwareModulesQuery;
-
-    /**
-     * Constructor.
-     * 
-     * @param properties
-     *            properties to get the underlying database
-     */
-    public JpaSystemManagement(final JpaProperties properties) {
+    @Autowired
+    private TenantPurger tenantPurger;
 
-        final String isDeleted = isPostgreSql(properties) ? "false" : "0";
-        countArtifactQuery = "SELECT COUNT(a.id) FROM sp_artifact a INNER JOIN sp_base_software_module sm ON a.software_module = sm.id WHERE sm.deleted = "
-                + isDeleted;
-        countSoftwareModulesQuery = "select SUM(file_size) from sp_artifact a INNER JOIN sp_base_software_module sm ON a.software_module = sm.id WHERE sm.deleted = "
-                + isDeleted;
-    }
+    @Autowired
+    private RepositoryProperties repositoryProperties;
 
     @Override
     public SystemUsageReport getSystemUsageStatistics() {
-
-        final Number count = (Number) entityManager.createNativeQuery(countSoftwareModulesQuery).getSingleResult();
-
-        long sumOfArtifacts = 0;
-        if (count != null) {
-            sumOfArtifacts = count.longValue();
-        }
-
-        // we use native queries to punch through the tenant boundaries. This
-        // has to be used with care!
-        final long targets = ((Number) entityManager.createNativeQuery("SELECT COUNT(id) FROM sp_target")
-                .getSingleResult()).longValue();
-
-        final long artifacts = ((Number) entityManager.createNativeQuery(countArtifactQuery).getSingleResult())
-                .longValue();
-
-        final long actions = ((Number) entityManager.createNativeQuery("SELECT COUNT(id) FROM sp_action")
-                .getSingleResult()).longValue();
-
-        return new SystemUsageReportWithTenants(targets, artifacts, actions, sumOfArtifacts,
-                tenantMetaDataRepository.count());
-    }
-
-    private static boolean isPostgreSql(final JpaProperties properties) {
-        return Database.POSTGRESQL == properties.getDatabase();
+        return getSystemUsageStatisticsWithTenants();
     }
 
     @Override
     public SystemUsageReportWithTenants getSystemUsageStatisticsWithTenants() {
-        final SystemUsageReportWithTenants result = (SystemUsageReportWithTenants) getSystemUsageStatistics();
+        final List<TenantUsage> tenantUsages = new ArrayList<>();
+        Page<String> tenants;
+        Pageable query = PageRequest.of(0, MAX_TENANTS_QUERY);
+        do {
+            tenants = findTenants(query);
+            tenants.forEach(tenant -> tenantUsages.add(tenantUsageCounters.getUsage(tenant)));
+        } while ((query = tenants.nextPageable()) != Pageable.unpaged());
 
-        usageStatsPerTenant(result);
+        long targets = 0;
+        long artifacts = 0;
+        long actions = 0;
+        long sumOfArtifacts = 0;
+        for (final TenantUsage tenantUsage : tenantUsages) {
+            targets += tenantUsage.getTargets();
+            artifacts += tenantUsage.getArtifacts();
+            actions += tenantUsage.getActions();
+            sumOfArtifacts += tenantUsage.getOverallArtifactVolumeInBytes();
+        }
 
+        final SystemUsageReportWithTenants result = new SystemUsageReportWithTenants(targets, artifacts, actions,
+                sumOfArtifacts, tenantUsages.size());
+        tenantUsages.forEach(result::addTenantData);
         return result;
     }
 
-    private void usageStatsPerTenant(final SystemUsageReportWithTenants report) {
-        forEachTenant(tenant -> report.addTenantData(systemStatsManagement.getStatsOfTenant()));
-    }
-
     @Override
     @Transactional(propagation = Propagation.SUPPORTS)
     public KeyGenerator currentTenantKeyGenerator() {
@@ -223,30 +163,27 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Retryable(include = {
             ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public void deleteTenant(final String t) {
         final String tenant = t.toUpperCase();
-        cacheManager.evictCaches(tenant);
-        rolloutStatusCache.evictCaches(tenant);
-        tenantAware.runAsTenant(tenant, () -> {
-            entityManager.setProperty(PersistenceUnitProperties.MULTITENANT_PROPERTY_DEFAULT, tenant);
-            tenantMetaDataRepository.deleteByTenantIgnoreCase(tenant);
-            tenantConfigurationRepository.deleteByTenant(tenant);
-            targetRepository.deleteByTenant(tenant);
-            targetFilterQueryRepository.deleteByTenant(tenant);
-            rolloutRepository.deleteByTenant(tenant);
-            targetTypeRepository.deleteByTenant(tenant);
-            targetTagRepository.deleteByTenant(tenant);
-            distributionSetTagRepository.deleteByTenant(tenant);
-            distributionSetRepository.deleteByTenant(tenant);
-            distributionSetTypeRepository.deleteByTenant(tenant);
-            softwareModuleRepository.deleteByTenant(tenant);
-            artifactRepository.deleteByTenant(tenant);
-            softwareModuleTypeRepository.deleteByTenant(tenant);
-            return null;
-        });
+        markDeleting(tenant);
+        tenantPurger.purge(tenant);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TenantPurge purgeTenant(final String t) {
+        final String tenant = t.toUpperCase();
+        final TenantPurge purge = markDeleting(tenant);
+        tenantPurger.purgeAsync(tenant);
+        return purge;
+    }
+
+    @Override
+    public Optional<TenantPurge> getTenantPurge(final String tenant) {
+        return tenantPurger.getPurge(tenant.toUpperCase());
     }
 
     @Override
@@ -352,7 +289,19 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
 
     }
 
+    private TenantPurge markDeleting(final String tenant) {
+        cacheManager.evictCaches(tenant);
+        rolloutStatusCache.evictCaches(tenant);
+        targetIdentityCache.evictCaches(tenant);
+        tenantUsageCounters.evictCaches(tenant);
+        return tenantPurger.mark(tenant);
+    }
+
     private TenantMetaData createTenantMetadata0(final String tenant) {
+        // the data of the tenant in creation would be deleted by the purge
+        if (tenantPurger.isPurging(tenant.toUpperCase())) {
+            throw new TenantNotExistException("Tenant " + tenant + " is being deleted");
+        }
         try {
             currentTenantCacheKeyGenerator.setTenantInCreation(tenant);
             return createInitialTenantMetaData(tenant);
@@ -46,6 +46,7 @@ import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignOnTargetChange;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetCreate;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetUpdate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
@@ -130,6 +131,8 @@ public class JpaTargetManagement implements TargetManagement {
 
     private final Database database;
 
+    private final AutoAssignOnTargetChange autoAssignOnTargetChange;
+
     public JpaTargetManagement(final EntityManager entityManager,
             final DistributionSetManagement distributionSetManagement, final QuotaManagement quotaManagement,
             final TargetRepository targetRepository, final TargetTypeRepository targetTypeRepository,
@@ -138,7 +141,7 @@ public class JpaTargetManagement implements TargetManagement {
             final TargetFilterQueryRepository targetFilterQueryRepository,
             final TargetTagRepository targetTagRepository, final EventPublisherHolder eventPublisherHolder,
             final TenantAware tenantAware, final VirtualPropertyReplacer virtualPropertyReplacer,
-            final Database database) {
+            final Database database, final AutoAssignOnTargetChange autoAssignOnTargetChange) {
         this.entityManager = entityManager;
         this.distributionSetManagement = distributionSetManagement;
         this.quotaManagement = quotaManagement;
@@ -152,6 +155,7 @@ public class JpaTargetManagement implements TargetManagement {
         this.tenantAware = tenantAware;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.database = database;
+        this.autoAssignOnTargetChange = autoAssignOnTargetChange;
     }
 
     @Override
@@ -499,6 +503,7 @@ public class JpaTargetManagement implements TargetManagement {
         if (alreadyAssignedTargets.size() == allTargets.size()) {
 
             alreadyAssignedTargets.forEach(target -> target.removeTag(tag));
+            autoAssignOnTargetChange.targetsChanged(controllerIds);
             return new TargetTagAssignmentResult(0, Collections.emptyList(),
                     Collections.unmodifiableList(alreadyAssignedTargets), tag);
         }
@@ -506,6 +511,8 @@ public class JpaTargetManagement implements TargetManagement {
         allTargets.removeAll(alreadyAssignedTargets);
         // some or none are assigned -> assign
         allTargets.forEach(target -> target.addTag(tag));
+        autoAssignOnTargetChange
+                .targetsChanged(allTargets.stream().map(JpaTarget::getControllerId).toList());
         final TargetTagAssignmentResult result = new TargetTagAssignmentResult(alreadyAssignedTargets.size(),
                 targetRepository.saveAll(allTargets), Collections.emptyList(), tag);
 
@@ -585,6 +592,7 @@ public class JpaTargetManagement implements TargetManagement {
         allTargets.forEach(target -> target.addTag(tag));
 
         final List<Target> result = allTargets.stream().map(targetRepository::save).map(Target.class::cast).toList();
+        autoAssignOnTargetChange.targetsChanged(controllerIds);
 
         // No reason to save the tag
         entityManager.detach(tag);
@@ -604,6 +612,7 @@ public class JpaTargetManagement implements TargetManagement {
         target.removeTag(tag);
 
         final Target result = targetRepository.save(target);
+        autoAssignOnTargetChange.targetsChanged(List.of(controllerId));
 
         // No reason to save the tag
         entityManager.detach(tag);
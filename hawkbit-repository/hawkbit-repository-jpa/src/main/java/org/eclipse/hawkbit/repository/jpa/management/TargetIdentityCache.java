@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Tenant aware cache of the {@link TargetIdentity}s of the controllers. Every
+ * DDI and DMF request resolves its controller, often several times (e.g. for
+ * the security token check and for the existence check of a download), with
+ * the cache only the first lookup queries the repository.
+ * <p>
+ * The identities are keyed by tenant and controller id, an index maps the
+ * target ids of the cached identities to their controller ids. They are
+ * evicted by the events which could change them: target updated, target
+ * deleted and action created (assignments update the status of the target
+ * without entity event). As the events are published after commit, a lookup
+ * which loaded an identity before an eviction must not store it afterwards,
+ * see {@link #stamp(String, String)}. Changes without events are bounded by
+ * the TTL.
+ * <p>
+ * Metrics: the Caffeine cache metrics of the cache
+ * <code>target.identity</code> and
+ * <code>hawkbit.target.identity.lookups</code> with the tags
+ * <code>lookup</code> and <code>result</code> (hit or miss).
+ */
+public class TargetIdentityCache {
+
+    private static final int STRIPES = 1024;
+
+    /**
+     * The controller operations which resolve targets.
+     */
+    public enum Lookup {
+        /**
+         * Resolving a target for the controller, e.g. to authenticate it.
+         */
+        IDENTITY,
+        /**
+         * Checking that the target of a controller request exists, e.g. of a
+         * download.
+         */
+        EXISTENCE
+    }
+
+    private final TenantAware tenantAware;
+    private final Cache<TargetKey, TargetIdentity> identities;
+    // target id to controller id of the cached identities
+    private final Map<IdKey, String> controllerIds = new ConcurrentHashMap<>();
+    // eviction counters striped by controller id, an identity is only stored
+    // if no eviction happened for its stripe since it was loaded
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+    // evictions of targets which are not cached, concern all stripes
+    private final AtomicLong unresolvedEvictions = new AtomicLong();
+    // all evictions, for loads by target id where the stripe is not known
+    private final AtomicLong allEvictions = new AtomicLong();
+    private final Map<Lookup, Counter> hits = new EnumMap<>(Lookup.class);
+    private final Map<Lookup, Counter> misses = new EnumMap<>(Lookup.class);
+
+    /**
+     * Constructor.
+     *
+     * @param tenantAware
+     *            to get the current tenant
+     * @param repositoryProperties
+     *            for the size and TTL of the cache
+     * @param meterRegistry
+     *            registry for the cache metrics
+     */
+    public TargetIdentityCache(final TenantAware tenantAware, final RepositoryProperties repositoryProperties,
+            final MeterRegistry meterRegistry) {
+        this.tenantAware = tenantAware;
+        identities = Caffeine.newBuilder().maximumSize(repositoryProperties.getTargetIdentityCacheSize())
+                .expireAfterWrite(repositoryProperties.getTargetIdentityCacheTtl(), TimeUnit.MILLISECONDS)
+                .<TargetKey, TargetIdentity> evictionListener((key, identity, cause) -> {
+                    if (key != null && identity != null) {
+                        controllerIds.remove(new IdKey(key.tenant(), identity.getId()), key.controllerId());
+                    }
+                }).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, identities, "target.identity");
+        for (final Lookup lookup : Lookup.values()) {
+            final String tag = lookup.name().toLowerCase();
+            hits.put(lookup, Counter.builder("hawkbit.target.identity.lookups").tag("lookup", tag)
+                    .tag("result", "hit").register(meterRegistry));
+            misses.put(lookup, Counter.builder("hawkbit.target.identity.lookups").tag("lookup", tag)
+                    .tag("result", "miss").register(meterRegistry));
+        }
+    }
+
+    /**
+     * Returns the identity of a target, loads and caches it if it is not
+     * cached yet.
+     *
+     * @param lookup
+     *            the operation which resolves the target
+     * @param controllerId
+     *            of the target
+     * @param loader
+     *            loads the identity, returns empty if the target does not exist
+     * @return the identity or empty if the target does not exist
+     */
+    public Optional<TargetIdentity> get(final Lookup lookup, final String controllerId,
+            final Supplier<Optional<TargetIdentity>> loader) {
+        final String tenant = currentTenant();
+        final TargetIdentity cached = identities.getIfPresent(new TargetKey(tenant, controllerId));
+        if (cached != null) {
+            hits.get(lookup).increment();
+            return Optional.of(cached);
+        }
+
+        misses.get(lookup).increment();
+        final long stamp = stamp(tenant, controllerId);
+        final Optional<TargetIdentity> loaded = loader.get();
+        loaded.ifPresent(identity -> put(tenant, identity, () -> stamp(tenant, controllerId) == stamp));
+        return loaded;
+    }
+
+    /**
+     * Returns the identity of a target, loads and caches it if it is not
+     * cached yet.
+     *
+     * @param lookup
+     *            the operation which resolves the target
+     * @param targetId
+     *            of the target
+     * @param loader
+     *            loads the identity, returns empty if the target does not exist
+     * @return the identity or empty if the target does not exist
+     */
+    public Optional<TargetIdentity> get(final Lookup lookup, final long targetId,
+            final Supplier<Optional<TargetIdentity>> loader) {
+        final String tenant = currentTenant();
+        final String controllerId = controllerIds.get(new IdKey(tenant, targetId));
+        final TargetIdentity cached = controllerId == null ? null
+                : identities.getIfPresent(new TargetKey(tenant, controllerId));
+        if (cached != null) {
+            hits.get(lookup).increment();
+            return Optional.of(cached);
+        }
+
+        misses.get(lookup).increment();
+        final long stamp = allEvictions.get();
+        final Optional<TargetIdentity> loaded = loader.get();
+        loaded.ifPresent(identity -> put(tenant, identity, () -> allEvictions.get() == stamp));
+        return loaded;
+    }
+
+    /**
+     * Evicts all identities of a given tenant.
+     *
+     * @param tenant
+     *            the tenant to evict the identities of
+     */
+    public void evictCaches(final String tenant) {
+        final String key = tenant.toUpperCase();
+        allEvictions.incrementAndGet();
+        unresolvedEvictions.incrementAndGet();
+        controllerIds.keySet().removeIf(idKey -> idKey.tenant().equals(key));
+        identities.asMap().keySet().removeIf(targetKey -> targetKey.tenant().equals(key));
+    }
+
+    @EventListener
+    void onTargetUpdated(final TargetUpdatedEvent event) {
+        evict(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener
+    void onActionCreated(final ActionCreatedEvent event) {
+        evict(event.getTenant(), event.getTargetId());
+    }
+
+    @EventListener
+    void onTargetDeleted(final TargetDeletedEvent event) {
+        final String tenant = event.getTenant().toUpperCase();
+        if (event.getEntityId() != null) {
+            controllerIds.remove(new IdKey(tenant, event.getEntityId()));
+        }
+        if (event.getControllerId() == null) {
+            evict(event.getTenant(), event.getEntityId());
+            return;
+        }
+        allEvictions.incrementAndGet();
+        evictions.incrementAndGet(stripe(tenant, event.getControllerId()));
+        identities.invalidate(new TargetKey(tenant, event.getControllerId()));
+    }
+
+    private void evict(final String tenant, final Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        allEvictions.incrementAndGet();
+        final IdKey idKey = new IdKey(tenant.toUpperCase(), targetId);
+        String controllerId = controllerIds.remove(idKey);
+        if (controllerId == null) {
+            unresolvedEvictions.incrementAndGet();
+            // an identity indexed before the increment was stored unchecked
+            controllerId = controllerIds.remove(idKey);
+            if (controllerId == null) {
+                return;
+            }
+        }
+        evictions.incrementAndGet(stripe(idKey.tenant(), controllerId));
+        identities.invalidate(new TargetKey(idKey.tenant(), controllerId));
+    }
+
+    // the index is only updated for a stored identity, the stamp is checked
+    // again afterwards, so an eviction either finds the identity in the index
+    // or the identity is removed here
+    private void put(final String tenant, final TargetIdentity identity, final BooleanSupplier unchanged) {
+        final TargetKey key = new TargetKey(tenant, identity.getControllerId());
+        final TargetIdentity stored = identities.asMap().compute(key,
+                (targetKey, cached) -> unchanged.getAsBoolean() ? identity : cached);
+        if (stored != identity) {
+            return;
+        }
+
+        final IdKey idKey = new IdKey(tenant, identity.getId());
+        controllerIds.put(idKey, identity.getControllerId());
+        if (!unchanged.getAsBoolean()) {
+            identities.asMap().remove(key, identity);
+            controllerIds.remove(idKey, identity.getControllerId());
+        }
+    }
+
+    private long stamp(final String tenant, final String controllerId) {
+        // both counters only grow, so the sum changes with any of them
+        return evictions.get(stripe(tenant, controllerId)) + unresolvedEvictions.get();
+    }
+
+    private String currentTenant() {
+        return tenantAware.getCurrentTenant().toUpperCase();
+    }
+
+    private static int stripe(final String tenant, final String controllerId) {
+        return Math.floorMod(31 * tenant.hashCode() + controllerId.hashCode(), STRIPES);
+    }
+
+    private record TargetKey(String tenant, String controllerId) {
+    }
+
+    private record IdKey(String tenant, long targetId) {
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects concurrent first time registrations of controllers, e.g. after a
+ * power outage when many devices reconnect at once, so that they are inserted
+ * in one transaction per tenant instead of one transaction (and retries on
+ * unique constraint races) each.
+ * <p>
+ * The first registration of a tenant opens a batch and leads it: it waits for
+ * the batch window (or until the batch is full), then inserts all targets of
+ * the batch in its own transaction. The other registrations of the window
+ * wait for the commit of the leader and get the id of their target. If the
+ * transaction of the leader fails they get no outcome and register on their
+ * own. Registrations of a controller id which is already being registered
+ * wait for the pending one instead of registering it again.
+ * <p>
+ * The registrations are batched within their transactions, so each of them
+ * holds a database connection while it waits. The number of waiting
+ * registrations is therefore capped at a fraction of the connection pool,
+ * further registrations are not batched and don't wait at all.
+ * <p>
+ * Batching is disabled unless
+ * {@link RepositoryProperties#getTargetRegistrationBatchWindow()} is set.
+ * <p>
+ * Metrics: <code>hawkbit.target.registration.batch.size</code> and
+ * <code>hawkbit.target.registration.deduplicated</code>.
+ */
+@Slf4j
+public class TargetRegistrationBatcher {
+
+    // bounds the wait for the leader, which holds the batch in its transaction
+    private static final long MAX_WAIT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Registration of a controller.
+     *
+     * @param controllerId
+     *            of the target
+     * @param address
+     *            of the target, might be <code>null</code>
+     * @param name
+     *            of the target, might be <code>null</code>
+     * @param type
+     *            name of the target type, might be <code>null</code>
+     */
+    public record Registration(String controllerId, URI address, String name, String type) {
+    }
+
+    /**
+     * Outcome of a registration.
+     *
+     * @param targetId
+     *            id of the target
+     * @param created
+     *            <code>true</code> if the target was created by the batch,
+     *            <code>false</code> if it existed already
+     */
+    public record Outcome(long targetId, boolean created) {
+    }
+
+    /**
+     * Inserts the targets of a batch in the current transaction.
+     */
+    @FunctionalInterface
+    public interface Inserter {
+
+        /**
+         * @param registrations
+         *            of the batch, one per controller id
+         * @return the outcome per controller id
+         */
+        Map<String, Outcome> insert(Collection<Registration> registrations);
+    }
+
+    private final long window;
+    private final int maxSize;
+    private final Semaphore waiting;
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    private final Map<TargetKey, CompletableFuture<Outcome>> pending = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSize;
+    private final Counter deduplicated;
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryProperties
+     *            for the batch window and size
+     * @param maxWaiting
+     *            maximum number of registrations waiting for their batch, i.e.
+     *            holding a database connection
+     * @param meterRegistry
+     *            registry for the metrics
+     */
+    public TargetRegistrationBatcher(final RepositoryProperties repositoryProperties, final int maxWaiting,
+            final MeterRegistry meterRegistry) {
+        window = repositoryProperties.getTargetRegistrationBatchWindow();
+        maxSize = Math.max(1, repositoryProperties.getTargetRegistrationBatchSize());
+        waiting = new Semaphore(Math.max(1, maxWaiting));
+        batchSize = DistributionSummary.builder("hawkbit.target.registration.batch.size")
+                .description("Number of targets registered per batch").register(meterRegistry);
+        deduplicated = Counter.builder("hawkbit.target.registration.deduplicated")
+                .description("Registrations which waited for a pending registration of the same controller")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return <code>true</code> if registrations are batched
+     */
+    public boolean isEnabled() {
+        return window > 0;
+    }
+
+    /**
+     * Registers a target, either by leading a batch or by waiting for the batch
+     * it joined. Has to be called in a transaction, a leader inserts the batch
+     * with the given inserter in it.
+     *
+     * @param tenant
+     *            of the target
+     * @param registration
+     *            of the target
+     * @param inserter
+     *            to insert the batch if the calling thread leads it
+     * @return the outcome or <code>null</code> if the registration is not
+     *         batched or the batch failed and the target has to be registered
+     *         on its own
+     */
+    public Outcome register(final String tenant, final Registration registration, final Inserter inserter) {
+        if (!waiting.tryAcquire()) {
+            return null;
+        }
+        try {
+            return registerWaiting(tenant, registration, inserter);
+        } finally {
+            waiting.release();
+        }
+    }
+
+    private Outcome registerWaiting(final String tenant, final Registration registration, final Inserter inserter) {
+        final TargetKey key = new TargetKey(tenant.toUpperCase(), registration.controllerId());
+        final CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+        final CompletableFuture<Outcome> existing = pending.putIfAbsent(key, outcome);
+        if (existing != null) {
+            deduplicated.increment();
+            return await(existing);
+        }
+
+        final Batch batch;
+        final boolean leader;
+        synchronized (openBatches) {
+            final Batch open = openBatches.get(key.tenant());
+            leader = open == null;
+            batch = leader ? new Batch(key.tenant()) : open;
+            batch.add(key, registration, outcome);
+            if (batch.size() >= maxSize) {
+                openBatches.remove(key.tenant());
+                batch.full.countDown();
+            } else if (leader) {
+                openBatches.put(key.tenant(), batch);
+            }
+        }
+
+        if (!leader) {
+            return await(outcome);
+        }
+        return lead(batch, key, inserter);
+    }
+
+    private Outcome lead(final Batch batch, final TargetKey key, final Inserter inserter) {
+        try {
+            batch.full.await(window, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (openBatches) {
+            openBatches.remove(batch.tenant, batch);
+        }
+
+        final Map<String, Outcome> outcomes;
+        try {
+            outcomes = inserter.insert(batch.registrations.values());
+        } catch (final RuntimeException e) {
+            batch.complete(null);
+            throw e;
+        }
+        batchSize.record(batch.size());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    batch.complete(status == STATUS_COMMITTED ? outcomes : null);
+                }
+            });
+        } else {
+            batch.complete(outcomes);
+        }
+        return outcomes.get(key.controllerId());
+    }
+
+    private Outcome await(final CompletableFuture<Outcome> outcome) {
+        try {
+            return outcome.get(window + MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException | TimeoutException e) {
+            log.warn("Batched target registration did not complete, registering the target on its own", e);
+            return null;
+        }
+    }
+
+    private final class Batch {
+
+        private final String tenant;
+        private final Map<String, Registration> registrations = new LinkedHashMap<>();
+        private final Map<TargetKey, CompletableFuture<Outcome>> outcomes = new HashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private Batch(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        // guarded by openBatches
+        private void add(final TargetKey key, final Registration registration,
+                final CompletableFuture<Outcome> outcome) {
+            registrations.put(key.controllerId(), registration);
+            outcomes.put(key, outcome);
+        }
+
+        private int size() {
+            return registrations.size();
+        }
+
+        private void complete(final Map<String, Outcome> inserted) {
+            for (final Map.Entry<TargetKey, CompletableFuture<Outcome>> entry : outcomes.entrySet()) {
+                pending.remove(entry.getKey(), entry.getValue());
+                entry.getValue().complete(inserted == null ? null : inserted.get(entry.getKey().controllerId()));
+            }
+        }
+    }
+
+    private record TargetKey(String tenant, String controllerId) {
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.exception.ConcurrentModificationException;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaTenantAwareBaseEntity;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetTag;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTargetFilterQuery;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTargetTag;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantConfiguration;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantPurge;
+import org.eclipse.hawkbit.repository.jpa.repository.TenantMetaDataRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TenantPurgeRepository;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes the data of deleted tenants in chunks, so that the deletion of a
+ * large tenant does not hold locks on the tables for a long time or exceeds
+ * the transaction limits of the database.
+ * <p>
+ * A tenant is marked as deleting by a {@link JpaTenantPurge} and its meta data
+ * is deleted, so it is not listed anymore. Then the rows of the tables are
+ * deleted in id order, table by table in the order of their dependencies.
+ * Every chunk is deleted in its own transaction which updates the purge as
+ * well, so an interrupted purge is resumed from the last deleted chunk. The
+ * files of the deleted artifacts are deleted in parallel after the chunk is
+ * committed, the files left by an interrupted purge are deleted at the end,
+ * before the purge is removed in a last transaction.
+ * <p>
+ * The purge of a tenant is guarded by a shared lock, so a tenant is purged by
+ * one node only.
+ */
+@Slf4j
+public class TenantPurger implements DisposableBean {
+
+    private static final String PROP_RESUME_INTERVAL = "${hawkbit.server.repository.tenant-purge-resume-interval:300000}";
+    private static final String LOCK_PREFIX = "tenant-purge.";
+
+    // the rows which refer to other rows first, the rows only referred to by
+    // cascading foreign keys are deleted by the database
+    private static final List<Class<? extends AbstractJpaTenantAwareBaseEntity>> STEPS = List.of(
+            JpaTenantConfiguration.class, JpaActionStatus.class, JpaAction.class, JpaTarget.class,
+            JpaTargetFilterQuery.class, JpaRollout.class, JpaTargetType.class, JpaTargetTag.class,
+            JpaDistributionSetTag.class, JpaDistributionSet.class, JpaDistributionSetType.class, JpaArtifact.class,
+            JpaSoftwareModule.class, JpaSoftwareModuleType.class);
+
+    private final EntityManager entityManager;
+    private final TenantPurgeRepository tenantPurgeRepository;
+    private final TenantMetaDataRepository tenantMetaDataRepository;
+    private final ArtifactRepository artifactRepository;
+    private final SystemSecurityContext systemSecurityContext;
+    private final LockRegistry lockRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long lockTimeout;
+    private final ExecutorService purgeExecutor;
+    private final ExecutorService artifactExecutor;
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager
+     *            to delete the rows
+     * @param tenantPurgeRepository
+     *            to keep track of the purges
+     * @param tenantMetaDataRepository
+     *            to delete the tenant meta data
+     * @param artifactRepository
+     *            to delete the artifact files
+     * @param systemSecurityContext
+     *            to purge as tenant
+     * @param lockRegistry
+     *            to purge a tenant by one node only
+     * @param txManager
+     *            to delete every chunk in its own transaction
+     * @param repositoryProperties
+     *            for the size of the chunks, the number of threads deleting
+     *            the artifact files and the lock timeout
+     */
+    public TenantPurger(final EntityManager entityManager, final TenantPurgeRepository tenantPurgeRepository,
+            final TenantMetaDataRepository tenantMetaDataRepository, final ArtifactRepository artifactRepository,
+            final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+            final PlatformTransactionManager txManager, final RepositoryProperties repositoryProperties) {
+        this.entityManager = entityManager;
+        this.tenantPurgeRepository = tenantPurgeRepository;
+        this.tenantMetaDataRepository = tenantMetaDataRepository;
+        this.artifactRepository = artifactRepository;
+        this.systemSecurityContext = systemSecurityContext;
+        this.lockRegistry = lockRegistry;
+        transactionTemplate = new TransactionTemplate(txManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        chunkSize = Math.max(1, repositoryProperties.getTenantPurgeChunkSize());
+        lockTimeout = repositoryProperties.getTenantPurgeLockTimeout();
+        purgeExecutor = Executors.newSingleThreadExecutor(threadFactory("tenant-purge-"));
+        artifactExecutor = Executors.newFixedThreadPool(
+                Math.max(1, repositoryProperties.getTenantPurgeArtifactThreads()),
+                threadFactory("tenant-purge-artifacts-"));
+    }
+
+    /**
+     * Marks a tenant as deleting and deletes its meta data, so it is not
+     * listed anymore. Its data is deleted by {@link #purge(String)} or
+     * {@link #purgeAsync(String)}.
+     *
+     * @param tenant
+     *            the deleted tenant in upper case
+     * @return the purge of the tenant
+     */
+    public TenantPurge mark(final String tenant) {
+        return systemSecurityContext.runAsSystemAsTenant(() -> transactionTemplate.execute(status -> {
+            final Optional<JpaTenantPurge> existing = tenantPurgeRepository.findById(tenant);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            tenantMetaDataRepository.deleteByTenantIgnoreCase(tenant);
+            log.info("Tenant {} is marked as deleting", tenant);
+            // the files are deleted in the last step
+            return tenantPurgeRepository.save(new JpaTenantPurge(tenant, STEPS.size() + 1));
+        }), tenant);
+    }
+
+    /**
+     * @param tenant
+     *            the tenant in upper case
+     * @return the purge of the tenant or empty if the tenant is not being
+     *         purged
+     */
+    public Optional<TenantPurge> getPurge(final String tenant) {
+        return tenantPurgeRepository.findById(tenant).map(TenantPurge.class::cast);
+    }
+
+    /**
+     * @param tenant
+     *            the tenant in upper case
+     * @return <code>true</code> if the tenant is being purged
+     */
+    public boolean isPurging(final String tenant) {
+        return tenantPurgeRepository.existsById(tenant);
+    }
+
+    /**
+     * Purges a marked tenant and returns after all its data is deleted. Waits
+     * up to {@link RepositoryProperties#getTenantPurgeLockTimeout()} if the
+     * tenant is purged by another thread or node.
+     *
+     * @param tenant
+     *            the marked tenant in upper case
+     * @throws ConcurrentModificationException
+     *             if the tenant is still purged by another thread or node
+     */
+    public void purge(final String tenant) {
+        final Lock lock = lockRegistry.obtain(LOCK_PREFIX + tenant);
+        try {
+            if (!lock.tryLock(lockTimeout, TimeUnit.MILLISECONDS)) {
+                throw new ConcurrentModificationException("Tenant " + tenant + " is purged by another node");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentModificationException("Interrupted while waiting for the purge of tenant " + tenant,
+                    e);
+        }
+        try {
+            purgeLocked(tenant);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Purges a marked tenant in the background. Nothing is done if the tenant
+     * is purged by another node already.
+     *
+     * @param tenant
+     *            the marked tenant in upper case
+     */
+    public void purgeAsync(final String tenant) {
+        if (!scheduled.add(tenant)) {
+            return;
+        }
+        purgeExecutor.execute(() -> {
+            try {
+                final Lock lock = lockRegistry.obtain(LOCK_PREFIX + tenant);
+                if (!lock.tryLock()) {
+                    log.debug("Tenant {} is purged by another node", tenant);
+                    return;
+                }
+                try {
+                    purgeLocked(tenant);
+                } finally {
+                    lock.unlock();
+                }
+            } catch (final RuntimeException e) {
+                log.error("Purge of tenant {} failed, it is resumed later", tenant, e);
+            } finally {
+                scheduled.remove(tenant);
+            }
+        });
+    }
+
+    /**
+     * Resumes the purges which were interrupted, e.g. by a crash of a node.
+     */
+    @Scheduled(initialDelayString = PROP_RESUME_INTERVAL, fixedDelayString = PROP_RESUME_INTERVAL)
+    public void resume() {
+        systemSecurityContext.runAsSystem(tenantPurgeRepository::findTenants).forEach(this::purgeAsync);
+    }
+
+    @Override
+    public void destroy() {
+        purgeExecutor.shutdownNow();
+        artifactExecutor.shutdownNow();
+    }
+
+    private void purgeLocked(final String tenant) {
+        while (purgeChunk(tenant)) {
+            // continue with the next chunk
+        }
+    }
+
+    /**
+     * Deletes the next chunk of rows of the tenant.
+     *
+     * @return <code>false</code> if the purge is completed
+     */
+    private boolean purgeChunk(final String tenant) {
+        final Chunk chunk = systemSecurityContext
+                .runAsSystemAsTenant(() -> transactionTemplate.execute(status -> deleteChunk(tenant)), tenant);
+        if (chunk == null) {
+            return false;
+        }
+        if (chunk.lastStep()) {
+            // the files of chunks that were interrupted before their files were
+            // deleted, outside of a transaction, the purge is kept if it fails
+            artifactRepository.deleteByTenant(tenant);
+            systemSecurityContext.runAsSystemAsTenant(
+                    () -> transactionTemplate.execute(status -> completePurge(tenant)), tenant);
+            return false;
+        }
+        deleteArtifactFiles(tenant, chunk.sha1Hashes());
+        return true;
+    }
+
+    /**
+     * @return the deleted chunk or <code>null</code> if the purge is completed
+     */
+    private Chunk deleteChunk(final String tenant) {
+        final JpaTenantPurge purge = tenantPurgeRepository.findById(tenant).orElse(null);
+        if (purge == null) {
+            return null;
+        }
+        if (purge.getCompletedSteps() >= STEPS.size()) {
+            return new Chunk(List.of(), true);
+        }
+
+        entityManager.setProperty(PersistenceUnitProperties.MULTITENANT_PROPERTY_DEFAULT, tenant);
+        final String entity = STEPS.get(purge.getCompletedSteps()).getSimpleName();
+        final List<Long> ids;
+        final List<String> sha1Hashes;
+        if (JpaArtifact.class.getSimpleName().equals(entity)) {
+            final List<Object[]> artifacts = entityManager
+                    .createQuery("SELECT a.id, a.sha1Hash FROM JpaArtifact a WHERE a.tenant = :tenant ORDER BY a.id",
+                            Object[].class)
+                    .setParameter("tenant", tenant).setMaxResults(chunkSize).getResultList();
+            ids = artifacts.stream().map(artifact -> (Long) artifact[0]).toList();
+            sha1Hashes = artifacts.stream().map(artifact -> (String) artifact[1]).distinct().toList();
+        } else {
+            ids = entityManager
+                    .createQuery("SELECT e.id FROM " + entity + " e WHERE e.tenant = :tenant ORDER BY e.id",
+                            Long.class)
+                    .setParameter("tenant", tenant).setMaxResults(chunkSize).getResultList();
+            sha1Hashes = List.of();
+        }
+        if (!ids.isEmpty()) {
+            entityManager.createQuery("DELETE FROM " + entity + " e WHERE e.id IN :ids").setParameter("ids", ids)
+                    .executeUpdate();
+        }
+
+        purge.chunkDeleted(ids.size(), ids.size() < chunkSize);
+        tenantPurgeRepository.save(purge);
+        log.debug("Deleted {} rows of {} of tenant {}", ids.size(), entity, tenant);
+        return new Chunk(sha1Hashes, false);
+    }
+
+    private Void completePurge(final String tenant) {
+        tenantPurgeRepository.findById(tenant).ifPresent(purge -> {
+            tenantPurgeRepository.delete(purge);
+            log.info("Tenant {} is purged, {} rows deleted", tenant, purge.getDeletedRows());
+        });
+        return null;
+    }
+
+    private void deleteArtifactFiles(final String tenant, final List<String> sha1Hashes) {
+        CompletableFuture.allOf(sha1Hashes.stream()
+                .map(sha1Hash -> CompletableFuture.runAsync(() -> deleteArtifactFile(tenant, sha1Hash),
+                        artifactExecutor))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void deleteArtifactFile(final String tenant, final String sha1Hash) {
+        try {
+            artifactRepository.deleteBySha1(tenant, sha1Hash);
+        } catch (final RuntimeException e) {
+            // deleted with the remaining files of the tenant at the end
+            log.warn("Failed to delete artifact {} of tenant {}", sha1Hash, tenant, e);
+        }
+    }
+
+    /**
+     * @param sha1Hashes
+     *            of the artifacts deleted by the chunk
+     * @param lastStep
+     *            <code>true</code> if all rows are deleted and the remaining
+     *            files of the tenant are deleted next
+     */
+    private record Chunk(List<String> sha1Hashes, boolean lastStep) {
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
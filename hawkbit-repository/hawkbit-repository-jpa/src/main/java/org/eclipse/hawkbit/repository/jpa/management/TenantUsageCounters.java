@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.event.TenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.LocalArtifactRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.report.model.TenantUsage;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Usage counters (targets, actions, artifacts and artifact volume) per tenant,
+ * so that the usage statistics do not count the tables on every request.
+ * <p>
+ * The counters of a tenant are counted from the repository on the first
+ * request and then maintained by the events: target created and deleted and
+ * action created. Artifacts are only counted again after an event of a
+ * software module, as uploads and deletions of artifacts update their module.
+ * <p>
+ * The cut between the counting and the events is made by the ids, not by the
+ * clocks of the nodes: the targets and actions are counted up to the highest id
+ * at the start of the counting, only created entities with a higher id are
+ * added by their events. The events received while counting are held back
+ * until the highest ids are known. Changes which the cut misses, e.g. an entity
+ * with a lower id committed after the counting or a deletion committed while
+ * counting, and changes without events (the cleanup of actions and the actions
+ * deleted with their target) are corrected by the periodic reconciliation,
+ * which logs the corrected drift.
+ * <p>
+ * The counters are kept in memory by each node, which counts the tenants on
+ * its own. The costs are bounded to the tenants of which the usage is
+ * requested: a tenant which was not requested since the last reconciliation is
+ * removed instead of counted again. So a reconciliation costs two counts over
+ * the primary key indices and an artifact count per requested tenant and node.
+ * The counters are not persisted, as a counter row per tenant would be locked
+ * by every transaction creating targets or actions of the tenant.
+ */
+@Slf4j
+public class TenantUsageCounters {
+
+    private static final String PROP_RECONCILIATION_INTERVAL = "${hawkbit.server.repository.usage-reconciliation-interval:3600000}";
+
+    private final TargetRepository targetRepository;
+    private final ActionRepository actionRepository;
+    private final LocalArtifactRepository artifactRepository;
+    private final SystemSecurityContext systemSecurityContext;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Usage> usages = new ConcurrentHashMap<>();
+    private volatile long lastReconciliation = System.currentTimeMillis();
+
+    /**
+     * Constructor.
+     *
+     * @param targetRepository
+     *            to count the targets
+     * @param actionRepository
+     *            to count the actions
+     * @param artifactRepository
+     *            to count the artifacts
+     * @param systemSecurityContext
+     *            to count as tenant
+     * @param txManager
+     *            to count in a read only transaction
+     */
+    public TenantUsageCounters(final TargetRepository targetRepository, final ActionRepository actionRepository,
+            final LocalArtifactRepository artifactRepository, final SystemSecurityContext systemSecurityContext,
+            final PlatformTransactionManager txManager) {
+        this.targetRepository = targetRepository;
+        this.actionRepository = actionRepository;
+        this.artifactRepository = artifactRepository;
+        this.systemSecurityContext = systemSecurityContext;
+        transactionTemplate = new TransactionTemplate(txManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Returns the usage of a tenant, counts it if it is not known yet.
+     *
+     * @param tenant
+     *            to get the usage of
+     * @return the usage
+     */
+    public TenantUsage getUsage(final String tenant) {
+        final String key = tenant.toUpperCase();
+        Usage usage = usages.get(key);
+        while (usage == null || !usage.isCounted()) {
+            if (usage == null) {
+                final Usage counting = new Usage(tenant);
+                if (usages.putIfAbsent(key, counting) == null) {
+                    count(key, counting);
+                }
+            }
+            usage = usages.get(key);
+        }
+
+        usage.lastRequestedAt = System.currentTimeMillis();
+        if (usage.artifactsStale) {
+            countArtifacts(tenant, usage);
+        }
+        return usage.toTenantUsage(tenant);
+    }
+
+    /**
+     * Counts the usage of the tenants requested since the last reconciliation
+     * again and removes the others.
+     */
+    @Scheduled(initialDelayString = PROP_RECONCILIATION_INTERVAL, fixedDelayString = PROP_RECONCILIATION_INTERVAL)
+    public void reconcile() {
+        final long requestedSince = lastReconciliation;
+        lastReconciliation = System.currentTimeMillis();
+        log.debug("Reconciling the usage counters of {} tenants", usages.size());
+        usages.forEach((key, usage) -> {
+            if (!usage.isCounted()) {
+                return;
+            }
+            if (usage.lastRequestedAt < requestedSince) {
+                usages.remove(key, usage);
+                return;
+            }
+
+            final Usage recounted = new Usage(usage.tenant);
+            recounted.lastRequestedAt = usage.lastRequestedAt;
+            if (usages.replace(key, usage, recounted)) {
+                try {
+                    count(key, recounted);
+                    logDrift(usage, recounted);
+                } catch (final RuntimeException e) {
+                    log.warn("Reconciling the usage counters of tenant {} failed", usage.tenant, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the counters of a tenant, e.g. if the tenant is deleted.
+     *
+     * @param tenant
+     *            to remove the counters of
+     */
+    public void evictCaches(final String tenant) {
+        usages.remove(tenant.toUpperCase());
+    }
+
+    @EventListener
+    void onTargetCreated(final TargetCreatedEvent event) {
+        counted(event, new Change(ChangeType.TARGET_CREATED, event.getEntityId()));
+    }
+
+    @EventListener
+    void onTargetDeleted(final TargetDeletedEvent event) {
+        counted(event, new Change(ChangeType.TARGET_DELETED, event.getEntityId()));
+    }
+
+    @EventListener
+    void onActionCreated(final ActionCreatedEvent event) {
+        counted(event, new Change(ChangeType.ACTION_CREATED, event.getEntityId()));
+    }
+
+    @EventListener(classes = { SoftwareModuleUpdatedEvent.class, SoftwareModuleDeletedEvent.class })
+    void onSoftwareModuleEvent(final ApplicationEvent event) {
+        final Usage usage = usages.get(((TenantAwareEvent) event).getTenant().toUpperCase());
+        if (usage != null) {
+            usage.artifactsStale = true;
+        }
+    }
+
+    private void counted(final TenantAwareEvent event, final Change change) {
+        final Usage usage = usages.get(event.getTenant().toUpperCase());
+        if (usage != null) {
+            usage.apply(change);
+        }
+    }
+
+    // the usage has to be in the map already, so that no event is missed
+    private void count(final String key, final Usage usage) {
+        try {
+            systemSecurityContext.runAsSystemAsTenant(() -> transactionTemplate.execute(status -> {
+                final long targetWatermark = targetRepository.findMaxId().orElse(0L);
+                final long actionWatermark = actionRepository.findMaxId().orElse(0L);
+                usage.targets.set(targetRepository.countByIdLessThanEqual(targetWatermark));
+                usage.actions.set(actionRepository.countByIdLessThanEqual(actionWatermark));
+                usage.artifacts = artifactRepository.countBySoftwareModuleDeleted(false);
+                usage.artifactVolume = artifactRepository.sumOfNonDeletedArtifactSize().orElse(0L);
+                usage.counted(targetWatermark, actionWatermark);
+                return null;
+            }), usage.tenant);
+        } catch (final RuntimeException e) {
+            usages.remove(key, usage);
+            usage.failed();
+            throw e;
+        }
+    }
+
+    private void countArtifacts(final String tenant, final Usage usage) {
+        usage.artifactsStale = false;
+        systemSecurityContext.runAsSystemAsTenant(() -> transactionTemplate.execute(status -> {
+            usage.artifacts = artifactRepository.countBySoftwareModuleDeleted(false);
+            usage.artifactVolume = artifactRepository.sumOfNonDeletedArtifactSize().orElse(0L);
+            return null;
+        }), tenant);
+    }
+
+    private static void logDrift(final Usage maintained, final Usage recounted) {
+        final long targetDrift = maintained.targets.get() - recounted.targets.get();
+        final long actionDrift = maintained.actions.get() - recounted.actions.get();
+        if (targetDrift != 0) {
+            // all changes of targets have events, only the cut might miss one
+            log.info("Corrected the usage counters of tenant {} by {} targets and {} actions", maintained.tenant,
+                    -targetDrift, -actionDrift);
+        } else if (actionDrift != 0) {
+            // expected, the cleanup of actions has no events
+            log.debug("Corrected the usage counters of tenant {} by {} actions", maintained.tenant, -actionDrift);
+        }
+    }
+
+    private enum ChangeType {
+        TARGET_CREATED, TARGET_DELETED, ACTION_CREATED
+    }
+
+    private record Change(ChangeType type, long id) {
+    }
+
+    private static final class Usage {
+
+        private final String tenant;
+        private final AtomicLong targets = new AtomicLong();
+        private final AtomicLong actions = new AtomicLong();
+        private volatile long artifacts;
+        private volatile long artifactVolume;
+        private volatile boolean artifactsStale;
+        private volatile long lastRequestedAt = System.currentTimeMillis();
+
+        // guarded by this, the changes received while counting
+        private List<Change> held = new ArrayList<>();
+        private long targetWatermark;
+        private long actionWatermark;
+        private boolean failed;
+
+        private Usage(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        private synchronized boolean isCounted() {
+            while (held != null && !failed) {
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while counting the usage of " + tenant, e);
+                }
+            }
+            return !failed;
+        }
+
+        private void apply(final Change change) {
+            synchronized (this) {
+                if (held != null) {
+                    held.add(change);
+                    return;
+                }
+            }
+            applyCounted(change, true);
+        }
+
+        private synchronized void counted(final long targetWatermark, final long actionWatermark) {
+            this.targetWatermark = targetWatermark;
+            this.actionWatermark = actionWatermark;
+            held.forEach(change -> applyCounted(change, false));
+            held = null;
+            notifyAll();
+        }
+
+        private synchronized void failed() {
+            failed = true;
+            notifyAll();
+        }
+
+        /**
+         * @param received
+         *            <code>true</code> if the event was received after the
+         *            counting, so the deleted target is part of the count
+         */
+        private void applyCounted(final Change change, final boolean received) {
+            switch (change.type()) {
+                case TARGET_CREATED -> {
+                    if (change.id() > targetWatermark) {
+                        targets.incrementAndGet();
+                    }
+                }
+                case TARGET_DELETED -> {
+                    if (received || change.id() > targetWatermark) {
+                        targets.decrementAndGet();
+                    }
+                }
+                case ACTION_CREATED -> {
+                    if (change.id() > actionWatermark) {
+                        actions.incrementAndGet();
+                    }
+                }
+            }
+        }
+
+        private TenantUsage toTenantUsage(final String tenant) {
+            final TenantUsage result = new TenantUsage(tenant);
+            result.setTargets(targets.get());
+            result.setActions(actions.get());
+            result.setArtifacts(artifacts);
+            result.setOverallArtifactVolumeInBytes(artifactVolume);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.eclipse.hawkbit.repository.model.TenantPurge;
+
+/**
+ * Purge of a deleted tenant. Like {@link JpaTenantMetaData} this entity is not
+ * tenant aware, it exists while the data of the tenant is deleted. The purge
+ * is updated in the transactions which delete the data, so it can be resumed
+ * from the last committed chunk.
+ */
+@Entity
+@Table(name = "sp_tenant_purge")
+public class JpaTenantPurge implements TenantPurge, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "tenant", nullable = false, updatable = false, length = 40)
+    private String tenant;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private long startedAt;
+
+    @Column(name = "last_modified_at", nullable = false)
+    private long lastModifiedAt;
+
+    @Column(name = "step", nullable = false)
+    private int step;
+
+    @Column(name = "step_count", nullable = false)
+    private int stepCount;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    /**
+     * Default constructor needed for JPA entities.
+     */
+    public JpaTenantPurge() {
+        // Default constructor needed for JPA entities.
+    }
+
+    /**
+     * Standard constructor.
+     *
+     * @param tenant
+     *            the deleted tenant
+     * @param stepCount
+     *            number of tables to purge
+     */
+    public JpaTenantPurge(final String tenant, final int stepCount) {
+        this.tenant = tenant;
+        this.stepCount = stepCount;
+        startedAt = System.currentTimeMillis();
+        lastModifiedAt = startedAt;
+    }
+
+    @Override
+    public String getTenant() {
+        return tenant;
+    }
+
+    @Override
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    @Override
+    public long getLastModifiedAt() {
+        return lastModifiedAt;
+    }
+
+    @Override
+    public int getCompletedSteps() {
+        return step;
+    }
+
+    @Override
+    public int getTotalSteps() {
+        return stepCount;
+    }
+
+    @Override
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    /**
+     * Records the deletion of a chunk.
+     *
+     * @param rows
+     *            number of deleted rows
+     * @param stepCompleted
+     *            <code>true</code> if the table of the current step is empty
+     */
+    public void chunkDeleted(final int rows, final boolean stepCompleted) {
+        deletedRows += rows;
+        if (stepCompleted) {
+            step++;
+        }
+        lastModifiedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "JpaTenantPurge [tenant=" + tenant + ", step=" + step + "/" + stepCount + ", deletedRows="
+                + deletedRows + "]";
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.poll;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.model.Target;
+
+/**
+ * {@link TargetPollLedger} that keeps the polls in a fixed number of lock
+ * stripes keyed by target id. A poll only locks the stripe of its target, so
+ * concurrent polls of different targets rarely contend. A flush swaps the map
+ * of every stripe and sorts the drained polls by target id, so that
+ * concurrent flushes on several nodes lock the same rows in the same order.
+ * The number of targets in the ledger is bounded by a capacity, polls of
+ * further targets are dropped and counted until the next flush.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>hawkbit.poll.ledger.size</code> - targets waiting for the next flush</li>
+ * <li><code>hawkbit.poll.ledger.recorded</code> - recorded polls</li>
+ * <li><code>hawkbit.poll.ledger.dropped</code> - polls dropped as the ledger was full</li>
+ * <li><code>hawkbit.poll.ledger.flushed</code> - persisted (coalesced) polls</li>
+ * <li><code>hawkbit.poll.ledger.coalescing.ratio</code> - recorded per flushed polls of the last flush</li>
+ * <li><code>hawkbit.poll.ledger.flush</code> - flush latency</li>
+ * </ul>
+ */
+@Slf4j
+public class StripedTargetPollLedger implements TargetPollLedger {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong recordedSinceFlush = new AtomicLong();
+    private final AtomicLong lastCoalescingRatio = new AtomicLong(Double.doubleToLongBits(1.0));
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter recordedCounter;
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+
+    /**
+     * Constructor with default number of stripes.
+     *
+     * @param meterRegistry
+     *            registry for the ledger metrics
+     * @param capacity
+     *            maximum number of targets in the ledger
+     */
+    public StripedTargetPollLedger(final MeterRegistry meterRegistry, final int capacity) {
+        this(meterRegistry, DEFAULT_STRIPES, capacity);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistry
+     *            registry for the ledger metrics
+     * @param stripes
+     *            number of lock stripes, rounded up to the next power of two
+     * @param capacity
+     *            maximum number of targets in the ledger
+     */
+    public StripedTargetPollLedger(final MeterRegistry meterRegistry, final int stripes, final int capacity) {
+        this.capacity = capacity;
+        final int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("hawkbit.poll.ledger.size", size, AtomicInteger::get)
+                .description("Targets with polls waiting for the next flush").register(meterRegistry);
+        Gauge.builder("hawkbit.poll.ledger.coalescing.ratio", lastCoalescingRatio,
+                        ratio -> Double.longBitsToDouble(ratio.get()))
+                .description("Recorded per persisted polls of the last flush").register(meterRegistry);
+        recordedCounter = Counter.builder("hawkbit.poll.ledger.recorded").description("Recorded target polls")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("hawkbit.poll.ledger.dropped")
+                .description("Target polls dropped as the ledger was full").register(meterRegistry);
+        flushedCounter = Counter.builder("hawkbit.poll.ledger.flushed").description("Persisted target polls")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("hawkbit.poll.ledger.flush").description("Latency of poll ledger flushes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean record(final Target target, final long pollTime) {
+        if (!record(target.getId(), target.getTenant(), target.getControllerId(), pollTime, capacity)) {
+            droppedCounter.increment();
+            return false;
+        }
+        recordedCounter.increment();
+        recordedSinceFlush.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void flush(final BiConsumer<String, List<TargetPoll>> persister) {
+        // a single flush at a time keeps the per-tenant batches sorted
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            final long start = System.nanoTime();
+            final long recorded = recordedSinceFlush.getAndSet(0);
+
+            final Map<String, List<TargetPoll>> byTenant = drain();
+            if (byTenant.isEmpty()) {
+                return;
+            }
+
+            int flushed = 0;
+            for (final Map.Entry<String, List<TargetPoll>> entry : byTenant.entrySet()) {
+                final List<TargetPoll> polls = entry.getValue();
+                polls.sort(Comparator.comparingLong(TargetPoll::getTargetId));
+                try {
+                    persister.accept(entry.getKey(), polls);
+                    flushed += polls.size();
+                } catch (final RuntimeException e) {
+                    log.error("Failed to persist {} polls of tenant {}, retrying with next flush.", polls.size(),
+                            entry.getKey(), e);
+                    // kept even beyond the capacity, they were recorded before
+                    polls.forEach(poll -> record(poll.getTargetId(), poll.getTenant(), poll.getControllerId(),
+                            poll.getLastPoll(), Integer.MAX_VALUE));
+                }
+            }
+
+            flushedCounter.increment(flushed);
+            if (flushed > 0) {
+                lastCoalescingRatio.set(Double.doubleToLongBits(Math.max(1.0, (double) recorded / flushed)));
+            }
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("{} polls recorded, {} persisted.", recorded, flushed);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    private boolean record(final long targetId, final String tenant, final String controllerId,
+            final long pollTime, final int limit) {
+        final Stripe stripe = stripes[Long.hashCode(targetId) & (stripes.length - 1)];
+        stripe.lock.lock();
+        try {
+            final TargetPoll existing = stripe.polls.get(targetId);
+            if (existing != null) {
+                existing.merge(pollTime);
+                return true;
+            }
+            // checked without a global lock, concurrent polls may exceed the limit by a few targets
+            if (size.get() >= limit) {
+                return false;
+            }
+            stripe.polls.add(new TargetPoll(targetId, tenant, controllerId, pollTime));
+            size.incrementAndGet();
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Map<String, List<TargetPoll>> drain() {
+        final Map<String, List<TargetPoll>> byTenant = new HashMap<>();
+        for (final Stripe stripe : stripes) {
+            final TargetPollMap drained;
+            stripe.lock.lock();
+            try {
+                if (stripe.polls.isEmpty()) {
+                    continue;
+                }
+                drained = stripe.polls;
+                stripe.polls = new TargetPollMap();
+                size.addAndGet(-drained.size());
+            } finally {
+                stripe.lock.unlock();
+            }
+            drained.forEach(
+                    poll -> byTenant.computeIfAbsent(poll.getTenant(), tenant -> new ArrayList<>()).add(poll));
+        }
+        return byTenant;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private TargetPollMap polls = new TargetPollMap();
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.poll;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.hawkbit.repository.model.Target;
+
+/**
+ * Write-behind ledger of target polls. Polls are recorded in memory and
+ * persisted as {@link Target#getLastTargetQuery()} in batches. Repeated polls
+ * of the same target between two flushes are coalesced into one entry that
+ * keeps the latest poll time.
+ */
+public interface TargetPollLedger {
+
+    /**
+     * Records a poll of the given target.
+     *
+     * @param target
+     *            the polling target
+     * @param pollTime
+     *            time of the poll in milliseconds since epoch
+     * @return <code>false</code> if the poll was not recorded as the ledger
+     *         reached its capacity
+     */
+    boolean record(Target target, long pollTime);
+
+    /**
+     * Drains all recorded polls and hands them to the given persister, one call
+     * per tenant with the polls sorted by target id. Polls of a tenant whose
+     * persister call fails are recorded again, so they are retried with the
+     * next flush.
+     *
+     * @param persister
+     *            persists the polls of one tenant
+     */
+    void flush(BiConsumer<String, List<TargetPoll>> persister);
+
+    /**
+     * @return number of targets with polls waiting for the next flush
+     */
+    int size();
+
+    /**
+     * A coalesced poll entry of a single target.
+     */
+    final class TargetPoll {
+
+        private final long targetId;
+        private final String tenant;
+        private final String controllerId;
+        private long lastPoll;
+
+        TargetPoll(final long targetId, final String tenant, final String controllerId, final long lastPoll) {
+            this.targetId = targetId;
+            this.tenant = tenant;
+            this.controllerId = controllerId;
+            this.lastPoll = lastPoll;
+        }
+
+        public long getTargetId() {
+            return targetId;
+        }
+
+        public String getTenant() {
+            return tenant;
+        }
+
+        public String getControllerId() {
+            return controllerId;
+        }
+
+        public long getLastPoll() {
+            return lastPoll;
+        }
+
+        void merge(final long pollTime) {
+            if (pollTime > lastPoll) {
+                lastPoll = pollTime;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.poll;
+
+import java.util.function.Consumer;
+
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger.TargetPoll;
+
+/**
+ * Open addressing hash map of the polls by target id, the ids are kept as
+ * primitives. Entries are never removed, a flush replaces the whole map. Not
+ * thread safe, guarded by the lock of its stripe.
+ */
+final class TargetPollMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private TargetPoll[] values = new TargetPoll[INITIAL_CAPACITY];
+    private int size;
+
+    TargetPoll get(final long targetId) {
+        final int mask = keys.length - 1;
+        for (int i = index(targetId, mask); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == targetId) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the poll of a target which is not contained yet.
+     */
+    void add(final TargetPoll poll) {
+        // load factor of 0.5 keeps the probe sequences short
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        insert(keys, values, poll);
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void forEach(final Consumer<TargetPoll> consumer) {
+        for (final TargetPoll poll : values) {
+            if (poll != null) {
+                consumer.accept(poll);
+            }
+        }
+    }
+
+    private void resize() {
+        final long[] newKeys = new long[keys.length * 2];
+        final TargetPoll[] newValues = new TargetPoll[values.length * 2];
+        forEach(poll -> insert(newKeys, newValues, poll));
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static void insert(final long[] keys, final TargetPoll[] values, final TargetPoll poll) {
+        final int mask = keys.length - 1;
+        int i = index(poll.getTargetId(), mask);
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = poll.getTargetId();
+        values[i] = poll;
+    }
+
+    // the stripe is selected by the low bits of the id, so they are mixed
+    private static int index(final long targetId, final int mask) {
+        final long hash = targetId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -86,6 +86,24 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
     void switchStatus(@Param("statusToSet") Action.Status statusToSet, @Param("targetsIds") List<Long> targetIds,
             @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
 
+    /**
+     * Counts the rollout actions per rollout group which are affected by
+     * {@link #switchStatus(Action.Status, List, boolean, Action.Status)}.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds
+     *            the IDs of the targets of the actions which are affected
+     * @param active
+     *            the active flag of the actions which should be affected
+     * @param currentStatus
+     *            the current status of the actions which are affected
+     * @return pairs of rollout group id and number of affected actions
+     */
+    @Query("SELECT a.rolloutGroup.id, COUNT(a.id) FROM JpaAction a WHERE a.target IN :targetsIds AND a.active = :active AND a.status = :currentStatus AND a.distributionSet.requiredMigrationStep = false GROUP BY a.rolloutGroup.id")
+    List<Object[]> countPerRolloutGroupToSwitchStatus(@Param("targetsIds") List<Long> targetIds,
+            @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
+
     /**
      * Retrieves an {@link Action} that matches the queried externalRef.
      *
@@ -117,6 +135,32 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Long countByTargetId(Long targetId);
 
+    /**
+     * Counts the {@link Action}s per target for the given targets in one
+     * query. Targets without actions are not part of the result.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds
+     *            the targets to count the {@link Action}s
+     * @return list of target id and action count pairs
+     */
+    @Query("SELECT a.target.id, COUNT(a.id) FROM JpaAction a WHERE a.target.id IN :targetIds GROUP BY a.target.id")
+    List<Object[]> countByTargetIdIn(@Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * Retrieves the ids of the {@link DistributionSet}s of all {@link Action}s
+     * of the given target, regardless of their state.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetId
+     *            the target
+     * @return the ids of the distribution sets
+     */
+    @Query("SELECT DISTINCT a.distributionSet.id FROM JpaAction a WHERE a.target.id = :targetId")
+    List<Long> findDistributionSetIdsByTargetId(@Param("targetId") long targetId);
+
     /**
      * Counts all {@link Action}s referring to the given DistributionSet.
      * <p/>
@@ -355,6 +399,51 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
     @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id IN ?1 GROUP BY a.rolloutGroup.id, a.status")
     List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(List<Long> rolloutGroupId);
 
+    /**
+     * Get list of objects which has details of status and count of targets in
+     * each status of each group of the specified rollout.
+     * <p/>
+     * No access control applied
+     *
+     * @param rolloutId
+     *            id of {@link Rollout}
+     * @return list of objects with rollout group id, status and target count
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rollout.id = ?1 GROUP BY a.rolloutGroup.id, a.status")
+    List<TotalTargetCountActionStatus> getStatusCountPerRolloutGroupByRolloutId(Long rolloutId);
+
+    /**
+     * Get list of objects which has details of status and count of the given
+     * actions in each status of each rollout group. Actions without rollout
+     * group are left out.
+     * <p/>
+     * No access control applied
+     *
+     * @param actionIds
+     *            the IDs of the actions
+     * @return list of objects with rollout group id, status and action count
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.id IN ?1 GROUP BY a.rolloutGroup.id, a.status")
+    List<TotalTargetCountActionStatus> getStatusCountPerRolloutGroupByIdIn(Collection<Long> actionIds);
+
+    /**
+     * Retrieves the IDs of the actions with one of the given status which were
+     * last modified before the given time.
+     * <p/>
+     * No access control applied
+     *
+     * @param status
+     *            the status of the actions
+     * @param lastModified
+     *            the time in milliseconds the actions were last modified before
+     * @param pageable
+     *            limits the number of IDs
+     * @return the IDs of the actions
+     */
+    @Query("SELECT a.id FROM JpaAction a WHERE a.status IN ?1 AND a.lastModifiedAt < ?2")
+    List<Long> findIdsByStatusInAndLastModifiedAtBefore(Collection<Status> status, long lastModified,
+            Pageable pageable);
+
     /**
      * Updates the externalRef of an action by its actionId.
      *
@@ -379,4 +468,21 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
     // Workaround for https://bugs.eclipse.org/bugs/show_bug.cgi?id=349477
     @Query("DELETE FROM JpaAction a WHERE a.id IN ?1")
     void deleteByIdIn(Collection<Long> actionIDs);
+
+    /**
+     * Retrieves the highest id of the {@link Action}s of the current tenant.
+     *
+     * @return the highest id, empty if there are none
+     */
+    @Query("SELECT MAX(a.id) FROM JpaAction a")
+    Optional<Long> findMaxId();
+
+    /**
+     * Counts the {@link Action}s of the current tenant up to the given id.
+     *
+     * @param id
+     *            highest id to count
+     * @return number of {@link Action}s
+     */
+    long countByIdLessThanEqual(long id);
 }
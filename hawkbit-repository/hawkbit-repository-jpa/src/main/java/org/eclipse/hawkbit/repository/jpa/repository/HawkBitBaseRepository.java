@@ -15,14 +15,19 @@ import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.transaction.Transactional;
 
 import org.eclipse.hawkbit.repository.BaseRepositoryTypeProvider;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
@@ -31,6 +36,8 @@ import org.springframework.lang.Nullable;
 
 /**
  * Repository implementation that allows findAll with disabled count query.
+ * Pages requested with a {@link KeysetPageRequest} are read by seeking after
+ * the last entity of the previous page instead of skipping an offset.
  *
  * @param <T> the domain type the repository manages
  * @param <ID> the type of the id of the entity the repository manages
@@ -57,6 +64,15 @@ public class HawkBitBaseRepository<T, ID extends Serializable> extends SimpleJpa
         return findAllWithoutCount(null, pageable);
     }
 
+    @Override
+    @NonNull
+    protected TypedQuery<T> getQuery(@Nullable final Specification<T> spec, @NonNull final Pageable pageable) {
+        if (pageable instanceof KeysetPageRequest keyset && !keyset.isFirstPage()) {
+            return super.getQuery(spec == null ? seekAfter(keyset) : spec.and(seekAfter(keyset)), pageable);
+        }
+        return super.getQuery(spec, pageable);
+    }
+
 
     @Override
     @Transactional
@@ -120,6 +136,27 @@ public class HawkBitBaseRepository<T, ID extends Serializable> extends SimpleJpa
         return new PageImpl<>(content, pageable, content.size());
     }
 
+    // (key > value) or (key = value and id > afterId), reversed for descending
+    // order - the id is the tie-breaker of the sort key
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <T> Specification<T> seekAfter(final KeysetPageRequest keyset) {
+        return (root, query, cb) -> {
+            final Order keyOrder = keyset.getKeyOrder();
+            final Path<Long> id = root.get(KeysetPageRequest.ID);
+            final Predicate idAfter = keyOrder.isAscending() ? cb.greaterThan(id, keyset.getAfterId())
+                    : cb.lessThan(id, keyset.getAfterId());
+            if (KeysetPageRequest.ID.equals(keyOrder.getProperty())) {
+                return idAfter;
+            }
+
+            final Path<Comparable> key = root.get(keyOrder.getProperty());
+            final Comparable value = (Comparable) DefaultConversionService.getSharedInstance()
+                    .convert(keyset.getAfterValue(), key.getJavaType());
+            final Predicate keyAfter = keyOrder.isAscending() ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            return cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter));
+        };
+    }
+
     /**
      * Simple implementation of {@link BaseRepositoryTypeProvider} leveraging our
      * {@link HawkBitBaseRepository} for all current use cases
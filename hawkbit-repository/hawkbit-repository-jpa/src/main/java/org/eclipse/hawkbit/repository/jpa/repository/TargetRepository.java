@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.repository.jpa.repository;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 
@@ -80,4 +81,21 @@ public interface TargetRepository extends BaseEntityRepository<JpaTarget> {
     @Transactional
     @Query("DELETE FROM JpaTarget t WHERE t.tenant = :tenant")
     void deleteByTenant(@Param("tenant") String tenant);
+
+    /**
+     * Retrieves the highest id of the {@link Target}s of the current tenant.
+     *
+     * @return the highest id, empty if there are none
+     */
+    @Query("SELECT MAX(t.id) FROM JpaTarget t")
+    Optional<Long> findMaxId();
+
+    /**
+     * Counts the {@link Target}s of the current tenant up to the given id.
+     *
+     * @param id
+     *            highest id to count
+     * @return number of {@link Target}s
+     */
+    long countByIdLessThanEqual(long id);
 }
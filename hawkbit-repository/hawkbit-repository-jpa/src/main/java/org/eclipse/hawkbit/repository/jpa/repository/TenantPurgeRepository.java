@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.repository;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantPurge;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * repository for operations on {@link TenantPurge} entity. The id is the upper
+ * case name of the tenant.
+ */
+@Transactional(readOnly = true)
+public interface TenantPurgeRepository extends CrudRepository<JpaTenantPurge, String> {
+
+    /**
+     * @return the tenants which are being purged
+     */
+    @Query("SELECT p.tenant FROM JpaTenantPurge p")
+    List<String> findTenants();
+}
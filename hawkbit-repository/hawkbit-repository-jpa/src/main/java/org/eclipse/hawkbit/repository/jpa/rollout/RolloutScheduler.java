@@ -9,50 +9,112 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
- * Scheduler to schedule the {@link RolloutHandler#handleAll()}. The
- * delay between the checks be configured using the property from
+ * Scheduler to schedule the {@link RolloutHandler#handle(long)} of all active
+ * rollouts. The delay between the checks be configured using the property from
  * {#PROP_SCHEDULER_DELAY_PLACEHOLDER}.
+ * <p>
+ * The rollouts are handled by a bounded pool of workers, so a slow rollout
+ * does not delay the rollouts of other tenants. A rollout which is still
+ * queued or handled is not dispatched again. The rollouts are dispatched
+ * round-robin over the tenants, starting with another tenant on every run, so
+ * tenants with many rollouts do not starve the others.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>hawkbit.rollout.handle</code> - handling latency per rollout, removed when the rollout is not active anymore</li>
+ * <li><code>hawkbit.rollout.handle.pending</code> - rollouts queued or handled</li>
+ * </ul>
  */
 @Slf4j
-public class RolloutScheduler {
+public class RolloutScheduler implements DisposableBean {
 
     private static final String PROP_SCHEDULER_DELAY_PLACEHOLDER = "${hawkbit.rollout.scheduler.fixedDelay:2000}";
 
     private final SystemManagement systemManagement;
 
+    private final RolloutManagement rolloutManagement;
+
     private final RolloutHandler rolloutHandler;
 
     private final SystemSecurityContext systemSecurityContext;
 
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService workers;
+
+    private final Set<RolloutKey> pending = ConcurrentHashMap.newKeySet();
+
+    private final Map<RolloutKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private int run;
+
     /**
      * Constructor.
-     * 
+     *
      * @param systemManagement
      *            to find all tenants
+     * @param rolloutManagement
+     *            to find the active rollouts
      * @param rolloutHandler
      *            to run the rollout handler
      * @param systemSecurityContext
      *            to run as system
+     * @param workerCount
+     *            number of rollouts handled in parallel
+     * @param meterRegistry
+     *            registry for the rollout handling metrics
      */
-    public RolloutScheduler(final SystemManagement systemManagement, final RolloutHandler rolloutHandler,
-            final SystemSecurityContext systemSecurityContext) {
+    public RolloutScheduler(final SystemManagement systemManagement, final RolloutManagement rolloutManagement,
+            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext,
+            final int workerCount, final MeterRegistry meterRegistry) {
         this.systemManagement = systemManagement;
+        this.rolloutManagement = rolloutManagement;
         this.rolloutHandler = rolloutHandler;
         this.systemSecurityContext = systemSecurityContext;
+        this.meterRegistry = meterRegistry;
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "rollout-handler-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("hawkbit.rollout.handle.pending", pending, Set::size)
+                .description("Rollouts queued or handled").register(meterRegistry);
     }
 
     /**
-     * Scheduler method called by the spring-async mechanism. Retrieves all
-     * tenants from the {@link SystemManagement#findTenants} and runs for each
-     * tenant the {@link RolloutHandler#handleAll()} in the
-     * {@link SystemSecurityContext}.
+     * Scheduler method called by the spring-async mechanism. Retrieves the
+     * active rollouts of all tenants from the {@link SystemManagement#findTenants}
+     * and dispatches them to the workers, which run the
+     * {@link RolloutHandler#handle(long)} in the {@link SystemSecurityContext}.
      */
     @Scheduled(initialDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER, fixedDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER)
     public void runningRolloutScheduler() {
@@ -65,13 +127,87 @@ public class RolloutScheduler {
             // execute a query without multi-tenancy if MultiTenant
             // annotation is used.
             // https://bugs.eclipse.org/bugs/show_bug.cgi?id=355458. So
-            // iterate through all tenants and execute the rollout check for
+            // iterate through all tenants and find the active rollouts for
             // each tenant seperately.
+            final Map<String, List<Long>> activeRollouts = new LinkedHashMap<>();
+            systemManagement.forEachTenant(tenant -> {
+                final List<Long> rollouts = rolloutManagement.findActiveRollouts();
+                if (!rollouts.isEmpty()) {
+                    activeRollouts.put(tenant, rollouts);
+                }
+            });
 
-            systemManagement.forEachTenant(tenant -> rolloutHandler.handleAll());
-
+            dispatch(activeRollouts);
+            removeTimersOfInactiveRollouts(activeRollouts);
             return null;
         });
     }
 
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    private void dispatch(final Map<String, List<Long>> activeRollouts) {
+        final List<String> tenants = new ArrayList<>(activeRollouts.keySet());
+        if (tenants.isEmpty()) {
+            return;
+        }
+        Collections.rotate(tenants, -Math.floorMod(run++, tenants.size()));
+
+        boolean dispatched = true;
+        for (int i = 0; dispatched; i++) {
+            dispatched = false;
+            for (final String tenant : tenants) {
+                final List<Long> rollouts = activeRollouts.get(tenant);
+                if (i < rollouts.size()) {
+                    dispatch(new RolloutKey(tenant, rollouts.get(i)));
+                    dispatched = true;
+                }
+            }
+        }
+    }
+
+    private void dispatch(final RolloutKey rollout) {
+        if (!pending.add(rollout)) {
+            log.trace("Rollout {} of tenant {} is still pending.", rollout.rolloutId(), rollout.tenant());
+            return;
+        }
+
+        // the series of a rollout is removed once it is not active anymore, so
+        // only the active rollouts have a series
+        final Timer timer = timers.computeIfAbsent(rollout,
+                key -> Timer.builder("hawkbit.rollout.handle").description("Handling latency per rollout")
+                        .tag("tenant", key.tenant()).tag("rollout", String.valueOf(key.rolloutId()))
+                        .publishPercentileHistogram().register(meterRegistry));
+        workers.execute(() -> {
+            try {
+                timer.record(() -> systemSecurityContext.runAsSystemAsTenant(() -> {
+                    rolloutHandler.handle(rollout.rolloutId());
+                    return null;
+                }, rollout.tenant()));
+            } catch (final RuntimeException e) {
+                log.error("Failed to process rollout with id {} of tenant {}", rollout.rolloutId(),
+                        rollout.tenant(), e);
+            } finally {
+                pending.remove(rollout);
+            }
+        });
+    }
+
+    private void removeTimersOfInactiveRollouts(final Map<String, List<Long>> activeRollouts) {
+        final Set<RolloutKey> active = new HashSet<>(pending);
+        activeRollouts.forEach((tenant, rollouts) -> rollouts
+                .forEach(rolloutId -> active.add(new RolloutKey(tenant, rolloutId))));
+        timers.entrySet().removeIf(entry -> {
+            if (active.contains(entry.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(entry.getValue());
+            return true;
+        });
+    }
+
+    private record RolloutKey(String tenant, long rolloutId) {
+    }
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.WriteObjectQuery;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+
+/**
+ * Keeps the {@link RolloutStatusCounters} up to date. The counters are changed
+ * with the same connection and in the same transaction as the rollout groups
+ * and actions they count. The actions of a deleted target are deleted by the
+ * database, so they are removed from the counters before the target.
+ */
+public class RolloutStatusCounterListener extends DescriptorEventAdapter {
+
+    @Override
+    public void postInsert(final DescriptorEvent event) {
+        final Object object = event.getObject();
+        if (object instanceof JpaRolloutGroup group) {
+            for (final Status status : Status.values()) {
+                execute(event, RolloutStatusCounters.INSERT_COUNTER, group.getId(), group.getRollout().getId(),
+                        RolloutStatusCounters.code(status));
+            }
+        } else if (object instanceof JpaAction action && action.getRolloutGroup() != null) {
+            execute(event, RolloutStatusCounters.ADD_TO_COUNTER, 1L, action.getRolloutGroup().getId(),
+                    RolloutStatusCounters.code(action.getStatus()));
+        }
+    }
+
+    @Override
+    public void postUpdate(final DescriptorEvent event) {
+        if (!(event.getObject() instanceof JpaAction action) || action.getRolloutGroup() == null) {
+            return;
+        }
+        final ChangeRecord change = ((WriteObjectQuery) event.getQuery()).getObjectChangeSet()
+                .getChangesForAttributeNamed("status");
+        if (change instanceof DirectToFieldChangeRecord statusChange && statusChange.getOldValue() != null
+                && statusChange.getOldValue() != action.getStatus()) {
+            final long groupId = action.getRolloutGroup().getId();
+            final int from = RolloutStatusCounters.code((Status) statusChange.getOldValue());
+            final int to = RolloutStatusCounters.code(action.getStatus());
+            // always lock the counter rows in the same order
+            execute(event, RolloutStatusCounters.ADD_TO_COUNTER, from < to ? -1L : 1L, groupId, Math.min(from, to));
+            execute(event, RolloutStatusCounters.ADD_TO_COUNTER, from < to ? 1L : -1L, groupId, Math.max(from, to));
+        }
+    }
+
+    @Override
+    public void postDelete(final DescriptorEvent event) {
+        if (event.getObject() instanceof JpaAction action && action.getRolloutGroup() != null) {
+            execute(event, RolloutStatusCounters.ADD_TO_COUNTER, -1L, action.getRolloutGroup().getId(),
+                    RolloutStatusCounters.code(action.getStatus()));
+        }
+    }
+
+    @Override
+    public void preDelete(final DescriptorEvent event) {
+        if (event.getObject() instanceof JpaTarget target) {
+            execute(event, RolloutStatusCounters.REMOVE_ACTIONS_OF_TARGET, target.getId());
+        }
+    }
+
+    private static void execute(final DescriptorEvent event, final String sql, final Object... arguments) {
+        final DataModifyQuery query = new DataModifyQuery(sql);
+        for (int i = 0; i < arguments.length; i++) {
+            query.addArgument(String.valueOf(i));
+        }
+        event.getSession().executeQuery(query, List.of(arguments));
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Materialized count of the actions per {@link Rollout}, rollout group and
+ * {@link Status} in the <code>sp_rollout_status_counter</code> table. Every
+ * rollout group has a counter row for each status, which is created together
+ * with the group. The counters are updated incrementally by the
+ * {@link RolloutStatusCounterListener} when actions are created or change
+ * their status or are deleted, and by the bulk operations on actions through
+ * {@link #move(List, Status, Status)}, {@link #remove(Map, Status)} and
+ * {@link #remove(List)}, so the status of a rollout is read without
+ * aggregating its actions.
+ * <p>
+ * If the counters ever diverge from the actions they can be rebuilt from
+ * <code>sp_action</code> with {@link #rebuild(long)} or {@link #rebuild()}, the
+ * latter is run by the
+ * {@link org.eclipse.hawkbit.repository.jpa.autocleanup.RolloutStatusCounterRepair}
+ * if enabled. The status is stored with the codes of the <code>status</code>
+ * column of <code>sp_action</code>, see {@link #code(Status)}.
+ */
+@Slf4j
+@Transactional(readOnly = true)
+public class RolloutStatusCounters {
+
+    static final String INSERT_COUNTER = "INSERT INTO sp_rollout_status_counter (rollout_group, rollout, status, action_count) VALUES (#0, #1, #2, 0)";
+    static final String ADD_TO_COUNTER = "UPDATE sp_rollout_status_counter SET action_count = action_count + #0 WHERE rollout_group = #1 AND status = #2";
+    static final String REMOVE_ACTIONS_OF_TARGET = "UPDATE sp_rollout_status_counter SET action_count = action_count - (SELECT COUNT(a.id) FROM sp_action a WHERE a.target = #0 AND a.rolloutgroup = sp_rollout_status_counter.rollout_group AND a.status = sp_rollout_status_counter.status) WHERE rollout_group IN (SELECT rolloutgroup FROM sp_action WHERE target = #0 AND rolloutgroup IS NOT NULL)";
+
+    private static final String SET_COUNTER = "UPDATE sp_rollout_status_counter SET action_count = #0 WHERE rollout_group = #1 AND status = #2";
+    private static final String DELETE_COUNTERS_OF_ROLLOUT = "DELETE FROM sp_rollout_status_counter WHERE rollout = #0";
+    private static final String INSERT_COUNTERS_OF_ROLLOUT = "INSERT INTO sp_rollout_status_counter (rollout_group, rollout, status, action_count) SELECT id, rollout, #1, 0 FROM sp_rolloutgroup WHERE rollout = #0";
+    private static final String SELECT_ROLLOUT_STATUS = "SELECT rollout, status, SUM(action_count) FROM sp_rollout_status_counter WHERE rollout IN (%s) GROUP BY rollout, status HAVING SUM(action_count) > 0";
+    private static final String SELECT_GROUP_STATUS = "SELECT rollout_group, status, action_count FROM sp_rollout_status_counter WHERE rollout_group IN (%s) AND action_count > 0";
+
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    private final EntityManager entityManager;
+    private final ActionRepository actionRepository;
+    private final RolloutRepository rolloutRepository;
+    private final PlatformTransactionManager txManager;
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager
+     *            to access the counters
+     * @param actionRepository
+     *            to rebuild the counters from the actions
+     * @param rolloutRepository
+     *            to find the rollouts to rebuild
+     * @param txManager
+     *            to rebuild the counters of every rollout in its own
+     *            transaction
+     */
+    public RolloutStatusCounters(final EntityManager entityManager, final ActionRepository actionRepository,
+            final RolloutRepository rolloutRepository, final PlatformTransactionManager txManager) {
+        this.entityManager = entityManager;
+        this.actionRepository = actionRepository;
+        this.rolloutRepository = rolloutRepository;
+        this.txManager = txManager;
+    }
+
+    /**
+     * Retrieves the number of actions per status of the given rollouts.
+     *
+     * @param rolloutIds
+     *            of the rollouts
+     * @return list of objects with rollout id, status and action count,
+     *         statuses without actions are left out
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutId(final List<Long> rolloutIds) {
+        return select(SELECT_ROLLOUT_STATUS, rolloutIds);
+    }
+
+    /**
+     * Retrieves the number of actions per status of the given rollout groups.
+     *
+     * @param rolloutGroupIds
+     *            of the rollout groups
+     * @return list of objects with rollout group id, status and action count,
+     *         statuses without actions are left out
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(final List<Long> rolloutGroupIds) {
+        return select(SELECT_GROUP_STATUS, rolloutGroupIds);
+    }
+
+    /**
+     * Moves actions between two status counters, has to be called for bulk
+     * updates of the action status which bypass the
+     * {@link RolloutStatusCounterListener}.
+     *
+     * @param countPerGroup
+     *            pairs of rollout group id and number of moved actions
+     * @param from
+     *            former status of the actions
+     * @param to
+     *            new status of the actions
+     */
+    @Transactional
+    public void move(final List<Object[]> countPerGroup, final Status from, final Status to) {
+        countPerGroup.forEach(count -> {
+            final long groupId = ((Number) count[0]).longValue();
+            final long actions = ((Number) count[1]).longValue();
+            // same lock order as the RolloutStatusCounterListener
+            final int fromCode = code(from);
+            final int toCode = code(to);
+            add(groupId, Math.min(fromCode, toCode), fromCode < toCode ? -actions : actions);
+            add(groupId, Math.max(fromCode, toCode), fromCode < toCode ? actions : -actions);
+        });
+    }
+
+    /**
+     * Removes actions from the counters, has to be called for bulk deletes of
+     * actions which bypass the {@link RolloutStatusCounterListener}.
+     *
+     * @param countPerGroup
+     *            number of deleted actions per rollout group id
+     * @param status
+     *            status of the deleted actions
+     */
+    @Transactional
+    public void remove(final Map<Long, Long> countPerGroup, final Status status) {
+        countPerGroup.forEach((groupId, actions) -> add(groupId, code(status), -actions));
+    }
+
+    /**
+     * Removes actions from the counters, has to be called for bulk deletes of
+     * actions with different status which bypass the
+     * {@link RolloutStatusCounterListener}.
+     *
+     * @param countPerGroupAndStatus
+     *            number of deleted actions per rollout group id and status
+     */
+    @Transactional
+    public void remove(final List<TotalTargetCountActionStatus> countPerGroupAndStatus) {
+        // same lock order as the RolloutStatusCounterListener within a group
+        countPerGroupAndStatus.stream()
+                .sorted(Comparator.comparing(TotalTargetCountActionStatus::getId)
+                        .thenComparing(count -> code(count.getStatus())))
+                .forEach(count -> add(count.getId(), code(count.getStatus()), -count.getCount()));
+    }
+
+    /**
+     * Rebuilds the counters of a rollout from its actions.
+     *
+     * @param rolloutId
+     *            of the rollout
+     * @throws EntityNotFoundException
+     *             if the rollout does not exist
+     */
+    @Transactional
+    public void rebuild(final long rolloutId) {
+        if (!rolloutRepository.existsById(rolloutId)) {
+            throw new EntityNotFoundException(Rollout.class, rolloutId);
+        }
+
+        entityManager.createNativeQuery(DELETE_COUNTERS_OF_ROLLOUT).setParameter("0", rolloutId).executeUpdate();
+        for (final Status status : Status.values()) {
+            entityManager.createNativeQuery(INSERT_COUNTERS_OF_ROLLOUT).setParameter("0", rolloutId)
+                    .setParameter("1", code(status)).executeUpdate();
+        }
+        actionRepository.getStatusCountPerRolloutGroupByRolloutId(rolloutId)
+                .forEach(count -> entityManager.createNativeQuery(SET_COUNTER).setParameter("0", count.getCount())
+                        .setParameter("1", count.getId()).setParameter("2", code(count.getStatus()))
+                        .executeUpdate());
+        log.debug("Rebuilt status counters of rollout {}", rolloutId);
+    }
+
+    /**
+     * Rebuilds the counters of all rollouts of the current tenant from their
+     * actions. Every rollout is rebuilt in its own transaction.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public void rebuild() {
+        Slice<Long> rolloutIds;
+        int page = 0;
+        do {
+            rolloutIds = rolloutRepository.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE)).map(Rollout::getId);
+            rolloutIds.forEach(rolloutId -> DeploymentHelper.runInNewTransaction(txManager,
+                    "rebuildRolloutStatusCounters-" + rolloutId, status -> {
+                        rebuild(rolloutId);
+                        return null;
+                    }));
+        } while (rolloutIds.hasNext());
+    }
+
+    /**
+     * @param status
+     *            of an action
+     * @return the code of the status in the counters, the same as in the
+     *         <code>status</code> column of <code>sp_action</code>
+     */
+    static int code(final Status status) {
+        // the codes of the status converter of JpaAction, independent of the declaration order
+        return switch (status) {
+            case FINISHED -> 0;
+            case ERROR -> 1;
+            case WARNING -> 2;
+            case RUNNING -> 3;
+            case CANCELED -> 4;
+            case CANCELING -> 5;
+            case RETRIEVED -> 6;
+            case DOWNLOAD -> 7;
+            case SCHEDULED -> 8;
+            case CANCEL_REJECTED -> 9;
+            case DOWNLOADED -> 10;
+            case WAIT_FOR_CONFIRMATION -> 11;
+        };
+    }
+
+    private static Status status(final int code) {
+        for (final Status status : Status.values()) {
+            if (code(status) == code) {
+                return status;
+            }
+        }
+        throw new IllegalStateException("Unknown action status code " + code);
+    }
+
+    private void add(final long groupId, final int status, final long delta) {
+        entityManager.createNativeQuery(ADD_TO_COUNTER).setParameter("0", delta).setParameter("1", groupId)
+                .setParameter("2", status).executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TotalTargetCountActionStatus> select(final String query, final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<TotalTargetCountActionStatus> result = new ArrayList<>();
+        for (final List<Long> chunk : ListUtils.partition(ids, Constants.MAX_ENTRIES_IN_STATEMENT)) {
+            final Query select = entityManager.createNativeQuery(String.format(query, IntStream.range(0, chunk.size())
+                    .mapToObj(i -> "#" + i).collect(Collectors.joining(","))));
+            IntStream.range(0, chunk.size()).forEach(i -> select.setParameter(String.valueOf(i), chunk.get(i)));
+            ((List<Object[]>) select.getResultList()).forEach(row -> result.add(new TotalTargetCountActionStatus(
+                    ((Number) row[0]).longValue(), status(((Number) row[1]).intValue()),
+                    ((Number) row[2]).longValue())));
+        }
+        return result;
+    }
+}
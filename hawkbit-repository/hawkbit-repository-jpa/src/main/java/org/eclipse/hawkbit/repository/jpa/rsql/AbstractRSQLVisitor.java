@@ -45,6 +45,12 @@ public abstract class AbstractRSQLVisitor<A extends Enum<A> & RsqlQueryField> {
     }
 
     protected QuertPath getQuertPath(final ComparisonNode node) {
+        final RsqlParseCache.ResolvedPath resolved = RsqlParseCache.getInstance()
+                .getPath(rsqlQueryFieldType, node.getSelector(), () -> resolveQuertPath(node));
+        return new QuertPath(rsqlQueryFieldType.cast(resolved.enumValue()), resolved.jpaPath());
+    }
+
+    private RsqlParseCache.ResolvedPath resolveQuertPath(final ComparisonNode node) {
         final int firstSeparatorIndex = node.getSelector().indexOf(RsqlQueryField.SUB_ATTRIBUTE_SEPARATOR);
         final String enumName = (firstSeparatorIndex == -1 ? node.getSelector() : node.getSelector().substring(0, firstSeparatorIndex)).toUpperCase();
         log.debug("Get field identifier by name {} of enum type {}", enumName, rsqlQueryFieldType);
@@ -77,7 +83,7 @@ public abstract class AbstractRSQLVisitor<A extends Enum<A> & RsqlQueryField> {
                 }
             }
 
-            return new QuertPath(enumValue, split);
+            return new RsqlParseCache.ResolvedPath(enumValue, split);
         } catch (final IllegalArgumentException e) {
             throw createRSQLParameterUnsupportedException(node, e);
         }
@@ -11,7 +11,6 @@ package org.eclipse.hawkbit.repository.jpa.rsql;
 
 import java.io.Serial;
 import java.util.List;
-import java.util.Set;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -34,7 +33,6 @@ import org.springframework.util.CollectionUtils;
 
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.RSQLParserException;
-import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import cz.jirutka.rsql.parser.ast.Node;
 import cz.jirutka.rsql.parser.ast.RSQLOperators;
 import cz.jirutka.rsql.parser.ast.RSQLVisitor;
@@ -76,6 +74,8 @@ import cz.jirutka.rsql.parser.ast.RSQLVisitor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RSQLUtility {
 
+    private static final RSQLParser RSQL_PARSER = new RSQLParser(RSQLOperators.defaultOperators());
+
     /**
      * Builds a JPA {@link Specification} which corresponds with the given RSQL
      * query. The specification can be used to filter for JPA entities with the
@@ -97,6 +97,15 @@ public final class RSQLUtility {
         return new RSQLSpecification<>(rsql, fieldNameProvider, virtualPropertyReplacer, database);
     }
 
+    /**
+     * @return <code>true</code> if the RSQL queries are translated by the G2
+     *         visitor, <code>false</code> if by the deprecated legacy visitor
+     */
+    @SuppressWarnings("deprecation")
+    public static boolean isG2RsqlVisitor() {
+        return !RsqlConfigHolder.getInstance().isLegacyRsqlVisitor();
+    }
+
     /**
      * Validates the RSQL string
      * 
@@ -114,12 +123,20 @@ public final class RSQLUtility {
         rootNode.accept(visitor);
     }
 
-    private static Node parseRsql(final String rsql) {
+    static Node parseRsql(final String rsql) {
+        if (rsql == null) {
+            return parseNormalizedRsql(null);
+        }
+        // parsed nodes are cached by the normalized query
+        return RsqlParseCache.getInstance().getNode(
+                RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase() ? rsql.toLowerCase() : rsql,
+                RSQLUtility::parseNormalizedRsql);
+    }
+
+    private static Node parseNormalizedRsql(final String rsql) {
         log.debug("Parsing rsql string {}", rsql);
         try {
-            final Set<ComparisonOperator> operators = RSQLOperators.defaultOperators();
-            return new RSQLParser(operators).parse(
-                    RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase() ? rsql.toLowerCase() : rsql);
+            return RSQL_PARSER.parse(rsql);
         } catch (final IllegalArgumentException e) {
             throw new RSQLParameterSyntaxException("RSQL filter must not be null", e);
         } catch (final RSQLParserException e) {
@@ -151,7 +168,7 @@ public final class RSQLUtility {
             query.distinct(true);
 
             final RSQLVisitor<List<Predicate>, String> jpqQueryRSQLVisitor =
-                    RsqlConfigHolder.getInstance().isLegacyRsqlVisitor() ?
+                    !isG2RsqlVisitor() ?
                             new JpaQueryRsqlVisitor<>(
                                     root, cb, enumType,
                                     virtualPropertyReplacer, database, query,
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.repository.RsqlQueryField;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+
+import cz.jirutka.rsql.parser.ast.Node;
+
+/**
+ * Bounded cache of the parsed RSQL queries and of the JPA paths resolved for
+ * their selectors, shared by all tenants. Filter strings of target filter
+ * queries, auto assignments and rollouts are evaluated over and over again,
+ * with the cache they are parsed and validated only once.
+ * <p>
+ * The {@link Node}s are immutable and keyed by the normalized query, i.e. the
+ * query as it is passed to the parser. The resolved paths are keyed by the
+ * {@link RsqlQueryField} type and the selector. Neither depends on the tenant
+ * or on the {@link VirtualPropertyReplacer}, the placeholders are kept in the
+ * cached nodes and replaced when the nodes are visited. Failed parses and
+ * resolutions are not cached.
+ * <p>
+ * Metrics (registered by {@link #bindTo(MeterRegistry)}): the Caffeine cache
+ * metrics, e.g. <code>cache.gets</code> with the result hit or miss, of the
+ * caches <code>rsql.nodes</code> and <code>rsql.paths</code>.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RsqlParseCache {
+
+    private static final int MAX_NODES = 10_000;
+    private static final int MAX_PATHS = 1_000;
+
+    private static final RsqlParseCache SINGLETON = new RsqlParseCache();
+
+    private final Cache<String, Node> nodes = Caffeine.newBuilder().maximumSize(MAX_NODES).recordStats().build();
+    private final Cache<PathKey, ResolvedPath> paths = Caffeine.newBuilder().maximumSize(MAX_PATHS).recordStats()
+            .build();
+
+    /**
+     * @return The cache singleton instance.
+     */
+    public static RsqlParseCache getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * Registers the metrics of the caches.
+     *
+     * @param registry
+     *            registry for the cache metrics
+     */
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, nodes, "rsql.nodes");
+        CaffeineCacheMetrics.monitor(registry, paths, "rsql.paths");
+    }
+
+    /**
+     * Removes all cached nodes and paths.
+     */
+    public void invalidateAll() {
+        nodes.invalidateAll();
+        paths.invalidateAll();
+    }
+
+    Node getNode(final String normalizedRsql, final Function<String, Node> parser) {
+        return nodes.get(normalizedRsql, parser);
+    }
+
+    ResolvedPath getPath(final Class<?> rsqlQueryFieldType, final String selector,
+            final Supplier<ResolvedPath> resolver) {
+        return paths.get(new PathKey(rsqlQueryFieldType, selector), key -> resolver.get());
+    }
+
+    /**
+     * A selector resolved to its {@link RsqlQueryField} and JPA path. The path
+     * is shared and must not be modified.
+     */
+    record ResolvedPath(Enum<?> enumValue, String[] jpaPath) {
+    }
+
+    private record PathKey(Class<?> rsqlQueryFieldType, String selector) {
+    }
+}
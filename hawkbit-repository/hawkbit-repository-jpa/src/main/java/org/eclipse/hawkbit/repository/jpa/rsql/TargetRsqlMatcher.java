@@ -0,0 +1,488 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetSnapshot.DistributionSetSnapshot;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetSnapshot.TargetTypeSnapshot;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+
+/**
+ * Evaluates a target filter query against a single {@link TargetSnapshot} in
+ * memory, e.g. to check the auto assignments of a target without a query per
+ * target filter query.
+ * <p>
+ * The query is evaluated with the semantics of the SQL query built by
+ * {@link JpaQueryRsqlVisitorG2}: a target matches if any combination of the
+ * rows of its (left) joined collections and references satisfies the query.
+ * Like the visitor every comparison gets a join of its own, in an OR the
+ * comparisons share the joins by their type. Negated comparisons on sub
+ * entities (e.g. <code>tag!=x</code>) are not exists sub queries.
+ * <p>
+ * Where the result would depend on the database, e.g. string ordering or
+ * number conversions, and with the legacy visitor an
+ * {@link UnsupportedOperationException} is thrown, the query has to be
+ * evaluated by the database then.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetRsqlMatcher {
+
+    // upper bound of the row combinations for joins shared in an OR
+    private static final int MAX_COMBINATIONS = 10_000;
+
+    /**
+     * Checks if a target matches a target filter query.
+     *
+     * @param target
+     *            the target
+     * @param rsql
+     *            the target filter query
+     * @param virtualPropertyReplacer
+     *            to replace the placeholders, may be <code>null</code>
+     * @return <code>true</code> if the target matches the query
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field of the query is not a target field
+     * @throws RSQLParameterSyntaxException
+     *             if the query syntax is wrong
+     * @throws UnsupportedOperationException
+     *             if the query can not be evaluated in memory
+     */
+    public static boolean matches(final TargetSnapshot target, final String rsql,
+            final VirtualPropertyReplacer virtualPropertyReplacer) {
+        if (!RSQLUtility.isG2RsqlVisitor()) {
+            throw new UnsupportedOperationException("Queries of the legacy RSQL visitor are evaluated by the database");
+        }
+
+        final RsqlConfigHolder config = RsqlConfigHolder.getInstance();
+        final ConditionVisitor visitor = new ConditionVisitor(virtualPropertyReplacer,
+                config.isIgnoreCase() || config.isCaseInsensitiveDB(), config.isCaseInsensitiveDB());
+        final Condition condition = RSQLUtility.parseRsql(rsql).accept(visitor);
+
+        final List<Join> shared = visitor.joins.stream().filter(join -> join.uses > 1).toList();
+        long combinations = 1;
+        for (final Join join : shared) {
+            combinations *= join.attribute.rows(target).size();
+            if (combinations > MAX_COMBINATIONS) {
+                throw new UnsupportedOperationException("Too many row combinations for the query " + rsql);
+            }
+        }
+        return matches(target, condition, shared, 0, new IdentityHashMap<>());
+    }
+
+    private static boolean matches(final TargetSnapshot target, final Condition condition, final List<Join> shared,
+            final int index, final Map<Join, Object> rows) {
+        if (index == shared.size()) {
+            return condition.test(target, rows);
+        }
+        final Join join = shared.get(index);
+        for (final Object row : join.attribute.rows(target)) {
+            rows.put(join, row);
+            if (matches(target, condition, shared, index + 1, rows)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+
+        boolean test(TargetSnapshot target, Map<Join, Object> rows);
+    }
+
+    /**
+     * The attributes of the target which are joined, with their rows. An empty
+     * collection or reference has a single <code>null</code> row, as it is
+     * left joined.
+     */
+    private enum JoinedAttribute {
+
+        CONTROLLER_ATTRIBUTES("controllerAttributes", Map.class, TargetSnapshot::attributes),
+        METADATA("metadata", List.class, TargetSnapshot::metadata),
+        TAGS("tags", Set.class, TargetSnapshot::tags),
+        ASSIGNED_DS("assignedDistributionSet", DistributionSetSnapshot.class,
+                target -> single(target.assignedDistributionSet())),
+        INSTALLED_DS("installedDistributionSet", DistributionSetSnapshot.class,
+                target -> single(target.installedDistributionSet())),
+        TARGET_TYPE("targetType", TargetTypeSnapshot.class, target -> single(target.targetType()));
+
+        private final String jpaEntityFieldName;
+        // the joins in an OR are shared by the java type of the attribute
+        private final Class<?> javaType;
+        private final Function<TargetSnapshot, List<?>> rows;
+
+        JoinedAttribute(final String jpaEntityFieldName, final Class<?> javaType,
+                final Function<TargetSnapshot, List<?>> rows) {
+            this.jpaEntityFieldName = jpaEntityFieldName;
+            this.javaType = javaType;
+            this.rows = rows;
+        }
+
+        private List<?> rows(final TargetSnapshot target) {
+            final List<?> result = rows.apply(target);
+            return result.isEmpty() ? Collections.singletonList(null) : result;
+        }
+
+        private List<?> nonNullRows(final TargetSnapshot target) {
+            return rows.apply(target);
+        }
+
+        private static JoinedAttribute of(final String jpaEntityFieldName) {
+            return Arrays.stream(values()).filter(value -> value.jpaEntityFieldName.equals(jpaEntityFieldName))
+                    .findFirst().orElse(null);
+        }
+
+        private static List<?> single(final Object row) {
+            return row == null ? Collections.emptyList() : Collections.singletonList(row);
+        }
+    }
+
+    private static final class Join {
+
+        private final JoinedAttribute attribute;
+        private int uses;
+
+        private Join(final JoinedAttribute attribute) {
+            this.attribute = attribute;
+        }
+    }
+
+    private enum ValueType {
+        STRING, NUMBER, ENUM
+    }
+
+    private static final class ConditionVisitor extends AbstractRSQLVisitor<TargetFields>
+            implements RSQLVisitor<Condition, String> {
+
+        private final VirtualPropertyReplacer virtualPropertyReplacer;
+        private final boolean ignoreCase;
+        private final boolean caseInsensitiveDB;
+
+        private final List<Join> joins = new ArrayList<>();
+        private boolean inOr;
+        private final Map<Class<?>, Join> orJoins = new HashMap<>();
+
+        private ConditionVisitor(final VirtualPropertyReplacer virtualPropertyReplacer, final boolean ignoreCase,
+                final boolean caseInsensitiveDB) {
+            super(TargetFields.class);
+            this.virtualPropertyReplacer = virtualPropertyReplacer;
+            this.ignoreCase = ignoreCase;
+            this.caseInsensitiveDB = caseInsensitiveDB;
+        }
+
+        @Override
+        public Condition visit(final AndNode node, final String param) {
+            final List<Condition> children = acceptChildren(node);
+            return (target, rows) -> children.stream().allMatch(child -> child.test(target, rows));
+        }
+
+        @Override
+        public Condition visit(final OrNode node, final String param) {
+            inOr = true;
+            try {
+                final List<Condition> children = acceptChildren(node);
+                return (target, rows) -> children.stream().anyMatch(child -> child.test(target, rows));
+            } finally {
+                inOr = false;
+                orJoins.clear();
+            }
+        }
+
+        private List<Condition> acceptChildren(final LogicalNode node) {
+            return node.getChildren().stream().map(child -> child.accept(this)).toList();
+        }
+
+        @Override
+        public Condition visit(final ComparisonNode node, final String param) {
+            final QuertPath queryField = getQuertPath(node);
+            final TargetFields field = queryField.getEnumValue();
+            final String[] path = queryField.getJpaPath();
+
+            // the join is created (or reused in an OR) even if the comparison
+            // is a sub query, like the JPA visitor does
+            final JoinedAttribute attribute = JoinedAttribute.of(path[0]);
+            final Join join = attribute == null ? null : join(attribute);
+
+            final ValueType valueType = valueType(field);
+            final List<Object> values = node.getArguments().stream()
+                    .map(value -> valueType == ValueType.ENUM ? toUpdateStatus(node, value) : (Object) value)
+                    .toList();
+            final String value = virtualPropertyReplacer == null ? node.getArguments().get(0)
+                    : virtualPropertyReplacer.replace(node.getArguments().get(0));
+            final boolean simpleField = path.length == 1 || (path.length == 2 && field.isMap());
+
+            final String operator = node.getOperator().getSymbol();
+            final Predicate<Object> subQuery = switch (operator) {
+                case "!=" -> values.get(0) instanceof String str && !NumberUtils.isCreatable(str) && !str.isEmpty()
+                        && !simpleField ? equalOrLike(str) : null;
+                case "=out=" -> !simpleField ? in(values) : null;
+                default -> null;
+            };
+            if (subQuery != null) {
+                // not exists a row of the attribute of the field
+                return (target, rows) -> attribute.nonNullRows(target).stream()
+                        .noneMatch(row -> subQuery.test(rowValue(row, path)));
+            }
+
+            final Predicate<Object> predicate = predicate(operator, valueType, simpleField, values, value);
+            if (join == null) {
+                final Function<TargetSnapshot, Object> fieldValue = basicValue(path[0]);
+                return (target, rows) -> predicate.test(fieldValue.apply(target));
+            }
+
+            join.uses++;
+            final Predicate<Object> keyPredicate = field.isMap() ? equal(path[path.length - 1]) : null;
+            final Predicate<Object> rowPredicate = row -> (keyPredicate == null || keyPredicate.test(rowKey(row)))
+                    && predicate.test(rowValue(row, path));
+            return (target, rows) -> {
+                if (join.uses > 1) {
+                    return rowPredicate.test(rows.get(join));
+                }
+                return join.attribute.rows(target).stream().anyMatch(rowPredicate);
+            };
+        }
+
+        private Join join(final JoinedAttribute attribute) {
+            if (inOr) {
+                return orJoins.computeIfAbsent(attribute.javaType, javaType -> newJoin(attribute));
+            }
+            return newJoin(attribute);
+        }
+
+        private Join newJoin(final JoinedAttribute attribute) {
+            final Join join = new Join(attribute);
+            joins.add(join);
+            return join;
+        }
+
+        private Predicate<Object> predicate(final String operator, final ValueType valueType,
+                final boolean simpleField, final List<Object> values, final String value) {
+            final Object first = values.get(0);
+            return switch (operator) {
+                case "==" -> {
+                    if (first instanceof String str && !NumberUtils.isCreatable(str)) {
+                        assertString(valueType);
+                        yield str.isEmpty() ? v -> v == null || "".equals(v) : equalOrLike(str);
+                    }
+                    yield valueType == ValueType.NUMBER ? numberEquals((String) first) : exactlyEqual(first);
+                }
+                case "!=" -> {
+                    if (first instanceof String str && !NumberUtils.isCreatable(str)) {
+                        assertString(valueType);
+                        if (str.isEmpty()) {
+                            yield v -> v != null && !"".equals(v);
+                        }
+                        // not simple fields are sub queries
+                        yield equalOrLike(str).negate();
+                    }
+                    if (valueType == ValueType.NUMBER) {
+                        final Predicate<Object> equal = numberEquals((String) first);
+                        yield v -> v == null || !equal.test(v);
+                    }
+                    final Predicate<Object> equal = first instanceof String str ? equal(str) : exactlyEqual(first);
+                    yield v -> v == null || !equal.test(v);
+                }
+                case "=gt=" -> compare(valueType, value, result -> result > 0);
+                case "=ge=" -> compare(valueType, value, result -> result >= 0);
+                case "=lt=" -> compare(valueType, value, result -> result < 0);
+                case "=le=" -> compare(valueType, value, result -> result <= 0);
+                case "=in=" -> {
+                    assertNotNumber(valueType);
+                    yield in(values);
+                }
+                case "=out=" -> {
+                    assertNotNumber(valueType);
+                    // not simple fields are sub queries
+                    final Predicate<Object> in = in(values);
+                    yield v -> v == null || !in.test(v);
+                }
+                default -> throw new RSQLParameterSyntaxException(
+                        "Operator symbol {" + operator + "} is either not supported or not implemented");
+            };
+        }
+
+        private Predicate<Object> equalOrLike(final String value) {
+            return isPattern(value) ? like(value) : equal(value);
+        }
+
+        // compared like the upper cased expressions of the JPA visitor
+        private Predicate<Object> equal(final String value) {
+            final String expected = caseWise(value);
+            return v -> v != null && caseWise(v.toString()).equals(expected);
+        }
+
+        // compared like the values which are not converted by the JPA visitor
+        private Predicate<Object> exactlyEqual(final Object value) {
+            if (value instanceof String str) {
+                return v -> v != null && (caseInsensitiveDB ? str.equalsIgnoreCase(v.toString()) : str.equals(v));
+            }
+            return v -> Objects.equals(v, value);
+        }
+
+        private Predicate<Object> like(final String value) {
+            final Pattern pattern = toPattern(caseWise(value));
+            return v -> v != null && pattern.matcher(caseWise(v.toString())).matches();
+        }
+
+        private Predicate<Object> in(final List<Object> values) {
+            final List<Object> expected = values.stream()
+                    .map(value -> value instanceof String str ? caseWise(str) : value).toList();
+            return v -> v != null && expected.contains(v instanceof String str ? caseWise(str) : v);
+        }
+
+        private String caseWise(final String value) {
+            return ignoreCase ? value.toUpperCase() : value;
+        }
+
+        private static Predicate<Object> numberEquals(final String value) {
+            final long expected = toLong(value);
+            return v -> v != null && (Long) v == expected;
+        }
+
+        private static Predicate<Object> compare(final ValueType valueType, final String value,
+                final Predicate<Integer> result) {
+            if (valueType != ValueType.NUMBER) {
+                throw new UnsupportedOperationException("Only numbers are compared in memory");
+            }
+            final long expected = toLong(value);
+            return v -> v != null && result.test(Long.compare((Long) v, expected));
+        }
+
+        private static long toLong(final String value) {
+            try {
+                final long number = Long.parseLong(value);
+                if (Long.toString(number).equals(value)) {
+                    return number;
+                }
+            } catch (final NumberFormatException e) {
+                // converted by the database
+            }
+            throw new UnsupportedOperationException("Value " + value + " is not compared in memory");
+        }
+
+        private static void assertString(final ValueType valueType) {
+            if (valueType != ValueType.STRING) {
+                throw new UnsupportedOperationException("Only strings are compared as strings in memory");
+            }
+        }
+
+        private static void assertNotNumber(final ValueType valueType) {
+            if (valueType == ValueType.NUMBER) {
+                throw new UnsupportedOperationException("Numbers are not compared as strings in memory");
+            }
+        }
+
+        private static ValueType valueType(final TargetFields field) {
+            return switch (field) {
+                case CREATEDAT, LASTMODIFIEDAT, LASTCONTROLLERREQUESTAT -> ValueType.NUMBER;
+                case UPDATESTATUS -> ValueType.ENUM;
+                default -> ValueType.STRING;
+            };
+        }
+
+        private static Object toUpdateStatus(final ComparisonNode node, final String value) {
+            try {
+                return TargetUpdateStatus.valueOf(value.toUpperCase());
+            } catch (final IllegalArgumentException e) {
+                throw new RSQLParameterUnsupportedFieldException("field {" + node.getSelector()
+                        + "} must be one of the following values {" + Arrays.stream(TargetUpdateStatus.values())
+                                .map(v -> v.name().toLowerCase()).toList()
+                        + "}", e);
+            }
+        }
+
+        private static Function<TargetSnapshot, Object> basicValue(final String jpaEntityFieldName) {
+            return switch (jpaEntityFieldName) {
+                case "controllerId" -> TargetSnapshot::controllerId;
+                case "name" -> TargetSnapshot::name;
+                case "description" -> TargetSnapshot::description;
+                case "createdAt" -> TargetSnapshot::createdAt;
+                case "lastModifiedAt" -> TargetSnapshot::lastModifiedAt;
+                case "updateStatus" -> TargetSnapshot::updateStatus;
+                case "address" -> TargetSnapshot::address;
+                case "lastTargetQuery" -> TargetSnapshot::lastTargetQuery;
+                default -> throw new UnsupportedOperationException(
+                        "Field " + jpaEntityFieldName + " is not evaluated in memory");
+            };
+        }
+
+        private static Object rowKey(final Object row) {
+            return row instanceof Map.Entry<?, ?> entry ? entry.getKey() : null;
+        }
+
+        // the row may be of another attribute with the same java type, like
+        // the JPA visitor reuses the join by type
+        private static Object rowValue(final Object row, final String[] path) {
+            if (row == null) {
+                return null;
+            } else if (row instanceof Map.Entry<?, ?> entry) {
+                return entry.getValue();
+            } else if (row instanceof String tag) {
+                return tag;
+            } else if (row instanceof DistributionSetSnapshot distributionSet) {
+                return "version".equals(path[1]) ? distributionSet.version() : distributionSet.name();
+            } else if (row instanceof TargetTypeSnapshot targetType) {
+                return "key".equals(path[1]) ? targetType.key() : targetType.name();
+            }
+            throw new UnsupportedOperationException("Row " + row + " is not evaluated in memory");
+        }
+
+        private static boolean isPattern(final String value) {
+            return value.replace("\\*", "$").indexOf(JpaQueryRsqlVisitorG2.LIKE_WILDCARD) != -1;
+        }
+
+        // '*' is the wildcard, '\*' a literal '*', everything else is literal
+        private static Pattern toPattern(final String value) {
+            final StringBuilder regex = new StringBuilder();
+            int literalStart = 0;
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c == '\\') {
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '*') {
+                        throw new UnsupportedOperationException("Escapes are evaluated by the database");
+                    }
+                    regex.append(Pattern.quote(value.substring(literalStart, i))).append("\\*");
+                    literalStart = ++i + 1;
+                } else if (c == '*') {
+                    regex.append(Pattern.quote(value.substring(literalStart, i))).append(".*");
+                    literalStart = i + 1;
+                }
+            }
+            regex.append(Pattern.quote(value.substring(literalStart)));
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+    }
+}
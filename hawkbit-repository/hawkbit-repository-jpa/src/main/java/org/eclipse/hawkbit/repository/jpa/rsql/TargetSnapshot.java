@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+
+/**
+ * Detached copy of the target fields which can be used in a target filter
+ * query, see {@link TargetRsqlMatcher}. Besides the fields it contains the
+ * distribution sets of the actions of the target and the distribution set
+ * types compatible with its target type, so that the auto assignment checks
+ * of a target do not need a query per target filter query.
+ *
+ * @param controllerId
+ *            controller id of the target
+ * @param name
+ *            name of the target
+ * @param description
+ *            description of the target
+ * @param createdAt
+ *            creation time of the target
+ * @param lastModifiedAt
+ *            last modification time of the target
+ * @param updateStatus
+ *            update status of the target
+ * @param address
+ *            address of the target, may be <code>null</code>
+ * @param lastTargetQuery
+ *            time of the last poll, may be <code>null</code>
+ * @param attributes
+ *            controller attributes as key value pairs
+ * @param metadata
+ *            metadata as key value pairs
+ * @param tags
+ *            names of the tags
+ * @param assignedDistributionSet
+ *            assigned distribution set, may be <code>null</code>
+ * @param installedDistributionSet
+ *            installed distribution set, may be <code>null</code>
+ * @param targetType
+ *            target type, may be <code>null</code>
+ * @param actionDistributionSetIds
+ *            ids of the distribution sets of all actions of the target
+ */
+public record TargetSnapshot(String controllerId, String name, String description, long createdAt,
+        long lastModifiedAt, TargetUpdateStatus updateStatus, String address, Long lastTargetQuery,
+        List<Map.Entry<String, String>> attributes, List<Map.Entry<String, String>> metadata, List<String> tags,
+        DistributionSetSnapshot assignedDistributionSet, DistributionSetSnapshot installedDistributionSet,
+        TargetTypeSnapshot targetType, Set<Long> actionDistributionSetIds) {
+
+    /**
+     * Copies the fields of a target. Has to be called in a transaction, the
+     * collections of the target are loaded.
+     *
+     * @param target
+     *            the target to copy
+     * @param actionDistributionSetIds
+     *            ids of the distribution sets of all actions of the target
+     * @return the snapshot
+     */
+    public static TargetSnapshot of(final JpaTarget target, final Collection<Long> actionDistributionSetIds) {
+        return new TargetSnapshot(target.getControllerId(), target.getName(), target.getDescription(),
+                target.getCreatedAt(), target.getLastModifiedAt(), target.getUpdateStatus(),
+                target.getAddress() == null ? null : target.getAddress().toString(), target.getLastTargetQuery(),
+                target.getControllerAttributes().entrySet().stream().map(TargetSnapshot::entry).toList(),
+                target.getMetadata().stream().map(meta -> entry(meta.getKey(), meta.getValue())).toList(),
+                target.getTags().stream().map(TargetTag::getName).toList(),
+                DistributionSetSnapshot.of(target.getAssignedDistributionSet()),
+                DistributionSetSnapshot.of(target.getInstalledDistributionSet()),
+                TargetTypeSnapshot.of(target.getTargetType()), Set.copyOf(actionDistributionSetIds));
+    }
+
+    /**
+     * @param distributionSetId
+     *            the distribution set
+     * @return <code>true</code> if the target has an action (in any state)
+     *         for the distribution set
+     */
+    public boolean hasActionFor(final long distributionSetId) {
+        return actionDistributionSetIds.contains(distributionSetId);
+    }
+
+    /**
+     * @param distributionSetTypeId
+     *            the distribution set type
+     * @return <code>true</code> if the target has no type or its type is
+     *         compatible with the distribution set type
+     */
+    public boolean isCompatibleWith(final long distributionSetTypeId) {
+        return targetType == null || targetType.compatibleDistributionSetTypeIds().contains(distributionSetTypeId);
+    }
+
+    private static Map.Entry<String, String> entry(final Map.Entry<String, String> entry) {
+        return entry(entry.getKey(), entry.getValue());
+    }
+
+    // allows null values, unlike Map.entry
+    private static Map.Entry<String, String> entry(final String key, final String value) {
+        return new SimpleImmutableEntry<>(key, value);
+    }
+
+    /**
+     * The fields of a distribution set which can be used in a target filter
+     * query.
+     *
+     * @param name
+     *            name of the distribution set
+     * @param version
+     *            version of the distribution set
+     */
+    public record DistributionSetSnapshot(String name, String version) {
+
+        private static DistributionSetSnapshot of(final DistributionSet distributionSet) {
+            return distributionSet == null ? null
+                    : new DistributionSetSnapshot(distributionSet.getName(), distributionSet.getVersion());
+        }
+    }
+
+    /**
+     * The fields of a target type which can be used in a target filter query
+     * and the compatible distribution set types.
+     *
+     * @param key
+     *            key of the target type
+     * @param name
+     *            name of the target type
+     * @param compatibleDistributionSetTypeIds
+     *            ids of the compatible distribution set types
+     */
+    public record TargetTypeSnapshot(String key, String name, Set<Long> compatibleDistributionSetTypeIds) {
+
+        private static TargetTypeSnapshot of(final TargetType targetType) {
+            return targetType == null ? null
+                    : new TargetTypeSnapshot(targetType.getKey(), targetType.getName(),
+                            targetType.getCompatibleDistributionSetTypes().stream().map(BaseEntity::getId)
+                                    .collect(Collectors.toUnmodifiableSet()));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -97,6 +98,19 @@ public final class ActionSpecifications {
         };
     }
 
+    /**
+     * Returns the actions with the given ids. Fetches action's target.
+     *
+     * @param actionIds ids of the actions
+     * @return the matching actions
+     */
+    public static Specification<JpaAction> byIdsFetchTarget(final Collection<Long> actionIds) {
+        return (root, query, cb) -> {
+            root.fetch(JpaAction_.target);
+            return root.get(JpaAction_.id).in(actionIds);
+        };
+    }
+
     public static Specification<JpaAction> byDistributionSetId(final Long distributionSetId) {
         return (root, query, cb) -> cb.equal(root.get(JpaAction_.distributionSet).get(JpaTarget_.id), distributionSetId);
     }
@@ -0,0 +1,8 @@
+CREATE TABLE sp_lock
+(
+    lock_key            VARCHAR(128) NOT NULL,
+    lock_owner          VARCHAR(64) NOT NULL,
+    fencing_token       BIGINT NOT NULL,
+    expires_at          BIGINT NOT NULL,
+    primary key (lock_key)
+);
@@ -0,0 +1,8 @@
+create table sp_lock
+(
+    lock_key            varchar(128) not null,
+    lock_owner          varchar(64) not null,
+    fencing_token       bigint not null,
+    expires_at          bigint not null,
+    primary key (lock_key)
+);
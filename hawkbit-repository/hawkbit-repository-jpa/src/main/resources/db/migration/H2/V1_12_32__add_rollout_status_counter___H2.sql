@@ -0,0 +1,38 @@
+create table sp_rollout_status_counter
+(
+    rollout_group       bigint not null,
+    rollout             bigint not null,
+    status              integer not null,
+    action_count        bigint not null,
+    primary key (rollout_group, status)
+);
+
+create index sp_idx_rollout_status_counter_01 on sp_rollout_status_counter (rollout);
+
+alter table sp_rollout_status_counter
+    add constraint fk_rollout_status_counter_group foreign key (rollout_group)
+    references sp_rolloutgroup (id) on delete cascade;
+
+insert into sp_rollout_status_counter (rollout_group, rollout, status, action_count)
+select g.id, g.rollout, s.status, coalesce(c.action_count, 0)
+from sp_rolloutgroup g
+    cross join (
+        select 0 as status
+        union all select 1
+        union all select 2
+        union all select 3
+        union all select 4
+        union all select 5
+        union all select 6
+        union all select 7
+        union all select 8
+        union all select 9
+        union all select 10
+        union all select 11
+    ) s
+    left join (
+        select rolloutgroup, status, count(id) as action_count
+        from sp_action
+        where rolloutgroup is not null
+        group by rolloutgroup, status
+    ) c on c.rolloutgroup = g.id and c.status = s.status;
@@ -0,0 +1,10 @@
+create table sp_tenant_purge
+(
+    tenant              varchar(40) not null,
+    started_at          bigint not null,
+    last_modified_at    bigint not null,
+    step                integer not null,
+    step_count          integer not null,
+    deleted_rows        bigint not null,
+    primary key (tenant)
+);
@@ -0,0 +1,10 @@
+CREATE TABLE sp_lock
+(
+    lock_key      VARCHAR(128) NOT NULL,
+    lock_owner    VARCHAR(64)  NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    expires_at    BIGINT       NOT NULL
+);
+
+ALTER TABLE sp_lock
+    ADD CONSTRAINT pk_sp_lock PRIMARY KEY (lock_key);
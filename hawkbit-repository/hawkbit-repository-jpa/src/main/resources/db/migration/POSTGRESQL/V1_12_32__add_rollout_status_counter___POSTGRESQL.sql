@@ -0,0 +1,40 @@
+CREATE TABLE sp_rollout_status_counter
+(
+    rollout_group       BIGINT NOT NULL,
+    rollout             BIGINT NOT NULL,
+    status              INTEGER NOT NULL,
+    action_count        BIGINT NOT NULL
+);
+
+ALTER TABLE sp_rollout_status_counter
+    ADD CONSTRAINT pk_sp_rollout_status_counter PRIMARY KEY (rollout_group, status);
+
+CREATE INDEX sp_idx_rollout_status_counter_01 ON sp_rollout_status_counter (rollout);
+
+ALTER TABLE sp_rollout_status_counter
+    ADD CONSTRAINT fk_rollout_status_counter_group FOREIGN KEY (rollout_group)
+    REFERENCES sp_rolloutgroup (id) ON DELETE CASCADE;
+
+INSERT INTO sp_rollout_status_counter (rollout_group, rollout, status, action_count)
+SELECT g.id, g.rollout, s.status, COALESCE(c.action_count, 0)
+FROM sp_rolloutgroup g
+    CROSS JOIN (
+        SELECT 0 AS status
+        UNION ALL SELECT 1
+        UNION ALL SELECT 2
+        UNION ALL SELECT 3
+        UNION ALL SELECT 4
+        UNION ALL SELECT 5
+        UNION ALL SELECT 6
+        UNION ALL SELECT 7
+        UNION ALL SELECT 8
+        UNION ALL SELECT 9
+        UNION ALL SELECT 10
+        UNION ALL SELECT 11
+    ) s
+    LEFT JOIN (
+        SELECT rolloutgroup, status, COUNT(id) AS action_count
+        FROM sp_action
+        WHERE rolloutgroup IS NOT NULL
+        GROUP BY rolloutgroup, status
+    ) c ON c.rolloutgroup = g.id AND c.status = s.status;
@@ -0,0 +1,12 @@
+CREATE TABLE sp_tenant_purge
+(
+    tenant           VARCHAR(40) NOT NULL,
+    started_at       BIGINT      NOT NULL,
+    last_modified_at BIGINT      NOT NULL,
+    step             INTEGER     NOT NULL,
+    step_count       INTEGER     NOT NULL,
+    deleted_rows     BIGINT      NOT NULL
+);
+
+ALTER TABLE sp_tenant_purge
+    ADD CONSTRAINT pk_sp_tenant_purge PRIMARY KEY (tenant);
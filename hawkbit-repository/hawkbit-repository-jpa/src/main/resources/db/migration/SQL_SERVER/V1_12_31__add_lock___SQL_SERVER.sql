@@ -0,0 +1,8 @@
+CREATE TABLE sp_lock
+(
+    lock_key            VARCHAR(128) NOT NULL,
+    lock_owner          VARCHAR(64) NOT NULL,
+    fencing_token       NUMERIC(19) NOT NULL,
+    expires_at          NUMERIC(19) NOT NULL,
+    PRIMARY KEY (lock_key)
+);
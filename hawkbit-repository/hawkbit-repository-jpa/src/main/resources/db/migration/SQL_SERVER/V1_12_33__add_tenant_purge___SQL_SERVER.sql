@@ -0,0 +1,10 @@
+CREATE TABLE sp_tenant_purge
+(
+    tenant              VARCHAR(40) NOT NULL,
+    started_at          NUMERIC(19) NOT NULL,
+    last_modified_at    NUMERIC(19) NOT NULL,
+    step                INTEGER NOT NULL,
+    step_count          INTEGER NOT NULL,
+    deleted_rows        NUMERIC(19) NOT NULL,
+    PRIMARY KEY (tenant)
+);
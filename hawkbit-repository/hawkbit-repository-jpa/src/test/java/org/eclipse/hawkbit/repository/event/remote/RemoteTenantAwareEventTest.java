@@ -82,6 +82,27 @@ public class RemoteTenantAwareEventTest extends AbstractRemoteEventTest {
         assertThat(remoteCancelEventJackson.getControllerIds()).containsExactlyElementsOf(controllerIds);
     }
 
+    @Test
+    @Description("Verifies that a TargetPollBatchEvent can be properly serialized and deserialized")
+    public void testTargetPollBatchEvent() {
+        final TargetPollBatchEvent batchEvent = new TargetPollBatchEvent(TENANT_DEFAULT,
+                new String[] { "id0", "id1", "id2" }, new long[] { 10L, 20L, 30L }, APPLICATION_ID_DEFAULT);
+
+        final TargetPollBatchEvent remoteEventProtoStuff = createProtoStuffEvent(batchEvent);
+        assertThat(batchEvent).isEqualTo(remoteEventProtoStuff);
+        assertThat(remoteEventProtoStuff.getPollTimes()).containsExactly(10L, 20L, 30L);
+
+        final TargetPollBatchEvent remoteEventJackson = createJacksonEvent(batchEvent);
+        assertThat(batchEvent).isEqualTo(remoteEventJackson);
+
+        assertThat(remoteEventProtoStuff.toTargetPollEvents()).extracting(TargetPollEvent::getControllerId)
+                .containsExactly("id0", "id1", "id2");
+        assertThat(remoteEventProtoStuff.toTargetPollEvents()).allSatisfy(pollEvent -> {
+            assertThat(pollEvent.getTenant()).isEqualTo(TENANT_DEFAULT);
+            assertThat(pollEvent.getOriginService()).isEqualTo(APPLICATION_ID_DEFAULT);
+        });
+    }
+
     @Test
     @Description("Verifies that a DownloadProgressEvent can be properly serialized and deserialized")
     public void reloadDownloadProgessByRemoteEvent() {
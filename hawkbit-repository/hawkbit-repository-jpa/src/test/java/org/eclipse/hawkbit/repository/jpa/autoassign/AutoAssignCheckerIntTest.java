@@ -12,17 +12,22 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionType;
@@ -32,7 +37,9 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,6 +48,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -61,6 +69,9 @@ class AutoAssignCheckerIntTest extends AbstractJpaIntegrationTest {
     @Autowired
     private DeploymentManagement deploymentManagement;
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
     @Test
     @Description("Verifies that a running action is auto canceled by a AutoAssignment which assigns another distribution-set.")
     void autoAssignDistributionSetAndAutoCloseOldActions() {
@@ -181,6 +192,65 @@ class AutoAssignCheckerIntTest extends AbstractJpaIntegrationTest {
         verifyThatTargetsNotHaveDistributionSetAssignment(toAssignDs, targets.subList(1, 25));
     }
 
+    @Test
+    @Description("Test auto assignment of a DS for a specific device evaluating the target filter queries in memory")
+    void checkAutoAssignmentForDeviceInMemory() {
+        final boolean legacyRsqlVisitor = !RSQLUtility.isG2RsqlVisitor();
+        ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", false);
+        try {
+            final DistributionSet toAssignDs = testdataFactory.createDistributionSet();
+            targetFilterQueryManagement.updateAutoAssignDS(entityFactory.targetFilterQuery()
+                    .updateAutoAssign(targetFilterQueryManagement.create(entityFactory.targetFilterQuery().create()
+                            .name("filterA").query("tag==prod;(attribute.revision==2.*,name==special*)")).getId())
+                    .ds(toAssignDs.getId()));
+            implicitLock(toAssignDs);
+
+            final List<Target> targets = testdataFactory.createTargets(3);
+            final TargetTag prod = targetTagManagement.create(entityFactory.tag().create().name("prod"));
+            targetManagement.assignTag(targets.stream().map(Target::getControllerId).toList(), prod.getId());
+            controllerManagement.updateControllerAttributes(targets.get(0).getControllerId(),
+                    Map.of("revision", "2.1"), null);
+            controllerManagement.updateControllerAttributes(targets.get(1).getControllerId(),
+                    Map.of("revision", "1.9"), null);
+
+            targets.forEach(target -> autoAssignChecker.checkSingleTarget(target.getControllerId()));
+
+            verifyThatTargetsHaveDistributionSetAssignment(toAssignDs, targets.subList(0, 1), targets.size());
+            verifyThatTargetsNotHaveDistributionSetAssignment(toAssignDs, targets.subList(1, 3));
+
+            // the action exists already, so the target is not assigned again
+            autoAssignChecker.checkSingleTarget(targets.get(0).getControllerId());
+            assertThat(deploymentManagement.countActionsByTarget(targets.get(0).getControllerId())).isEqualTo(1);
+        } finally {
+            ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", legacyRsqlVisitor);
+        }
+    }
+
+    @Test
+    @Description("Verifies that a target is auto assigned right after its controller attributes are updated")
+    void autoAssignOnControllerAttributesUpdate() {
+        repositoryProperties.setAutoAssignOnTargetChange(true);
+        try {
+            final DistributionSet toAssignDs = testdataFactory.createDistributionSet();
+            targetFilterQueryManagement.updateAutoAssignDS(entityFactory.targetFilterQuery()
+                    .updateAutoAssign(targetFilterQueryManagement.create(
+                            entityFactory.targetFilterQuery().create().name("filterA").query("attribute.revision==2.*"))
+                            .getId())
+                    .ds(toAssignDs.getId()));
+            implicitLock(toAssignDs);
+
+            final String controllerId = controllerManagement.findOrRegisterTargetIfItDoesNotExist("registered", LOCALHOST)
+                    .getControllerId();
+            controllerManagement.updateControllerAttributes(controllerId, Map.of("revision", "2.0"), null);
+
+            Awaitility.await().atMost(Duration.ofSeconds(5)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                    .until(() -> deploymentManagement.countActionsByTarget(controllerId) == 1);
+            assertThat(deploymentManagement.getAssignedDistributionSet(controllerId)).contains(toAssignDs);
+        } finally {
+            repositoryProperties.setAutoAssignOnTargetChange(false);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("confirmationOptions")
     @Description("Test auto assignment of a DS to filtered targets with different confirmation options")
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("JDBC lock registry")
+class JdbcLockRegistryTest extends AbstractJpaIntegrationTest {
+
+    private static final long LEASE_TIME = 500;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcLockRegistry node1;
+    private JdbcLockRegistry node2;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        node1 = new JdbcLockRegistry(dataSource, txManager, LEASE_TIME, meterRegistry);
+        node2 = new JdbcLockRegistry(dataSource, txManager, LEASE_TIME, new SimpleMeterRegistry());
+        key = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.destroy();
+        node2.destroy();
+    }
+
+    @Test
+    @Description("A lock held by one node cannot be acquired by another node until it is released.")
+    void lockIsExclusiveBetweenNodes() throws Exception {
+        final FencedLock lock1 = node1.obtain(key);
+        assertThat(lock1.tryLock()).isTrue();
+        final long firstToken = lock1.getFencingToken();
+
+        assertThat(CompletableFuture.supplyAsync(() -> node2.obtain(key).tryLock()).get()).isFalse();
+
+        lock1.unlock();
+        assertThat(lock1.getFencingToken()).isEqualTo(-1);
+
+        final FencedLock lock2 = node2.obtain(key);
+        assertThat(lock2.tryLock()).isTrue();
+        assertThat(lock2.getFencingToken()).isGreaterThan(firstToken);
+        lock2.unlock();
+
+        assertThat(meterRegistry.get("hawkbit.lock.acquire").tag("result", "acquired").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.lock.hold").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Description("A held lease is renewed and outlives the lease time.")
+    void heldLeaseIsRenewed() throws Exception {
+        final FencedLock lock1 = node1.obtain(key);
+        lock1.lock();
+        TimeUnit.MILLISECONDS.sleep(3 * LEASE_TIME);
+
+        assertThat(CompletableFuture.supplyAsync(() -> node2.obtain(key).tryLock()).get()).isFalse();
+        lock1.unlock();
+    }
+
+    @Test
+    @Description("The lock of a node that stops renewing its lease is taken over with a greater fencing token.")
+    void expiredLeaseIsTakenOver() throws Exception {
+        final FencedLock lock1 = node1.obtain(key);
+        lock1.lock();
+        final long firstToken = lock1.getFencingToken();
+        // simulates a crashed node
+        node1.destroy();
+
+        final FencedLock lock2 = node2.obtain(key);
+        assertThat(lock2.tryLock(10 * LEASE_TIME, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(lock2.getFencingToken()).isGreaterThan(firstToken);
+        lock2.unlock();
+    }
+
+    @Test
+    @Description("The lock is reentrant within a node and released with the last unlock.")
+    void lockIsReentrant() throws Exception {
+        final FencedLock lock1 = node1.obtain(key);
+        lock1.lock();
+        final long token = lock1.getFencingToken();
+        assertThat(lock1.tryLock()).isTrue();
+        assertThat(lock1.getFencingToken()).isEqualTo(token);
+
+        lock1.unlock();
+        assertThat(CompletableFuture.supplyAsync(() -> node2.obtain(key).tryLock()).get()).isFalse();
+
+        lock1.unlock();
+        final FencedLock lock2 = node2.obtain(key);
+        assertThat(lock2.tryLock()).isTrue();
+        lock2.unlock();
+    }
+
+    @Test
+    @Description("A lease which expired before it was renewed is not extended again and its loss is visible to the holder.")
+    void lostLeaseIsVisibleToHolder() throws Exception {
+        final FencedLock lock1 = node1.obtain(key);
+        lock1.lock();
+        assertThat(lock1.isLeaseValid()).isTrue();
+
+        // simulates a renewal which came too late, e.g. after a long GC pause
+        new JdbcTemplate(dataSource).update("UPDATE sp_lock SET expires_at = 1 WHERE lock_key = ?", key);
+        await().pollInSameThread().atMost(Duration.ofSeconds(5)).until(() -> !lock1.isLeaseValid());
+        assertThat(meterRegistry.get("hawkbit.lock.lease.lost").counter().count()).isEqualTo(1);
+
+        final FencedLock lock2 = node2.obtain(key);
+        assertThat(CompletableFuture.supplyAsync(lock2::tryLock).get()).isTrue();
+
+        // the release of the lost lease must not release the lease of the new holder
+        lock1.unlock();
+        assertThat(CompletableFuture.supplyAsync(() -> node1.obtain(key).tryLock()).get()).isFalse();
+    }
+
+    @Test
+    @Description("A released lock which is not referenced anymore is not kept by the registry.")
+    void releasedLockIsNotKept() {
+        final WeakReference<FencedLock> released = lockAndRelease();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            System.gc();
+            return released.get() == null;
+        });
+    }
+
+    private WeakReference<FencedLock> lockAndRelease() {
+        final FencedLock lock1 = node1.obtain(key);
+        lock1.lock();
+        lock1.unlock();
+        return new WeakReference<>(lock1);
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Step;
@@ -17,6 +18,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.im.authentication.SpPermission;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.UpdateMode;
@@ -25,6 +27,7 @@ import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
@@ -39,10 +42,15 @@ import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAttributeException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.management.TargetRegistrationBatcher.Outcome;
+import org.eclipse.hawkbit.repository.jpa.management.TargetRegistrationBatcher.Registration;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.poll.StripedTargetPollLedger;
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -55,6 +63,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
@@ -65,9 +74,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 
 import java.io.ByteArrayInputStream;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -75,18 +86,25 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_GATEWAY_ROLE;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE_ANONYMOUS;
 import static org.eclipse.hawkbit.repository.jpa.configuration.Constants.TX_RT_MAX;
 import static org.eclipse.hawkbit.repository.model.Action.ActionType.DOWNLOAD_ONLY;
 import static org.eclipse.hawkbit.repository.test.util.TestdataFactory.DEFAULT_CONTROLLER_ID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -98,6 +116,9 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
     @Autowired
     private RepositoryProperties repositoryProperties;
 
+    @Autowired
+    private TargetRegistrationBatcher targetRegistrationBatcher;
+
     @Test
     @Description("Verifies that management get access react as specified on calls for non existing entities by means "
             + "of Optional not present.")
@@ -210,6 +231,41 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getNumberOfElements()).isEqualTo(6);
     }
 
+    @Test
+    @Description("Gateway adds the status of several actions at once, a failing entry does not affect the others.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = DistributionSetCreatedEvent.class, count = 1),
+            @Expect(type = SoftwareModuleCreatedEvent.class, count = 3),
+            @Expect(type = DistributionSetUpdatedEvent.class, count = 1), // implicit lock
+            @Expect(type = SoftwareModuleUpdatedEvent.class, count = 3), // implicit lock
+            @Expect(type = ActionCreatedEvent.class, count = 1), @Expect(type = TargetUpdatedEvent.class, count = 1),
+            @Expect(type = TargetAssignDistributionSetEvent.class, count = 1) })
+    void gatewayAddsUpdateActionStatusesInBatch() throws Exception {
+        final Long actionId = createTargetAndAssignDs();
+
+        final Map<Integer, RuntimeException> failures = SecurityContextSwitch.runAs(
+                SecurityContextSwitch.withController("gateway", CONTROLLER_ROLE, CONTROLLER_GATEWAY_ROLE),
+                () -> controllerManagement.addUpdateActionStatuses(List.of(
+                        entityFactory.actionStatus().create(actionId).status(Action.Status.RUNNING),
+                        entityFactory.actionStatus().create(NOT_EXIST_IDL).status(Action.Status.RUNNING),
+                        entityFactory.actionStatus().create(actionId).status(Action.Status.DOWNLOAD))));
+
+        assertThat(failures).containsOnlyKeys(1);
+        assertThat(failures.get(1)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getContent())
+                .extracting(ActionStatus::getStatus)
+                .containsExactly(Action.Status.RUNNING, Action.Status.RUNNING, Action.Status.DOWNLOAD);
+    }
+
+    @Test
+    @Description("Only a gateway is allowed to add the status of several actions at once.")
+    void controllerIsNotAllowedToAddUpdateActionStatuses() {
+        assertThatExceptionOfType(InsufficientPermissionException.class)
+                .isThrownBy(() -> SecurityContextSwitch.runAs(
+                        SecurityContextSwitch.withController("controller", CONTROLLER_ROLE),
+                        () -> controllerManagement.addUpdateActionStatuses(Collections.emptyList())));
+    }
+
     @Test
     @Description("Controller confirms successful update with FINISHED status on a action that is on canceling. "
             + "Reason: The decision to ignore the cancellation is in fact up to the controller.")
@@ -729,6 +785,113 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         }
     }
 
+    @Test
+    @Description("A poll that does not fit into the full poll ledger is dropped and counted, the polling thread "
+            + "neither flushes the ledger nor saves the target")
+    void pollOnFullLedgerIsDroppedWithoutSave() {
+        // registered with its address, so the next poll changes nothing that is stored eagerly
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("polling", LOCALHOST);
+        final TargetRepository mockTargetRepository = Mockito.mock(TargetRepository.class);
+        when(mockTargetRepository.findOne(any())).thenReturn(Optional.of((JpaTarget) target));
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final StripedTargetPollLedger fullLedger = new StripedTargetPollLedger(meterRegistry, 1);
+        final Target other = testdataFactory.createTarget("other");
+        assertThat(fullLedger.record(other, System.currentTimeMillis())).isTrue();
+
+        final JpaControllerManagement management = (JpaControllerManagement) controllerManagement;
+        final boolean eagerPollPersistence = repositoryProperties.isEagerPollPersistence();
+        repositoryProperties.setEagerPollPersistence(false);
+        management.setTargetRepository(mockTargetRepository);
+        final TargetPollLedger previousLedger = management.setPollLedger(fullLedger);
+        try {
+            controllerManagement.findOrRegisterTargetIfItDoesNotExist(target.getControllerId(), LOCALHOST);
+
+            verify(mockTargetRepository, never()).save(any());
+            assertThat(fullLedger.size()).isEqualTo(1);
+            assertThat(meterRegistry.get("hawkbit.poll.ledger.dropped").counter().count()).isEqualTo(1.0);
+        } finally {
+            // revert
+            management.setPollLedger(previousLedger);
+            management.setTargetRepository(targetRepository);
+            repositoryProperties.setEagerPollPersistence(eagerPollPersistence);
+        }
+    }
+
+    @Test
+    @Description("Concurrent registrations of controllers are inserted in batches, every controller gets its target")
+    @WithUser(principal = "controller", authorities = { CONTROLLER_ROLE }, controller = true)
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 10),
+            @Expect(type = TargetPollBatchEvent.class, count = 1), @Expect(type = TargetPollEvent.class, count = 10) })
+    void findOrRegisterTargetIfItDoesNotExistConcurrently() throws Exception {
+        // the batch is inserted as soon as it is full
+        final RepositoryProperties properties = new RepositoryProperties();
+        properties.setTargetRegistrationBatchWindow(TimeUnit.MINUTES.toMillis(1));
+        properties.setTargetRegistrationBatchSize(10);
+        ((JpaControllerManagement) controllerManagement).setTargetRegistrationBatcher(
+                new TargetRegistrationBatcher(properties, 10, new SimpleMeterRegistry()));
+        final ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newFixedThreadPool(10));
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Target>> registrations = IntStream.range(0, 10)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return controllerManagement.findOrRegisterTargetIfItDoesNotExist("batched" + i, LOCALHOST);
+                    })).toList();
+            start.countDown();
+
+            for (int i = 0; i < registrations.size(); i++) {
+                final Target target = registrations.get(i).get(30, TimeUnit.SECONDS);
+                assertThat(target.getControllerId()).isEqualTo("batched" + i);
+                assertThat(target.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+                assertThat(target.getCreatedBy()).isEqualTo("CONTROLLER_PLUG_AND_PLAY");
+            }
+            assertThat(targetRepository.count()).as("Every controller should be registered once").isEqualTo(10L);
+        } finally {
+            executor.shutdownNow();
+            ((JpaControllerManagement) controllerManagement).setTargetRegistrationBatcher(targetRegistrationBatcher);
+        }
+    }
+
+    @Test
+    @Description("Registrations beyond the maximum number of waiting ones are not batched, so they don't hold a connection while waiting")
+    void targetRegistrationBatchLimitsWaitingRegistrations() throws Exception {
+        final RepositoryProperties properties = new RepositoryProperties();
+        properties.setTargetRegistrationBatchWindow(0);
+        final TargetRegistrationBatcher batcher = new TargetRegistrationBatcher(properties, 1,
+                new SimpleMeterRegistry());
+        final CountDownLatch inserting = new CountDownLatch(1);
+        final CountDownLatch inserted = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Outcome> leader = executor.submit(() -> batcher.register("tenant",
+                    new Registration("leader", LOCALHOST, null, null), registrations -> {
+                        inserting.countDown();
+                        awaitLatch(inserted);
+                        return Map.of("leader", new Outcome(1, true));
+                    }));
+            assertThat(inserting.await(30, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(batcher.register("tenant", new Registration("other", LOCALHOST, null, null),
+                    registrations -> {
+                        throw new IllegalStateException("Registration should not be batched");
+                    })).isNull();
+
+            inserted.countDown();
+            assertThat(leader.get(30, TimeUnit.SECONDS)).isEqualTo(new Outcome(1, true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     @Description("Register a controller which does not exist, then update the controller twice, first time by providing a name property and second time without a new name")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
@@ -1818,6 +1981,35 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
                 .isThrownBy(() -> controllerManagement.deleteExistingTarget(target.getControllerId()));
     }
 
+    @Test
+    @Description("The target identity is cached and evicted when the target is updated or deleted")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 1), @Expect(type = TargetUpdatedEvent.class, count = 1),
+            @Expect(type = TargetDeletedEvent.class, count = 1) })
+    void targetIdentityIsCachedUntilTargetChanges() {
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+        final TargetIdentity identity = controllerManagement.findTargetIdentity("AA").orElseThrow();
+        assertThat(identity.getId()).isEqualTo(target.getId());
+        assertThat(identity.getControllerId()).isEqualTo("AA");
+        assertThat(identity.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+        assertThat(identity.matchesSecurityToken(target.getSecurityToken())).isTrue();
+        assertThat(identity.matchesSecurityToken("wrongToken")).isFalse();
+        assertThat(controllerManagement.findTargetIdentity(target.getId())).containsSame(identity);
+        assertThat(controllerManagement.findTargetIdentity("AA")).containsSame(identity);
+
+        targetManagement.update(entityFactory.target().update("AA").securityToken("newToken"));
+        Awaitility.await().atMost(Duration.ofSeconds(5)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                .until(() -> controllerManagement.findTargetIdentity("AA").orElseThrow()
+                        .matchesSecurityToken("newToken"));
+
+        controllerManagement.deleteExistingTarget("AA");
+        Awaitility.await().atMost(Duration.ofSeconds(5)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                .until(() -> controllerManagement.findTargetIdentity("AA").isEmpty()
+                        && controllerManagement.findTargetIdentity(target.getId()).isEmpty());
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> controllerManagement
+                .getActionForDownloadByTargetAndSoftwareModule("AA", NOT_EXIST_IDL));
+    }
+
     @Test
     @Description("When action status code is provided in feedback it is also stored in the action field lastActionStatusCode")
     void lastActionStatusCodeIsSet() {
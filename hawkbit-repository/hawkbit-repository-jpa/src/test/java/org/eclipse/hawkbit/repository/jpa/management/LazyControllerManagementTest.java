@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
@@ -41,7 +42,7 @@ public class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
     @Test
     @Description("Verfies that lazy target poll update is executed as specified.")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
-            @Expect(type = TargetPollEvent.class, count = 2) })
+            @Expect(type = TargetPollEvent.class, count = 2), @Expect(type = TargetPollBatchEvent.class, count = 1) })
     public void lazyFindOrRegisterTargetIfItDoesNotexist() throws InterruptedException {
         final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
         assertThat(target).as("target should not be null").isNotNull();
@@ -55,4 +56,22 @@ public class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(updated.getOptLockRevision()).isEqualTo(target.getOptLockRevision());
         assertThat(updated.getLastTargetQuery()).isGreaterThan(target.getLastTargetQuery());
     }
+
+    @Test
+    @Description("Verfies that the lazy target poll update keeps the poll time of every target.")
+    public void lazyUpdateKeepsPollTimePerTarget() throws InterruptedException {
+        final Target first = controllerManagement.findOrRegisterTargetIfItDoesNotExist("first", LOCALHOST);
+        final Target second = controllerManagement.findOrRegisterTargetIfItDoesNotExist("second", LOCALHOST);
+
+        TimeUnit.MILLISECONDS.sleep(10);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("first", LOCALHOST);
+        TimeUnit.MILLISECONDS.sleep(50);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("second", LOCALHOST);
+        TimeUnit.MILLISECONDS.sleep(repositoryProperties.getPollPersistenceFlushTime() + 10);
+
+        final long firstPoll = targetManagement.get(first.getId()).get().getLastTargetQuery();
+        final long secondPoll = targetManagement.get(second.getId()).get().getLastTargetQuery();
+        assertThat(firstPoll).isGreaterThan(first.getLastTargetQuery());
+        assertThat(secondPoll).isGreaterThanOrEqualTo(firstPoll + 50);
+    }
 }
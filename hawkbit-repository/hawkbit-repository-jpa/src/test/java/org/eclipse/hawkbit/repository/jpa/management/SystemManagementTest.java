@@ -12,20 +12,25 @@ package org.eclipse.hawkbit.repository.jpa.management;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 
+import org.awaitility.Awaitility;
+
 import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
 import org.eclipse.hawkbit.repository.report.model.TenantUsage;
 import org.eclipse.hawkbit.repository.test.util.DisposableSqlTestDatabaseExtension;
 import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -36,6 +41,12 @@ import io.qameta.allure.Story;
 @ExtendWith(DisposableSqlTestDatabaseExtension.class)
 public class SystemManagementTest extends AbstractJpaIntegrationTest {
 
+    @Autowired
+    private TenantUsageCounters tenantUsageCounters;
+
+    @Autowired
+    private TenantPurger tenantPurger;
+
     @Test
     @Description("Ensures that findTenants returns all tenants and not only restricted to the tenant which currently is logged in")
     public void findTenantsReturnsAllTenantsNotOnlyWhichLoggedIn() throws Exception {
@@ -125,6 +136,71 @@ public class SystemManagementTest extends AbstractJpaIntegrationTest {
                 tenantUsage1);
     }
 
+    @Test
+    @Description("Checks that the usage counters are maintained by the events after the first report and corrected by the reconciliation")
+    public void systemUsageReportIsMaintainedByEvents() {
+        assertThat(systemManagement.getSystemUsageStatistics().getOverallTargets()).isZero();
+
+        final List<Target> targets = createTestTargets(10);
+        assignDistributionSet(testdataFactory.createDistributionSet(), targets.subList(0, 4));
+        awaitUsage(10, 4);
+
+        targetManagement.delete(List.of(targets.get(0).getId(), targets.get(9).getId()));
+        awaitUsage(8, 4);
+
+        // the actions of the deleted target are deleted without event
+        tenantUsageCounters.reconcile();
+        assertThat(systemManagement.getSystemUsageStatistics().getOverallActions()).isEqualTo(3);
+        assertThat(systemManagement.getSystemUsageStatistics().getOverallTargets()).isEqualTo(8);
+    }
+
+    @Test
+    @Description("Checks that a purged tenant is removed immediately and its data is deleted in the background")
+    public void purgeTenantDeletesDataInBackground() throws Exception {
+        createTestTenantsForSystemStatistics(1, 1234, 20, 2);
+        assertThat(systemManagement.findTenants(PAGE).getContent()).contains("tenant0");
+
+        final TenantPurge purge = systemManagement.purgeTenant("tenant0");
+        assertThat(purge.getTenant()).isEqualTo("TENANT0");
+        assertThat(systemManagement.findTenants(PAGE).getContent()).doesNotContain("tenant0");
+        awaitPurged("tenant0");
+
+        // the tenant is created again without the data of the purged tenant
+        createTestTenantsForSystemStatistics(1, 0, 0, 0);
+        final TenantUsage usage = new TenantUsage("tenant0");
+        assertThat(systemManagement.getSystemUsageStatisticsWithTenants().getTenants()).contains(usage);
+    }
+
+    @Test
+    @Description("Checks that an interrupted purge is resumed")
+    public void interruptedPurgeIsResumed() throws Exception {
+        createTestTenantsForSystemStatistics(1, 1234, 20, 1);
+
+        // marked but not purged, e.g. because the node crashed
+        tenantPurger.mark("TENANT0");
+        assertThat(systemManagement.findTenants(PAGE).getContent()).doesNotContain("tenant0");
+        assertThat(systemManagement.getTenantPurge("tenant0")).hasValueSatisfying(
+                progress -> assertThat(progress.getCompletedSteps()).isLessThan(progress.getTotalSteps()));
+
+        tenantPurger.resume();
+        awaitPurged("tenant0");
+    }
+
+    private void awaitPurged(final String tenant) {
+        Awaitility.await().atMost(Duration.ofSeconds(10)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                .until(() -> systemManagement.getTenantPurge(tenant).isEmpty());
+    }
+
+    private void awaitUsage(final long targets, final long actions) {
+        Awaitility.await().atMost(Duration.ofSeconds(5)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> {
+                    final TenantUsage usage = systemManagement.getSystemUsageStatisticsWithTenants().getTenants()
+                            .get(0);
+                    assertThat(usage.getTargets()).isEqualTo(targets);
+                    assertThat(usage.getActions()).isEqualTo(actions);
+                });
+    }
+
     private byte[] createTestTenantsForSystemStatistics(final int tenants, final int artifactSize, final int targets,
             final int updates) throws Exception {
         final Random randomgen = new Random();
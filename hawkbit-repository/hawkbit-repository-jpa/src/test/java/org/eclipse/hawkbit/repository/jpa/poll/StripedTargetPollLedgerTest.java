@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.poll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.repository.jpa.poll.TargetPollLedger.TargetPoll;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Target poll ledger")
+class StripedTargetPollLedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StripedTargetPollLedger ledger = new StripedTargetPollLedger(meterRegistry, 4, 30);
+
+    @Test
+    @Description("Repeated polls of a target are coalesced into one entry with the latest poll time.")
+    void coalescesRepeatedPolls() {
+        final Target target = target(1L, "tenant", "c1");
+        ledger.record(target, 100);
+        ledger.record(target, 300);
+        ledger.record(target, 200);
+
+        assertThat(ledger.size()).isEqualTo(1);
+
+        final Map<String, List<TargetPoll>> flushed = flush();
+        assertThat(flushed.get("tenant")).singleElement().satisfies(poll -> {
+            assertThat(poll.getControllerId()).isEqualTo("c1");
+            assertThat(poll.getLastPoll()).isEqualTo(300);
+        });
+        assertThat(ledger.size()).isZero();
+        assertThat(meterRegistry.get("hawkbit.poll.ledger.coalescing.ratio").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("hawkbit.poll.ledger.flushed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @Description("Polls are flushed per tenant and sorted by target id.")
+    void flushesPerTenantSortedByTargetId() {
+        for (long id = 20; id > 0; id--) {
+            ledger.record(target(id, id % 2 == 0 ? "even" : "odd", "c" + id), id);
+        }
+
+        final Map<String, List<TargetPoll>> flushed = flush();
+        assertThat(flushed).containsOnlyKeys("even", "odd");
+        assertThat(flushed.get("even")).extracting(TargetPoll::getTargetId).isSorted().hasSize(10);
+        assertThat(flushed.get("odd")).extracting(TargetPoll::getTargetId).isSorted().hasSize(10);
+    }
+
+    @Test
+    @Description("Polls of a tenant that failed to persist are kept for the next flush.")
+    void keepsPollsOfFailedFlush() {
+        ledger.record(target(1L, "tenant", "c1"), 100);
+
+        ledger.flush((tenant, polls) -> {
+            throw new IllegalStateException("expected");
+        });
+        assertThat(ledger.size()).isEqualTo(1);
+
+        assertThat(flush().get("tenant")).extracting(TargetPoll::getLastPoll).containsExactly(100L);
+    }
+
+    @Test
+    @Description("Polls of further targets are dropped once the capacity is reached, polls of recorded targets are still coalesced.")
+    void rejectsTargetsBeyondCapacity() {
+        for (long id = 1; id <= 30; id++) {
+            assertThat(ledger.record(target(id, "tenant", "c" + id), id)).isTrue();
+        }
+
+        assertThat(ledger.record(target(31L, "tenant", "c31"), 31)).isFalse();
+        assertThat(ledger.record(target(1L, "tenant", "c1"), 100)).isTrue();
+        assertThat(ledger.size()).isEqualTo(30);
+        assertThat(meterRegistry.get("hawkbit.poll.ledger.dropped").counter().count()).isEqualTo(1.0);
+
+        final Map<String, List<TargetPoll>> flushed = flush();
+        assertThat(flushed.get("tenant")).hasSize(30).first().extracting(TargetPoll::getLastPoll).isEqualTo(100L);
+        assertThat(ledger.record(target(31L, "tenant", "c31"), 31)).isTrue();
+    }
+
+    private Map<String, List<TargetPoll>> flush() {
+        final Map<String, List<TargetPoll>> flushed = new HashMap<>();
+        ledger.flush((tenant, polls) -> flushed.put(tenant, new ArrayList<>(polls)));
+        return flushed;
+    }
+
+    private static Target target(final long id, final String tenant, final String controllerId) {
+        final Target target = mock(Target.class);
+        when(target.getId()).thenReturn(id);
+        when(target.getTenant()).thenReturn(tenant);
+        when(target.getControllerId()).thenReturn(controllerId);
+        return target;
+    }
+}
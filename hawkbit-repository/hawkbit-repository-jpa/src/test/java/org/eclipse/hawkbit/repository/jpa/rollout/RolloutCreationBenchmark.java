@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Measures creation and start of rollouts with 10k, 100k and 1M targets on the
+ * embedded H2 database. Not part of the test suite, run it explicitly with
+ * <code>mvn test -Dtest=RolloutCreationBenchmark</code>. The sizes can be
+ * overridden like <code>-Dbenchmark.targets=10000,50000</code>.
+ */
+@Slf4j
+@TestPropertySource(properties = { "hawkbit.server.security.dos.maxTargetsPerRolloutGroup=1000000",
+        "hawkbit.server.security.dos.maxActionsPerTarget=20" })
+class RolloutCreationBenchmark extends AbstractJpaIntegrationTest {
+
+    private static final int GROUPS = 5;
+    private static final int TARGETS_PER_TRANSACTION = 10_000;
+
+    static IntStream targets() {
+        return Arrays.stream(System.getProperty("benchmark.targets", "10000,100000,1000000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt);
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void createAndStart(final int targets) {
+        final String prefix = "bench" + targets + "-";
+        for (int offset = 0; offset < targets; offset += TARGETS_PER_TRANSACTION) {
+            testdataFactory.createTargets(prefix, offset, Math.min(TARGETS_PER_TRANSACTION, targets - offset));
+        }
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(prefix);
+
+        final long createStart = System.nanoTime();
+        final Rollout rollout = testdataFactory.createRolloutByVariables(prefix, prefix, GROUPS,
+                "controllerid==" + prefix + "*", distributionSet, "50", "80");
+        handleUntil(rollout, RolloutStatus.READY);
+        final long createTime = System.nanoTime() - createStart;
+
+        final long startStart = System.nanoTime();
+        rolloutManagement.start(rollout.getId());
+        handleUntil(rollout, RolloutStatus.RUNNING);
+        final long startTime = System.nanoTime() - startStart;
+
+        assertThat(actionRepository.countByRolloutIdAndStatus(rollout.getId(), Status.RUNNING)
+                + actionRepository.countByRolloutIdAndStatus(rollout.getId(), Status.SCHEDULED)).isEqualTo(targets);
+        log.info("Rollout with {} targets: created in {} ms, started in {} ms", targets,
+                TimeUnit.NANOSECONDS.toMillis(createTime), TimeUnit.NANOSECONDS.toMillis(startTime));
+    }
+
+    private void handleUntil(final Rollout rollout, final RolloutStatus status) {
+        while (rolloutManagement.get(rollout.getId()).orElseThrow().getStatus() != status) {
+            rolloutHandler.handleAll();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Rollout scheduler")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RolloutSchedulerTest {
+
+    private static final Map<String, List<Long>> ACTIVE_ROLLOUTS = Map.of("slow", List.of(1L), "fast",
+            List.of(2L, 3L));
+
+    @Mock
+    private SystemManagement systemManagement;
+    @Mock
+    private RolloutManagement rolloutManagement;
+    @Mock
+    private SystemSecurityContext systemSecurityContext;
+
+    private final ThreadLocal<String> currentTenant = new ThreadLocal<>();
+    private final Map<Long, AtomicInteger> handled = new ConcurrentHashMap<>();
+    private final CountDownLatch slowRolloutRelease = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RolloutScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(systemSecurityContext.runAsSystem(any()))
+                .thenAnswer(invocation -> invocation.<Callable<?>> getArgument(0).call());
+        when(systemSecurityContext.runAsSystemAsTenant(any(), anyString())).thenAnswer(invocation -> {
+            currentTenant.set(invocation.getArgument(1));
+            try {
+                return invocation.<Callable<?>> getArgument(0).call();
+            } finally {
+                currentTenant.remove();
+            }
+        });
+        doAnswer(invocation -> {
+            final Consumer<String> consumer = invocation.getArgument(0);
+            ACTIVE_ROLLOUTS.keySet().forEach(tenant -> {
+                currentTenant.set(tenant);
+                consumer.accept(tenant);
+                currentTenant.remove();
+            });
+            return null;
+        }).when(systemManagement).forEachTenant(any());
+        when(rolloutManagement.findActiveRollouts())
+                .thenAnswer(invocation -> ACTIVE_ROLLOUTS.get(currentTenant.get()));
+
+        scheduler = new RolloutScheduler(systemManagement, rolloutManagement, new RecordingRolloutHandler(),
+                systemSecurityContext, 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRolloutRelease.countDown();
+        scheduler.destroy();
+    }
+
+    @Test
+    @Description("A slow rollout neither delays the rollouts of other tenants nor is dispatched again while pending.")
+    void slowRolloutDoesNotDelayOtherTenants() throws InterruptedException {
+        scheduler.runningRolloutScheduler();
+        awaitHandled(2L, 1);
+        awaitHandled(3L, 1);
+
+        scheduler.runningRolloutScheduler();
+        awaitHandled(2L, 2);
+        awaitHandled(3L, 2);
+
+        assertThat(handled.get(1L)).hasValue(1);
+        assertThat(meterRegistry.find("hawkbit.rollout.handle").tag("tenant", "fast").tag("rollout", "2").timer())
+                .isNotNull();
+
+        slowRolloutRelease.countDown();
+        awaitNothingPending();
+        scheduler.runningRolloutScheduler();
+        awaitHandled(1L, 2);
+    }
+
+    private void awaitNothingPending() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("hawkbit.rollout.handle.pending").gauge().value() > 0) {
+            assertThat(System.nanoTime()).as("no rollout pending").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private void awaitHandled(final long rolloutId, final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (handled.computeIfAbsent(rolloutId, id -> new AtomicInteger()).get() < count) {
+            assertThat(System.nanoTime()).as("rollout %d handled %d times", rolloutId, count).isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private class RecordingRolloutHandler implements RolloutHandler {
+
+        @Override
+        public void handleAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void handle(final long rolloutId) {
+            assertThat(currentTenant.get()).isNotNull();
+            handled.computeIfAbsent(rolloutId, id -> new AtomicInteger()).incrementAndGet();
+            if (rolloutId == 1L) {
+                try {
+                    slowRolloutRelease.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.RolloutStatusCounterRepair;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+class RolloutStatusCountersTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutStatusCounters rolloutStatusCounters;
+
+    @Test
+    @Description("Verifies that the counters follow the creation and the status changes of the rollout actions.")
+    void countersFollowActionStatusChanges() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 5, 5, "50", "80");
+        assertCountersMatchActions(rollout);
+
+        final List<Action> running = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(running.get(0).getId()).status(Status.FINISHED));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(running.get(1).getId()).status(Status.ERROR));
+        rolloutHandler.handleAll();
+
+        assertCountersMatchActions(rollout);
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutId(List.of(rollout.getId())))
+                .anyMatch(count -> count.getStatus() == Status.FINISHED && count.getCount() == 1)
+                .anyMatch(count -> count.getStatus() == Status.ERROR && count.getCount() == 1);
+    }
+
+    @Test
+    @Description("Verifies that the counters follow bulk cancellation and deletion of scheduled rollout actions.")
+    void countersFollowBulkOperations() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 5, 5, "50", "80");
+
+        final Action scheduled = findActionsByRolloutAndStatus(rollout, Status.SCHEDULED).get(0);
+        deploymentManagement.cancelInactiveScheduledActionsForTargets(List.of(scheduled.getTarget().getId()));
+        assertThat(actionRepository.findById(scheduled.getId())).hasValueSatisfying(
+                action -> assertThat(action.getStatus()).isEqualTo(Status.CANCELED));
+        assertCountersMatchActions(rollout);
+
+        rolloutManagement.delete(rollout.getId());
+        rolloutHandler.handleAll();
+        assertThat(findActionsByRolloutAndStatus(rollout, Status.SCHEDULED)).isEmpty();
+        assertCountersMatchActions(rollout);
+    }
+
+    @Test
+    @Description("Verifies that the counters follow the deletion of actions by the action cleanup and with their targets.")
+    void countersFollowActionDeletion() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 5, 5, "50", "80");
+
+        final List<Action> running = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(running.get(0).getId()).status(Status.FINISHED));
+        assertThat(deploymentManagement.deleteActionsByStatusAndLastModifiedBefore(Set.of(Status.FINISHED),
+                System.currentTimeMillis() + 1)).isEqualTo(1);
+        assertCountersMatchActions(rollout);
+
+        targetManagement.deleteByControllerID(running.get(1).getTarget().getControllerId());
+        targetManagement.delete(List.of(findActionsByRolloutAndStatus(rollout, Status.SCHEDULED).get(0).getTarget()
+                .getId()));
+        assertCountersMatchActions(rollout);
+    }
+
+    @Test
+    @Description("Verifies that the status ordinals filled in by the counter migrations cover all action status.")
+    void migrationCoversAllStatus() {
+        // V1_12_32__add_rollout_status_counter creates the counters of the
+        // existing groups for the status codes 0 to 11, a new status needs a
+        // migration which adds its counters to the existing groups
+        assertThat(Status.values()).as("Action status covered by the counter migration").hasSize(12);
+    }
+
+    @Test
+    @Description("Verifies that diverged counters are rebuilt from the actions.")
+    void rebuildRestoresCounters() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 5, 5, "50", "80");
+        final long groupId = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().get(0).getId();
+        rolloutStatusCounters.remove(Map.of(groupId, 1L), Status.RUNNING);
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutId(List.of(rollout.getId())))
+                .contains(new TotalTargetCountActionStatus(rollout.getId(), Status.RUNNING, 1L));
+
+        rolloutStatusCounters.rebuild();
+
+        assertCountersMatchActions(rollout);
+    }
+
+    @Test
+    @Description("Verifies that the enabled repair task rebuilds the counters of a tenant once.")
+    void repairRebuildsCountersOnce() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 5, 5, "50", "80");
+        final long groupId = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().get(0).getId();
+        final RepositoryProperties properties = new RepositoryProperties();
+        final RolloutStatusCounterRepair repair = new RolloutStatusCounterRepair(rolloutStatusCounters, tenantAware,
+                properties);
+
+        rolloutStatusCounters.remove(Map.of(groupId, 1L), Status.RUNNING);
+        repair.run();
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutId(List.of(rollout.getId())))
+                .as("repair is disabled by default")
+                .contains(new TotalTargetCountActionStatus(rollout.getId(), Status.RUNNING, 1L));
+
+        properties.setRolloutStatusCounterRepair(true);
+        repair.run();
+        assertCountersMatchActions(rollout);
+
+        rolloutStatusCounters.remove(Map.of(groupId, 1L), Status.RUNNING);
+        repair.run();
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutId(List.of(rollout.getId())))
+                .as("tenant is repaired once")
+                .contains(new TotalTargetCountActionStatus(rollout.getId(), Status.RUNNING, 1L));
+    }
+
+    @Test
+    @Description("Verifies that the counters use the status codes of the action table.")
+    void statusCodesMatchActionTable() {
+        final Session session = entityManager.unwrap(JpaEntityManager.class).getServerSession();
+        final Converter converter = ((AbstractDirectMapping) session.getDescriptor(JpaAction.class)
+                .getMappingForAttributeName("status")).getConverter();
+        assertThat(Status.values()).allSatisfy(status -> assertThat(RolloutStatusCounters.code(status))
+                .isEqualTo(((Number) converter.convertObjectValueToDataValue(status, session)).intValue()));
+    }
+
+    private void assertCountersMatchActions(final Rollout rollout) {
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutId(List.of(rollout.getId())))
+                .containsExactlyInAnyOrderElementsOf(actionRepository.getStatusCountByRolloutId(rollout.getId()));
+
+        final List<Long> groupIds = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().stream()
+                .map(RolloutGroup::getId).toList();
+        assertThat(rolloutStatusCounters.getStatusCountByRolloutGroupId(groupIds))
+                .containsExactlyInAnyOrderElementsOf(actionRepository.getStatusCountByRolloutGroupId(groupIds));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("RSQL search utility")
+class RsqlParseCacheTest {
+
+    private final RsqlParseCache cache = RsqlParseCache.getInstance();
+
+    @BeforeEach
+    void clearCache() {
+        cache.invalidateAll();
+    }
+
+    @Test
+    @Description("Verifies that a query is parsed only once and that failed parses are not cached.")
+    void parsesQueryOnce() {
+        final AtomicInteger parses = new AtomicInteger();
+        final Node node = cache.getNode("name==a*", rsql -> {
+            parses.incrementAndGet();
+            return new RSQLParser().parse(rsql);
+        });
+        assertThat(cache.getNode("name==a*", rsql -> {
+            parses.incrementAndGet();
+            return new RSQLParser().parse(rsql);
+        })).isSameAs(node);
+        assertThat(parses).hasValue(1);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> cache.getNode("name==", rsql -> {
+                parses.incrementAndGet();
+                throw new IllegalStateException();
+            }));
+        }
+        assertThat(parses).hasValue(3);
+    }
+
+    @Test
+    @Description("Verifies that the resolved paths are shared between the visitors and that unknown fields are still rejected.")
+    void resolvesPathOnce() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache.bindTo(meterRegistry);
+        final FieldValidationRsqlVisitor<TargetFields> visitor = new FieldValidationRsqlVisitor<>(TargetFields.class);
+
+        final double hits = pathHits(meterRegistry);
+        new RSQLParser().parse("attribute.revision==1").accept(visitor);
+        new RSQLParser().parse("attribute.revision==2").accept(visitor);
+        assertThat(pathHits(meterRegistry)).isEqualTo(hits + 1);
+
+        final ComparisonNode unknown = (ComparisonNode) new RSQLParser().parse("unknown==1");
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> unknown.accept(visitor));
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> unknown.accept(visitor));
+    }
+
+    private static double pathHits(final SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get("cache.gets").tag("cache", "rsql.paths").tag("result", "hit").functionCounter()
+                .count();
+    }
+}
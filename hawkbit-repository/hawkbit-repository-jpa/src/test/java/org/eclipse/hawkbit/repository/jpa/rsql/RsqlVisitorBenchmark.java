@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.test.TestConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures building the JPA predicate of a typical target filter query with
+ * the {@link JpaQueryRsqlVisitor} and the {@link JpaQueryRsqlVisitorG2}, with
+ * the {@link RsqlParseCache} in use and with the cache cleared before every
+ * query. Boots the repository with the embedded H2 database, run
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RsqlVisitorBenchmark {
+
+    private static final String RSQL = "(name==target* or controllerId==device-*) and updatestatus!=error "
+            + "and tag==production and attribute.revision=ge=1.2 and lastcontrollerrequestat=le=1700000000000";
+
+    @Param({ "true", "false" })
+    private boolean legacyRsqlVisitor;
+
+    @Param({ "true", "false" })
+    private boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(RepositoryApplicationConfiguration.class, TestConfiguration.class,
+                TestChannelBinderConfiguration.class).web(WebApplicationType.NONE).profiles("test")
+                .properties("spring.main.allow-bean-definition-overriding=true", "spring.main.banner-mode=off",
+                        "logging.level.root=ERROR")
+                .run();
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+        ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", legacyRsqlVisitor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object buildPredicate() {
+        if (!cached) {
+            RsqlParseCache.getInstance().invalidateAll();
+        }
+        final CriteriaQuery<JpaTarget> query = criteriaBuilder.createQuery(JpaTarget.class);
+        return RSQLUtility.<TargetFields, JpaTarget> buildRsqlSpecification(RSQL, TargetFields.class, null,
+                Database.H2).toPredicate(query.from(JpaTarget.class), query, criteriaBuilder);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RsqlVisitorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("RSQL filter target in memory")
+class TargetRsqlMatcherTest extends AbstractJpaIntegrationTest {
+
+    private static final List<String> QUERIES = List.of(
+            "id==targetId123", "id==target*", "id==*23*", "id!=targetId123", "id=in=(targetId123,notexist)",
+            "id=out=(targetId123,notexist)", "controllerid==TARGETID1234",
+            "name==targetName123", "name==*Name*", "name!=targetName123", "name=out=(targetName123,targetId1235)",
+            "description==''", "description!=''", "description==target*", "description!=target*",
+            "updatestatus==pending", "updatestatus!=registered", "updatestatus=in=(pending,unknown)",
+            "updatestatus=out=(pending)",
+            "attribute.revision==1.1", "attribute.revision!=1.1", "attribute.revision==1*",
+            "attribute.revision=in=(1.1,1.2)", "attribute.revision=out=(1.1)", "attribute.revision=gt=1.1",
+            "attribute.revision==1.1,attribute.revision==1.2", "attribute.revision==1.1;attribute.hw==a",
+            "attribute.revision==1.2;attribute.hw!=a", "attribute.hw==a,attribute.revision==1.1",
+            "metadata.metaKey==metaValue", "metadata.metaKey!=metaValue", "metadata.metaKey==*alue",
+            "metadata.metaKey==metaValue,metadata.other==x", "metadata.other!=x",
+            "tag==Tag1", "tag!=Tag1", "tag==TAG*", "tag=in=(Tag1,Tag2)", "tag=out=(Tag1,Tag2)",
+            "tag==Tag1;tag==Tag3", "tag==Tag1,tag==Tag2", "tag==Tag1;tag!=Tag3", "tag!=Tag1;tag!=Tag2",
+            "(tag!=TAG1,tag!=TAG2);tag==Tag3", "(tag==Tag1,tag==Tag2);(tag==Tag3,tag==Tag4)",
+            "tag==Tag1,attribute.revision==1.2", "(tag==Tag2,attribute.revision==1.1);tag==Tag3",
+            "assignedds.name==AssignedDs", "assignedds.name!=AssignedDs", "assignedds.version==*",
+            "assignedds.name==AssignedDs;assignedds.version!=noExist", "installedds.name==AssignedDs",
+            "installedds.name!=AssignedDs",
+            "targettype.key==Type1.key", "targettype.key!=Type2.key", "targettype.name==Type*",
+            "targettype.name==Type1,targettype.key==Type2.key",
+            "lastcontrollerrequestat=gt=0", "lastcontrollerrequestat=le=${NOW_TS}", "createdat=ge=0",
+            "lastmodifiedat=lt=0", "ipaddress==*localhost*", "ipaddress!=''",
+            "name==targetName123,attribute.revision==1.2;tag==Tag1", "id=in=(targetId1235,targetId1236);tag==Tag2",
+            "id==target\\*", "name==target*;(tag==Tag3;metadata.metaKey==metaValue,updatestatus==registered)");
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private VirtualPropertyReplacer virtualPropertyReplacer;
+
+    private boolean legacyRsqlVisitor;
+    private final List<Target> targets = new ArrayList<>();
+
+    @BeforeEach
+    void setupBeforeTest() {
+        legacyRsqlVisitor = !RSQLUtility.isG2RsqlVisitor();
+        ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", false);
+
+        final DistributionSet ds = testdataFactory.createDistributionSet("AssignedDs");
+
+        Target target = targetManagement.create(entityFactory.target().create().controllerId("targetId123")
+                .name("targetName123").description("targetDesc123"));
+        target = controllerManagement.updateControllerAttributes(target.getControllerId(),
+                Map.of("revision", "1.1", "hw", "a"), null);
+        target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(target.getControllerId(), LOCALHOST);
+        createTargetMetadata(target.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "metaValue"));
+
+        Target target2 = targetManagement
+                .create(entityFactory.target().create().controllerId("targetId1234").description("targetId1234"));
+        target2 = controllerManagement.updateControllerAttributes(target2.getControllerId(),
+                Map.of("revision", "1.2", "hw", "b"), null);
+        target2 = controllerManagement.findOrRegisterTargetIfItDoesNotExist(target2.getControllerId(), LOCALHOST);
+        createTargetMetadata(target2.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "value"));
+
+        final Target target3 = testdataFactory.createTarget("targetId1235");
+        final Target target4 = testdataFactory.createTarget("targetId1236");
+        final Target target5 = testdataFactory.createTarget("targetId1237");
+        controllerManagement.updateControllerAttributes(target5.getControllerId(), Map.of("revision", "1.1"), null);
+
+        final TargetTag tag1 = targetTagManagement.create(entityFactory.tag().create().name("Tag1"));
+        final TargetTag tag2 = targetTagManagement.create(entityFactory.tag().create().name("Tag2"));
+        final TargetTag tag3 = targetTagManagement.create(entityFactory.tag().create().name("Tag3"));
+        final TargetTag tag4 = targetTagManagement.create(entityFactory.tag().create().name("Tag4"));
+
+        targetManagement.assignTag(List.of(target.getControllerId(), target2.getControllerId()), tag1.getId());
+        targetManagement.assignTag(List.of(target3.getControllerId(), target4.getControllerId()), tag2.getId());
+        targetManagement.assignTag(
+                List.of(target.getControllerId(), target3.getControllerId(), target4.getControllerId()),
+                tag3.getId());
+        targetManagement.assignTag(List.of(target4.getControllerId()), tag4.getId());
+
+        assignDistributionSet(ds.getId(), target.getControllerId());
+
+        final TargetType type1 = targetTypeManagement
+                .create(entityFactory.targetType().create().name("Type1").key("Type1.key"));
+        final TargetType type2 = targetTypeManagement
+                .create(entityFactory.targetType().create().name("Type2").key("Type2.key"));
+        targetManagement.assignType(target.getControllerId(), type1.getId());
+        targetManagement.assignType(target2.getControllerId(), type2.getId());
+
+        targets.clear();
+        targets.addAll(targetManagement.findAll(Pageable.unpaged()).getContent());
+        assertThat(targets).hasSize(5);
+    }
+
+    @AfterEach
+    void restoreRsqlVisitor() {
+        ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", legacyRsqlVisitor);
+    }
+
+    @Test
+    @Description("Verifies that the in memory evaluation of target filter queries matches the same targets as the database")
+    void matchesSameTargetsAsDatabase() {
+        final List<TargetSnapshot> snapshots = targets.stream().map(this::snapshot).toList();
+
+        int evaluated = 0;
+        for (final String query : QUERIES) {
+            final Set<String> expected = targetManagement.findByRsql(Pageable.unpaged(), query).getContent()
+                    .stream().map(Target::getControllerId).collect(Collectors.toSet());
+            try {
+                for (final TargetSnapshot snapshot : snapshots) {
+                    assertThat(TargetRsqlMatcher.matches(snapshot, query, virtualPropertyReplacer))
+                            .as("Query %s for target %s", query, snapshot.controllerId())
+                            .isEqualTo(expected.contains(snapshot.controllerId()));
+                }
+                evaluated++;
+            } catch (final UnsupportedOperationException e) {
+                // evaluated by the database
+            }
+        }
+        assertThat(evaluated).as("Queries evaluated in memory").isGreaterThan(QUERIES.size() * 3 / 4);
+    }
+
+    @Test
+    @Description("Verifies that the queries of the legacy RSQL visitor are left to the database")
+    void legacyVisitorIsNotEvaluated() {
+        ReflectionTestUtils.setField(RsqlConfigHolder.getInstance(), "legacyRsqlVisitor", true);
+        final TargetSnapshot snapshot = snapshot(targets.get(0));
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> TargetRsqlMatcher.matches(snapshot, "id==*", virtualPropertyReplacer));
+    }
+
+    private TargetSnapshot snapshot(final Target target) {
+        return DeploymentHelper.runInNewTransaction(txManager, "snapshot",
+                status -> TargetSnapshot.of(
+                        targetRepository.findOne(TargetSpecifications.hasControllerId(target.getControllerId()))
+                                .orElseThrow(),
+                        actionRepository.findDistributionSetIdsByTargetId(target.getId())));
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystemRepository;
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
 import org.eclipse.hawkbit.event.BusProtoStuffMessageConverter;
+import org.eclipse.hawkbit.event.TargetPollBatchEventMulticaster;
 import org.eclipse.hawkbit.im.authentication.SpRole;
 import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.RolloutStatusCache;
@@ -154,7 +155,7 @@ public class TestConfiguration implements AsyncConfigurer {
         return simpleApplicationEventMulticaster;
     }
 
-    private static class FilterEnabledApplicationEventPublisher extends SimpleApplicationEventMulticaster {
+    private static class FilterEnabledApplicationEventPublisher extends TargetPollBatchEventMulticaster {
 
         private final ApplicationEventFilter applicationEventFilter;
 
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.json.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Action feedback reported by a gateway on behalf of one of its devices. The
+ * feedback is addressed by the controller id of the device and the id of the
+ * action, the content is the same as the one of {@link DdiActionFeedback}.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DdiBulkActionFeedback extends DdiActionFeedback {
+
+    @NotEmpty
+    @Schema(description = "Controller id of the device", example = "device-123")
+    private final String controllerId;
+
+    @NotNull
+    @Schema(description = "Id of the action", example = "137")
+    private final Long actionId;
+
+    /**
+     * Constructs a bulk action-feedback
+     *
+     * @param controllerId controller id of the device
+     * @param actionId id of the action
+     * @param time time of feedback
+     * @param status status to be appended to the action
+     */
+    @JsonCreator
+    public DdiBulkActionFeedback(
+            @JsonProperty(value = "controllerId", required = true) final String controllerId,
+            @JsonProperty(value = "actionId", required = true) final Long actionId,
+            @JsonProperty(value = "time") final String time,
+            @JsonProperty(value = "status", required = true) final DdiStatus status) {
+        super(time, status);
+        this.controllerId = controllerId;
+        this.actionId = actionId;
+    }
+}
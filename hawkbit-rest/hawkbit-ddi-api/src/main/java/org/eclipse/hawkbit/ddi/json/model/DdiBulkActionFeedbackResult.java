@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.json.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
+
+/**
+ * Outcome of a single {@link DdiBulkActionFeedback}, in the order of the
+ * request. The status is the one the single feedback channel would have
+ * responded with.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DdiBulkActionFeedbackResult {
+
+    @Schema(description = "Controller id of the device", example = "device-123")
+    private final String controllerId;
+
+    @Schema(description = "Id of the action", example = "137")
+    private final Long actionId;
+
+    @Schema(description = "Http status of the feedback", example = "200")
+    private final int status;
+
+    @Schema(description = "(Optional) Error of a rejected feedback")
+    private final ExceptionInfo error;
+
+    /**
+     * Constructs a bulk action-feedback result
+     *
+     * @param controllerId controller id of the device
+     * @param actionId id of the action
+     * @param status http status of the feedback
+     * @param error error of a rejected feedback, <code>null</code> if accepted
+     */
+    @JsonCreator
+    public DdiBulkActionFeedbackResult(
+            @JsonProperty("controllerId") final String controllerId,
+            @JsonProperty("actionId") final Long actionId,
+            @JsonProperty("status") final int status,
+            @JsonProperty("error") final ExceptionInfo error) {
+        this.controllerId = controllerId;
+        this.actionId = actionId;
+        this.status = status;
+        this.error = error;
+    }
+}
@@ -54,6 +54,17 @@ public final class DdiRestConstants {
      */
     public static final String FEEDBACK = "feedback";
 
+    /**
+     * Gateway resources, i.e. resources used by a gateway on behalf of its
+     * devices.
+     */
+    public static final String GATEWAY = "gateway";
+
+    /**
+     * Maximum number of feedback entries of a bulk feedback request.
+     */
+    public static final int MAX_BULK_FEEDBACK_SIZE = 1000;
+
     /**
      * File suffix for MDH hash download (see Linux md5sum).
      */
@@ -64,6 +75,11 @@ public final class DdiRestConstants {
      */
     public static final String CONFIG_DATA_ACTION = "configData";
 
+    /**
+     * Long polling resource.
+     */
+    public static final String WAIT_FOR_CHANGES = "waitForChanges";
+
     /**
      * Default value specifying that no action history to be sent as part of
      * response to deploymentBase
@@ -27,6 +27,8 @@ import org.eclipse.hawkbit.ddi.json.model.DdiActionFeedback;
 import org.eclipse.hawkbit.ddi.json.model.DdiActivateAutoConfirmation;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifact;
 import org.eclipse.hawkbit.ddi.json.model.DdiAutoConfirmationState;
+import org.eclipse.hawkbit.ddi.json.model.DdiBulkActionFeedback;
+import org.eclipse.hawkbit.ddi.json.model.DdiBulkActionFeedbackResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiCancel;
 import org.eclipse.hawkbit.ddi.json.model.DdiConfigData;
 import org.eclipse.hawkbit.ddi.json.model.DdiConfirmationBase;
@@ -46,6 +48,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * REST resource handling for root controller CRUD operations.
@@ -126,6 +129,48 @@ public interface DdiRootControllerRestApi {
     ResponseEntity<DdiControllerBase> getControllerBase(@PathVariable("tenant") final String tenant,
             @PathVariable("controllerId") final String controllerId);
 
+    /**
+     * Long polling resource for an individual {@link Target}.
+     *
+     * @param tenant of the request
+     * @param controllerId of the target that matches to controller id
+     * @param timeout the maximum time to wait in seconds
+     *
+     * @return the deferred response
+     */
+    @Operation(summary = "Long polling resource for an individual Target", description = """
+        Optional resource which allows the controller to wait for changes of its root resource instead of polling it
+        in short intervals. The request is answered as soon as an assignment, a cancellation or an attribute update
+        request is issued for the target, and with 304 if nothing changed within the timeout. In both cases the
+        controller continues with polling the root resource, so it is able to use a long polling time.
+        
+        The If-None-Match header is the ETag of the last root resource response. If it does not match the current
+        state, e.g. the target has an active action or the state changed in between, the request is answered
+        immediately.""")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changed, the root resource has to be polled"),
+        @ApiResponse(responseCode = "304", description = "Not changed within the timeout"),
+        @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters", 
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+        @ApiResponse(responseCode = "401", description = "The request requires user authentication.", 
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to " +
+                "be changed (i.e. read-only) or data volume restriction applies.", 
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.", 
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                "and the client has to wait another second.", 
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/"
+            + DdiRestConstants.WAIT_FOR_CHANGES)
+    DeferredResult<ResponseEntity<Void>> waitForChanges(@PathVariable("tenant") final String tenant,
+            @PathVariable("controllerId") final String controllerId,
+            @RequestParam(value = "timeout", required = false)
+            @Schema(description = "(Optional) maximum time to wait in seconds, bounded by the server configuration")
+            final Integer timeout);
+
     /**
      * Handles GET {@link DdiArtifact} download request. This could be full or
      * partial (as specified by RFC7233 (Range Requests)) download request.
@@ -357,6 +402,55 @@ public interface DdiRootControllerRestApi {
             @PathVariable("tenant") final String tenant, @PathVariable("controllerId") final String controllerId,
             @PathVariable("actionId") @NotNull final Long actionId);
 
+    /**
+     * Bulk feedback channel for the {@link DdiDeploymentBase} actions of
+     * several devices, reported by a gateway on their behalf. Every entry is
+     * handled like a feedback on
+     * {@link #postDeploymentBaseActionFeedback(DdiActionFeedback, String, String, Long)},
+     * its outcome is reported per entry.
+     *
+     * @param feedback
+     *            the feedback of the devices, at most
+     *            {@link DdiRestConstants#MAX_BULK_FEEDBACK_SIZE} entries
+     * @param tenant
+     *            of the client
+     *
+     * @return the outcome of the entries in the order of the request
+     */
+    @Operation(summary = "Bulk feedback channel for DeploymentBase actions of a gateway", description = """
+        Feedback channel for gateways which report the feedback of the DeploymentBase actions of several devices at
+        once. Each entry addresses the action by the controller id of the device and the action id and is handled like
+        a feedback on the feedback channel of the action. The response lists the outcome of each entry in the order of
+        the request, with the status the single feedback channel would have responded with. Accepted entries are
+        persisted in batches. Requires a gateway token.
+        """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feedback processed, see the status of each entry"),
+        @ApiResponse(responseCode = "400", description = "Bad Request - e.g. too many entries",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+        @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Insufficient permissions, only gateways are allowed to " +
+                "report bulk feedback.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "406", description = "In case accept header is specified and not application/json.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "415", description = "The request was attempt with a media-type which is not " +
+                "supported by the server for this resource.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                "and the client has to wait another second.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/" + DdiRestConstants.GATEWAY + "/"
+            + DdiRestConstants.FEEDBACK, consumes = { MediaType.APPLICATION_JSON_VALUE,
+                    DdiRestConstants.MEDIA_TYPE_CBOR }, produces = { MediaTypes.HAL_JSON_VALUE,
+                            MediaType.APPLICATION_JSON_VALUE, DdiRestConstants.MEDIA_TYPE_CBOR })
+    ResponseEntity<List<DdiBulkActionFeedbackResult>> postBulkActionFeedback(
+            final List<DdiBulkActionFeedback> feedback, @PathVariable("tenant") final String tenant);
+
     /**
      * This is the feedback channel for the config data action.
      *
@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ControllerPollProperties;
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.EntityFactory;
+import org.eclipse.hawkbit.repository.RepositoryConstants;
+import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.rest.util.FileStreamingProgressListener;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces the audit trail of artifact downloads. Instead of an action status
+ * per download request, i.e. per range request of a resumed download, one
+ * status is written when a target starts to download an artifact of an action.
+ * Its id is used for the {@link DownloadProgressEvent}s of all following
+ * requests of the download.
+ * <p>
+ * The requests are aggregated in memory and summarized by one more status with
+ * the shipped byte ranges, the number of requests, the duration and whether
+ * the artifact was downloaded completely. The summary is written as soon as
+ * the shipped ranges cover the artifact or, for incomplete downloads, after
+ * the download was idle for
+ * {@link ControllerPollProperties#getDownloadAuditIdleTime()}. A download with
+ * a single complete request is not summarized, its first status says it all.
+ * <p>
+ * The aggregation is done per node, a download spread over several nodes is
+ * summarized by each of them. Downloads beyond
+ * {@link ControllerPollProperties#getDownloadAuditMaxTracked()} are logged per
+ * request.
+ */
+@Slf4j
+@Component
+class DdiDownloadTracker {
+
+    private static final int MESSAGE_MAX_LENGTH = 512;
+
+    private final ControllerManagement controllerManagement;
+    private final EntityFactory entityFactory;
+    private final SystemSecurityContext systemSecurityContext;
+    private final TenantAware tenantAware;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ServiceMatcher> serviceMatcher;
+    private final BusProperties bus;
+    private final int maxTracked;
+    private final long idleMillis;
+
+    private final Map<DownloadKey, Download> downloads = new ConcurrentHashMap<>();
+
+    DdiDownloadTracker(final ControllerManagement controllerManagement, final EntityFactory entityFactory,
+            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
+            final ApplicationEventPublisher eventPublisher, final ObjectProvider<ServiceMatcher> serviceMatcher,
+            final BusProperties bus, final ControllerPollProperties controllerPollProperties,
+            final ScheduledExecutorService executorService) {
+        this.controllerManagement = controllerManagement;
+        this.entityFactory = entityFactory;
+        this.systemSecurityContext = systemSecurityContext;
+        this.tenantAware = tenantAware;
+        this.eventPublisher = eventPublisher;
+        this.serviceMatcher = serviceMatcher;
+        this.bus = bus;
+        maxTracked = controllerPollProperties.getDownloadAuditMaxTracked();
+        idleMillis = DurationHelper
+                .formattedStringToDuration(controllerPollProperties.getDownloadAuditIdleTime()).toMillis();
+
+        if (maxTracked > 0) {
+            executorService.scheduleWithFixedDelay(this::flushIdle, idleMillis, idleMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Tracks a download request of a target.
+     *
+     * @param actionId
+     *            id of the action the artifact is downloaded for
+     * @param request
+     *            the download request
+     * @param size
+     *            of the artifact
+     * @param logDownload
+     *            writes the action status of the download request and returns
+     *            its id, called for the first request of a download only
+     * @return the listener of the streaming of the request
+     */
+    FileStreamingProgressListener track(final long actionId, final HttpServletRequest request, final long size,
+            final LongSupplier logDownload) {
+        final String tenant = tenantAware.getCurrentTenant();
+        final boolean ranged = request.getHeader(HttpHeaders.RANGE) != null;
+        if (maxTracked <= 0 || downloads.size() >= maxTracked) {
+            final Download download = new Download(null, tenant, size);
+            download.log(logDownload);
+            return download;
+        }
+
+        final DownloadKey key = new DownloadKey(tenant, actionId, request.getRequestURI());
+        while (true) {
+            Download download = downloads.get(key);
+            if (download == null) {
+                final Download created = new Download(key, tenant, size);
+                download = downloads.putIfAbsent(key, created);
+                if (download == null) {
+                    // written outside of the map operation, concurrent requests
+                    // of the download wait for the status in awaitLogged
+                    created.log(logDownload);
+                    download = created;
+                }
+            }
+            // a download summarized or failed to log concurrently is started
+            // anew
+            if (download.awaitLogged() && download.requested(ranged)) {
+                return download;
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushAll() {
+        downloads.values().forEach(this::summarize);
+    }
+
+    void flushIdle() {
+        final long idleSince = System.currentTimeMillis() - idleMillis;
+        downloads.values().stream().filter(download -> download.isIdleSince(idleSince)).forEach(this::summarize);
+    }
+
+    private void summarize(final Download download) {
+        final String message = download.finish();
+        downloads.remove(download.key, download);
+        if (message == null) {
+            return;
+        }
+
+        try {
+            systemSecurityContext.runAsControllerAsTenant(download.tenant,
+                    () -> controllerManagement.addInformationalActionStatus(entityFactory.actionStatus()
+                            .create(download.key.actionId()).status(Status.DOWNLOAD).message(message)));
+        } catch (final RuntimeException e) {
+            log.warn("Failed to write the download summary of action {}: {}", download.key.actionId(),
+                    e.getMessage());
+        }
+    }
+
+    private String getApplicationId() {
+        final ServiceMatcher matcher = serviceMatcher.getIfAvailable();
+        return matcher != null ? matcher.getBusId() : bus.getId();
+    }
+
+    private record DownloadKey(String tenant, long actionId, String uri) {
+    }
+
+    /**
+     * The requests of a download. The shipped ranges are kept merged, mapped
+     * from start to (inclusive) end.
+     */
+    private final class Download implements FileStreamingProgressListener {
+
+        private final DownloadKey key;
+        private final String tenant;
+        private final CompletableFuture<Long> statusId = new CompletableFuture<>();
+        private final long size;
+        private final long startedAt = System.currentTimeMillis();
+        private final TreeMap<Long, Long> ranges = new TreeMap<>();
+        private long lastAccess = startedAt;
+        private int requests;
+        private boolean ranged;
+        private long shipped;
+        private boolean finished;
+
+        private Download(final DownloadKey key, final String tenant, final long size) {
+            this.key = key;
+            this.tenant = tenant;
+            this.size = size;
+        }
+
+        @Override
+        public void progress(final long requestedBytes, final long shippedBytesSinceLast,
+                final long shippedBytesOverall) {
+            eventPublisher.publishEvent(
+                    new DownloadProgressEvent(tenant, statusId.join(), shippedBytesSinceLast, getApplicationId()));
+            synchronized (this) {
+                shipped += shippedBytesSinceLast;
+                lastAccess = System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public void rangeShipped(final long start, final long end) {
+            if (key == null || !merge(start, end)) {
+                return;
+            }
+            summarize(this);
+        }
+
+        private void log(final LongSupplier logDownload) {
+            try {
+                statusId.complete(logDownload.getAsLong());
+            } catch (final RuntimeException e) {
+                if (key != null) {
+                    downloads.remove(key, this);
+                }
+                statusId.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        /**
+         * @return <code>false</code> if the status of the first request could
+         *         not be written
+         */
+        private boolean awaitLogged() {
+            try {
+                statusId.join();
+                return true;
+            } catch (final CompletionException e) {
+                return false;
+            }
+        }
+
+        private synchronized boolean requested(final boolean rangeRequest) {
+            if (finished) {
+                return false;
+            }
+            requests++;
+            ranged |= rangeRequest;
+            lastAccess = System.currentTimeMillis();
+            return true;
+        }
+
+        private synchronized boolean isIdleSince(final long time) {
+            return lastAccess < time;
+        }
+
+        /**
+         * @return <code>true</code> if the ranges cover the artifact now
+         */
+        private synchronized boolean merge(final long start, final long end) {
+            if (finished) {
+                return false;
+            }
+            long mergedStart = start;
+            long mergedEnd = end;
+            final Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+            if (floor != null && floor.getValue() >= start - 1) {
+                mergedStart = floor.getKey();
+                mergedEnd = Math.max(end, floor.getValue());
+            }
+            Map.Entry<Long, Long> next;
+            while ((next = ranges.ceilingEntry(mergedStart)) != null && next.getKey() <= mergedEnd + 1) {
+                mergedEnd = Math.max(mergedEnd, next.getValue());
+                ranges.remove(next.getKey());
+            }
+            ranges.put(mergedStart, mergedEnd);
+            lastAccess = System.currentTimeMillis();
+            return isComplete();
+        }
+
+        private boolean isComplete() {
+            return ranges.size() == 1 && ranges.firstKey() == 0 && ranges.firstEntry().getValue() >= size - 1;
+        }
+
+        /**
+         * Finishes the download.
+         *
+         * @return the summary to log or <code>null</code> if there is nothing
+         *         to summarize
+         */
+        private synchronized String finish() {
+            if (finished) {
+                return null;
+            }
+            finished = true;
+            final boolean complete = isComplete();
+            if (complete && requests <= 1 && !ranged) {
+                return null;
+            }
+
+            final String message = RepositoryConstants.SERVER_MESSAGE_PREFIX + "Target downloaded "
+                    + (complete ? "completely " : "partially ") + key.uri() + " with " + requests + " requests in "
+                    + TimeUnit.MILLISECONDS.toSeconds(lastAccess - startedAt) + " s, shipped " + shipped + " of "
+                    + size + " bytes, ranges " + ranges.entrySet().stream()
+                            .map(range -> range.getKey() + "-" + range.getValue()).collect(Collectors.joining(","));
+            return message.length() <= MESSAGE_MAX_LENGTH ? message
+                    : message.substring(0, MESSAGE_MAX_LENGTH - 3) + "...";
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.hawkbit.ControllerPollProperties;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.HttpUtil;
+import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Caches the deployment state of targets without active action, i.e. the
+ * installed action and the polling time, which is all the controller base
+ * resource returns for them besides the attribute request flag of the target.
+ * A poll with an <code>If-None-Match</code> header matching the ETag of the
+ * cached state is answered with <code>304</code> without looking up actions
+ * and configuration.
+ * <p>
+ * The ETag is derived from the state only, so it is the same on all nodes. The
+ * state of a target is evicted by the events which could change it: action
+ * created or updated (assignment, cancel, status and confirmation changes),
+ * target attributes requested, target deleted, and any configuration change
+ * of the tenant of the target. The events are published after commit, so a poll which read the
+ * state before an eviction must not store it afterwards, see
+ * {@link #stamp(long)}. Changes without events, e.g. deleted actions, are
+ * bounded by the TTL.
+ * <p>
+ * Long polling requests of targets are parked here as {@link DeferredResult}s,
+ * i.e. without a thread, and completed by the same events which evict the
+ * state. As the events are distributed to all nodes, the waiting target is
+ * woken on the node it is connected to. Only one request is parked per target,
+ * an older one is completed with <code>304</code> when a new one arrives, e.g.
+ * after the target gave up on a connection which was not closed.
+ * <p>
+ * Metrics: the Caffeine cache metrics of the cache <code>ddi.poll.state</code>
+ * and the gauge <code>ddi.poll.waiting</code> of targets with parked requests.
+ */
+@Component
+class DdiPollStateCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache<Long, PollState> states;
+    // eviction counters striped by target id, a state is only stored if no
+    // eviction happened for its stripe since it was read
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+    private final Map<Long, Waiter> waiters = new ConcurrentHashMap<>();
+
+    DdiPollStateCache(final ControllerPollProperties controllerPollProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        states = Caffeine.newBuilder().maximumSize(controllerPollProperties.getPollStateCacheSize())
+                .expireAfterWrite(
+                        DurationHelper.formattedStringToDuration(controllerPollProperties.getPollStateCacheTtl()))
+                .recordStats().build();
+        final MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(registry, states, "ddi.poll.state");
+        Gauge.builder("ddi.poll.waiting", waiters, Map::size)
+                .description("Targets with parked long polling requests").register(registry);
+    }
+
+    /**
+     * @param target
+     *            the polling target
+     * @return the ETag of the cached state of the target or <code>null</code>
+     *         if there is none
+     */
+    String getETag(final Target target) {
+        final PollState state = states.getIfPresent(target.getId());
+        return state == null ? null : toETag(state.state(), target);
+    }
+
+    /**
+     * Has to be called before the state of the target is read, the result is
+     * passed to {@link #put(long, Target, Long, String)}.
+     *
+     * @param targetId
+     *            id of the polling target
+     * @return the current eviction stamp of the target
+     */
+    long stamp(final long targetId) {
+        return evictions.get(stripe(targetId));
+    }
+
+    /**
+     * Caches the state of a target without active action, if it was not
+     * evicted since it was read.
+     *
+     * @param stamp
+     *            the eviction stamp taken before the state was read
+     * @param target
+     *            the polling target
+     * @param installedActionId
+     *            id of the installed action or <code>null</code>
+     * @param pollingTime
+     *            the polling time returned to the target
+     * @return the ETag of the state
+     */
+    String put(final long stamp, final Target target, final Long installedActionId, final String pollingTime) {
+        final String state = target.getId() + ":" + installedActionId + ":" + pollingTime;
+        states.asMap().compute(target.getId(),
+                (id, cached) -> evictions.get(stripe(id)) == stamp ? new PollState(target.getTenant(), state) : cached);
+        return toETag(state, target);
+    }
+
+    /**
+     * Parks a long polling request of a target until the state of the target
+     * changes or the timeout expires. The request is completed immediately if
+     * the given ETag does not match the state of the target, which is loaded if
+     * it is not cached. A request already parked for the target is completed
+     * with <code>304</code>.
+     *
+     * @param target
+     *            the waiting target
+     * @param ifNoneMatch
+     *            the ETag of the last poll of the target or <code>null</code>
+     *            to wait unconditionally
+     * @param timeout
+     *            the time to wait
+     * @param stateLoader
+     *            loads and caches the state of the target and returns its ETag,
+     *            or <code>null</code> if the target has an active action
+     * @return the result, <code>200</code> if changed or <code>304</code> on
+     *         timeout
+     */
+    DeferredResult<ResponseEntity<Void>> await(final Target target, final String ifNoneMatch,
+            final Duration timeout, final Supplier<String> stateLoader) {
+        final DeferredResult<ResponseEntity<Void>> waiter = new DeferredResult<>(timeout.toMillis(),
+                () -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        final Long targetId = target.getId();
+        waiter.onCompletion(() -> waiters.computeIfPresent(targetId,
+                (id, parked) -> parked.result() == waiter ? null : parked));
+        // registered before the state is checked, so a concurrent eviction
+        // either is visible to the check or completes the waiter
+        final Waiter replaced = waiters.put(targetId, new Waiter(target.getTenant(), waiter));
+        if (replaced != null) {
+            replaced.result().setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        }
+        if (ifNoneMatch != null) {
+            String eTag = getETag(target);
+            if (eTag == null) {
+                eTag = stateLoader.get();
+            }
+            if (eTag == null || !HttpUtil.matchesHttpHeader(ifNoneMatch, eTag)) {
+                wake(targetId);
+            }
+        }
+        return waiter;
+    }
+
+    @EventListener(classes = { ActionCreatedEvent.class, ActionUpdatedEvent.class })
+    void onActionEvent(final AbstractActionEvent event) {
+        evict(event.getTargetId());
+    }
+
+    @EventListener
+    void onTargetAttributesRequested(final TargetAttributesRequestedEvent event) {
+        evict(event.getEntityId());
+    }
+
+    @EventListener
+    void onTargetDeleted(final TargetDeletedEvent event) {
+        evict(event.getEntityId());
+    }
+
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        final String tenant = event.getTenant();
+        // the stripes are shared by all tenants, so all are stamped, which
+        // only skips the caching of states read concurrently
+        for (int i = 0; i < STRIPES; i++) {
+            evictions.incrementAndGet(i);
+        }
+        states.asMap().values().removeIf(state -> state.tenant().equalsIgnoreCase(tenant));
+        waiters.forEach((targetId, parked) -> {
+            if (parked.tenant().equalsIgnoreCase(tenant)) {
+                wake(targetId);
+            }
+        });
+    }
+
+    private void evict(final Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        evictions.incrementAndGet(stripe(targetId));
+        states.invalidate(targetId);
+        wake(targetId);
+    }
+
+    private void wake(final Long targetId) {
+        final Waiter parked = waiters.remove(targetId);
+        if (parked != null) {
+            parked.result().setResult(ResponseEntity.ok().build());
+        }
+    }
+
+    private static int stripe(final long targetId) {
+        return (int) Math.floorMod(targetId, (long) STRIPES);
+    }
+
+    private static String toETag(final String state, final Target target) {
+        return "\"" + DigestUtils.md5DigestAsHex(
+                (state + ":" + target.isRequestControllerAttributes()).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private record PollState(String tenant, String state) {
+    }
+
+    private record Waiter(String tenant, DeferredResult<ResponseEntity<Void>> result) {
+    }
+}
@@ -11,17 +11,29 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotEmpty;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ControllerPollProperties;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.ddi.json.model.DdiActionFeedback;
@@ -29,6 +41,8 @@ import org.eclipse.hawkbit.ddi.json.model.DdiActionHistory;
 import org.eclipse.hawkbit.ddi.json.model.DdiActivateAutoConfirmation;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifact;
 import org.eclipse.hawkbit.ddi.json.model.DdiAutoConfirmationState;
+import org.eclipse.hawkbit.ddi.json.model.DdiBulkActionFeedback;
+import org.eclipse.hawkbit.ddi.json.model.DdiBulkActionFeedbackResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiCancel;
 import org.eclipse.hawkbit.ddi.json.model.DdiCancelActionToStop;
 import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
@@ -53,8 +67,8 @@ import org.eclipse.hawkbit.repository.EntityFactory;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
+import org.eclipse.hawkbit.repository.ValidStringValidator;
 import org.eclipse.hawkbit.repository.builder.ActionStatusCreate;
-import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
@@ -66,16 +80,18 @@ import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
+import org.eclipse.hawkbit.rest.exception.ResponseExceptionHandler;
+import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
+import org.eclipse.hawkbit.rest.util.FileStreamingProgressListener;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
 import org.eclipse.hawkbit.rest.util.HttpUtil;
 import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.bus.BusProperties;
-import org.springframework.cloud.bus.ServiceMatcher;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -87,6 +103,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * The {@link DdiRootController} of the hawkBit server DDI API that is queried
@@ -106,15 +123,6 @@ public class DdiRootController implements DdiRootControllerRestApi {
     @Autowired
     private ConfirmationManagement confirmationManagement;
 
-    @Autowired
-    private ApplicationEventPublisher eventPublisher;
-
-    @Autowired(required = false)
-    private ServiceMatcher serviceMatcher;
-
-    @Autowired
-    private BusProperties bus;
-
     @Autowired
     private ControllerManagement controllerManagement;
 
@@ -136,13 +144,28 @@ public class DdiRootController implements DdiRootControllerRestApi {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private DdiPollStateCache pollStateCache;
+
+    @Autowired
+    private DdiDownloadTracker downloadTracker;
+
+    @Autowired
+    private ControllerPollProperties controllerPollProperties;
+
+    @Autowired
+    private Validator validator;
+
+    private final ValidStringValidator validStringValidator = new ValidStringValidator();
+
     @Override
     public ResponseEntity<List<DdiArtifact>> getSoftwareModulesArtifacts(@PathVariable("tenant") final String tenant,
             @PathVariable("controllerId") final String controllerId,
             @PathVariable("softwareModuleId") final Long softwareModuleId) {
         log.debug("getSoftwareModulesArtifacts({})", controllerId);
 
-        final Target target = findTarget(controllerId);
+        final Target target = controllerManagement.getByControllerId(controllerId)
+                .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
 
         final SoftwareModule softwareModule = controllerManagement.getSoftwareModule(softwareModuleId)
                 .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
@@ -160,17 +183,52 @@ public class DdiRootController implements DdiRootControllerRestApi {
 
         final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, IpUtil
                 .getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
+
+        // unchanged deployment state of a target without active action
+        final String ifNoneMatch = RequestResponseContextHolder.getHttpServletRequest()
+                .getHeader(HttpHeaders.IF_NONE_MATCH);
+        final String cachedETag = ifNoneMatch == null ? null : pollStateCache.getETag(target);
+        if (cachedETag != null && HttpUtil.matchesHttpHeader(ifNoneMatch, cachedETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedETag).build();
+        }
+
+        final long pollStateStamp = pollStateCache.stamp(target.getId());
         final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
 
         final Action installedAction = controllerManagement.getInstalledActionByTarget(controllerId).orElse(null);
 
         checkAndCancelExpiredAction(activeAction);
 
-        // activeAction
+        if (activeAction == null) {
+            final String pollingTime = controllerManagement.getPollingTime();
+            return ResponseEntity.ok()
+                    .eTag(pollStateCache.put(pollStateStamp, target,
+                            installedAction == null ? null : installedAction.getId(), pollingTime))
+                    .body(DataConversionHelper.fromTarget(target, installedAction, null, pollingTime, tenantAware));
+        }
+
+        // activeAction, the response depends on the time (e.g. forced or
+        // maintenance window) and is not cached
         return new ResponseEntity<>(DataConversionHelper.fromTarget(target, installedAction, activeAction,
-                activeAction == null ? controllerManagement.getPollingTime()
-                        : controllerManagement.getPollingTimeForAction(activeAction.getId()),
-                tenantAware), HttpStatus.OK);
+                controllerManagement.getPollingTimeForAction(activeAction.getId()), tenantAware), HttpStatus.OK);
+    }
+
+    @Override
+    public DeferredResult<ResponseEntity<Void>> waitForChanges(@PathVariable("tenant") final String tenant,
+            @PathVariable("controllerId") final String controllerId,
+            @RequestParam(value = "timeout", required = false) final Integer timeout) {
+        log.debug("waitForChanges({})", controllerId);
+
+        // the long poll counts as poll of the target
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, IpUtil
+                .getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
+
+        final Duration maxTime = DurationHelper.formattedStringToDuration(controllerPollProperties.getLongPollMaxTime());
+        final Duration waitTime = timeout == null || timeout <= 0 || timeout > maxTime.toSeconds() ? maxTime
+                : Duration.ofSeconds(timeout);
+        return pollStateCache.await(target,
+                RequestResponseContextHolder.getHttpServletRequest().getHeader(HttpHeaders.IF_NONE_MATCH), waitTime,
+                () -> loadPollState(target));
     }
 
     @Override
@@ -180,7 +238,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("fileName") final String fileName) {
         final ResponseEntity<InputStream> result;
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final SoftwareModule module = controllerManagement.getSoftwareModule(softwareModuleId)
                 .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
 
@@ -198,28 +256,37 @@ public class DdiRootController implements DdiRootControllerRestApi {
             if (ifMatch != null && !HttpUtil.matchesHttpHeader(ifMatch, artifact.getSha1Hash())) {
                 result = new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
             } else {
-                final ActionStatus action = checkAndLogDownload(RequestResponseContextHolder.getHttpServletRequest(),
-                        target, module.getId());
-
-                final Long statusId = action.getId();
+                final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+                final Action action = findActionForDownload(target, module.getId());
+                final FileStreamingProgressListener download = downloadTracker.track(action.getId(), request,
+                        artifact.getSize(), () -> logDownload(request, action).getId());
 
                 result = FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
-                        RequestResponseContextHolder.getHttpServletResponse(),
-                        RequestResponseContextHolder.getHttpServletRequest(),
-                        (length, shippedSinceLastEvent,
-                                total) -> eventPublisher.publishEvent(new DownloadProgressEvent(
-                                        tenantAware.getCurrentTenant(), statusId, shippedSinceLastEvent,
-                                        serviceMatcher != null ? serviceMatcher.getBusId() : bus.getId())));
-
+                        RequestResponseContextHolder.getHttpServletResponse(), request, download);
             }
         }
         return result;
     }
 
-    private ActionStatus checkAndLogDownload(final HttpServletRequest request, final Target target, final Long module) {
-        final Action action = controllerManagement
-                .getActionForDownloadByTargetAndSoftwareModule(target.getControllerId(), module)
+    // state of a target without active action like cached by getControllerBase,
+    // null if the target has an active action
+    private String loadPollState(final Target target) {
+        final long pollStateStamp = pollStateCache.stamp(target.getId());
+        if (controllerManagement.findActiveActionWithHighestWeight(target.getControllerId()).isPresent()) {
+            return null;
+        }
+        final Action installedAction = controllerManagement.getInstalledActionByTarget(target.getControllerId())
+                .orElse(null);
+        return pollStateCache.put(pollStateStamp, target, installedAction == null ? null : installedAction.getId(),
+                controllerManagement.getPollingTime());
+    }
+
+    private Action findActionForDownload(final TargetIdentity target, final Long module) {
+        return controllerManagement.getActionForDownloadByTargetAndSoftwareModule(target.getControllerId(), module)
                 .orElseThrow(() -> new SoftwareModuleNotAssignedToTargetException(module, target.getControllerId()));
+    }
+
+    private ActionStatus logDownload(final HttpServletRequest request, final Action action) {
         final String range = request.getHeader("Range");
 
         final String message;
@@ -246,7 +313,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("controllerId") final String controllerId,
             @PathVariable("softwareModuleId") final Long softwareModuleId,
             @PathVariable("fileName") final String fileName) {
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
 
         final SoftwareModule module = controllerManagement.getSoftwareModule(softwareModuleId)
                 .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
@@ -259,7 +326,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
         final Artifact artifact = module.getArtifactByFilename(fileName)
                 .orElseThrow(() -> new EntityNotFoundException(Artifact.class, fileName));
 
-        checkAndLogDownload(RequestResponseContextHolder.getHttpServletRequest(), target, module.getId());
+        logDownload(RequestResponseContextHolder.getHttpServletRequest(),
+                findActionForDownload(target, module.getId()));
 
         try {
             FileStreamingUtil.writeMD5FileResponse(RequestResponseContextHolder.getHttpServletResponse(),
@@ -281,14 +349,15 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @RequestParam(value = "actionHistory", defaultValue = DdiRestConstants.NO_ACTION_HISTORY) final Integer actionHistoryMessageCount) {
         log.debug("getControllerDeploymentBaseAction({},{})", controllerId, resource);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && !action.isWaitingConfirmation()) {
 
-            final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
+            final DdiDeploymentBase base = generateDdiDeploymentBase(action.getTarget(), action,
+                    actionHistoryMessageCount);
 
             log.debug("Found an active UpdateAction for target {}. returning deployment: {}", controllerId, base);
 
@@ -331,7 +400,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("actionId") @NotNull final Long actionId) {
         log.debug("postDeploymentBaseActionFeedback for target [{},{}]: {}", controllerId, actionId, feedback);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         if (action.isWaitingConfirmation()) {
@@ -349,6 +418,92 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return ResponseEntity.ok().build();
     }
 
+    @Override
+    public ResponseEntity<List<DdiBulkActionFeedbackResult>> postBulkActionFeedback(
+            @RequestBody final List<DdiBulkActionFeedback> feedback, @PathVariable("tenant") final String tenant) {
+        log.debug("postBulkActionFeedback with {} entries", feedback.size());
+        if (feedback.size() > DdiRestConstants.MAX_BULK_FEEDBACK_SIZE) {
+            throw new ValidationException(
+                    "Bulk feedback is limited to " + DdiRestConstants.MAX_BULK_FEEDBACK_SIZE + " entries");
+        }
+
+        final Map<Long, Action> actions = controllerManagement
+                .findActionsWithTarget(feedback.stream().map(DdiBulkActionFeedback::getActionId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Action::getId, Function.identity()));
+
+        final DdiBulkActionFeedbackResult[] results = new DdiBulkActionFeedbackResult[feedback.size()];
+        final List<Integer> accepted = new ArrayList<>(feedback.size());
+        final List<ActionStatusCreate> creates = new ArrayList<>(feedback.size());
+        for (int i = 0; i < feedback.size(); i++) {
+            final DdiBulkActionFeedback entry = feedback.get(i);
+            results[i] = checkBulkActionFeedback(entry, actions.get(entry.getActionId()));
+            if (results[i] == null) {
+                accepted.add(i);
+                creates.add(generateUpdateStatus(entry, entry.getControllerId(), entry.getActionId()));
+            }
+        }
+
+        // called for no accepted entries too, the gateway permission is
+        // verified by the repository
+        final Map<Integer, RuntimeException> failures = controllerManagement.addUpdateActionStatuses(creates);
+        for (int i = 0; i < accepted.size(); i++) {
+            final int index = accepted.get(i);
+            final RuntimeException failure = failures.get(i);
+            results[index] = failure == null ? bulkActionFeedbackResult(feedback.get(index), HttpStatus.OK, null)
+                    : bulkActionFeedbackResult(feedback.get(index), failure);
+        }
+
+        return ResponseEntity.ok(Arrays.asList(results));
+    }
+
+    /**
+     * Checks an entry of a bulk feedback like the single feedback channel.
+     *
+     * @return the result of the rejected entry or <code>null</code> if the
+     *         entry is accepted
+     */
+    private DdiBulkActionFeedbackResult checkBulkActionFeedback(final DdiBulkActionFeedback entry,
+            final Action action) {
+        final Set<ConstraintViolation<DdiBulkActionFeedback>> violations = validator.validate(entry);
+        if (!violations.isEmpty()) {
+            return bulkActionFeedbackResult(entry, new ConstraintViolationException(violations));
+        }
+        // checked here as the repository validates all entries at once
+        final List<String> details = entry.getStatus().getDetails();
+        if (details != null && !details.stream().allMatch(detail -> validStringValidator.isValid(detail, null))) {
+            return bulkActionFeedbackResult(entry, new ValidationException("Invalid characters in status details"));
+        }
+
+        if (action == null || !action.getTarget().getControllerId().equals(entry.getControllerId())) {
+            log.debug(GIVEN_ACTION_IS_NOT_ASSIGNED_TO_GIVEN_TARGET, entry.getActionId(), entry.getControllerId());
+            return bulkActionFeedbackResult(entry, new EntityNotFoundException(Action.class, entry.getActionId()));
+        }
+
+        if (action.isWaitingConfirmation()) {
+            return bulkActionFeedbackResult(entry, HttpStatus.NOT_FOUND, null);
+        }
+
+        if (!action.isActive()) {
+            log.warn("Updating action {} with feedback {} not possible since action not active anymore.",
+                    action.getId(), entry.getStatus());
+            return bulkActionFeedbackResult(entry, HttpStatus.GONE, null);
+        }
+
+        return null;
+    }
+
+    private static DdiBulkActionFeedbackResult bulkActionFeedbackResult(final DdiBulkActionFeedback entry,
+            final RuntimeException e) {
+        return bulkActionFeedbackResult(entry, ResponseExceptionHandler.getResponseStatus(e),
+                ResponseExceptionHandler.createExceptionInfo(e));
+    }
+
+    private static DdiBulkActionFeedbackResult bulkActionFeedbackResult(final DdiBulkActionFeedback entry,
+            final HttpStatus status, final ExceptionInfo error) {
+        return new DdiBulkActionFeedbackResult(entry.getControllerId(), entry.getActionId(), status.value(), error);
+    }
+
     private ActionStatusCreate generateUpdateStatus(final DdiActionFeedback feedback, final String controllerId,
             final Long actionId) {
 
@@ -448,7 +603,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("actionId") @NotNull final Long actionId) {
         log.debug("getControllerCancelAction({})", controllerId);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         if (action.isCancelingOrCanceled()) {
@@ -473,7 +628,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("actionId") @NotNull final Long actionId) {
         log.debug("provideCancelActionFeedback for target [{}]: {}", controllerId, feedback);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         controllerManagement
@@ -487,22 +642,23 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @RequestParam(value = "actionHistory", defaultValue = DdiRestConstants.NO_ACTION_HISTORY) final Integer actionHistoryMessageCount) {
         log.debug("getControllerInstalledAction({})", controllerId);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         if (action.isActive() || action.isCancelingOrCanceled()) {
             return ResponseEntity.notFound().build();
         }
 
-        final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
+        final DdiDeploymentBase base = generateDdiDeploymentBase(action.getTarget(), action,
+                actionHistoryMessageCount);
 
         log.debug("Found an installed UpdateAction for target {}. returning deployment: {}", controllerId, base);
         return new ResponseEntity<>(base, HttpStatus.OK);
 
     }
 
-    private static ActionStatusCreate generateActionCancelStatus(final DdiActionFeedback feedback, final Target target,
-            final Long actionId, final EntityFactory entityFactory) {
+    private static ActionStatusCreate generateActionCancelStatus(final DdiActionFeedback feedback,
+            final TargetIdentity target, final Long actionId, final EntityFactory entityFactory) {
 
         final ActionStatusCreate actionStatusCreate = entityFactory.actionStatus().create(actionId);
 
@@ -552,7 +708,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return status;
     }
 
-    private static Status handleCaseCancelCanceled(final DdiActionFeedback feedback, final Target target,
+    private static Status handleCaseCancelCanceled(final DdiActionFeedback feedback, final TargetIdentity target,
             final Long actionId, final List<String> messages) {
         final Status status;
         log.error(
@@ -564,19 +720,19 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return status;
     }
 
-    private Target findTarget(final String controllerId) {
-        return controllerManagement.getByControllerId(controllerId)
+    private TargetIdentity findTarget(final String controllerId) {
+        return controllerManagement.findTargetIdentity(controllerId)
                 .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
     }
 
-    private Action findActionForTarget(final Long actionId, final Target target) {
+    private Action findActionForTarget(final Long actionId, final TargetIdentity target) {
         final Action action = controllerManagement.findActionWithDetails(actionId)
                 .orElseThrow(() -> new EntityNotFoundException(Action.class, actionId));
         return verifyActionBelongsToTarget(action, target);
     }
 
-    private Action verifyActionBelongsToTarget(final Action action, final Target target) {
-        if (!action.getTarget().getId().equals(target.getId())) {
+    private Action verifyActionBelongsToTarget(final Action action, final TargetIdentity target) {
+        if (action.getTarget().getId() != target.getId()) {
             log.debug(GIVEN_ACTION_IS_NOT_ASSIGNED_TO_GIVEN_TARGET, action.getId(), target.getId());
             throw new EntityNotFoundException(
                     "Not a valid action (" + action.getId() + ") for target: " + target.getControllerId(), null);
@@ -621,14 +777,14 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @RequestParam(value = "actionHistory", defaultValue = DdiRestConstants.NO_ACTION_HISTORY) final Integer actionHistoryMessageCount) {
         log.debug("getConfirmationBaseAction({},{})", controllerId, resource);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && action.isWaitingConfirmation()) {
 
-            final DdiConfirmationBaseAction base = generateDdiConfirmationBase(target, action,
+            final DdiConfirmationBaseAction base = generateDdiConfirmationBase(action.getTarget(), action,
                     actionHistoryMessageCount);
 
             log.debug("Found an active UpdateAction for target {}. Returning confirmation: {}", controllerId, base);
@@ -680,7 +836,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         log.debug("provideConfirmationActionFeedback with feedback [controllerId={}, actionId={}]: {}", controllerId,
                 actionId, feedback);
 
-        final Target target = findTarget(controllerId);
+        final TargetIdentity target = findTarget(controllerId);
         final Action action = findActionForTarget(actionId, target);
 
         try {
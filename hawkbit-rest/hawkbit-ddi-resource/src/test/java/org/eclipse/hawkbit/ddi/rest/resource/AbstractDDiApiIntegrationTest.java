@@ -74,6 +74,8 @@ public abstract class AbstractDDiApiIntegrationTest extends AbstractRestIntegrat
     protected static final String CANCEL_ACTION = CONTROLLER_BASE + "/cancelAction/{actionId}";
     protected static final String INSTALLED_BASE = CONTROLLER_BASE + "/installedBase/{actionId}";
     protected static final String INSTALLED_BASE_ROOT = CONTROLLER_BASE + "/installedBase";
+    protected static final String WAIT_FOR_CHANGES = CONTROLLER_BASE + "/waitForChanges";
+    protected static final String BULK_FEEDBACK = "/{tenant}/controller/v1/gateway/feedback";
 
     protected static final String DEPLOYMENT_FEEDBACK = DEPLOYMENT_BASE + "/feedback";
     protected static final String CANCEL_FEEDBACK = CANCEL_ACTION + "/feedback";
@@ -24,6 +24,7 @@ import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -32,6 +33,9 @@ import java.util.TimeZone;
 import org.apache.commons.lang3.RandomUtils;
 import org.eclipse.hawkbit.ddi.rest.resource.DdiArtifactDownloadTest.DownloadTestConfiguration;
 import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
@@ -274,6 +278,17 @@ public class DdiArtifactDownloadTest extends AbstractDDiApiIntegrationTest {
 
         assertThat(outputStream.toByteArray()).isEqualTo(random);
 
+        // the range requests are logged by the status of the first request and one summary
+        final Action action = deploymentManagement.findActionsByTarget(target.getControllerId(), PAGE).getContent()
+                .get(0);
+        final List<ActionStatus> downloads = deploymentManagement.findActionStatusByAction(PAGE, action.getId())
+                .getContent().stream().filter(status -> status.getStatus() == Status.DOWNLOAD)
+                .sorted(Comparator.comparing(ActionStatus::getId)).toList();
+        assertThat(downloads).hasSize(2);
+        assertThat(deploymentManagement.findMessagesByActionStatusId(PAGE, downloads.get(1).getId()).getContent())
+                .singleElement().asString().contains("downloaded completely", "with " + resultLength / range
+                        + " requests", "shipped " + resultLength + " of " + resultLength + " bytes");
+
         // return last 1000 Bytes
         MvcResult result = mvc.perform(
                 get("/{tenant}/controller/v1/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{filename}",
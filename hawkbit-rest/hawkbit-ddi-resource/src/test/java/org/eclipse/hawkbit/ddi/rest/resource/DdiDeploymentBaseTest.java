@@ -10,6 +10,8 @@
 package org.eclipse.hawkbit.ddi.rest.resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_GATEWAY_ROLE;
+import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
@@ -28,9 +30,11 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Condition;
+import org.eclipse.hawkbit.ddi.json.model.DdiBulkActionFeedback;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiStatus;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
+import org.eclipse.hawkbit.exception.SpServerError;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetCreatedEvent;
@@ -53,6 +57,7 @@ import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
+import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.eclipse.hawkbit.rest.exception.MessageNotReadableException;
 import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
 import org.junit.jupiter.api.Test;
@@ -552,6 +557,75 @@ public class DdiDeploymentBaseTest extends AbstractDDiApiIntegrationTest {
         assertStatusMessagesCount(6);
     }
 
+    @Test
+    @Description("Verifies that a gateway can report the deployment feedback of several devices at once and gets the "
+            + "outcome of each entry.")
+    public void bulkDeploymentActionFeedbackOfGateway() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet("");
+        final List<Target> targets = List.of(testdataFactory.createTarget(DEFAULT_CONTROLLER_ID),
+                testdataFactory.createTarget("4713"));
+        assignDistributionSet(ds, targets);
+        final Long actionId1 = deploymentManagement.findActiveActionsByTarget(PAGE, DEFAULT_CONTROLLER_ID).getContent()
+                .get(0).getId();
+        final Long actionId2 = deploymentManagement.findActiveActionsByTarget(PAGE, "4713").getContent().get(0)
+                .getId();
+
+        final DdiStatus closed = new DdiStatus(DdiStatus.ExecutionStatus.CLOSED,
+                new DdiResult(DdiResult.FinalResult.SUCCESS, null), null, Collections.singletonList("closed"));
+        final DdiStatus proceeding = new DdiStatus(DdiStatus.ExecutionStatus.PROCEEDING,
+                new DdiResult(DdiResult.FinalResult.NONE, null), null, Collections.singletonList("proceeding"));
+        final String feedback = getMapper().writeValueAsString(List.of(
+                new DdiBulkActionFeedback(DEFAULT_CONTROLLER_ID, actionId1, null, closed),
+                new DdiBulkActionFeedback("4713", actionId2, null, proceeding),
+                // action of another target
+                new DdiBulkActionFeedback("4713", actionId1, null, proceeding),
+                // action does not exist
+                new DdiBulkActionFeedback("4713", 1234L, null, proceeding),
+                // status missing
+                new DdiBulkActionFeedback("4713", actionId2, null, null),
+                // invalid details
+                new DdiBulkActionFeedback("4713", actionId2, null,
+                        new DdiStatus(DdiStatus.ExecutionStatus.PROCEEDING,
+                                new DdiResult(DdiResult.FinalResult.NONE, null), null,
+                                Collections.singletonList("<script>alert('hi')</script>")))));
+
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withController("gateway", CONTROLLER_ROLE,
+                CONTROLLER_GATEWAY_ROLE), () -> {
+                    mvc.perform(post(BULK_FEEDBACK, tenantAware.getCurrentTenant()).content(feedback)
+                            .contentType(MediaType.APPLICATION_JSON)).andDo(MockMvcResultPrinter.print())
+                            .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(6)))
+                            .andExpect(jsonPath("$[0].status", equalTo(200)))
+                            .andExpect(jsonPath("$[0].controllerId", equalTo(DEFAULT_CONTROLLER_ID)))
+                            .andExpect(jsonPath("$[0].actionId", equalTo(actionId1.intValue())))
+                            .andExpect(jsonPath("$[1].status", equalTo(200)))
+                            .andExpect(jsonPath("$[2].status", equalTo(404)))
+                            .andExpect(jsonPath("$[2].error.errorCode", equalTo(SpServerError.SP_REPO_ENTITY_NOT_EXISTS.getKey())))
+                            .andExpect(jsonPath("$[3].status", equalTo(404)))
+                            .andExpect(jsonPath("$[4].status", equalTo(400)))
+                            .andExpect(jsonPath("$[5].status", equalTo(400)));
+                    return null;
+                });
+
+        assertThat(targetManagement.getByControllerID(DEFAULT_CONTROLLER_ID).get().getUpdateStatus())
+                .isEqualTo(TargetUpdateStatus.IN_SYNC);
+        assertThat(deploymentManagement.findActionStatusByAction(PAGE, actionId1).getContent())
+                .haveExactly(1, new ActionStatusCondition(Status.FINISHED));
+        // the status of the assignment and the reported one
+        assertThat(deploymentManagement.findActionStatusByAction(PAGE, actionId2).getContent())
+                .haveExactly(2, new ActionStatusCondition(Status.RUNNING));
+    }
+
+    @Test
+    @Description("Verifies that bulk deployment feedback is only accepted from gateways.")
+    public void bulkDeploymentActionFeedbackOfControllerIsForbidden() throws Exception {
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withController("4712", CONTROLLER_ROLE), () -> {
+            mvc.perform(post(BULK_FEEDBACK, tenantAware.getCurrentTenant()).content("[]")
+                    .contentType(MediaType.APPLICATION_JSON)).andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isForbidden());
+            return null;
+        });
+    }
+
     @Autowired
     ActionRepository actionRepository;
     @Test
@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.ddi.rest.resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE_ANONYMOUS;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.SYSTEM_ROLE;
@@ -21,18 +22,22 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiStatus;
@@ -41,6 +46,7 @@ import org.eclipse.hawkbit.im.authentication.SpPermission;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetCreatedEvent;
@@ -52,6 +58,7 @@ import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedE
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantConfiguration;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -69,6 +76,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -90,6 +98,9 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
     @Autowired
     private HawkbitSecurityProperties securityProperties;
 
+    @Autowired
+    private DdiPollStateCache pollStateCache;
+
     @Test
     @Description("Ensure that the root poll resource is available as CBOR")
     void rootPollResourceCbor() throws Exception {
@@ -313,6 +324,140 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
 
     }
 
+
+    @Test
+    @Description("Ensures that conditional polls of a target without active action are answered from the cached "
+            + "deployment state, which reflects attribute requests and tenant configuration changes.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 6),
+            @Expect(type = TargetUpdatedEvent.class, count = 2),
+            @Expect(type = TargetAttributesRequestedEvent.class, count = 1),
+            @Expect(type = TenantConfigurationCreatedEvent.class, count = 1) })
+    void rootRsNotModifiedByCachedPollState() throws Exception {
+        final String controllerId = "4712";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId))
+                .andExpect(status().isOk()).andExpect(jsonPath("$._links.configData.href").exists()).andReturn()
+                .getResponse().getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        // attributes are sent, no attribute request anymore
+        controllerManagement.updateControllerAttributes(controllerId, Map.of("revision", "1.1"), null);
+        final String etagWithoutAttributeRequest = mvc
+                .perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.configData.href").doesNotExist()).andReturn().getResponse()
+                .getHeader("ETag");
+        assertThat(etagWithoutAttributeRequest).isNotEqualTo(etag);
+
+        targetManagement.requestControllerAttributes(controllerId);
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match",
+                etagWithoutAttributeRequest)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.configData.href").exists());
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isNotModified());
+
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withUser("tenantadmin", TENANT_CONFIGURATION), () -> {
+            tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.POLLING_TIME_INTERVAL,
+                    "00:02:00");
+            return null;
+        });
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.config.polling.sleep", equalTo("00:02:00")));
+    }
+
+    @Test
+    @Description("Ensures that a long polling request of a target is parked while its deployment state is unchanged "
+            + "and answered as soon as a distribution set is assigned.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 3),
+            @Expect(type = TargetAssignDistributionSetEvent.class, count = 1),
+            @Expect(type = TargetUpdatedEvent.class, count = 1),
+            @Expect(type = DistributionSetCreatedEvent.class, count = 1),
+            @Expect(type = SoftwareModuleCreatedEvent.class, count = 3),
+            @Expect(type = DistributionSetUpdatedEvent.class, count = 1), // implicit lock
+            @Expect(type = SoftwareModuleUpdatedEvent.class, count = 3), // implicit lock
+            @Expect(type = ActionCreatedEvent.class, count = 1) })
+    void waitForChangesWokenByAssignment() throws Exception {
+        final String controllerId = "4713";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+
+        // outdated state is answered immediately
+        final MvcResult outdated = mvc
+                .perform(get(WAIT_FOR_CHANGES, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", "\"outdated\""))
+                .andExpect(request().asyncStarted()).andReturn();
+        mvc.perform(asyncDispatch(outdated)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk());
+
+        final MvcResult parked = mvc
+                .perform(get(WAIT_FOR_CHANGES, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted()).andReturn();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> parked.getAsyncResult(0));
+
+        assignDistributionSet(testdataFactory.createDistributionSet("").getId(), controllerId);
+        mvc.perform(asyncDispatch(parked)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk());
+    }
+
+    @Test
+    @Description("Ensures that a long polling request loads the deployment state if it is not cached, and is only "
+            + "woken by configuration changes of the tenant of the target.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 2) })
+    void waitForChangesLoadsUncachedState() throws Exception {
+        final String controllerId = "4714";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+        // e.g. expired or polled on another node before
+        ((Cache<?, ?>) ReflectionTestUtils.getField(pollStateCache, "states")).invalidateAll();
+
+        final MvcResult parked = mvc
+                .perform(get(WAIT_FOR_CHANGES, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted()).andReturn();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> parked.getAsyncResult(0));
+
+        pollStateCache.onTenantConfigurationEvent(new TenantConfigurationDeletedEvent("OTHER_TENANT", 1L,
+                TenantConfigurationKey.POLLING_TIME_INTERVAL, "00:02:00", JpaTenantConfiguration.class, "test"));
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> parked.getAsyncResult(0));
+
+        pollStateCache.onTenantConfigurationEvent(new TenantConfigurationDeletedEvent(tenantAware.getCurrentTenant(),
+                1L, TenantConfigurationKey.POLLING_TIME_INTERVAL, "00:02:00", JpaTenantConfiguration.class, "test"));
+        mvc.perform(asyncDispatch(parked)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk());
+    }
+
+    @Test
+    @Description("Ensures that only one long polling request is parked per target and an older one is answered "
+            + "as not modified when a new one arrives.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 3) })
+    void waitForChangesParksOneRequestPerTarget() throws Exception {
+        final String controllerId = "4715";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+
+        final MvcResult older = mvc
+                .perform(get(WAIT_FOR_CHANGES, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted()).andReturn();
+        final MvcResult newer = mvc
+                .perform(get(WAIT_FOR_CHANGES, tenantAware.getCurrentTenant(), controllerId)
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted()).andReturn();
+        mvc.perform(asyncDispatch(older)).andDo(MockMvcResultPrinter.print()).andExpect(status().isNotModified());
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> newer.getAsyncResult(0));
+
+        pollStateCache.onTenantConfigurationEvent(new TenantConfigurationDeletedEvent(tenantAware.getCurrentTenant(),
+                1L, TenantConfigurationKey.POLLING_TIME_INTERVAL, "00:02:00", JpaTenantConfiguration.class, "test"));
+        mvc.perform(asyncDispatch(newer)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk());
+    }
+
     @Test
     @Description("Ensures that the target state machine of a precomissioned target switches from "
             + "UNKNOWN to REGISTERED when the target polls for the first time.")
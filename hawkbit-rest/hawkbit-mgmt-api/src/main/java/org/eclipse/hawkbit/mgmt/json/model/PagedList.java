@@ -46,13 +46,19 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
     @JsonProperty
     private final long total;
     private final int size;
+    /**
+     * Continuation token of the next page if keyset paging is requested and
+     * there are more elements.
+     */
+    @JsonProperty
+    private String next;
 
     /**
      * creates a new paged list with the given {@code content} and {@code total}
      * .
      *
      * @param content the actual content of the list
-     * @param total the total amount of elements
+     * @param total the total amount of elements, <code>-1</code> if not counted
      * @throws NullPointerException in case {@code content} is {@code null}.
      */
     @JsonCreator
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.systemmanagement;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Response body for the progress of the purge of a deleted tenant.
+ */
+@Data
+@Accessors(chain = true)
+@ToString
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtTenantPurge {
+
+    @JsonProperty
+    private String tenant;
+
+    @JsonProperty
+    private long startedAt;
+
+    @JsonProperty
+    private long lastModifiedAt;
+
+    @JsonProperty
+    private int completedSteps;
+
+    @JsonProperty
+    private int totalSteps;
+
+    @JsonProperty
+    private long deletedRows;
+}
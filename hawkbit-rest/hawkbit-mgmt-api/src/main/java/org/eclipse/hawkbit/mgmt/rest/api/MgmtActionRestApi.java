@@ -50,6 +50,11 @@ public interface MgmtActionRestApi {
      * @param representationModeParam
      *            the representation mode parameter specifying whether a compact
      *            or a full representation shall be returned
+     * @param cursorParam
+     *            the continuation token of keyset paging, might not be present
+     *            in the rest request then offset paging is applied
+     * @param skipCountParam
+     *            if <code>true</code> the total elements are not counted
      * @return a list of all actions for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -103,7 +108,16 @@ public interface MgmtActionRestApi {
             @Schema(description = """
                     The representation mode. Can be "full" or "compact". Defaults to "compact"
                     """)
-            String representationModeParam);
+            String representationModeParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The continuation token of keyset paging, returned as next of the previous page. If present the
+                    offset is ignored, an empty token requests the first page. The result must be sorted by a single
+                    field which is not nullable.""")
+            String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false)
+            @Schema(description = "Skips the count of the total elements, the total is -1 then (default is false)")
+            Boolean skipCountParam);
 
     /**
      * Handles the GET request of retrieving a specific {@link MgmtAction} by
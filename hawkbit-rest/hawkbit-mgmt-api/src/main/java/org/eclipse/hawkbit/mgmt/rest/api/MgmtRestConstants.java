@@ -197,6 +197,20 @@ public final class MgmtRestConstants {
      */
     public static final String REQUEST_PARAMETER_PAGING_OFFSET = "offset";
 
+    /**
+     * Paging http parameter for the continuation token of a keyset paged
+     * request. If present the offset is ignored and the page starts after the
+     * last entity of the page which returned the token. An empty token
+     * requests the first page.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_CURSOR = "cursor";
+
+    /**
+     * Paging http parameter to skip the count of the total elements. If
+     * <code>true</code> the total of the response is <code>-1</code>.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_SKIP_COUNT = "skipcount";
+
     /**
      * The request parameter for sorting. The value of the sort parameter must
      * be in the following pattern. Example:
@@ -13,6 +13,7 @@ import java.util.Collection;
 
 import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtSystemCache;
 import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtSystemStatisticsRest;
+import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtTenantPurge;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,15 +28,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 public interface MgmtSystemManagementRestApi {
 
     /**
-     * Deletes the tenant data of a given tenant. USE WITH CARE!
+     * Deletes the tenant data of a given tenant. USE WITH CARE! The tenant is
+     * removed immediately, its data is purged in the background. The progress
+     * of the purge is returned by {@link #getTenantPurge(String)}, which is
+     * referenced by the <code>Location</code> header of the response.
      *
      * @param tenant
      *            to delete
-     * @return HttpStatus.OK
+     * @return HttpStatus.ACCEPTED
      */
     @DeleteMapping(value = MgmtRestConstants.SYSTEM_ADMIN_MAPPING + "/tenants/{tenant}")
     ResponseEntity<Void> deleteTenant(@PathVariable("tenant") String tenant);
 
+    /**
+     * Returns the progress of the purge of a deleted tenant.
+     *
+     * @param tenant
+     *            the deleted tenant
+     * @return the progress of the purge or HttpStatus.NOT_FOUND if the tenant
+     *         is not being purged, i.e. the purge is completed
+     */
+    @GetMapping(value = MgmtRestConstants.SYSTEM_ADMIN_MAPPING + "/tenants/{tenant}/purge", produces = {
+            MediaTypes.HAL_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtTenantPurge> getTenantPurge(@PathVariable("tenant") String tenant);
+
     /**
      * Collects and returns system usage statistics. It provides a system wide
      * overview and tenant based stats.
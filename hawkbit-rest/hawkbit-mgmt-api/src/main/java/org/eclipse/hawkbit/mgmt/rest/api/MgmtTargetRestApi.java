@@ -101,6 +101,11 @@ public interface MgmtTargetRestApi {
      * @param rsqlParam
      *            the search parameter in the request URL, syntax
      *            {@code q=name==abc}
+     * @param cursorParam
+     *            the continuation token of keyset paging, might not be present
+     *            in the rest request then offset paging is applied
+     * @param skipCountParam
+     *            if <code>true</code> the total elements are not counted
      * @return a list of all targets for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -148,7 +153,16 @@ public interface MgmtTargetRestApi {
             @Schema(description = """
                     Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
                     available fields.""")
-            String rsqlParam);
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The continuation token of keyset paging, returned as next of the previous page. If present the
+                    offset is ignored, an empty token requests the first page. The result must be sorted by a single
+                    field which is not nullable.""")
+            String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false)
+            @Schema(description = "Skips the count of the total elements, the total is -1 then (default is false)")
+            Boolean skipCountParam);
 
     /**
      * Handles the POST request of creating new targets. The request body must
@@ -379,6 +393,11 @@ public interface MgmtTargetRestApi {
      * @param rsqlParam
      *            the search parameter in the request URL, syntax
      *            {@code q=status==pending}
+     * @param cursorParam
+     *            the continuation token of keyset paging, might not be present
+     *            in the rest request then offset paging is applied
+     * @param skipCountParam
+     *            if <code>true</code> the total elements are not counted
      * @return a list of all Actions for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -427,7 +446,16 @@ public interface MgmtTargetRestApi {
             @Schema(description = """
                     Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
                     available fields.""")
-            String rsqlParam);
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The continuation token of keyset paging, returned as next of the previous page. If present the
+                    offset is ignored, an empty token requests the first page. The result must be sorted by a single
+                    field which is not nullable.""")
+            String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false)
+            @Schema(description = "Skips the count of the total elements, the total is -1 then (default is false)")
+            Boolean skipCountParam);
 
     /**
      * Handles the GET request of retrieving a specific Actions of a specific
@@ -561,6 +589,11 @@ public interface MgmtTargetRestApi {
      * @param sortParam
      *            the sorting parameter in the request URL, syntax
      *            {@code field:direction, field:direction}
+     * @param cursorParam
+     *            the continuation token of keyset paging, might not be present
+     *            in the rest request then offset paging is applied
+     * @param skipCountParam
+     *            if <code>true</code> the total elements are not counted
      * @return a list of all ActionStatus for a defined or default page request
      *         with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -592,7 +625,9 @@ public interface MgmtTargetRestApi {
             @PathVariable("actionId") Long actionId,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET) int pagingOffsetParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) int pagingLimitParam,
-            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam);
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false) String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false) Boolean skipCountParam);
 
     /**
      * Handles the GET request of retrieving the assigned distribution set of a
@@ -15,7 +15,6 @@ import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
-import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,27 +37,31 @@ public class MgmtActionResource implements MgmtActionRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtAction>> getActions(final int pagingOffsetParam, final int pagingLimitParam,
-            final String sortParam, final String rsqlParam, final String representationModeParam) {
+            final String sortParam, final String rsqlParam, final String representationModeParam,
+            final String cursorParam, final Boolean skipCountParam) {
 
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeActionSortParam(sortParam);
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
+        final boolean skipCount = Boolean.TRUE.equals(skipCountParam);
+        final Pageable pageable = PagingUtility.toPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting,
+                cursorParam, PagingUtility.ACTION_KEYSET_SORT_KEYS);
 
         final Slice<Action> actions;
-        final Long totalActionCount;
+        final long totalActionCount;
         if (rsqlParam != null) {
             actions = this.deploymentManagement.findActions(rsqlParam, pageable);
-            totalActionCount = this.deploymentManagement.countActions(rsqlParam);
+            totalActionCount = skipCount ? -1 : this.deploymentManagement.countActions(rsqlParam);
         } else {
             actions = this.deploymentManagement.findActionsAll(pageable);
-            totalActionCount = this.deploymentManagement.countActionsAll();
+            totalActionCount = skipCount ? -1 : this.deploymentManagement.countActionsAll();
         }
 
         final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
 
-        return ResponseEntity
-                .ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount));
+        return ResponseEntity.ok(new PagedList<>(
+                MgmtActionMapper.toResponse(PagingUtility.toPageContent(actions, pageable), repMode),
+                totalActionCount).setNext(PagingUtility.toNextCursor(actions, pageable)));
 
     }
 
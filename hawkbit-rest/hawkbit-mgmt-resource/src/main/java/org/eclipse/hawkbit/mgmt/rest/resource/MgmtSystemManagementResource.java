@@ -9,6 +9,10 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -19,8 +23,10 @@ import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
 import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtSystemCache;
 import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtSystemStatisticsRest;
 import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtSystemTenantServiceUsage;
+import org.eclipse.hawkbit.mgmt.json.model.systemmanagement.MgmtTenantPurge;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtSystemManagementRestApi;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.model.TenantPurge;
 import org.eclipse.hawkbit.repository.report.model.SystemUsageReportWithTenants;
 import org.eclipse.hawkbit.repository.report.model.TenantUsage;
 import org.springframework.cache.CacheManager;
@@ -46,16 +52,32 @@ public class MgmtSystemManagementResource implements MgmtSystemManagementRestApi
     }
 
     /**
-     * Deletes the tenant data of a given tenant. USE WITH CARE!
+     * Deletes the tenant data of a given tenant. USE WITH CARE! The tenant is
+     * removed immediately, its data is purged in the background.
      *
      * @param tenant
      *            to delete
-     * @return HttpStatus.OK
+     * @return HttpStatus.ACCEPTED with the location of the purge progress
      */
     @Override
     public ResponseEntity<Void> deleteTenant(@PathVariable("tenant") final String tenant) {
-        systemManagement.deleteTenant(tenant);
-        return ResponseEntity.ok().build();
+        systemManagement.purgeTenant(tenant);
+        final URI purge = linkTo(methodOn(MgmtSystemManagementRestApi.class).getTenantPurge(tenant)).toUri();
+        return ResponseEntity.accepted().location(purge).build();
+    }
+
+    /**
+     * Returns the progress of the purge of a deleted tenant.
+     *
+     * @param tenant
+     *            the deleted tenant
+     * @return the progress of the purge or HttpStatus.NOT_FOUND if the tenant
+     *         is not being purged
+     */
+    @Override
+    public ResponseEntity<MgmtTenantPurge> getTenantPurge(@PathVariable("tenant") final String tenant) {
+        return systemManagement.getTenantPurge(tenant).map(MgmtSystemManagementResource::convertPurge)
+                .map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -79,6 +101,12 @@ public class MgmtSystemManagementResource implements MgmtSystemManagementRestApi
         return ResponseEntity.ok(result);
     }
 
+    private static MgmtTenantPurge convertPurge(final TenantPurge purge) {
+        return new MgmtTenantPurge().setTenant(purge.getTenant()).setStartedAt(purge.getStartedAt())
+                .setLastModifiedAt(purge.getLastModifiedAt()).setCompletedSteps(purge.getCompletedSteps())
+                .setTotalSteps(purge.getTotalSteps()).setDeletedRows(purge.getDeletedRows());
+    }
+
     private static MgmtSystemTenantServiceUsage convertTenant(final TenantUsage tenant) {
         final MgmtSystemTenantServiceUsage result = new MgmtSystemTenantServiceUsage();
         result.setTenantName(tenant.getTenantName());
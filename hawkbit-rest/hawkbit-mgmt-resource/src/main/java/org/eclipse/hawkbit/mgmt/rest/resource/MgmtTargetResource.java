@@ -44,6 +44,7 @@ import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.EntityFactory;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
@@ -113,25 +114,31 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET) final int pagingOffsetParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) final int pagingLimitParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) final String sortParam,
-            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam) {
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false) final String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false) final Boolean skipCountParam) {
 
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeTargetSortParam(sortParam);
+        final boolean skipCount = Boolean.TRUE.equals(skipCountParam);
 
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
+        final Pageable pageable = PagingUtility.toPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting,
+                cursorParam, PagingUtility.TARGET_KEYSET_SORT_KEYS);
         final Slice<Target> findTargetsAll;
         final long countTargetsAll;
         if (rsqlParam != null) {
             findTargetsAll = targetManagement.findByRsql(pageable, rsqlParam);
-            countTargetsAll = targetManagement.countByRsql(rsqlParam);
+            countTargetsAll = skipCount ? -1 : targetManagement.countByRsql(rsqlParam);
         } else {
             findTargetsAll = targetManagement.findAll(pageable);
-            countTargetsAll = targetManagement.count();
+            countTargetsAll = skipCount ? -1 : targetManagement.count();
         }
 
-        final List<MgmtTarget> rest = MgmtTargetMapper.toResponse(findTargetsAll.getContent(), tenantConfigHelper);
-        return ResponseEntity.ok(new PagedList<>(rest, countTargetsAll));
+        final List<MgmtTarget> rest = MgmtTargetMapper
+                .toResponse(PagingUtility.toPageContent(findTargetsAll, pageable), tenantConfigHelper);
+        return ResponseEntity.ok(new PagedList<>(rest, countTargetsAll)
+                .setNext(PagingUtility.toNextCursor(findTargetsAll, pageable)));
     }
 
     @Override
@@ -218,27 +225,32 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET) final int pagingOffsetParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) final int pagingLimitParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) final String sortParam,
-            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam) {
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false) final String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false) final Boolean skipCountParam) {
 
         findTargetWithExceptionIfNotFound(targetId);
 
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeActionSortParam(sortParam);
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
+        final boolean skipCount = Boolean.TRUE.equals(skipCountParam);
+        final Pageable pageable = PagingUtility.toPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting,
+                cursorParam, PagingUtility.ACTION_KEYSET_SORT_KEYS);
 
         final Slice<Action> activeActions;
-        final Long totalActionCount;
+        final long totalActionCount;
         if (rsqlParam != null) {
             activeActions = this.deploymentManagement.findActionsByTarget(rsqlParam, targetId, pageable);
-            totalActionCount = this.deploymentManagement.countActionsByTarget(rsqlParam, targetId);
+            totalActionCount = skipCount ? -1 : this.deploymentManagement.countActionsByTarget(rsqlParam, targetId);
         } else {
             activeActions = this.deploymentManagement.findActionsByTarget(targetId, pageable);
-            totalActionCount = this.deploymentManagement.countActionsByTarget(targetId);
+            totalActionCount = skipCount ? -1 : this.deploymentManagement.countActionsByTarget(targetId);
         }
 
-        return ResponseEntity.ok(
-                new PagedList<>(MgmtTargetMapper.toResponse(targetId, activeActions.getContent()), totalActionCount));
+        return ResponseEntity.ok(new PagedList<>(
+                MgmtTargetMapper.toResponse(targetId, PagingUtility.toPageContent(activeActions, pageable)),
+                totalActionCount).setNext(PagingUtility.toNextCursor(activeActions, pageable)));
     }
 
     @Override
@@ -283,7 +295,9 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
             @PathVariable("targetId") final String targetId, @PathVariable("actionId") final Long actionId,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET) final int pagingOffsetParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) final int pagingLimitParam,
-            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) final String sortParam) {
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) final String sortParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false) final String cursorParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, required = false) final Boolean skipCountParam) {
 
         final Target target = findTargetWithExceptionIfNotFound(targetId);
 
@@ -298,13 +312,27 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeActionStatusSortParam(sortParam);
-
-        final Page<ActionStatus> statusList = this.deploymentManagement.findActionStatusByAction(
-                new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting), action.getId());
+        final Pageable pageable = PagingUtility.toPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting,
+                cursorParam, PagingUtility.ACTION_STATUS_KEYSET_SORT_KEYS);
+
+        final boolean skipCount = Boolean.TRUE.equals(skipCountParam);
+        final Slice<ActionStatus> statusList;
+        final long totalStatusCount;
+        if (skipCount || pageable instanceof KeysetPageRequest) {
+            // the total of a keyset page is not reliable as it starts at offset 0
+            statusList = this.deploymentManagement.findActionStatusByActionWithoutCount(pageable, action.getId());
+            totalStatusCount = skipCount ? -1 : this.deploymentManagement.countActionStatusByAction(action.getId());
+        } else {
+            final Page<ActionStatus> statusPage = this.deploymentManagement.findActionStatusByAction(pageable,
+                    action.getId());
+            statusList = statusPage;
+            totalStatusCount = statusPage.getTotalElements();
+        }
 
         return ResponseEntity.ok(new PagedList<>(
-                MgmtTargetMapper.toActionStatusRestResponse(statusList.getContent(), deploymentManagement),
-                statusList.getTotalElements()));
+                MgmtTargetMapper.toActionStatusRestResponse(PagingUtility.toPageContent(statusList, pageable),
+                        deploymentManagement),
+                totalStatusCount).setNext(PagingUtility.toNextCursor(statusList, pageable)));
 
     }
 
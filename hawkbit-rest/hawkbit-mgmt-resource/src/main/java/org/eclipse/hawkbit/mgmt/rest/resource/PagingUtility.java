@@ -9,12 +9,21 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ValidationException;
+
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.repository.ActionFields;
 import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DistributionSetFields;
 import org.eclipse.hawkbit.repository.DistributionSetMetadataFields;
 import org.eclipse.hawkbit.repository.DistributionSetTypeFields;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.RolloutFields;
 import org.eclipse.hawkbit.repository.RolloutGroupFields;
 import org.eclipse.hawkbit.repository.SoftwareModuleFields;
@@ -24,15 +33,46 @@ import org.eclipse.hawkbit.repository.TagFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryFields;
 import org.eclipse.hawkbit.repository.TargetTypeFields;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.rest.exception.SortParameterUnsupportedFieldException;
 import org.eclipse.hawkbit.rest.util.SortUtility;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 
 /**
  * Utility class for for paged body generation.
  *
  */
 public final class PagingUtility {
+
+    /**
+     * Not nullable target fields which can be used as sort key of keyset
+     * paging.
+     */
+    static final Set<String> TARGET_KEYSET_SORT_KEYS = Set.of(TargetFields.CONTROLLERID.getJpaEntityFieldName(),
+            TargetFields.NAME.getJpaEntityFieldName(), TargetFields.CREATEDAT.getJpaEntityFieldName(),
+            TargetFields.LASTMODIFIEDAT.getJpaEntityFieldName(), TargetFields.UPDATESTATUS.getJpaEntityFieldName());
+
+    /**
+     * Not nullable action fields which can be used as sort key of keyset
+     * paging.
+     */
+    static final Set<String> ACTION_KEYSET_SORT_KEYS = Set.of(ActionFields.ID.getJpaEntityFieldName(),
+            ActionFields.STATUS.getJpaEntityFieldName(), ActionFields.DETAILSTATUS.getJpaEntityFieldName());
+
+    /**
+     * Not nullable action status fields which can be used as sort key of
+     * keyset paging.
+     */
+    static final Set<String> ACTION_STATUS_KEYSET_SORT_KEYS = Set.of(ActionStatusFields.ID.getJpaEntityFieldName(),
+            ActionStatusFields.REPORTEDAT.getJpaEntityFieldName());
+
+    private static final String CURSOR_SEPARATOR = ":";
+
     /*
      * utility constructor private.
      */
@@ -168,4 +208,92 @@ public final class PagingUtility {
         }
         return Sort.by(SortUtility.parse(RolloutGroupFields.class, sortParam));
     }
+
+    /**
+     * Creates the page request of a paged request. Without cursor the page is
+     * requested by offset. With cursor the page is requested by keyset with one
+     * additional element, which tells if there is a next page, see
+     * {@link #toPageContent(Slice, Pageable)} and
+     * {@link #toNextCursor(Slice, Pageable)}.
+     *
+     * @param offset
+     *            the sanitized offset
+     * @param limit
+     *            the sanitized limit
+     * @param sort
+     *            the sanitized sort
+     * @param cursor
+     *            the continuation token, empty for the first page of keyset
+     *            paging or <code>null</code> for offset paging
+     * @param keysetSortKeys
+     *            the fields which can be used as sort key of keyset paging
+     * @return the page request
+     * @throws SortParameterUnsupportedFieldException
+     *             if keyset paging is not sorted by a single supported field
+     * @throws ValidationException
+     *             if the cursor is invalid or does not match the sort
+     */
+    static Pageable toPageRequest(final int offset, final int limit, final Sort sort, final String cursor,
+            final Set<String> keysetSortKeys) {
+        if (cursor == null) {
+            return new OffsetBasedPageRequest(offset, limit, sort);
+        }
+        // the additional element is requested on top of the sanitized limit
+        final int pageSize = sanitizePageLimitParam(limit) + 1;
+
+        final List<Order> orders = sort.toList();
+        if (orders.size() != 1 || !keysetSortKeys.contains(orders.get(0).getProperty())) {
+            throw new SortParameterUnsupportedFieldException();
+        }
+        final Order keyOrder = orders.get(0);
+        if (cursor.isEmpty()) {
+            return new KeysetPageRequest(pageSize, keyOrder, null, null);
+        }
+
+        // property:direction:id:value - the value is last as it could contain
+        // the separator
+        final String[] token;
+        final long afterId;
+        try {
+            token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR,
+                    4);
+            afterId = token.length == 4 ? Long.parseLong(token[2]) : -1;
+        } catch (final IllegalArgumentException e) {
+            throw new ValidationException("Invalid paging cursor", e);
+        }
+        if (token.length != 4 || !keyOrder.getProperty().equals(token[0])
+                || !keyOrder.getDirection().name().equals(token[1])) {
+            throw new ValidationException("Paging cursor does not match the sort parameter");
+        }
+        return new KeysetPageRequest(pageSize, keyOrder, token[3], afterId);
+    }
+
+    /**
+     * @return the content of the page without the additional element of a
+     *         keyset page request
+     */
+    static <T> List<T> toPageContent(final Slice<T> slice, final Pageable pageable) {
+        if (pageable instanceof KeysetPageRequest && slice.getNumberOfElements() == pageable.getPageSize()) {
+            return slice.getContent().subList(0, pageable.getPageSize() - 1);
+        }
+        return slice.getContent();
+    }
+
+    /**
+     * @return the continuation token of the next page, <code>null</code> if
+     *         offset paging is requested or there is no next page
+     */
+    static String toNextCursor(final Slice<? extends BaseEntity> slice, final Pageable pageable) {
+        if (!(pageable instanceof KeysetPageRequest keyset) || slice.getNumberOfElements() < keyset.getPageSize()) {
+            return null;
+        }
+
+        final BaseEntity last = slice.getContent().get(keyset.getPageSize() - 2);
+        final Order keyOrder = keyset.getKeyOrder();
+        final Object value = PropertyAccessorFactory.forBeanPropertyAccess(last)
+                .getPropertyValue(keyOrder.getProperty());
+        final String token = String.join(CURSOR_SEPARATOR, keyOrder.getProperty(), keyOrder.getDirection().name(),
+                String.valueOf(last.getId()), value instanceof Enum<?> e ? e.name() : String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Spring MVC Tests against the MgmtSystemManagementResource.
+ */
+@Feature("Component Tests - Management API")
+@Story("System Management Resource")
+class MgmtSystemManagementResourceTest extends AbstractManagementApiIntegrationTest {
+
+    private static final String TENANTS = MgmtRestConstants.SYSTEM_ADMIN_MAPPING + "/tenants/";
+
+    @Test
+    @Description("Deleting a tenant is accepted and refers to the progress of its purge, which is gone when the purge is completed.")
+    void deleteTenantReturnsPurgeLocation() throws Exception {
+        final String location = mvc.perform(delete(TENANTS + "purged")).andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith(TENANTS + "purged/purge")))
+                .andReturn().getResponse().getHeader("Location");
+
+        Awaitility.await().atMost(Duration.ofSeconds(10)).pollInSameThread().pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> mvc.perform(get(location)).andExpect(status().isNotFound()));
+    }
+}
@@ -104,6 +104,7 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Step;
 import io.qameta.allure.Story;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 /**
  * Spring MVC Tests against the MgmtTargetResource.
@@ -646,6 +647,48 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("$.content.[?(@.name=='" + idE + "')].updateStatus", contains("registered")));
     }
 
+    @Test
+    @Description("Ensures that keyset paging with skipped count returns all targets page by page in the requested order.")
+    void getTargetsWithKeysetPaging() throws Exception {
+        createTargetsAlphabetical(5);
+
+        assertThat(getTargetsWithKeysetPaging("NAME:DESC", null)).containsExactly("e", "d", "c", "b", "a");
+        // not unique sort key, the id is the tie-breaker
+        assertThat(getTargetsWithKeysetPaging("UPDATESTATUS:ASC", "name==*")).containsExactly("a", "b", "c", "d",
+                "e");
+    }
+
+    @Test
+    @Description("Ensures that keyset paging is rejected for nullable or multiple sort fields and for cursors which do not match the sort.")
+    void getTargetsWithInvalidKeysetPaging() throws Exception {
+        createTargetsAlphabetical(3);
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "DESCRIPTION:ASC"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:ASC,CREATEDAT:ASC"))
+                .andExpect(status().isBadRequest());
+
+        final String next = JsonPath.read(mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "1")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(3)))
+                .andReturn().getResponse().getContentAsString(), "$.next");
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, next)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:DESC"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "not a cursor")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:ASC"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Description("Ensures that the get request for a target works.")
     void getSingleTarget() throws Exception {
@@ -1250,6 +1293,37 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath(JSON_PATH_PAGED_LIST_CONTENT, hasSize(2)));
     }
 
+    @Test
+    @Description("Verifies that the API returns the status list page by page with keyset paging, with and without count.")
+    void getActionsStatusWithKeysetPaging() throws Exception {
+        final String knownTargetId = "targetId";
+        final Action action = generateTargetWithTwoUpdatesWithOneOverride(knownTargetId).get(0);
+        final String statusUrl = MgmtRestConstants.TARGET_V1_REQUEST_MAPPING + "/" + knownTargetId + "/"
+                + MgmtRestConstants.TARGET_V1_ACTIONS + "/" + action.getId() + "/"
+                + MgmtRestConstants.TARGET_V1_ACTION_STATUS;
+
+        final String next = JsonPath.read(mvc.perform(get(statusUrl)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "1")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "ID:ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content.[0].type", equalTo("running")))
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(2)))
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_CONTENT, hasSize(1)))
+                .andReturn().getResponse().getContentAsString(), "$.next");
+
+        mvc.perform(get(statusUrl)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "1")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, next)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, "true")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "ID:ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content.[0].type", equalTo("canceling")))
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(-1)))
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_CONTENT, hasSize(1)))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
     @Test
     @Description("Verifies that the API returns the status list with expected content split into two pages.")
     void getActionsStatusWithPagingLimitRequestParameter() throws Exception {
@@ -1863,6 +1937,28 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
         return controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, LOCALHOST);
     }
 
+    private List<String> getTargetsWithKeysetPaging(final String sort, final String rsql) throws Exception {
+        final List<String> names = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            final MockHttpServletRequestBuilder request = get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "2")
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor)
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_SKIP_COUNT, "true")
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, sort);
+            if (rsql != null) {
+                request.param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, rsql);
+            }
+            final String response = mvc.perform(request).andExpect(status().isOk())
+                    .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(-1))).andReturn().getResponse()
+                    .getContentAsString();
+            names.addAll(JsonPath.read(response, "$.content[*].name"));
+            final Map<String, Object> page = JsonPath.read(response, "$");
+            cursor = (String) page.get("next");
+        }
+        return names;
+    }
+
     /**
      * Creating targets with the given amount by setting name, id etc from the
      * alphabet [a-z] using ASCII.
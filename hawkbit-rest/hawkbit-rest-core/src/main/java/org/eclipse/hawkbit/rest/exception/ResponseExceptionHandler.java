@@ -103,6 +103,44 @@ public class ResponseExceptionHandler {
         return ERROR_TO_HTTP_STATUS.getOrDefault(error, DEFAULT_RESPONSE_STATUS);
     }
 
+    /**
+     * Maps an exception to the response status this handler would respond it
+     * with. Used by resources which report the outcome of several operations in
+     * one response.
+     *
+     * @param ex
+     *            the exception which occurred
+     * @return the response status
+     */
+    public static HttpStatus getResponseStatus(final Exception ex) {
+        if (ex instanceof AbstractServerRtException serverRtException) {
+            return getStatusOrDefault(serverRtException.getError());
+        }
+        if (ex instanceof ValidationException || ex instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return DEFAULT_RESPONSE_STATUS;
+    }
+
+    /**
+     * Creates the rest representation of an exception.
+     *
+     * @param ex
+     *            the exception which occurred
+     * @return the exception information
+     */
+    public static ExceptionInfo createExceptionInfo(final Exception ex) {
+        final ExceptionInfo response = new ExceptionInfo();
+        response.setMessage(ex.getMessage());
+        response.setExceptionClass(ex.getClass().getName());
+        if (ex instanceof AbstractServerRtException serverRtException) {
+            response.setErrorCode(serverRtException.getError().getKey());
+        } else if (ex instanceof ValidationException) {
+            response.setErrorCode(SpServerError.SP_REPO_CONSTRAINT_VIOLATION.getKey());
+        }
+        return response;
+    }
+
     /**
      * method for handling exception of type AbstractServerRtException. Called
      * by the Spring-Framework for exception handling.
@@ -262,15 +300,4 @@ public class ResponseExceptionHandler {
         log.debug("Handling exception {} of request {}", ex.getClass().getName(), request.getRequestURL());
     }
 
-    private ExceptionInfo createExceptionInfo(final Exception ex) {
-        final ExceptionInfo response = new ExceptionInfo();
-        response.setMessage(ex.getMessage());
-        response.setExceptionClass(ex.getClass().getName());
-        if (ex instanceof AbstractServerRtException) {
-            response.setErrorCode(((AbstractServerRtException) ex).getError().getKey());
-        }
-
-        return response;
-    }
-
 }
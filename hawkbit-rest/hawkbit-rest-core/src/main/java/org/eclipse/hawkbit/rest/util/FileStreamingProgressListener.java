@@ -27,4 +27,16 @@ public interface FileStreamingProgressListener {
      *            during the request
      */
     void progress(long requestedBytes, long shippedBytesSinceLast, long shippedBytesOverall);
+
+    /**
+     * Called after a byte range of the file has been shipped completely.
+     *
+     * @param start
+     *            of the range
+     * @param end
+     *            of the range (inclusive)
+     */
+    default void rangeShipped(final long start, final long end) {
+        // not interested by default
+    }
 }
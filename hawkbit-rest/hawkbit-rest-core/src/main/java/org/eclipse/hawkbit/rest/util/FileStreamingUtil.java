@@ -12,13 +12,16 @@ package org.eclipse.hawkbit.rest.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +30,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -46,7 +48,8 @@ public final class FileStreamingUtil {
      */
     public static final String ARTIFACT_MD5_DWNL_SUFFIX = ".MD5SUM";
     private static final int BUFFER_SIZE = 0x2000; // 8k
-    
+    private static final long TRANSFER_CHUNK_SIZE = 0x100000; // 1m
+
     /**
      * Write a md5 file response.
      *
@@ -207,9 +210,9 @@ public final class FileStreamingUtil {
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
 
-        try (final InputStream from = artifact.getFileInputStream()) {
+        try {
             final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            copyRange(artifact, to, progressListener, r, filename);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -279,17 +282,14 @@ public final class FileStreamingUtil {
             final ServletOutputStream to = response.getOutputStream();
 
             for (final ByteRange r : ranges) {
-                try (final InputStream from = artifact.getFileInputStream()) {
-
-                    // Add multipart boundary and header fields for every range.
-                    to.println();
-                    to.println("--" + ByteRange.MULTIPART_BOUNDARY);
-                    to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
-                            + r.getTotal());
-
-                    // Copy single part range of multi part range.
-                    copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
-                }
+                // Add multipart boundary and header fields for every range.
+                to.println();
+                to.println("--" + ByteRange.MULTIPART_BOUNDARY);
+                to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
+                        + r.getTotal());
+
+                // Copy single part range of multi part range.
+                copyRange(artifact, to, progressListener, r, filename);
             }
 
             // End with final multipart boundary.
@@ -310,9 +310,9 @@ public final class FileStreamingUtil {
         response.setContentLengthLong(r.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try (final InputStream from = artifact.getFileInputStream()) {
+        try {
             final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            copyRange(artifact, to, progressListener, r, filename);
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -321,6 +321,65 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    /**
+     * Copies the given range of the artifact. Artifacts backed by a local file
+     * are transferred from a {@link FileChannel} starting at the range
+     * position, all others are read from their {@link InputStream} opened at
+     * the range start. The listener is notified about the range once it is
+     * shipped completely.
+     * <p>
+     * Note: the servlet output is no channel, so the transfer is not zero
+     * copy. {@link Channels#newChannel(OutputStream)} copies through a heap
+     * buffer of its own. The channel only saves skipping the stream to the
+     * range start.
+     */
+    private static long copyRange(final DbArtifact artifact, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final ByteRange r, final String filename)
+            throws IOException {
+        final long shipped;
+        final Optional<FileChannel> fileChannel = artifact.openFileChannel();
+        if (fileChannel.isPresent()) {
+            try (final FileChannel from = fileChannel.get()) {
+                shipped = copyChannel(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            }
+        } else {
+            try (final InputStream from = artifact.getFileInputStream(r.getStart())) {
+                shipped = copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            }
+        }
+
+        if (progressListener != null) {
+            progressListener.rangeShipped(r.getStart(), r.getEnd());
+        }
+        return shipped;
+    }
+
+    private static long copyChannel(final FileChannel from, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long start, final long length,
+            final String filename) throws IOException {
+
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of copy-channel of file {} from {} to {}", filename, start, length);
+
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        final WritableByteChannel target = Channels.newChannel(to);
+        final Progress progress = new Progress(progressListener, length);
+        // transfer at most one percent per call to keep the progress events as fine-grained as for streams
+        final long chunkSize = Math.max(BUFFER_SIZE, Math.min(TRANSFER_CHUNK_SIZE, length / 100));
+
+        while (progress.getTotal() < length) {
+            final long transferred = from.transferTo(start + progress.getTotal(),
+                    Math.min(chunkSize, length - progress.getTotal()), target);
+            if (transferred <= 0) {
+                break;
+            }
+            progress.shipped(transferred);
+        }
+
+        return finishCopy(progress.getTotal(), length, filename, startMillis);
+    }
+
     private static long copyStreams(final InputStream from, final OutputStream to,
             final FileStreamingProgressListener progressListener, final long start, final long length,
             final String filename) throws IOException {
@@ -331,14 +390,10 @@ public final class FileStreamingUtil {
         Objects.requireNonNull(from);
         Objects.requireNonNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
-        long total = 0;
-        int progressPercent = 1;
-
-        IOUtils.skipFully(from, start);
+        final Progress progress = new Progress(progressListener, length);
 
         long toRead = length;
         boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
         while (toContinue) {
             final int r = from.read(buf);
@@ -349,27 +404,19 @@ public final class FileStreamingUtil {
             toRead -= r;
             if (toRead > 0) {
                 to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
+                progress.shipped(r);
             } else {
                 to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
+                progress.shipped(toRead + r);
                 toContinue = false;
             }
-
-            if (progressListener != null) {
-                final int newPercent = (int)Math.floor(total * 100.0 / length);
-
-                // every 10 percent an event
-                if (newPercent == 100 || newPercent > progressPercent + 10) {
-                    progressPercent = newPercent;
-                    progressListener.progress(length, shippedSinceLastEvent, total);
-                    shippedSinceLastEvent = 0;
-                }
-            }
         }
 
+        return finishCopy(progress.getTotal(), length, filename, startMillis);
+    }
+
+    private static long finishCopy(final long total, final long length, final String filename,
+            final long startMillis) {
         final long totalTime = System.currentTimeMillis() - startMillis;
 
         if (total < length) {
@@ -377,11 +424,49 @@ public final class FileStreamingUtil {
                     + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
         }
 
-        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
+        log.trace("Finished copy of file {} with length {} in {} ms", filename, length, totalTime);
 
         return total;
     }
 
+    /**
+     * Tracks the shipped bytes of a copy and notifies the
+     * {@link FileStreamingProgressListener} every 10 percent.
+     */
+    private static final class Progress {
+
+        private final FileStreamingProgressListener progressListener;
+        private final long length;
+        private long total;
+        private int progressPercent = 1;
+        private long shippedSinceLastEvent;
+
+        private Progress(final FileStreamingProgressListener progressListener, final long length) {
+            this.progressListener = progressListener;
+            this.length = length;
+        }
+
+        private long getTotal() {
+            return total;
+        }
+
+        private void shipped(final long bytes) {
+            total += bytes;
+            shippedSinceLastEvent += bytes;
+
+            if (progressListener != null) {
+                final int newPercent = (int) Math.floor(total * 100.0 / length);
+
+                // every 10 percent an event
+                if (newPercent == 100 || newPercent > progressPercent + 10) {
+                    progressPercent = newPercent;
+                    progressListener.progress(length, shippedSinceLastEvent, total);
+                    shippedSinceLastEvent = 0;
+                }
+            }
+        }
+    }
+
     private static final class ByteRange {
         private static final String MULTIPART_BOUNDARY = "THIS_STRING_SEPARATES_MULTIPART";
 
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystem;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Compares throughput and allocation rate of streaming a file backed artifact
+ * through its {@link java.nio.channels.FileChannel} with streaming it through
+ * its {@link InputStream}. Run {@link #main(String[])} from the test classpath;
+ * the {@link GCProfiler} reports the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileStreamingUtilBenchmark {
+
+    private static final int ARTIFACT_SIZE = 64 * 1024 * 1024;
+
+    @Param({ "channel", "stream" })
+    private String mode;
+
+    @Param({ "", "bytes=33554432-" })
+    private String range;
+
+    private File file;
+    private DbArtifact artifact;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("hawkbit-benchmark", ".bin").toFile();
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            final byte[] block = new byte[1024 * 1024];
+            for (int i = 0; i < ARTIFACT_SIZE / block.length; i++) {
+                ThreadLocalRandom.current().nextBytes(block);
+                raf.write(block);
+            }
+        }
+
+        final DbArtifact fileArtifact = new ArtifactFilesystem(file, "benchmark",
+                new DbArtifactHash("sha1", "md5", "sha256"), (long) ARTIFACT_SIZE, null);
+        artifact = "channel".equals(mode) ? fileArtifact : new StreamOnlyArtifact(fileArtifact);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public Object writeFileResponse() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (!range.isEmpty()) {
+            request.addHeader("Range", range);
+        }
+        return FileStreamingUtil.writeFileResponse(artifact, "benchmark.bin", System.currentTimeMillis(),
+                new DiscardingServletResponse(), request, null);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FileStreamingUtilBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static final class StreamOnlyArtifact implements DbArtifact {
+
+        private final DbArtifact delegate;
+
+        private StreamOnlyArtifact(final DbArtifact delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getArtifactId() {
+            return delegate.getArtifactId();
+        }
+
+        @Override
+        public DbArtifactHash getHashes() {
+            return delegate.getHashes();
+        }
+
+        @Override
+        public long getSize() {
+            return delegate.getSize();
+        }
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return delegate.getFileInputStream();
+        }
+    }
+
+    private static final class DiscardingServletResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // blocking writes only
+            }
+
+            @Override
+            public void write(final int b) {
+                // discard
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                // discard
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
@@ -17,17 +17,27 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
@@ -71,6 +81,9 @@ class FileStreamingUtilTest {
         }
     };
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void shouldProcessRangeHeaderForMultipartRequests() throws IOException {
         final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
@@ -112,4 +125,52 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
+
+    @Test
+    void shouldTransferRangeOfFileBackedArtifactFromChannel() throws IOException {
+        final Path file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES);
+        final DbArtifact fileArtifact = Mockito.spy(TEST_ARTIFACT);
+        Mockito.when(fileArtifact.openFileChannel())
+                .thenAnswer(invocation -> Optional.of(FileChannel.open(file, StandardOpenOption.READ)));
+
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(new ByteArrayServletOutputStream(written));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=8-20");
+        final List<Long> progress = new ArrayList<>();
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest,
+                (requestedBytes, shippedBytesSinceLast, shippedBytesOverall) -> progress.add(shippedBytesOverall));
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(8, 21));
+        assertThat(progress).containsExactly(13L);
+        verify(fileArtifact, times(0)).getFileInputStream();
+    }
+
+    private static final class ByteArrayServletOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream target;
+
+        private ByteArrayServletOutputStream(final ByteArrayOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            // not needed for blocking writes
+        }
+
+        @Override
+        public void write(final int b) {
+            target.write(b);
+        }
+    }
 }
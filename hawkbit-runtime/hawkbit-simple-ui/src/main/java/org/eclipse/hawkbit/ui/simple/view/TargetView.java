@@ -78,7 +78,7 @@ public class TargetView extends TableView<MgmtTarget, String> {
                 (query, filter) -> hawkbitClient.getTargetRestApi()
                         .getTargets(
                                 query.getOffset(), query.getPageSize(), Constants.NAME_ASC,
-                                filter)
+                                filter, null, null)
                         .getBody()
                         .getContent()
                         .stream(),
@@ -210,6 +210,13 @@ public final class SpPermission {
          */
         public static final String CONTROLLER_ROLE_ANONYMOUS = "ROLE_CONTROLLER_ANONYMOUS";
 
+        /**
+         * The role which is contained in the spring security context in
+         * addition to {@link #CONTROLLER_ROLE} in case a gateway is
+         * authenticated, i.e. a client which acts for multiple controllers.
+         */
+        public static final String CONTROLLER_GATEWAY_ROLE = "ROLE_CONTROLLER_GATEWAY";
+
         /**
          * The role which contains the spring security context in case the
          * system is executing code which is necessary to be privileged.
@@ -351,6 +358,14 @@ public final class SpPermission {
         public static final String IS_CONTROLLER = "hasAnyRole('" + CONTROLLER_ROLE_ANONYMOUS + "', '" + CONTROLLER_ROLE
                 + "')";
 
+        /**
+         * Spring security eval hasAnyRole expression to check if the spring
+         * context contains the anonymous role or the gateway specific role
+         * {@link SpringEvalExpressions#CONTROLLER_GATEWAY_ROLE}.
+         */
+        public static final String IS_CONTROLLER_GATEWAY = "hasAnyRole('" + CONTROLLER_ROLE_ANONYMOUS + "', '"
+                + CONTROLLER_GATEWAY_ROLE + "')";
+
         /**
          * Spring security eval hasAuthority expression to check if spring
          * context contains {@link SpPermission#CREATE_REPOSITORY} and
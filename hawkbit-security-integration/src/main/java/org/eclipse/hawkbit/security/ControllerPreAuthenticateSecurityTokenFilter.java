@@ -14,7 +14,7 @@ import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
-import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetIdentity;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 
@@ -74,25 +74,30 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
 
     @Override
     public HeaderAuthentication getPreAuthenticatedCredentials(final DmfTenantSecurityToken securityToken) {
-        final Optional<Target> target = systemSecurityContext.runAsSystemAsTenant(() -> {
+        final Optional<TargetIdentity> target = systemSecurityContext.runAsSystemAsTenant(() -> {
             if (securityToken.getTargetId() != null) {
-                return controllerManagement.get(securityToken.getTargetId());
+                return controllerManagement.findTargetIdentity(securityToken.getTargetId());
             }
-            return controllerManagement.getByControllerId(securityToken.getControllerId());
+            return controllerManagement.findTargetIdentity(securityToken.getControllerId());
         }, securityToken.getTenant());
 
-        return target.map(t -> new HeaderAuthentication(t.getControllerId(),
-                systemSecurityContext.runAsSystemAsTenant(() -> t.getSecurityToken(), securityToken.getTenant())))
-                .orElse(null);
+        // the identity only holds the hash of the security token, so the
+        // presented token is returned as credentials if it matches
+        final String authHeader = securityToken.getHeader(DmfTenantSecurityToken.AUTHORIZATION_HEADER);
+        final String presentedToken = authHeader != null && authHeader.startsWith(TARGET_SECURITY_TOKEN_AUTH_SCHEME)
+                ? authHeader.substring(OFFSET_TARGET_TOKEN)
+                : null;
+        return target.filter(t -> t.matchesSecurityToken(presentedToken))
+                .map(t -> new HeaderAuthentication(t.getControllerId(), presentedToken)).orElse(null);
     }
 
     private String resolveControllerId(final DmfTenantSecurityToken securityToken) {
         if (securityToken.getControllerId() != null) {
             return securityToken.getControllerId();
         }
-        final Optional<Target> foundTarget = systemSecurityContext.runAsSystemAsTenant(
-                () -> controllerManagement.get(securityToken.getTargetId()), securityToken.getTenant());
-        return foundTarget.map(Target::getControllerId).orElse(null);
+        final Optional<TargetIdentity> foundTarget = systemSecurityContext.runAsSystemAsTenant(
+                () -> controllerManagement.findTargetIdentity(securityToken.getTargetId()), securityToken.getTenant());
+        return foundTarget.map(TargetIdentity::getControllerId).orElse(null);
     }
 
     @Override
@@ -9,10 +9,16 @@
  */
 package org.eclipse.hawkbit.security;
 
+import java.util.Collection;
+import java.util.List;
+
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 /**
  * An pre-authenticated processing filter which extracts (if enabled through
@@ -74,6 +80,12 @@ public class ControllerPreAuthenticatedGatewaySecurityTokenFilter extends Abstra
         return new HeaderAuthentication(securityToken.getControllerId(), gatewayToken);
     }
 
+    @Override
+    public Collection<GrantedAuthority> getSuccessfulAuthenticationAuthorities() {
+        return List.of(new SimpleGrantedAuthority(SpringEvalExpressions.CONTROLLER_ROLE),
+                new SimpleGrantedAuthority(SpringEvalExpressions.CONTROLLER_GATEWAY_ROLE));
+    }
+
     @Override
     protected String getTenantConfigurationKey() {
         return TenantConfigurationKey.AUTHENTICATION_MODE_GATEWAY_SECURITY_TOKEN_ENABLED;